@@ -6,6 +6,7 @@ import com.openrsc.client.entityhandling.defs.ItemDef;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 
 import com.openrsc.client.entityhandling.instances.Item;
@@ -31,6 +32,7 @@ public final class AuctionHouse {
 	private int x, y;
 	private int width, height;
 	private ArrayList<AuctionItem> auctionItems;
+	private HashMap<Integer, AuctionItem> auctionItemsByID;
 	private int newAuctionInventoryIndex = -1;
 	private AuctionItem newAuctionItem = null;
 	private int selectedAuction = -1;
@@ -80,6 +82,7 @@ public final class AuctionHouse {
 		y = (mc.getGameHeight() / 2) - height;
 
 		auctionItems = new ArrayList<>();
+		auctionItemsByID = new HashMap<>();
 
 		auctionMenu = new Panel(mc.getSurface(), 5);
 		myAuctions = new Panel(mc.getSurface(), 15);
@@ -1068,10 +1071,22 @@ public final class AuctionHouse {
 
 	public void resetAuctionItems() {
 		auctionItems.clear();
+		auctionItemsByID.clear();
 	}
 
 	public void addAuction(int auctionID, int itemID, int amount, int price, String seller, int hoursLeft) {
-		auctionItems.add(new AuctionItem(auctionID, itemID, amount, price, seller, hoursLeft));
+		// The server resends an auction when it changes
+		removeAuction(auctionID);
+		AuctionItem item = new AuctionItem(auctionID, itemID, amount, price, seller, hoursLeft);
+		auctionItems.add(item);
+		auctionItemsByID.put(auctionID, item);
+	}
+
+	public void removeAuction(int auctionID) {
+		AuctionItem item = auctionItemsByID.remove(auctionID);
+		if (item != null) {
+			auctionItems.remove(item);
+		}
 	}
 
 	private void resetAllVariables() {
@@ -590,6 +590,11 @@ public class PacketHandler {
 				mc.getAuctionHouse().addAuction(auctionID, itemID, amount, price, seller, hoursLeft);
 			}
 			mc.getAuctionHouse().setVisible(true);
+		} else if (packetType == 2) { // remove items sold, cancelled or expired since the last update
+			int auctionItemCount = packetsIncoming.getShort();
+			for (int i = 0; i < auctionItemCount; i++) {
+				mc.getAuctionHouse().removeAuction(packetsIncoming.get32());
+			}
 		}
 	}
 
@@ -2,6 +2,7 @@ package com.openrsc.server;
 
 import com.openrsc.server.event.rsc.GameTickEvent;
 import com.openrsc.server.event.rsc.ImmediateEvent;
+import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.util.NamedThreadFactory;
 import com.openrsc.server.util.rsc.DataConversions;
@@ -10,9 +11,11 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class GameEventHandler {
 
@@ -21,11 +24,40 @@ public class GameEventHandler {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
-	private final ConcurrentHashMap<String, GameTickEvent> events = new ConcurrentHashMap<String, GameTickEvent>();
-	private final ConcurrentHashMap<String, GameTickEvent> eventsToAdd = new ConcurrentHashMap<String, GameTickEvent>();
+	/**
+	 * Events are kept in a two level timing wheel so each tick only touches the events that are due.
+	 * The first level has one slot per tick of the current page of {@link #PAGE_TICKS} ticks. The second level
+	 * has one slot per page and is cascaded into the first level whenever a new page starts. Events further away
+	 * than the second level can hold stay in their page slot for another round.
+	 */
+	private static final int PAGE_BITS = 8;
+	private static final int PAGE_TICKS = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_TICKS - 1;
+	private static final int PAGE_SLOTS = 64;
+
+	private final ArrayList<ArrayList<GameTickEvent>> tickSlots = new ArrayList<ArrayList<GameTickEvent>>(PAGE_TICKS);
+	private final ArrayList<ArrayList<GameTickEvent>> pageSlots = new ArrayList<ArrayList<GameTickEvent>>(PAGE_SLOTS);
+	private final ArrayList<GameTickEvent> dueEvents = new ArrayList<GameTickEvent>();
+
+	/**
+	 * Every scheduled event by schedule id.
+	 */
+	private final ConcurrentHashMap<Long, GameTickEvent> events = new ConcurrentHashMap<Long, GameTickEvent>();
+	/**
+	 * Scheduled non unique events by class and owner, so a newer event replaces the older one.
+	 */
+	private final ConcurrentHashMap<EventKey, GameTickEvent> ownedEvents = new ConcurrentHashMap<EventKey, GameTickEvent>();
+	private final ConcurrentHashMap<Object, GameTickEvent> eventsToAdd = new ConcurrentHashMap<Object, GameTickEvent>();
+	private final ConcurrentLinkedQueue<GameTickEvent> eventsToReschedule = new ConcurrentLinkedQueue<GameTickEvent>();
+	private final AtomicLong nextScheduleId = new AtomicLong();
+
+	/**
+	 * The tick currently being processed, or the last processed one between ticks.
+	 */
+	private volatile long currentTick = 0;
 
-	private final ConcurrentHashMap<String, Integer> eventsCounts = new ConcurrentHashMap<String, Integer>();
-	private final ConcurrentHashMap<String, Long> eventsDurations = new ConcurrentHashMap<String, Long>();
+	private volatile HashMap<String, Integer> eventsCounts = new HashMap<String, Integer>();
+	private volatile HashMap<String, Long> eventsDurations = new HashMap<String, Long>();
 
 	private ThreadPoolExecutor executor;
 
@@ -33,6 +65,12 @@ public class GameEventHandler {
 
 	public GameEventHandler(final Server server) {
 		this.server = server;
+		for (int i = 0; i < PAGE_TICKS; i++) {
+			tickSlots.add(new ArrayList<GameTickEvent>());
+		}
+		for (int i = 0; i < PAGE_SLOTS; i++) {
+			pageSlots.add(new ArrayList<GameTickEvent>());
+		}
 	}
 
 	public void load() {
@@ -55,19 +93,30 @@ public class GameEventHandler {
 			LOGGER.catching(e);
 		}
 
+		for (final GameTickEvent event : events.values()) {
+			event.setScheduler(null, -1);
+		}
 		events.clear();
+		ownedEvents.clear();
 		eventsToAdd.clear();
-		eventsCounts.clear();
-		eventsDurations.clear();
+		eventsToReschedule.clear();
+		for (final ArrayList<GameTickEvent> slot : tickSlots) {
+			slot.clear();
+		}
+		for (final ArrayList<GameTickEvent> slot : pageSlots) {
+			slot.clear();
+		}
+		dueEvents.clear();
+		currentTick = 0;
+		eventsCounts = new HashMap<String, Integer>();
+		eventsDurations = new HashMap<String, Long>();
 	}
 
 	public void add(final GameTickEvent event) {
-		final String className = String.valueOf(event.getClass());
 		if (event.isUniqueEvent() || !event.hasOwner()) {
-			final UUID uuid = UUID.randomUUID();
-			eventsToAdd.putIfAbsent(className + uuid, event);
+			eventsToAdd.putIfAbsent(nextScheduleId.incrementAndGet(), event);
 		} else {
-			eventsToAdd.putIfAbsent(className + event.getOwner().getUUID() + (event.getOwner().isPlayer() ? "p" : "n"), event);
+			eventsToAdd.putIfAbsent(new EventKey(event), event);
 		}
 	}
 
@@ -85,10 +134,15 @@ public class GameEventHandler {
 	}
 
 	public boolean contains(final GameTickEvent event) {
-		if (event.getOwner() != null) {
-			return events.containsKey(String.valueOf(event.getOwner().getID()));
-		}
-		return false;
+		return event.getScheduler() == this;
+	}
+
+	/**
+	 * Moves a scheduled event to a new due tick. Called by {@link GameTickEvent#resetCountdown()}.
+	 */
+	public void reschedule(final GameTickEvent event, final long dueTick) {
+		event.setDueTick(dueTick);
+		eventsToReschedule.add(event);
 	}
 
 	private void processEvents() {
@@ -97,33 +151,131 @@ public class GameEventHandler {
 		executor.setCorePoolSize(maxThreads / 2);
 		executor.setMaximumPoolSize(maxThreads);
 
-		if (eventsToAdd.size() > 0) {
-			events.putAll(eventsToAdd);
-			eventsToAdd.clear();
+		final long tick = currentTick + 1;
+		currentTick = tick;
+
+		if ((tick & PAGE_MASK) == 0) {
+			cascade(tick);
+		}
+
+		scheduleAddedEvents(tick);
+
+		GameTickEvent event;
+		while ((event = eventsToReschedule.poll()) != null) {
+			if (event.getScheduler() == this) {
+				place(event, tick);
+			}
 		}
 
+		final ArrayList<GameTickEvent> slot = tickSlots.get((int) (tick & PAGE_MASK));
+		for (final GameTickEvent dueEvent : slot) {
+			if (dueEvent.getScheduler() == this && dueEvent.getDueTick() == tick && dueEvent.getScheduleMark() != tick) {
+				dueEvent.setScheduleMark(tick);
+				dueEvents.add(dueEvent);
+			}
+		}
+		slot.clear();
+
+		final long effectsStart = System.currentTimeMillis();
+		getServer().getWorld().getMobEffects().step(tick);
+		final long effectsDuration = System.currentTimeMillis() - effectsStart;
+
 		try {
-			executor.invokeAll(events.values());
+			executor.invokeAll(dueEvents);
 		} catch (Exception e) {
 			LOGGER.catching(e);
 		}
 
-		eventsCounts.clear();
-		eventsDurations.clear();
+		final HashMap<String, Integer> counts = new HashMap<String, Integer>();
+		final HashMap<String, Long> durations = new HashMap<String, Long>();
+		counts.put("Mob Effects", getServer().getWorld().getMobEffects().getLastStepCount());
+		durations.put("Mob Effects", effectsDuration);
+		for (final GameTickEvent dueEvent : dueEvents) {
+			counts.merge(dueEvent.getDescriptor(), 1, Integer::sum);
+			durations.merge(dueEvent.getDescriptor(), dueEvent.getLastEventDuration(), Long::sum);
 
-		events.entrySet().removeIf((eventBox) -> {
-			GameTickEvent event = eventBox.getValue();
-			eventsCounts.put(event.getDescriptor(),
-				eventsCounts.containsKey(event.getDescriptor()) ?
-					eventsCounts.get(event.getDescriptor()) + 1 :
-					1);
-			eventsDurations.put(event.getDescriptor(),
-				eventsDurations.containsKey(event.getDescriptor()) ?
-					eventsDurations.get(event.getDescriptor()) + event.getLastEventDuration() :
-					event.getLastEventDuration());
-
-			return event.shouldRemove();
-		});
+			if (dueEvent.shouldRemove()) {
+				remove(dueEvent);
+			}
+		}
+		dueEvents.clear();
+
+		eventsCounts = counts;
+		eventsDurations = durations;
+	}
+
+	private void scheduleAddedEvents(final long tick) {
+		final Iterator<GameTickEvent> iterator = eventsToAdd.values().iterator();
+		while (iterator.hasNext()) {
+			final GameTickEvent event = iterator.next();
+			iterator.remove();
+			if (event.getScheduler() == this) {
+				continue;
+			}
+
+			if (!event.isUniqueEvent() && event.hasOwner()) {
+				final GameTickEvent replaced = ownedEvents.put(new EventKey(event), event);
+				if (replaced != null && replaced != event) {
+					detach(replaced);
+				}
+			}
+
+			// Added events are counted down from the tick they were added on.
+			event.setDueTick(tick - 1 + Math.max(event.getTicksBeforeRun(), 1));
+			final long scheduleId = nextScheduleId.incrementAndGet();
+			event.setScheduler(this, scheduleId);
+			events.put(scheduleId, event);
+			place(event, tick);
+		}
+	}
+
+	/**
+	 * Puts @param event in the wheel slot for its due tick.
+	 */
+	private void place(final GameTickEvent event, final long tick) {
+		if (event.getDueTick() < tick) {
+			event.setDueTick(tick);
+		}
+		final long dueTick = event.getDueTick();
+		if ((dueTick >> PAGE_BITS) == (tick >> PAGE_BITS)) {
+			tickSlots.get((int) (dueTick & PAGE_MASK)).add(event);
+		} else {
+			pageSlots.get((int) ((dueTick >> PAGE_BITS) % PAGE_SLOTS)).add(event);
+		}
+	}
+
+	/**
+	 * Moves the events due in the page starting at @param tick from the page slots into the tick slots.
+	 */
+	private void cascade(final long tick) {
+		final long page = tick >> PAGE_BITS;
+		final int pageSlot = (int) (page % PAGE_SLOTS);
+		final ArrayList<GameTickEvent> slot = pageSlots.get(pageSlot);
+		if (slot.isEmpty()) {
+			return;
+		}
+
+		final ArrayList<GameTickEvent> pending = new ArrayList<GameTickEvent>(slot);
+		slot.clear();
+		for (final GameTickEvent event : pending) {
+			if (event.getScheduler() != this) {
+				continue;
+			}
+			final long duePage = event.getDueTick() >> PAGE_BITS;
+			if (duePage == page) {
+				tickSlots.get((int) (event.getDueTick() & PAGE_MASK)).add(event);
+			} else if (duePage > page && duePage % PAGE_SLOTS == pageSlot && event.getScheduleMark() != -tick) {
+				// Still at least one more round away.
+				event.setScheduleMark(-tick);
+				slot.add(event);
+			}
+			// Otherwise the entry is stale, the event was rescheduled into another slot.
+		}
+	}
+
+	private void detach(final GameTickEvent event) {
+		events.remove(event.getScheduleId(), event);
+		event.setScheduler(null, -1);
 	}
 
 	public long runGameEvents() {
@@ -201,6 +353,22 @@ public class GameEventHandler {
 				s.append(incomingTime).append("ms").append(" : ");
 				s.append(incomingCount).append(newLine);
 			}
+
+			s.append("========================").append(newLine);
+			s.append("=== Dropped Packets  ===").append(newLine);
+			s.append("========================").append(newLine);
+			for (Map.Entry<Integer, Integer> entry : getServer().getDroppedIncomingCountPerPacketOpcode().entrySet()) {
+				s.append("Packet ID: ").append(entry.getKey()).append(" : ");
+				s.append(entry.getValue()).append(newLine);
+			}
+
+			s.append("========================").append(newLine);
+			s.append("=== Rate Limited     ===").append(newLine);
+			s.append("========================").append(newLine);
+			for (Map.Entry<Integer, Integer> entry : getServer().getRateLimitedIncomingCountPerPacketOpcode().entrySet()) {
+				s.append("Packet ID: ").append(entry.getKey()).append(" : ");
+				s.append(entry.getValue()).append(newLine);
+			}
 		}
 
 		// Running GC before grabbing memory usage in order to get the actual used and referenced memory amount.
@@ -212,7 +380,18 @@ public class GameEventHandler {
 		final String returnString = (
 			"Tick: " + getServer().getConfig().GAME_TICK + "ms, Server: " + getServer().getLastTickDuration() + "ms " + getServer().getLastIncomingPacketsDuration() + "ms " + getServer().getLastEventsDuration() + "ms " + getServer().getLastGameStateDuration() + "ms " + getServer().getLastOutgoingPacketsDuration() + "ms" + newLine +
 				"Game Updater: " + getServer().getGameUpdater().getLastWorldUpdateDuration() + "ms " + getServer().getGameUpdater().getLastProcessPlayersDuration() + "ms " + getServer().getGameUpdater().getLastProcessNpcsDuration() + "ms " + getServer().getGameUpdater().getLastProcessMessageQueuesDuration() + "ms " + getServer().getGameUpdater().getLastUpdateClientsDuration() + "ms " + getServer().getGameUpdater().getLastDoCleanupDuration() + "ms " + getServer().getGameUpdater().getLastExecuteWalkToActionsDuration() + "ms " + newLine +
-				"Events: " + countAllEvents + ", NPCs: " + getServer().getWorld().getNpcs().size() + ", Players: " + getServer().getWorld().getPlayers().size() + ", Shops: " + getServer().getWorld().getShops().size() + newLine +
+				(getServer().getGameUpdater().isParallelClientUpdates() ? "Client Updates (" + getServer().getGameUpdater().getClientUpdateThreads() + " threads): " + getServer().getGameUpdater().getLastUpdateClientsSnapshotDuration() + "ms " + getServer().getGameUpdater().getLastUpdateClientsBuildDuration() + "ms " + getServer().getGameUpdater().getLastUpdateClientsProcessDuration() + "ms" + newLine : "") +
+				"NPC Aggro Plan" + (getServer().getGameUpdater().isParallelNpcUpdates() ? " (" + getServer().getGameUpdater().getNpcUpdateThreads() + " threads)" : "") + ": " + getServer().getGameUpdater().getLastPlanNpcsDuration() + "ms, " + getServer().getGameUpdater().getLastDormantNpcCount() + " dormant NPCs" + newLine +
+				"Update Fragments: " + getServer().getGameUpdater().getLastUpdateFragmentHits() + " hits, " + getServer().getGameUpdater().getLastUpdateFragmentMisses() + " misses" + newLine +
+				"Outgoing Packets: " + getServer().getLastOutgoingPackets() + " packets, " + getServer().getLastOutgoingBytes() + " bytes, " + getServer().getLastOutgoingFlushes() + " flushes" + newLine +
+				"Login Executor (" + getServer().getLoginExecutor().getWorkerCount() + " workers): " + getServer().getLoginExecutor().getQueueDepth() + " queued, p50 " + getServer().getLoginExecutor().getLatencyPercentile(50) + "ms, p95 " + getServer().getLoginExecutor().getLatencyPercentile(95) + "ms, p99 " + getServer().getLoginExecutor().getLatencyPercentile(99) + "ms" + newLine +
+				"Login Stages: db p95 " + getServer().getLoginExecutor().getStageLatencyPercentile(LoginExecutor.Stage.DB_LOOKUP, 95) + "ms, password p95 " + getServer().getLoginExecutor().getStageLatencyPercentile(LoginExecutor.Stage.PASSWORD_CHECK, 95) + "ms, load p95 " + getServer().getLoginExecutor().getStageLatencyPercentile(LoginExecutor.Stage.PLAYER_LOAD, 95) + "ms, register p95 " + getServer().getLoginExecutor().getStageLatencyPercentile(LoginExecutor.Stage.WORLD_REGISTRATION, 95) + "ms, credential pool " + (getServer().getLoginExecutor().getCredentialPool() == null ? "off" : getServer().getLoginExecutor().getCredentialPool().getQueueDepth() + " queued") + newLine +
+				(getServer().getWorld().getAvatarGenerator() != null ? "Avatars: " + getServer().getWorld().getAvatarGenerator().getQueueLength() + " queued, " + getServer().getWorld().getAvatarGenerator().getRenderCount() + " rendered, " + getServer().getWorld().getAvatarGenerator().getUnchangedCount() + " unchanged, " + getServer().getWorld().getAvatarGenerator().getDroppedCount() + " dropped, render p95 " + getServer().getWorld().getAvatarGenerator().getRenderTimePercentile(95) + "ms" + newLine : "") +
+				"Player Saves: " + getServer().getDatabase().getSavedRowsPerMinute() + " rows/min, " + (getServer().getDatabase().getSavedBytesPerMinute() / 1024) + "KB/min, " + getServer().getDatabase().getSkippedSaveSections() + " sections skipped" + newLine +
+				"Plugin Threads: " + getServer().getPluginHandler().getThreadCount() + " alive, " + getServer().getPluginHandler().getLargestThreadCount() + " most at once, " + (getServer().getConfig().PLUGIN_THREAD_STACK_KB > 0 ? getServer().getConfig().PLUGIN_THREAD_STACK_KB + "KB" : "default") + " stacks" + newLine +
+				(getServer().getWorld().getMarket() != null ? "Auction House: " + getServer().getWorld().getMarket().getBook().size() + " auctions, open p95 " + getServer().getWorld().getMarket().getOpenLatencyPercentile(95) + "ms, " + getServer().getWorld().getMarket().getMarketDatabase().getCallsPerMinute() + " DB calls/min" + newLine : "") +
+				"Game Logger: " + getServer().getGameLogger().getBacklog() + " queued, " + getServer().getGameLogger().getDroppedCount() + " dropped, last flush " + getServer().getGameLogger().getLastFlushSize() + " rows in " + getServer().getGameLogger().getLastFlushDuration() + "ms" + newLine +
+				"Events: " + getEventCount() + " (" + countAllEvents + " due), NPCs: " + getServer().getWorld().getNpcs().size() + ", Players: " + getServer().getWorld().getPlayers().size() + ", Shops: " + getServer().getWorld().getShops().size() + newLine +
 				"Threads: " + Thread.activeCount() + ", Total: " + totalMemory + ", Free: " +  freeMemory + ", Used: " + usedMemory + newLine +
 				/*"Player Atk Map: " + getWorld().getPlayersUnderAttack().size() + ", NPC Atk Map: " + getWorld().getNpcsUnderAttack().size() + ", Quests: " + getWorld().getQuests().size() + ", Mini Games: " + getWorld().getMiniGames().size() + newLine +*/
 				s.toString()
@@ -226,20 +405,36 @@ public class GameEventHandler {
 	}
 
 	public HashMap<String, GameTickEvent> getEvents() {
-		return new LinkedHashMap<>(events);
+		final HashMap<String, GameTickEvent> eventsById = new LinkedHashMap<>();
+		for (final Map.Entry<Long, GameTickEvent> entry : events.entrySet()) {
+			eventsById.put(String.valueOf(entry.getKey()), entry.getValue());
+		}
+		return eventsById;
 	}
 
-	public void remove(GameTickEvent event) {
-		events.remove(event);
+	public int getEventCount() {
+		return events.size();
+	}
+
+	public long getCurrentTick() {
+		return currentTick;
+	}
+
+	public void remove(final GameTickEvent event) {
+		if (event.getScheduler() != this) {
+			return;
+		}
+		if (!event.isUniqueEvent() && event.hasOwner()) {
+			ownedEvents.computeIfPresent(new EventKey(event), (key, ownedEvent) -> ownedEvent == event ? null : ownedEvent);
+		}
+		detach(event);
 	}
 
 	public void removePlayersEvents(Player player) {
 		try {
-			Iterator<Map.Entry<String, GameTickEvent>> iterator = events.entrySet().iterator();
-			while (iterator.hasNext()) {
-				GameTickEvent event = iterator.next().getValue();
+			for (final GameTickEvent event : events.values()) {
 				if (event.belongsTo(player)) {
-					iterator.remove();
+					remove(event);
 				}
 			}
 		} catch (Exception e) {
@@ -258,4 +453,31 @@ public class GameEventHandler {
 	public final Server getServer() {
 		return server;
 	}
+
+	/**
+	 * Identifies the single scheduled event of a class an owner may have.
+	 */
+	private static final class EventKey {
+		private final Class<?> type;
+		private final Mob owner;
+
+		private EventKey(final GameTickEvent event) {
+			this.type = event.getClass();
+			this.owner = event.getOwner();
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof EventKey)) {
+				return false;
+			}
+			final EventKey other = (EventKey) o;
+			return type == other.type && owner == other.owner;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + System.identityHashCode(owner);
+		}
+	}
 }
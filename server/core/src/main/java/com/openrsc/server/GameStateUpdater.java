@@ -9,20 +9,35 @@ import com.openrsc.server.model.PrivateMessage;
 import com.openrsc.server.model.entity.Entity;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
+import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.player.PlayerSettings;
 import com.openrsc.server.model.entity.update.*;
+import com.openrsc.server.model.world.region.Region;
 import com.openrsc.server.net.PacketBuilder;
 import com.openrsc.server.net.rsc.ActionSender;
+import com.openrsc.server.util.NamedThreadFactory;
 import com.openrsc.server.util.rsc.DataConversions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class GameStateUpdater {
 	/**
@@ -37,6 +52,49 @@ public final class GameStateUpdater {
 	private long lastUpdateClientsDuration = 0;
 	private long lastDoCleanupDuration = 0;
 	private long lastExecuteWalkToActionsDuration = 0;
+	private long lastUpdateClientsSnapshotDuration = 0;
+	private long lastUpdateClientsBuildDuration = 0;
+	private long lastUpdateClientsProcessDuration = 0;
+
+	/**
+	 * Worker pool used to build the per player update packets when parallel client updates are enabled.
+	 */
+	private ExecutorService clientUpdateExecutor;
+	private int clientUpdateThreads = 0;
+
+	/**
+	 * Fork join pool used to plan npc aggro per region when parallel npc updates are enabled. Only the planning is
+	 * parallel, the npcs are moved and ticked on the GameThread.
+	 */
+	private ForkJoinPool npcUpdateExecutor;
+	private int npcUpdateThreads = 0;
+	private int npcDormantTickInterval = 0;
+	private long npcTickCount = 0;
+	private long lastPlanNpcsDuration = 0;
+	private int lastDormantNpcCount = 0;
+	/**
+	 * The regions processNpcs last found within view of a player, reused between ticks with custom walking speeds.
+	 */
+	private Set<Region> activeNpcRegions;
+
+	/**
+	 * The client update cycle whose serialized update fragments may be shared, or -1 outside of updateClients.
+	 */
+	private volatile long updateCycle = -1;
+	private long lastUpdateCycle = 0;
+	private final LongAdder updateFragmentHits = new LongAdder();
+	private final LongAdder updateFragmentMisses = new LongAdder();
+	private long lastUpdateFragmentHits = 0;
+	private long lastUpdateFragmentMisses = 0;
+
+	/**
+	 * Reusable per thread buffers for the view area queries made while building update packets.
+	 */
+	private static final ThreadLocal<ArrayList<Player>> playersInViewBuffer = ThreadLocal.withInitial(ArrayList::new);
+	private static final ThreadLocal<ArrayList<Npc>> npcsInViewBuffer = ThreadLocal.withInitial(ArrayList::new);
+	private static final ThreadLocal<ArrayList<GameObject>> objectsInViewBuffer = ThreadLocal.withInitial(ArrayList::new);
+	private static final ThreadLocal<ArrayList<GroundItem>> itemsInViewBuffer = ThreadLocal.withInitial(ArrayList::new);
+	private static final ThreadLocal<ArrayList<Player>> aggroPlayersBuffer = ThreadLocal.withInitial(ArrayList::new);
 
 	private final Server server;
 	public final Server getServer() {
@@ -47,11 +105,65 @@ public final class GameStateUpdater {
 		this.server = server;
 	}
 
-	public void load() {
+	private static <T> ArrayList<T> emptyBuffer(final ThreadLocal<ArrayList<T>> buffer) {
+		final ArrayList<T> list = buffer.get();
+		list.clear();
+		return list;
+	}
 
+	public void load() {
+		if (getServer().getConfig().WANT_PARALLEL_CLIENT_UPDATES) {
+			clientUpdateThreads = getServer().getConfig().CLIENT_UPDATE_THREADS > 0
+				? getServer().getConfig().CLIENT_UPDATE_THREADS
+				: Runtime.getRuntime().availableProcessors();
+			clientUpdateExecutor = Executors.newFixedThreadPool(clientUpdateThreads, new NamedThreadFactory(getServer().getName() + " : ClientUpdater"));
+		}
+		if (getServer().getConfig().WANT_PARALLEL_NPC_UPDATES) {
+			npcUpdateThreads = getServer().getConfig().NPC_UPDATE_THREADS > 0
+				? getServer().getConfig().NPC_UPDATE_THREADS
+				: Runtime.getRuntime().availableProcessors();
+			npcUpdateExecutor = new ForkJoinPool(npcUpdateThreads, pool -> {
+				final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName(getServer().getName() + " : NpcUpdater " + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+		}
+		npcDormantTickInterval = Math.max(0, getServer().getConfig().NPC_DORMANT_TICK_INTERVAL);
 	}
 
 	public void unload() {
+		if (clientUpdateExecutor != null) {
+			clientUpdateExecutor.shutdown();
+			try {
+				final boolean terminationResult = clientUpdateExecutor.awaitTermination(1, TimeUnit.MINUTES);
+				if (!terminationResult) {
+					LOGGER.error("GameStateUpdater client update thread pool termination failed");
+				}
+			} catch (final InterruptedException e) {
+				LOGGER.catching(e);
+			}
+			clientUpdateExecutor = null;
+		}
+		clientUpdateThreads = 0;
+		if (npcUpdateExecutor != null) {
+			npcUpdateExecutor.shutdown();
+			try {
+				final boolean terminationResult = npcUpdateExecutor.awaitTermination(1, TimeUnit.MINUTES);
+				if (!terminationResult) {
+					LOGGER.error("GameStateUpdater npc update thread pool termination failed");
+				}
+			} catch (final InterruptedException e) {
+				LOGGER.catching(e);
+			}
+			npcUpdateExecutor = null;
+		}
+		npcUpdateThreads = 0;
+		npcDormantTickInterval = 0;
+		npcTickCount = 0;
+		lastPlanNpcsDuration = 0;
+		lastDormantNpcCount = 0;
+		activeNpcRegions = null;
+
 		lastWorldUpdateDuration = 0;
 		lastProcessPlayersDuration = 0;
 		lastProcessNpcsDuration = 0;
@@ -59,11 +171,33 @@ public final class GameStateUpdater {
 		lastUpdateClientsDuration = 0;
 		lastDoCleanupDuration = 0;
 		lastExecuteWalkToActionsDuration = 0;
+		lastUpdateClientsSnapshotDuration = 0;
+		lastUpdateClientsBuildDuration = 0;
+		lastUpdateClientsProcessDuration = 0;
+		updateCycle = -1;
+		lastUpdateFragmentHits = 0;
+		lastUpdateFragmentMisses = 0;
+		updateFragmentHits.reset();
+		updateFragmentMisses.reset();
 	}
 
 	// private static final int PACKET_UPDATETIMEOUTS = 0;
 	public void sendUpdatePackets(final Player player) {
 		// TODO: Should be private
+		if (buildUpdatePackets(player)) {
+			updateTimeouts(player);
+		} else {
+			unregisterFailedUpdate(player);
+		}
+	}
+
+	/**
+	 * Writes the player's view updates to their outgoing packets. Safe to call from a client update worker,
+	 * it never touches anything but the player's own local lists and packets.
+	 *
+	 * @return false if building the packets threw, the player must then be unregistered on the game thread
+	 */
+	private boolean buildUpdatePackets(final Player player) {
 		try {
 			updatePlayers(player);
 			updatePlayerAppearances(player);
@@ -73,13 +207,17 @@ public final class GameStateUpdater {
 			updateWallObjects(player);
 			updateGroundItems(player);
 			sendClearLocations(player);
-			updateTimeouts(player);
+			return true;
 		} catch (final Exception e) {
 			LOGGER.catching(e);
-			player.unregister(true, "Exception while updating player " + player.getUsername());
+			return false;
 		}
 	}
 
+	private void unregisterFailedUpdate(final Player player) {
+		player.unregister(true, "Exception while updating player " + player.getUsername());
+	}
+
 	/**
 	 * Checks if the player has moved within the last X minutes
 	 */
@@ -141,7 +279,8 @@ public final class GameStateUpdater {
 				}
 			}
 		}
-		for (final Npc newNPC : playerToUpdate.getViewArea().getNpcsInView()) {
+		final ArrayList<Npc> npcsInView = playerToUpdate.getViewArea().getNpcsInView(emptyBuffer(npcsInViewBuffer));
+		for (final Npc newNPC : npcsInView) {
 			if (playerToUpdate.getLocalNpcs().contains(newNPC) || newNPC.equals(playerToUpdate) || newNPC.isRemoved() || newNPC.isRespawning()
 				|| newNPC.getID() == NpcId.NED_BOAT.id() && !playerToUpdate.getCache().hasKey("ned_hired")
 				|| !playerToUpdate.withinRange(newNPC, (getServer().getConfig().VIEW_DISTANCE * 8) - 1) || (newNPC.isTeleporting() && !newNPC.inCombat())) {
@@ -158,6 +297,7 @@ public final class GameStateUpdater {
 
 			playerToUpdate.getLocalNpcs().add(newNPC);
 		}
+		npcsInView.clear();
 		packet.finishBitAccess();
 		playerToUpdate.write(packet.toPacket());
 	}
@@ -201,7 +341,8 @@ public final class GameStateUpdater {
 				}
 			}
 
-			for (final Player otherPlayer : playerToUpdate.getViewArea().getPlayersInView()) {
+			final ArrayList<Player> playersInView = playerToUpdate.getViewArea().getPlayersInView(emptyBuffer(playersInViewBuffer));
+			for (final Player otherPlayer : playersInView) {
 				if (playerToUpdate.getLocalPlayers().contains(otherPlayer) || otherPlayer.equals(playerToUpdate)
 					|| !otherPlayer.withinRange(playerToUpdate) || !otherPlayer.loggedIn()
 					|| otherPlayer.isRemoved() || otherPlayer.isInvisibleTo(playerToUpdate)
@@ -219,24 +360,24 @@ public final class GameStateUpdater {
 					break;
 				}
 			}
+			playersInView.clear();
 		}
 		positionBuilder.finishBitAccess();
 		playerToUpdate.write(positionBuilder.toPacket());
 	}
 
 	public void updateNpcAppearances(final Player player) {
-		final ConcurrentLinkedQueue<Damage> npcsNeedingHitsUpdate = new ConcurrentLinkedQueue<>();
-		final ConcurrentLinkedQueue<ChatMessage> npcMessagesNeedingDisplayed = new ConcurrentLinkedQueue<>();
-		final ConcurrentLinkedQueue<Projectile> npcProjectilesNeedingDisplayed = new ConcurrentLinkedQueue<>();
-		final ConcurrentLinkedQueue<Skull> npcSkullsNeedingDisplayed = new ConcurrentLinkedQueue<>();
-		final ConcurrentLinkedQueue<Wield> npcWieldsNeedingDisplayed = new ConcurrentLinkedQueue<>();
-		final ConcurrentLinkedQueue<BubbleNpc> npcBubblesNeedingDisplayed = new ConcurrentLinkedQueue<>();
+		final ArrayDeque<Npc> npcMessagesNeedingDisplayed = new ArrayDeque<>();
+		final ArrayDeque<Npc> npcsNeedingHitsUpdate = new ArrayDeque<>();
+		final ArrayDeque<Npc> npcProjectilesNeedingDisplayed = new ArrayDeque<>();
+		final ArrayDeque<Skull> npcSkullsNeedingDisplayed = new ArrayDeque<>();
+		final ArrayDeque<Wield> npcWieldsNeedingDisplayed = new ArrayDeque<>();
+		final ArrayDeque<BubbleNpc> npcBubblesNeedingDisplayed = new ArrayDeque<>();
 
 		for (final Npc npc : player.getLocalNpcs()) {
 			final UpdateFlags updateFlags = npc.getUpdateFlags();
 			if (updateFlags.hasChatMessage()) {
-				ChatMessage chatMessage = updateFlags.getChatMessage();
-				npcMessagesNeedingDisplayed.add(chatMessage);
+				npcMessagesNeedingDisplayed.add(npc);
 			}
 			if (updateFlags.hasSkulled()) {
 				Skull skull = updateFlags.getSkull().get();
@@ -251,12 +392,10 @@ public final class GameStateUpdater {
 				npcWieldsNeedingDisplayed.add(wield2);
 			}
 			if (updateFlags.hasTakenDamage()) {
-				Damage damage = updateFlags.getDamage().get();
-				npcsNeedingHitsUpdate.add(damage);
+				npcsNeedingHitsUpdate.add(npc);
 			}
 			if (updateFlags.hasFiredProjectile()) {
-				Projectile projectileFired = updateFlags.getProjectile().get();
-				npcProjectilesNeedingDisplayed.add(projectileFired);
+				npcProjectilesNeedingDisplayed.add(npc);
 			}
 			if (updateFlags.hasBubbleNpc()) {
 					BubbleNpc bubble = updateFlags.getActionBubbleNpc().get();
@@ -270,35 +409,15 @@ public final class GameStateUpdater {
 			npcAppearancePacket.setID(104);
 			npcAppearancePacket.writeShort(updateSize);
 
-			ChatMessage chatMessage;
-			while ((chatMessage = npcMessagesNeedingDisplayed.poll()) != null) {
-				npcAppearancePacket.writeShort(chatMessage.getSender().getIndex());
-				npcAppearancePacket.writeByte((byte) 1);
-				npcAppearancePacket.writeShort(chatMessage.getRecipient() == null ? -1 : chatMessage.getRecipient().getIndex());
-				npcAppearancePacket.writeString(chatMessage.getMessageString());
-			}
-			Damage npcNeedingHitsUpdate;
-			while ((npcNeedingHitsUpdate = npcsNeedingHitsUpdate.poll()) != null) {
-				npcAppearancePacket.writeShort(npcNeedingHitsUpdate.getIndex());
-				npcAppearancePacket.writeByte((byte) 2);
-				npcAppearancePacket.writeByte((byte) npcNeedingHitsUpdate.getDamage());
-				npcAppearancePacket.writeByte((byte) npcNeedingHitsUpdate.getCurHits());
-				npcAppearancePacket.writeByte((byte) npcNeedingHitsUpdate.getMaxHits());
-			}
-			Projectile projectile;
-			while ((projectile = npcProjectilesNeedingDisplayed.poll()) != null) {
-				Entity victim = projectile.getVictim();
-				if (victim.isNpc()) {
-					npcAppearancePacket.writeShort(projectile.getCaster().getIndex());
-					npcAppearancePacket.writeByte((byte) 3);
-					npcAppearancePacket.writeShort(projectile.getType());
-					npcAppearancePacket.writeShort(((Npc) victim).getIndex());
-				} else if (victim.isPlayer()) {
-					npcAppearancePacket.writeShort(projectile.getCaster().getIndex());
-					npcAppearancePacket.writeByte((byte) 4);
-					npcAppearancePacket.writeShort(projectile.getType());
-					npcAppearancePacket.writeShort(((Player) victim).getIndex());
-				}
+			Npc npc;
+			while ((npc = npcMessagesNeedingDisplayed.poll()) != null) {
+				writeFragment(npcAppearancePacket, npc, player, UpdateFragments.CHAT, GameStateUpdater::writeNpcChatBlock);
+			}
+			while ((npc = npcsNeedingHitsUpdate.poll()) != null) {
+				writeFragment(npcAppearancePacket, npc, player, UpdateFragments.DAMAGE, GameStateUpdater::writeDamageBlock);
+			}
+			while ((npc = npcProjectilesNeedingDisplayed.poll()) != null) {
+				writeFragment(npcAppearancePacket, npc, player, UpdateFragments.PROJECTILE, GameStateUpdater::writeProjectileBlock);
 			}
 			Skull npcNeedingSkullUpdate;
 			while ((npcNeedingSkullUpdate = npcSkullsNeedingDisplayed.poll()) != null) {
@@ -330,9 +449,9 @@ public final class GameStateUpdater {
 	 */
 	public void updatePlayerAppearances(final Player player) {
 		final ArrayDeque<Bubble> bubblesNeedingDisplayed = new ArrayDeque<>();
-		final ArrayDeque<ChatMessage> chatMessagesNeedingDisplayed = new ArrayDeque<>();
-		final ArrayDeque<Projectile> projectilesNeedingDisplayed = new ArrayDeque<>();
-		final ArrayDeque<Damage> playersNeedingDamageUpdate = new ArrayDeque<>();
+		final ArrayDeque<Player> chatMessagesNeedingDisplayed = new ArrayDeque<>();
+		final ArrayDeque<Player> projectilesNeedingDisplayed = new ArrayDeque<>();
+		final ArrayDeque<Player> playersNeedingDamageUpdate = new ArrayDeque<>();
 		final ArrayDeque<HpUpdate> playersNeedingHpUpdate = new ArrayDeque<HpUpdate>();
 		final ArrayDeque<Player> playersNeedingAppearanceUpdate = new ArrayDeque<>();
 
@@ -341,16 +460,13 @@ public final class GameStateUpdater {
 			bubblesNeedingDisplayed.add(bubble);
 		}
 		if (player.getUpdateFlags().hasFiredProjectile()) {
-			Projectile projectileFired = player.getUpdateFlags().getProjectile().get();
-			projectilesNeedingDisplayed.add(projectileFired);
+			projectilesNeedingDisplayed.add(player);
 		}
 		if (player.getUpdateFlags().hasChatMessage()) {
-			ChatMessage chatMessage = player.getUpdateFlags().getChatMessage();
-			chatMessagesNeedingDisplayed.add(chatMessage);
+			chatMessagesNeedingDisplayed.add(player);
 		}
 		if (player.getUpdateFlags().hasTakenDamage()) {
-			Damage damage = player.getUpdateFlags().getDamage().get();
-			playersNeedingDamageUpdate.add(damage);
+			playersNeedingDamageUpdate.add(player);
 		}
 		if (player.getUpdateFlags().hasTakenHpUpdate()) {
 			HpUpdate hpUpdate = player.getUpdateFlags().getHpUpdate().get();
@@ -371,16 +487,13 @@ public final class GameStateUpdater {
 				bubblesNeedingDisplayed.add(bubble);
 			}
 			if (updateFlags.hasFiredProjectile()) {
-				Projectile projectileFired = updateFlags.getProjectile().get();
-				projectilesNeedingDisplayed.add(projectileFired);
+				projectilesNeedingDisplayed.add(otherPlayer);
 			}
 			if (updateFlags.hasChatMessage() && !player.getSettings().getPrivacySetting(PlayerSettings.PRIVACY_BLOCK_CHAT_MESSAGES)) {
-				ChatMessage chatMessage = updateFlags.getChatMessage();
-				chatMessagesNeedingDisplayed.add(chatMessage);
+				chatMessagesNeedingDisplayed.add(otherPlayer);
 			}
 			if (updateFlags.hasTakenDamage()) {
-				Damage damage = updateFlags.getDamage().get();
-				playersNeedingDamageUpdate.add(damage);
+				playersNeedingDamageUpdate.add(otherPlayer);
 			}
 			if (updateFlags.hasTakenHpUpdate()) {
 				HpUpdate hpUpdate = updateFlags.getHpUpdate().get();
@@ -395,8 +508,8 @@ public final class GameStateUpdater {
 	}
 
 	private void issuePlayerAppearanceUpdatePacket(final Player player, final Queue<Bubble> bubblesNeedingDisplayed,
-												   final Queue<ChatMessage> chatMessagesNeedingDisplayed, final Queue<Projectile> projectilesNeedingDisplayed,
-												   final Queue<Damage> playersNeedingDamageUpdate,final Queue<HpUpdate> playersNeedingHpUpdate,
+												   final Queue<Player> chatMessagesNeedingDisplayed, final Queue<Player> projectilesNeedingDisplayed,
+												   final Queue<Player> playersNeedingDamageUpdate,final Queue<HpUpdate> playersNeedingHpUpdate,
 												   final Queue<Player> playersNeedingAppearanceUpdate) {
 		if (player.loggedIn()) {
 			final int updateSize = bubblesNeedingDisplayed.size() + chatMessagesNeedingDisplayed.size()
@@ -413,88 +526,22 @@ public final class GameStateUpdater {
 					appearancePacket.writeByte((byte) 0);
 					appearancePacket.writeShort(b.getID());
 				}
-				ChatMessage cm;
-				while ((cm = chatMessagesNeedingDisplayed.poll()) != null) {
-					Player sender = (Player) cm.getSender();
-					boolean tutorialPlayer = sender.getLocation().onTutorialIsland() && !sender.hasElevatedPriveledges();
-					boolean muted = sender.isMuted();
-
-					int chatType = cm.getRecipient() == null ? (tutorialPlayer || muted ? 7 : 1)
-						: cm.getRecipient() instanceof Player ? (tutorialPlayer || muted ? 7 : 6) : 6;
-					appearancePacket.writeShort(cm.getSender().getIndex());
-					appearancePacket.writeByte(chatType);
-
-					if (chatType == 1 || chatType == 7) {
-						if (cm.getSender() != null && cm.getSender() instanceof Player)
-							appearancePacket.writeInt(sender.getIcon());
-					}
-
-					if (chatType == 7) {
-						appearancePacket.writeByte(sender.isMuted() ? 1 : 0);
-						appearancePacket.writeByte(sender.getLocation().onTutorialIsland() ? 1 : 0);
-					}
-
-					if (chatType != 7 || player.isAdmin()) {
-						appearancePacket.writeString(cm.getMessageString());
-					} else {
-						appearancePacket.writeString("");
-					}
+				Player sender;
+				while ((sender = chatMessagesNeedingDisplayed.poll()) != null) {
+					writeFragment(appearancePacket, sender, player,
+						player.isAdmin() ? UpdateFragments.CHAT_ADMIN : UpdateFragments.CHAT, GameStateUpdater::writePlayerChatBlock);
 				}
-				Damage playerNeedingHitsUpdate;
+				Player playerNeedingHitsUpdate;
 				while ((playerNeedingHitsUpdate = playersNeedingDamageUpdate.poll()) != null) {
-					appearancePacket.writeShort(playerNeedingHitsUpdate.getIndex());
-					appearancePacket.writeByte((byte) 2);
-					appearancePacket.writeByte((byte) playerNeedingHitsUpdate.getDamage());
-					appearancePacket.writeByte((byte) playerNeedingHitsUpdate.getCurHits());
-					appearancePacket.writeByte((byte) playerNeedingHitsUpdate.getMaxHits());
+					writeFragment(appearancePacket, playerNeedingHitsUpdate, player, UpdateFragments.DAMAGE, GameStateUpdater::writeDamageBlock);
 				}
-				Projectile projectile;
-				while ((projectile = projectilesNeedingDisplayed.poll()) != null) {
-					Entity victim = projectile.getVictim();
-					if (victim.isNpc()) {
-						appearancePacket.writeShort(projectile.getCaster().getIndex());
-						appearancePacket.writeByte((byte) 3);
-						appearancePacket.writeShort(projectile.getType());
-						appearancePacket.writeShort(((Npc) victim).getIndex());
-					} else if (victim.isPlayer()) {
-						appearancePacket.writeShort(projectile.getCaster().getIndex());
-						appearancePacket.writeByte((byte) 4);
-						appearancePacket.writeShort(projectile.getType());
-						appearancePacket.writeShort(((Player) victim).getIndex());
-					}
+				Player caster;
+				while ((caster = projectilesNeedingDisplayed.poll()) != null) {
+					writeFragment(appearancePacket, caster, player, UpdateFragments.PROJECTILE, GameStateUpdater::writeProjectileBlock);
 				}
 				Player playerNeedingAppearanceUpdate;
 				while ((playerNeedingAppearanceUpdate = playersNeedingAppearanceUpdate.poll()) != null) {
-					PlayerAppearance appearance = playerNeedingAppearanceUpdate.getSettings().getAppearance();
-
-					appearancePacket.writeShort((short) playerNeedingAppearanceUpdate.getIndex());
-					appearancePacket.writeByte((byte) 5);
-					//appearancePacket.writeShort(0);
-					appearancePacket.writeString(playerNeedingAppearanceUpdate.getUsername());
-					//appearancePacket.writeString(playerNeedingAppearanceUpdate.getUsername());
-
-					appearancePacket.writeByte((byte) playerNeedingAppearanceUpdate.getWornItems().length);
-					for (int i : playerNeedingAppearanceUpdate.getWornItems()) {
-						appearancePacket.writeShort(i);
-					}
-					appearancePacket.writeByte(appearance.getHairColour());
-					appearancePacket.writeByte(appearance.getTopColour());
-					appearancePacket.writeByte(appearance.getTrouserColour());
-					appearancePacket.writeByte(appearance.getSkinColour());
-					appearancePacket.writeByte((byte) playerNeedingAppearanceUpdate.getCombatLevel());
-					appearancePacket.writeByte((byte) (playerNeedingAppearanceUpdate.getSkullType()));
-
-					if (playerNeedingAppearanceUpdate.getClan() != null) {
-						appearancePacket.writeByte(1);
-						appearancePacket.writeString(playerNeedingAppearanceUpdate.getClan().getClanTag());
-					} else {
-						appearancePacket.writeByte(0);
-					}
-
-					appearancePacket.writeByte(playerNeedingAppearanceUpdate.stateIsInvisible() ? 1 : 0);
-					appearancePacket.writeByte(playerNeedingAppearanceUpdate.stateIsInvulnerable() ? 1 : 0);
-					appearancePacket.writeByte(playerNeedingAppearanceUpdate.getGroupID());
-					appearancePacket.writeInt(playerNeedingAppearanceUpdate.getIcon());
+					writeFragment(appearancePacket, playerNeedingAppearanceUpdate, player, UpdateFragments.APPEARANCE, GameStateUpdater::writeAppearanceBlock);
 				}
 				HpUpdate playerNeedingHpUpdate;
 				while ((playerNeedingHpUpdate = playersNeedingHpUpdate.poll()) != null) {
@@ -509,6 +556,134 @@ public final class GameStateUpdater {
 		}
 	}
 
+	/**
+	 * Writes one of @param mob's update blocks into @param packet.
+	 *
+	 * While clients are being updated the block is serialized once per cycle and the same bytes are
+	 * spliced into the packet of every viewer. Outside of a cycle (e.g. on login) it is written directly.
+	 */
+	private <T extends Mob> void writeFragment(final PacketBuilder packet, final T mob, final Player viewer,
+											   final int type, final UpdateBlockWriter<T> writer) {
+		final long cycle = updateCycle;
+		if (cycle < 0) {
+			writer.write(packet, mob, viewer);
+			return;
+		}
+
+		byte[] fragment = mob.getUpdateFragments().get(type, cycle);
+		if (fragment == null) {
+			final PacketBuilder fragmentBuilder = new PacketBuilder();
+			writer.write(fragmentBuilder, mob, viewer);
+			fragment = mob.getUpdateFragments().put(type, cycle, fragmentBuilder.toByteArray());
+			updateFragmentMisses.increment();
+		} else {
+			updateFragmentHits.increment();
+		}
+		packet.writeBytes(fragment);
+	}
+
+	private static void writeNpcChatBlock(final PacketBuilder packet, final Npc npc, final Player viewer) {
+		final ChatMessage chatMessage = npc.getUpdateFlags().getChatMessage();
+		packet.writeShort(chatMessage.getSender().getIndex());
+		packet.writeByte((byte) 1);
+		packet.writeShort(chatMessage.getRecipient() == null ? -1 : chatMessage.getRecipient().getIndex());
+		packet.writeString(chatMessage.getMessageString());
+	}
+
+	/**
+	 * The chat block only depends on the viewer through {@link Player#isAdmin()}, which is why it is cached
+	 * as {@link UpdateFragments#CHAT} and {@link UpdateFragments#CHAT_ADMIN}.
+	 */
+	private static void writePlayerChatBlock(final PacketBuilder packet, final Player player, final Player viewer) {
+		final ChatMessage cm = player.getUpdateFlags().getChatMessage();
+		Player sender = (Player) cm.getSender();
+		boolean tutorialPlayer = sender.getLocation().onTutorialIsland() && !sender.hasElevatedPriveledges();
+		boolean muted = sender.isMuted();
+
+		int chatType = cm.getRecipient() == null ? (tutorialPlayer || muted ? 7 : 1)
+			: cm.getRecipient() instanceof Player ? (tutorialPlayer || muted ? 7 : 6) : 6;
+		packet.writeShort(cm.getSender().getIndex());
+		packet.writeByte(chatType);
+
+		if (chatType == 1 || chatType == 7) {
+			if (cm.getSender() != null && cm.getSender() instanceof Player)
+				packet.writeInt(sender.getIcon());
+		}
+
+		if (chatType == 7) {
+			packet.writeByte(sender.isMuted() ? 1 : 0);
+			packet.writeByte(sender.getLocation().onTutorialIsland() ? 1 : 0);
+		}
+
+		if (chatType != 7 || viewer.isAdmin()) {
+			packet.writeString(cm.getMessageString());
+		} else {
+			packet.writeString("");
+		}
+	}
+
+	private static void writeDamageBlock(final PacketBuilder packet, final Mob mob, final Player viewer) {
+		final Damage damage = mob.getUpdateFlags().getDamage().get();
+		packet.writeShort(damage.getIndex());
+		packet.writeByte((byte) 2);
+		packet.writeByte((byte) damage.getDamage());
+		packet.writeByte((byte) damage.getCurHits());
+		packet.writeByte((byte) damage.getMaxHits());
+	}
+
+	private static void writeProjectileBlock(final PacketBuilder packet, final Mob mob, final Player viewer) {
+		final Projectile projectile = mob.getUpdateFlags().getProjectile().get();
+		Entity victim = projectile.getVictim();
+		if (victim.isNpc()) {
+			packet.writeShort(projectile.getCaster().getIndex());
+			packet.writeByte((byte) 3);
+			packet.writeShort(projectile.getType());
+			packet.writeShort(((Npc) victim).getIndex());
+		} else if (victim.isPlayer()) {
+			packet.writeShort(projectile.getCaster().getIndex());
+			packet.writeByte((byte) 4);
+			packet.writeShort(projectile.getType());
+			packet.writeShort(((Player) victim).getIndex());
+		}
+	}
+
+	private static void writeAppearanceBlock(final PacketBuilder packet, final Player playerNeedingAppearanceUpdate, final Player viewer) {
+		PlayerAppearance appearance = playerNeedingAppearanceUpdate.getSettings().getAppearance();
+
+		packet.writeShort((short) playerNeedingAppearanceUpdate.getIndex());
+		packet.writeByte((byte) 5);
+		//packet.writeShort(0);
+		packet.writeString(playerNeedingAppearanceUpdate.getUsername());
+		//packet.writeString(playerNeedingAppearanceUpdate.getUsername());
+
+		packet.writeByte((byte) playerNeedingAppearanceUpdate.getWornItems().length);
+		for (int i : playerNeedingAppearanceUpdate.getWornItems()) {
+			packet.writeShort(i);
+		}
+		packet.writeByte(appearance.getHairColour());
+		packet.writeByte(appearance.getTopColour());
+		packet.writeByte(appearance.getTrouserColour());
+		packet.writeByte(appearance.getSkinColour());
+		packet.writeByte((byte) playerNeedingAppearanceUpdate.getCombatLevel());
+		packet.writeByte((byte) (playerNeedingAppearanceUpdate.getSkullType()));
+
+		if (playerNeedingAppearanceUpdate.getClan() != null) {
+			packet.writeByte(1);
+			packet.writeString(playerNeedingAppearanceUpdate.getClan().getClanTag());
+		} else {
+			packet.writeByte(0);
+		}
+
+		packet.writeByte(playerNeedingAppearanceUpdate.stateIsInvisible() ? 1 : 0);
+		packet.writeByte(playerNeedingAppearanceUpdate.stateIsInvulnerable() ? 1 : 0);
+		packet.writeByte(playerNeedingAppearanceUpdate.getGroupID());
+		packet.writeInt(playerNeedingAppearanceUpdate.getIcon());
+	}
+
+	private interface UpdateBlockWriter<T extends Mob> {
+		void write(PacketBuilder packet, T mob, Player viewer);
+	}
+
 	protected void updateGameObjects(final Player playerToUpdate) {
 		boolean changed = false;
 		final PacketBuilder packet = new PacketBuilder();
@@ -538,7 +713,8 @@ public final class GameStateUpdater {
 			}
 		}
 
-		for (final GameObject newObject : playerToUpdate.getViewArea().getGameObjectsInView()) {
+		final ArrayList<GameObject> objectsInView = playerToUpdate.getViewArea().getGameObjectsInView(emptyBuffer(objectsInViewBuffer));
+		for (final GameObject newObject : objectsInView) {
 			if (!playerToUpdate.withinGridRange(newObject) || newObject.isRemoved()
 				|| newObject.isInvisibleTo(playerToUpdate) || newObject.getType() != 0
 				|| playerToUpdate.getLocalGameObjects().contains(newObject)) {
@@ -553,6 +729,7 @@ public final class GameStateUpdater {
 			playerToUpdate.getLocalGameObjects().add(newObject);
 			changed = true;
 		}
+		objectsInView.clear();
 		if (changed)
 			playerToUpdate.write(packet.toPacket());
 	}
@@ -590,7 +767,8 @@ public final class GameStateUpdater {
 			}
 		}
 
-		for (final GroundItem groundItem : playerToUpdate.getViewArea().getItemsInView()) {
+		final ArrayList<GroundItem> itemsInView = playerToUpdate.getViewArea().getItemsInView(emptyBuffer(itemsInViewBuffer));
+		for (final GroundItem groundItem : itemsInView) {
 			if (!playerToUpdate.withinGridRange(groundItem) || groundItem.isRemoved()
 				|| groundItem.isInvisibleTo(playerToUpdate)
 				|| playerToUpdate.getLocalGroundItems().contains(groundItem)) {
@@ -607,6 +785,7 @@ public final class GameStateUpdater {
 			playerToUpdate.getLocalGroundItems().add(groundItem);
 			changed = true;
 		}
+		itemsInView.clear();
 		if (changed) {
 			playerToUpdate.write(packet.toPacket());
 		}
@@ -636,7 +815,8 @@ public final class GameStateUpdater {
 				}
 			}
 		}
-		for (final GameObject newObject : playerToUpdate.getViewArea().getGameObjectsInView()) {
+		final ArrayList<GameObject> objectsInView = playerToUpdate.getViewArea().getGameObjectsInView(emptyBuffer(objectsInViewBuffer));
+		for (final GameObject newObject : objectsInView) {
 			if (!playerToUpdate.withinGridRange(newObject) || newObject.isRemoved()
 				|| newObject.isInvisibleTo(playerToUpdate) || newObject.getType() != 1
 				|| playerToUpdate.getLocalWallObjects().contains(newObject)) {
@@ -652,6 +832,7 @@ public final class GameStateUpdater {
 			playerToUpdate.getLocalWallObjects().add(newObject);
 			changed = true;
 		}
+		objectsInView.clear();
 		if (changed) {
 			playerToUpdate.write(packet.toPacket());
 		}
@@ -694,14 +875,72 @@ public final class GameStateUpdater {
 
 	protected final long updateClients() {
 		final long updateClientsStart	= System.currentTimeMillis();
-		for (final Player player : getServer().getWorld().getPlayers()) {
-			sendUpdatePackets(player);
-			player.process();
+		updateCycle = ++lastUpdateCycle;
+		if (clientUpdateExecutor == null) {
+			for (final Player player : getServer().getWorld().getPlayers()) {
+				sendUpdatePackets(player);
+				player.process();
+			}
+			lastUpdateClientsSnapshotDuration = 0;
+			lastUpdateClientsBuildDuration = 0;
+			lastUpdateClientsProcessDuration = 0;
+		} else {
+			updateClientsParallel();
 		}
+		updateCycle = -1;
+		lastUpdateFragmentHits = updateFragmentHits.sumThenReset();
+		lastUpdateFragmentMisses = updateFragmentMisses.sumThenReset();
 		final long updateClientsEnd		= System.currentTimeMillis();
 		return updateClientsEnd - updateClientsStart;
 	}
 
+	/**
+	 * Builds every player's update packets on the client update pool.
+	 *
+	 * The GameThread is blocked for the whole build phase, so every other entity in the world is frozen
+	 * while the workers read it. Each worker only mutates the local entity lists and outgoing packets of
+	 * the players it was handed, so no two workers ever write to the same player. Timeouts, auto-saves and
+	 * unregistering players whose packets failed to build all happen afterwards on the GameThread.
+	 */
+	private void updateClientsParallel() {
+		final long snapshotStart = System.currentTimeMillis();
+		final List<Player> players = new ArrayList<>(getServer().getWorld().getPlayers());
+		final int chunkCount = Math.min(players.size(), clientUpdateThreads * 4);
+		final boolean[] failed = new boolean[players.size()];
+		final List<Callable<Void>> chunks = new ArrayList<>(chunkCount);
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			final int from = (int) ((long) players.size() * chunk / chunkCount);
+			final int to = (int) ((long) players.size() * (chunk + 1) / chunkCount);
+			chunks.add(() -> {
+				for (int i = from; i < to; i++) {
+					failed[i] = !buildUpdatePackets(players.get(i));
+				}
+				return null;
+			});
+		}
+		final long buildStart = System.currentTimeMillis();
+		lastUpdateClientsSnapshotDuration = buildStart - snapshotStart;
+
+		try {
+			clientUpdateExecutor.invokeAll(chunks);
+		} catch (final InterruptedException e) {
+			LOGGER.catching(e);
+		}
+		final long processStart = System.currentTimeMillis();
+		lastUpdateClientsBuildDuration = processStart - buildStart;
+
+		for (int i = 0; i < players.size(); i++) {
+			final Player player = players.get(i);
+			if (failed[i]) {
+				unregisterFailedUpdate(player);
+			} else {
+				updateTimeouts(player);
+			}
+			player.process();
+		}
+		lastUpdateClientsProcessDuration = System.currentTimeMillis() - processStart;
+	}
+
 	protected final long doCleanup() {// it can do the teleport at this time.
 		final long doCleanupStart	= System.currentTimeMillis();
 
@@ -747,6 +986,16 @@ public final class GameStateUpdater {
 
 	protected final long processNpcs() {
 		final long processNpcsStart	= System.currentTimeMillis();
+		activeNpcRegions = npcDormantTickInterval > 0 ? getActiveRegions() : null;
+		// With custom walking speeds the npcs are moved and ticked by updateNpcPositions instead, later than a plan made now could be trusted.
+		final boolean customWalkSpeed = getServer().getConfig().WANT_CUSTOM_WALK_SPEED;
+		if (!customWalkSpeed) {
+			planNpcs();
+		}
+		lastPlanNpcsDuration = System.currentTimeMillis() - processNpcsStart;
+
+		// Everything that changes the world happens here, on the game thread, in the npc list's order.
+		int dormantNpcs = 0;
 		for (final Npc n : getServer().getWorld().getNpcs()) {
 			try {
 				if (n.isUnregistering()) {
@@ -754,8 +1003,15 @@ public final class GameStateUpdater {
 					continue;
 				}
 
+				if (isDormant(n)) {
+					dormantNpcs++;
+					if (!isDormantTick(n)) {
+						continue;
+					}
+				}
+
 				// Only do the walking tick here if the NPC's walking tick matches the game tick
-				if(!getServer().getConfig().WANT_CUSTOM_WALK_SPEED) {
+				if(!customWalkSpeed) {
 					n.updatePosition();
 				}
 			} catch (final Exception e) {
@@ -763,10 +1019,110 @@ public final class GameStateUpdater {
 				LOGGER.catching(e);
 			}
 		}
+		npcTickCount++;
+		lastDormantNpcCount = dormantNpcs;
 		final long processNpcsEnd = System.currentTimeMillis();
 		return processNpcsEnd - processNpcsStart;
 	}
 
+	/**
+	 * Moves and ticks the npcs between game ticks when custom walking speeds are enabled, leaving out the dormant npcs
+	 * processNpcs would leave out this tick.
+	 */
+	public void updateNpcPositions() {
+		for (final Npc n : getServer().getWorld().getNpcs()) {
+			try {
+				if (n.isUnregistering() || (isDormant(n) && !isDormantTick(n))) {
+					continue;
+				}
+				n.updatePosition();
+			} catch (final Exception e) {
+				LOGGER.error("Error while updating " + n + " at position " + n.getLocation() + " loc: " + n.getLoc());
+				LOGGER.catching(e);
+			}
+		}
+	}
+
+	/**
+	 * Idle npcs out of every player's view are only ticked every npc_dormant_tick_interval ticks.
+	 */
+	private boolean isDormant(final Npc n) {
+		return activeNpcRegions != null && !activeNpcRegions.contains(n.getRegion()) && n.getBehavior().isIdle();
+	}
+
+	/**
+	 * @return Whether a dormant npc is due this tick, spread over the ticks by index.
+	 */
+	private boolean isDormantTick(final Npc n) {
+		return (npcTickCount + n.getIndex()) % npcDormantTickInterval == 0;
+	}
+
+	/**
+	 * @return The regions within one view distance of a player.
+	 */
+	private Set<Region> getActiveRegions() {
+		final Set<Region> activeRegions = new HashSet<>();
+		for (final Player player : getServer().getWorld().getPlayers()) {
+			activeRegions.addAll(getServer().getWorld().getRegionManager().getSurroundingRegions(player.getLocation()));
+		}
+		return activeRegions;
+	}
+
+	/**
+	 * Finds the aggro target of every aggressive npc that is due to look for one.
+	 *
+	 * Instead of every npc scanning the players around it, the aggressors are bucketed by region and the players
+	 * around a region are gathered once for its whole bucket. With parallel npc updates the buckets run on the npc
+	 * update pool while the GameThread is blocked, so they only ever read the world; the targets are acted upon by
+	 * processNpcs, one npc at a time. Moving and ticking the npcs is left serial, as it changes the world.
+	 */
+	private void planNpcs() {
+		final Map<Region, List<Npc>> aggressorsByRegion = new HashMap<>();
+		for (final Npc n : getServer().getWorld().getNpcs()) {
+			if (n.isUnregistering() || n.getRegion() == null || !n.getBehavior().beginAggroPlan()) {
+				continue;
+			}
+			aggressorsByRegion.computeIfAbsent(n.getRegion(), region -> new ArrayList<>()).add(n);
+		}
+
+		if (npcUpdateExecutor == null) {
+			for (final List<Npc> aggressors : aggressorsByRegion.values()) {
+				planAggressors(aggressors);
+			}
+			return;
+		}
+		final List<Callable<Void>> regions = new ArrayList<>(aggressorsByRegion.size());
+		for (final List<Npc> aggressors : aggressorsByRegion.values()) {
+			regions.add(() -> {
+				planAggressors(aggressors);
+				return null;
+			});
+		}
+		npcUpdateExecutor.invokeAll(regions);
+	}
+
+	/**
+	 * @param aggressors Npcs in the same region.
+	 */
+	private void planAggressors(final List<Npc> aggressors) {
+		final ArrayList<Player> players = emptyBuffer(aggroPlayersBuffer);
+		getServer().getWorld().getRegionManager().visitSurroundingPlayers(aggressors.get(0).getLocation(), player -> {
+			players.add(player);
+			return true;
+		});
+		if (players.isEmpty()) {
+			return;
+		}
+		for (final Npc n : aggressors) {
+			try {
+				n.getBehavior().planAggroTarget(players);
+			} catch (final Exception e) {
+				LOGGER.error("Error while planning " + n + " at position " + n.getLocation() + " loc: " + n.getLoc());
+				LOGGER.catching(e);
+			}
+		}
+	}
+
 	/**
 	 * Updates the messages queues for each player
 	 */
@@ -864,4 +1220,48 @@ public final class GameStateUpdater {
 	public long getLastExecuteWalkToActionsDuration() {
 		return lastExecuteWalkToActionsDuration;
 	}
+
+	public long getLastUpdateClientsSnapshotDuration() {
+		return lastUpdateClientsSnapshotDuration;
+	}
+
+	public long getLastUpdateClientsBuildDuration() {
+		return lastUpdateClientsBuildDuration;
+	}
+
+	public long getLastUpdateClientsProcessDuration() {
+		return lastUpdateClientsProcessDuration;
+	}
+
+	public boolean isParallelClientUpdates() {
+		return clientUpdateExecutor != null;
+	}
+
+	public int getClientUpdateThreads() {
+		return clientUpdateThreads;
+	}
+
+	public boolean isParallelNpcUpdates() {
+		return npcUpdateExecutor != null;
+	}
+
+	public int getNpcUpdateThreads() {
+		return npcUpdateThreads;
+	}
+
+	public long getLastPlanNpcsDuration() {
+		return lastPlanNpcsDuration;
+	}
+
+	public int getLastDormantNpcCount() {
+		return lastDormantNpcCount;
+	}
+
+	public long getLastUpdateFragmentHits() {
+		return lastUpdateFragmentHits;
+	}
+
+	public long getLastUpdateFragmentMisses() {
+		return lastUpdateFragmentMisses;
+	}
 }
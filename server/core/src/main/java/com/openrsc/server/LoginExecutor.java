@@ -1,27 +1,63 @@
 package com.openrsc.server;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.openrsc.server.login.CredentialPool;
 import com.openrsc.server.login.LoginExecutorProcess;
+import com.openrsc.server.util.LatencySamples;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class LoginExecutor implements Runnable {
+public class LoginExecutor {
 	/**
 	 * The asynchronous logger.
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
-	private ScheduledExecutorService scheduledExecutor;
+	/**
+	 * Number of recent request latencies kept for the percentiles.
+	 */
+	private static final int LATENCY_SAMPLES = 1024;
+
+	/**
+	 * Parts of a login request that are timed separately.
+	 */
+	public enum Stage {
+		DB_LOOKUP,
+		PASSWORD_CHECK,
+		PLAYER_LOAD,
+		WORLD_REGISTRATION
+	}
+
+	/**
+	 * Requests are partitioned by account over the workers, so every account's requests stay in order.
+	 */
+	private final LoginWorker[] workers;
+
+	/**
+	 * Checks passwords off the login threads, null if credential_threads is 0.
+	 */
+	private final CredentialPool credentialPool;
 
-	private final Queue<LoginExecutorProcess> requests;
+	private final AtomicInteger queueDepth = new AtomicInteger();
+	private final LatencySamples latencies = new LatencySamples(LATENCY_SAMPLES);
+	private final Map<Stage, LatencySamples> stageLatencies = new EnumMap<>(Stage.class);
 
-	private volatile Boolean running;
+	private volatile boolean running;
 
 	private final Server server;
 	public final Server getServer() {
@@ -31,39 +67,206 @@ public class LoginExecutor implements Runnable {
 	public LoginExecutor(final Server server) {
 		this.server = server;
 		this.running = false;
-		this.requests = new ConcurrentLinkedQueue<>();
+
+		int workerCount = Math.max(1, getServer().getConfig().LOGIN_EXECUTOR_THREADS);
+		if (workerCount > 1 && !getServer().getConfig().WANT_DB_CONNECTION_POOL) {
+			LOGGER.warn("login_executor_threads requires want_db_connection_pool, using a single LoginThread");
+			workerCount = 1;
+		}
+		this.workers = new LoginWorker[workerCount];
+		for (int i = 0; i < workerCount; i++) {
+			workers[i] = new LoginWorker(i);
+		}
+
+		for (final Stage stage : Stage.values()) {
+			stageLatencies.put(stage, new LatencySamples(LATENCY_SAMPLES));
+		}
+		final int credentialThreads = getServer().getConfig().CREDENTIAL_THREADS;
+		this.credentialPool = credentialThreads > 0
+			? new CredentialPool(getServer().getName(), credentialThreads, getServer().getConfig().CREDENTIAL_QUEUE_SIZE)
+			: null;
 	}
 
 	public void add(final LoginExecutorProcess request) {
-		requests.add(request);
+		request.setQueuedTime(System.currentTimeMillis());
+		queueDepth.incrementAndGet();
+		workers[(int) Math.floorMod(request.getUsernameHash(), (long) workers.length)].requests.add(request);
+	}
+
+	public synchronized void start() {
+		for (final LoginWorker worker : workers) {
+			worker.start();
+		}
+		running = true;
+	}
+
+	public synchronized void stop() {
+		// Let queued password checks finish first, so their logins can complete on the workers.
+		if (credentialPool != null) {
+			credentialPool.stop();
+		}
+		for (final LoginWorker worker : workers) {
+			worker.stop();
+		}
+		flushItemUpdates();
+		clearRequests();
+		running = false;
+	}
+
+	private void flushItemUpdates() {
+		if (getServer().getDatabase() != null) {
+			getServer().getDatabase().flushItemUpdates();
+		}
+	}
+
+	private void clearRequests() {
+		for (final LoginWorker worker : workers) {
+			worker.requests.clear();
+			worker.deferred.clear();
+			worker.busyAccounts.clear();
+		}
+		queueDepth.set(0);
+	}
+
+	/**
+	 * @param percentile The percentile between 0 and 100.
+	 * @return The time in ms between adding and finishing a request, over the most recent requests.
+	 */
+	public long getLatencyPercentile(final double percentile) {
+		return latencies.getPercentile(percentile);
+	}
+
+	public void recordStageLatency(final Stage stage, final long latency) {
+		stageLatencies.get(stage).record(latency);
 	}
 
-	@Override
-	public void run() {
-		synchronized(running) {
+	/**
+	 * @param percentile The percentile between 0 and 100.
+	 * @return The time in ms the stage took, over the most recent requests that reached it.
+	 */
+	public long getStageLatencyPercentile(final Stage stage, final double percentile) {
+		return stageLatencies.get(stage).getPercentile(percentile);
+	}
+
+	/**
+	 * @return The pool that checks passwords off the login threads, or null if credential_threads is 0.
+	 */
+	public CredentialPool getCredentialPool() {
+		return credentialPool;
+	}
+
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	public int getWorkerCount() {
+		return workers.length;
+	}
+
+	public final boolean isRunning() {
+		return running;
+	}
+
+	private final class LoginWorker implements Runnable {
+		private final int index;
+		private final Queue<LoginExecutorProcess> requests = new ConcurrentLinkedQueue<>();
+		private ScheduledExecutorService scheduledExecutor;
+
+		/**
+		 * Accounts with a request waiting on another thread, and the requests queued behind them. Only used on this worker's thread.
+		 */
+		private final Set<Long> busyAccounts = new HashSet<>();
+		private final Queue<LoginExecutorProcess> deferred = new ArrayDeque<>();
+
+		private LoginWorker(final int index) {
+			this.index = index;
+		}
+
+		@Override
+		public void run() {
 			try {
 				// Save requests should be run BEFORE logout requests or else we get duplication glitch because a user can login before they've saved, but after they've logged out.
-				// See Player.logout, save requests are added first before removal so we are good.
+				// See Player.logout, save requests are added first before removal so we are good. Both are added for the same account, so they land on the same worker.
+				// Requests deferred behind a busy account go first, so they keep their order with the new ones.
+				final Iterator<LoginExecutorProcess> waiting = deferred.iterator();
+				while (waiting.hasNext()) {
+					final LoginExecutorProcess request = waiting.next();
+					if (!busyAccounts.contains(request.getUsernameHash())) {
+						waiting.remove();
+						process(request);
+					}
+				}
+
 				LoginExecutorProcess request;
 				while ((request = requests.poll()) != null) {
-					request.process();
+					if (busyAccounts.contains(request.getUsernameHash())) {
+						deferred.add(request);
+					} else {
+						process(request);
+					}
+				}
+
+				// Item changes are written here, between requests, so they never land inside this thread's save transaction.
+				// Saves write their own player's queued items first, so the two never race over a row.
+				if (index == 0) {
+					flushItemUpdates();
 				}
 			} catch (final Throwable e) {
 				LOGGER.catching(e);
 			}
 		}
-	}
 
-	public void start() {
-		synchronized (running) {
-			scheduledExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(getServer().getName()+" : LoginThread").build());
+		private void process(final LoginExecutorProcess request) {
+			queueDepth.decrementAndGet();
+			final CompletionStage<Void> result = request.process(scheduledExecutor);
+			if (result.toCompletableFuture().isDone()) {
+				finish(request, result);
+				return;
+			}
+
+			final long account = request.getUsernameHash();
+			final ScheduledExecutorService executor = scheduledExecutor;
+			busyAccounts.add(account);
+			result.whenComplete((ignored, failure) -> {
+				try {
+					executor.execute(() -> finishBusy(account, request, result));
+				} catch (final RejectedExecutionException e) {
+					// The worker has been stopped, so nothing else touches its accounts any more.
+					finishBusy(account, request, result);
+				}
+			});
+		}
+
+		private void finishBusy(final long account, final LoginExecutorProcess request, final CompletionStage<Void> result) {
+			busyAccounts.remove(account);
+			finish(request, result);
+		}
+
+		private void finish(final LoginExecutorProcess request, final CompletionStage<Void> result) {
+			try {
+				result.toCompletableFuture().join();
+			} catch (final Throwable e) {
+				LOGGER.catching(e);
+			}
+			latencies.record(System.currentTimeMillis() - request.getQueuedTime());
+		}
+
+		private void start() {
+			final String name = getServer().getName() + " : LoginThread" + (workers.length > 1 ? " " + index : "");
+			scheduledExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(name).build());
+			if (getServer().getConfig().WANT_DB_CONNECTION_POOL && getServer().getDatabase() != null) {
+				scheduledExecutor.execute(() -> getServer().getDatabase().openThreadConnection());
+			}
 			scheduledExecutor.scheduleAtFixedRate(this, 0, 50, TimeUnit.MILLISECONDS);
-			running = true;
 		}
-	}
 
-	public void stop() {
-		synchronized (running) {
+		private void stop() {
+			if (scheduledExecutor == null) {
+				return;
+			}
+			if (getServer().getConfig().WANT_DB_CONNECTION_POOL && getServer().getDatabase() != null) {
+				scheduledExecutor.execute(() -> getServer().getDatabase().closeThreadConnection());
+			}
 			scheduledExecutor.shutdown();
 			try {
 				final boolean terminationResult = scheduledExecutor.awaitTermination(1, TimeUnit.MINUTES);
@@ -73,19 +276,7 @@ public class LoginExecutor implements Runnable {
 			} catch (final InterruptedException e) {
 				LOGGER.catching(e);
 			}
-			clearRequests();
 			scheduledExecutor = null;
-			running = false;
-		}
-	}
-
-	private void clearRequests() {
-		synchronized (running) {
-			requests.clear();
 		}
 	}
-
-	public final boolean isRunning() {
-		return running;
-	}
 }
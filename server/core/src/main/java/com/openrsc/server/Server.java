@@ -20,9 +20,11 @@ import com.openrsc.server.net.*;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.PluginHandler;
 import com.openrsc.server.util.NamedThreadFactory;
+import com.openrsc.server.util.RandomStreams;
 import com.openrsc.server.util.rsc.CollisionFlag;
 import com.openrsc.server.util.rsc.MessageType;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.*;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
@@ -36,6 +38,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -75,6 +78,11 @@ public class Server implements Runnable {
 	private EventLoopGroup workerGroup;
 	private EventLoopGroup bossGroup;
 
+	/**
+	 * Run on the game thread after every tick, while that tick's timings are still current.
+	 */
+	private volatile Runnable tickListener;
+
 	private volatile Boolean running = false;
 	private boolean restarting = false;
 	private boolean shuttingDown = false;
@@ -84,6 +92,9 @@ public class Server implements Runnable {
 	private long lastGameStateDuration = 0;
 	private long lastEventsDuration = 0;
 	private long lastOutgoingPacketsDuration = 0;
+	private long lastOutgoingBytes = 0;
+	private int lastOutgoingPackets = 0;
+	private int lastOutgoingFlushes = 0;
 	private long lastTickDuration = 0;
 	private long timeLate = 0;
 	private long lastTickTimestamp = 0;
@@ -91,6 +102,8 @@ public class Server implements Runnable {
 	private final HashMap<Integer, Integer> incomingCountPerPacketOpcode = new HashMap<>();
 	private final HashMap<Integer, Long> outgoingTimePerPacketOpcode = new HashMap<>();
 	private final HashMap<Integer, Integer> outgoingCountPerPacketOpcode = new HashMap<>();
+	private final ConcurrentHashMap<Integer, Integer> droppedIncomingCountPerPacketOpcode = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer, Integer> rateLimitedIncomingCountPerPacketOpcode = new ConcurrentHashMap<>();
 
 	private volatile int maxItemId;
 
@@ -187,6 +200,15 @@ public class Server implements Runnable {
 		getConfig().initConfig(configFile);
 		LOGGER.info("Server configuration loaded: " + getConfig().configFile);
 
+		// The streams are JVM wide, so each server sets them as it starts rather than keeping an earlier server's seed
+		if (getConfig().RANDOM_SEED != 0) {
+			RandomStreams.setSeed(getConfig().RANDOM_SEED);
+			LOGGER.info("Random streams seeded with " + getConfig().RANDOM_SEED);
+		} else if (RandomStreams.isSeeded()) {
+			RandomStreams.clearSeed();
+			LOGGER.info("Random streams no longer seeded");
+		}
+
 		name = getConfig().SERVER_NAME;
 
 		packetFilter = new RSCPacketFilter(this);
@@ -335,6 +357,7 @@ public class Server implements Runnable {
 				bootstrap.childOption(ChannelOption.SO_KEEPALIVE, false);
 				bootstrap.childOption(ChannelOption.SO_RCVBUF, 10000);
 				bootstrap.childOption(ChannelOption.SO_SNDBUF, 10000);
+				bootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
 				try {
 					getPluginHandler().handlePlugin(getWorld(), "Startup", new Object[]{});
 					serverChannel = bootstrap.bind(new InetSocketAddress(getConfig().SERVER_PORT)).sync();
@@ -399,6 +422,9 @@ public class Server implements Runnable {
 				lastGameStateDuration = 0;
 				lastEventsDuration = 0;
 				lastOutgoingPacketsDuration = 0;
+				lastOutgoingBytes = 0;
+				lastOutgoingPackets = 0;
+				lastOutgoingFlushes = 0;
 				lastTickDuration = 0;
 				timeLate = 0;
 				lastTickTimestamp = 0;
@@ -406,6 +432,8 @@ public class Server implements Runnable {
 				incomingCountPerPacketOpcode.clear();
 				outgoingTimePerPacketOpcode.clear();
 				outgoingCountPerPacketOpcode.clear();
+				droppedIncomingCountPerPacketOpcode.clear();
+				rateLimitedIncomingCountPerPacketOpcode.clear();
 
 				// Don't remove this server from the active servers list if we are just restarting.
 				if (!isRestarting()) {
@@ -439,6 +467,8 @@ public class Server implements Runnable {
 					this.lastTickDuration = bench(() -> {
 						try {
 							this.lastIncomingPacketsDuration = this.lastOutgoingPacketsDuration = 0L;
+							this.lastOutgoingBytes = 0L;
+							this.lastOutgoingPackets = this.lastOutgoingFlushes = 0;
 							for (final Player player : getWorld().getPlayers()) {
 								this.lastIncomingPacketsDuration += bench(player::processIncomingPackets);
 							}
@@ -455,6 +485,9 @@ public class Server implements Runnable {
 					// Storing the current tick because we will update the time stamp in either monitorTickPerformance or afterward which will cause getCurrentTick() to return the next tick
 					final long currentTick = getCurrentTick();
 					monitorTickPerformance();
+					if (tickListener != null) {
+						tickListener.run();
+					}
 
 					// Set us to be in the next tick.
 					this.lastTickTimestamp += getConfig().GAME_TICK;
@@ -472,9 +505,7 @@ public class Server implements Runnable {
 							p.updatePosition();
 						}
 
-						for (final Npc n : getWorld().getNpcs()) {
-							n.updatePosition();
-						}
+						getGameUpdater().updateNpcPositions();
 
 						getGameUpdater().executeWalkToActions();
 					}
@@ -573,6 +604,10 @@ public class Server implements Runnable {
 		return Math.max(shutdownEvent.timeTillNextRun() - System.currentTimeMillis(), 0);
 	}
 
+	public void setTickListener(final Runnable tickListener) {
+		this.tickListener = tickListener;
+	}
+
 	public final long getLastGameStateDuration() {
 		return lastGameStateDuration;
 	}
@@ -613,6 +648,18 @@ public class Server implements Runnable {
 		return lastOutgoingPacketsDuration;
 	}
 
+	public final long getLastOutgoingBytes() {
+		return lastOutgoingBytes;
+	}
+
+	public final int getLastOutgoingPackets() {
+		return lastOutgoingPackets;
+	}
+
+	public final int getLastOutgoingFlushes() {
+		return lastOutgoingFlushes;
+	}
+
 	public final long getTimeLate() {
 		return timeLate;
 	}
@@ -689,6 +736,20 @@ public class Server implements Runnable {
 		return incomingCountPerPacketOpcode;
 	}
 
+	/**
+	 * @return The packets dropped from full player packet queues since the server started, per opcode.
+	 */
+	public Map<Integer, Integer> getDroppedIncomingCountPerPacketOpcode() {
+		return droppedIncomingCountPerPacketOpcode;
+	}
+
+	/**
+	 * @return The packets dropped since the server started because one of the same opcode was still queued, per opcode.
+	 */
+	public Map<Integer, Integer> getRateLimitedIncomingCountPerPacketOpcode() {
+		return rateLimitedIncomingCountPerPacketOpcode;
+	}
+
 	public HashMap<Integer, Long> getOutgoingTimePerPacketOpcode() {
 		return outgoingTimePerPacketOpcode;
 	}
@@ -711,6 +772,16 @@ public class Server implements Runnable {
 		incomingCountPerPacketOpcode.put(packetOpcode, incomingCountPerPacketOpcode.get(packetOpcode) + 1);
 	}
 
+	// Called from the Netty threads.
+	public void incrementDroppedIncomingPacketCount(final int packetOpcode) {
+		droppedIncomingCountPerPacketOpcode.merge(packetOpcode, 1, Integer::sum);
+	}
+
+	// Called from the Netty threads.
+	public void incrementRateLimitedIncomingPacketCount(final int packetOpcode) {
+		rateLimitedIncomingCountPerPacketOpcode.merge(packetOpcode, 1, Integer::sum);
+	}
+
 	public void addOutgoingPacketDuration(final int packetOpcode, final long additionalTime) {
 		if (!outgoingTimePerPacketOpcode.containsKey(packetOpcode)) {
 			outgoingTimePerPacketOpcode.put(packetOpcode, 0L);
@@ -718,6 +789,15 @@ public class Server implements Runnable {
 		outgoingTimePerPacketOpcode.put(packetOpcode, outgoingTimePerPacketOpcode.get(packetOpcode) + additionalTime);
 	}
 
+	public void addOutgoingPacket(final int bytes) {
+		lastOutgoingPackets++;
+		lastOutgoingBytes += bytes;
+	}
+
+	public void incrementOutgoingFlushCount() {
+		lastOutgoingFlushes++;
+	}
+
 	public void incrementOutgoingPacketCount(final int packetOpcode) {
 		if (!outgoingCountPerPacketOpcode.containsKey(packetOpcode)) {
 			outgoingCountPerPacketOpcode.put(packetOpcode, 0);
@@ -759,21 +839,21 @@ public class Server implements Runnable {
 		private void drawBlocks(int x, int y, TileValue tile, Graphics g) {
 			x *= width;
 			y *= width;
-			if ((tile.traversalMask & (CollisionFlag.FULL_BLOCK_A | CollisionFlag.FULL_BLOCK_B | CollisionFlag.FULL_BLOCK_C)) != 0) {
+			if ((tile.getTraversalMask() & (CollisionFlag.FULL_BLOCK_A | CollisionFlag.FULL_BLOCK_B | CollisionFlag.FULL_BLOCK_C)) != 0) {
 				g.fillRect(x, y, width, width);
 				return;
 			}
 			g.setColor(Color.red);
-			if ((tile.traversalMask & CollisionFlag.EAST_BLOCKED) != 0) {
+			if ((tile.getTraversalMask() & CollisionFlag.EAST_BLOCKED) != 0) {
 				g.fillRect(x + width - 4, y + 1, 3, width);
 			}
-			if ((tile.traversalMask & CollisionFlag.WEST_BLOCKED) != 0) {
+			if ((tile.getTraversalMask() & CollisionFlag.WEST_BLOCKED) != 0) {
 				g.fillRect(x + 1, y + 1, 3, width);
 			}
-			if ((tile.traversalMask & CollisionFlag.NORTH_BLOCKED) != 0) {
+			if ((tile.getTraversalMask() & CollisionFlag.NORTH_BLOCKED) != 0) {
 				g.fillRect(x, y + 1, width, 3);
 			}
-			if ((tile.traversalMask & CollisionFlag.SOUTH_BLOCKED) != 0) {
+			if ((tile.getTraversalMask() & CollisionFlag.SOUTH_BLOCKED) != 0) {
 				g.fillRect(x, y + width - 4, width, 3);
 			}
 		}
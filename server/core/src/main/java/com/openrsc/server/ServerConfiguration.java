@@ -36,18 +36,34 @@ public class ServerConfiguration {
 	public int CLIENT_VERSION;
 	public int MAX_PLAYERS;
 	public int MAX_PLAYERS_PER_IP;
-	int SERVER_PORT;
+	public int SERVER_PORT;
 	int IDLE_TIMER;
 	int AUTO_SAVE;
 	private String SERVER_LOCATION;
 	private String HMAC_PRIVATE_KEY;
 	public int AGGRO_RANGE;
+	public boolean WANT_PATH_CACHE;
+	public int PATH_CACHE_SIZE;
+	public int SNAPSHOT_CAPACITY;
+	public int SNAPSHOT_WINDOW_SECONDS;
+	public int RANDOM_SEED;
 	public DatabaseType DB_TYPE;
 	public String DB_HOST;
 	public String DB_NAME;
 	public String DB_USER;
 	public String DB_PASS;
 	public String DB_TABLE_PREFIX;
+	public boolean WANT_WRITE_BEHIND_ITEM_UPDATES;
+	public boolean WANT_INCREMENTAL_SAVES;
+	public boolean WANT_DB_CONNECTION_POOL;
+	public int LOGIN_EXECUTOR_THREADS;
+	public int CREDENTIAL_THREADS;
+	public int PLUGIN_THREAD_STACK_KB;
+	public int CREDENTIAL_QUEUE_SIZE;
+	public int GAME_LOGGER_QUEUE_SIZE;
+	public int GAME_LOGGER_BATCH_SIZE;
+	public int GAME_LOGGER_FLUSH_INTERVAL;
+	public String GAME_LOGGER_OVERFLOW_POLICY;
 	public int PLAYER_LEVEL_LIMIT;
 	public double COMBAT_EXP_RATE;
 	public double SKILLING_EXP_RATE;
@@ -70,6 +86,7 @@ public class ServerConfiguration {
 
 	private long START_TIME;
 	public boolean AVATAR_GENERATOR; // Not sent to client
+	public int AVATAR_QUEUE_SIZE; // Not sent to client
 	public boolean IS_DOUBLE_EXP;
 	public boolean DISPLAY_LOGO_SPRITE;
 	public boolean SPAWN_AUCTION_NPCS;
@@ -130,6 +147,8 @@ public class ServerConfiguration {
 	public int STOP_SKILLING_FATIGUED;
 	public boolean WANT_CUSTOM_SPRITES;
 	public boolean WANT_CUSTOM_LANDSCAPE;
+	public boolean WANT_LANDSCAPE_CACHE;
+	public boolean WANT_DEFINITION_BUNDLE;
 	public boolean PLAYER_COMMANDS;
 	public boolean WANT_PETS;
 	public int MAX_WALKING_SPEED;
@@ -161,6 +180,11 @@ public class ServerConfiguration {
 	public boolean WANT_CUSTOM_WALK_SPEED;
 	public int MAX_TICKS_UNTIL_FULL_WALKING_SPEED;
 	public boolean WANT_IMPROVED_PATHFINDING;
+	public boolean WANT_PARALLEL_CLIENT_UPDATES;
+	public int CLIENT_UPDATE_THREADS;
+	public boolean WANT_PARALLEL_NPC_UPDATES;
+	public int NPC_UPDATE_THREADS;
+	public int NPC_DORMANT_TICK_INTERVAL;
 	//strict check on level requirements for "glitched" validations on rsc
 	public boolean STRICT_CHECK_ALL;
 	public boolean STRICT_PDART_CHECK;
@@ -177,6 +201,7 @@ public class ServerConfiguration {
 	public int PACKET_LIMIT;
 	private int CONNECTION_LIMIT;
 	private int CONNECTION_TIMEOUT;
+	public boolean WANT_COALESCED_PACKET_WRITES;
 	//quest-minigame related
 	private boolean WANT_GIANNE_BADGE;
 	private boolean WANT_BLURBERRY_BADGE;
@@ -252,6 +277,17 @@ public class ServerConfiguration {
 		DB_USER = tryReadString("db_user").orElse("root");
 		DB_PASS = tryReadString("db_pass").orElse("root");
 		DB_TABLE_PREFIX = tryReadString("db_table_prefix").orElse("");
+		WANT_WRITE_BEHIND_ITEM_UPDATES = tryReadBool("want_write_behind_item_updates").orElse(false);
+		WANT_INCREMENTAL_SAVES = tryReadBool("want_incremental_saves").orElse(false);
+		WANT_DB_CONNECTION_POOL = tryReadBool("want_db_connection_pool").orElse(false);
+		LOGIN_EXECUTOR_THREADS = tryReadInt("login_executor_threads").orElse(1);
+		CREDENTIAL_THREADS = tryReadInt("credential_threads").orElse(0);
+		PLUGIN_THREAD_STACK_KB = tryReadInt("plugin_thread_stack_kb").orElse(0);
+		CREDENTIAL_QUEUE_SIZE = tryReadInt("credential_queue_size").orElse(256);
+		GAME_LOGGER_QUEUE_SIZE = tryReadInt("game_logger_queue_size").orElse(10000);
+		GAME_LOGGER_BATCH_SIZE = tryReadInt("game_logger_batch_size").orElse(500);
+		GAME_LOGGER_FLUSH_INTERVAL = tryReadInt("game_logger_flush_interval").orElse(250);
+		GAME_LOGGER_OVERFLOW_POLICY = tryReadString("game_logger_overflow_policy").orElse("drop_newest");
 
 		// Discord settings
 		DISCORD_AUCTION_WEBHOOK_URL = tryReadString("discord_auction_webhook_url").orElse("null");
@@ -285,6 +321,7 @@ public class ServerConfiguration {
 		MAX_PLAYERS = tryReadInt("max_players").orElse(100);
 		MAX_PLAYERS_PER_IP = tryReadInt("max_players_per_ip").orElse(10);
 		AVATAR_GENERATOR = tryReadBool("avatar_generator").orElse(false);
+		AVATAR_QUEUE_SIZE = tryReadInt("avatar_queue_size").orElse(256);
 		MEMBER_WORLD = tryReadBool("member_world").orElse(true);
 		WORLD_NUMBER = tryReadInt("world_number").orElse(1);
 		PLAYER_LEVEL_LIMIT = tryReadInt("player_level_limit").orElse(99);
@@ -299,15 +336,26 @@ public class ServerConfiguration {
 		PACKET_LIMIT = tryReadInt("packet_limit").orElse(100);
 		CONNECTION_LIMIT = tryReadInt("connection_limit").orElse(10);
 		CONNECTION_TIMEOUT = tryReadInt("connection_timeout").orElse(15);
+		WANT_COALESCED_PACKET_WRITES = tryReadBool("want_coalesced_packet_writes").orElse(false);
 		WANT_FATIGUE = tryReadBool("want_fatigue").orElse(true);
 		STOP_SKILLING_FATIGUED = tryReadInt("stop_skilling_fatigued").orElse(1);
 		AGGRO_RANGE = tryReadInt("aggro_range").orElse(1);
+		WANT_PATH_CACHE = tryReadBool("want_path_cache").orElse(false);
+		PATH_CACHE_SIZE = tryReadInt("path_cache_size").orElse(1024);
+		SNAPSHOT_CAPACITY = tryReadInt("snapshot_capacity").orElse(4096);
+		SNAPSHOT_WINDOW_SECONDS = tryReadInt("snapshot_window_seconds").orElse(60);
+		RANDOM_SEED = tryReadInt("random_seed").orElse(0);
 		CHARACTER_CREATION_MODE = tryReadInt("character_creation_mode").orElse(0);
 		RING_OF_RECOIL_LIMIT = tryReadInt("ring_of_recoil_limit").orElse(40);
 		RING_OF_FORGING_USES = tryReadInt("ring_of_forging_uses").orElse(75);
 		DWARVEN_RING_USES = tryReadInt("dwarven_ring_uses").orElse(29);
 		DWARVEN_RING_BONUS = tryReadInt("dwarven_ring_bonus").orElse(3);
 		CUSTOM_PROTOCOL = tryReadBool("custom_protocol").orElse(false);
+		WANT_PARALLEL_CLIENT_UPDATES = tryReadBool("want_parallel_client_updates").orElse(false);
+		CLIENT_UPDATE_THREADS = tryReadInt("client_update_threads").orElse(0);
+		WANT_PARALLEL_NPC_UPDATES = tryReadBool("want_parallel_npc_updates").orElse(false);
+		NPC_UPDATE_THREADS = tryReadInt("npc_update_threads").orElse(0);
+		NPC_DORMANT_TICK_INTERVAL = tryReadInt("npc_dormant_tick_interval").orElse(0);
 		/*
 		CHECK_ADMIN_IP = tryReadBool("check_admin_ip").orElse(false);
 		ADMIN_IP = tryReadString("admin_ip").orElse("127.0.0.0,10.0.0.0,172.16.0.0,192.168.0.0");
@@ -375,6 +423,8 @@ public class ServerConfiguration {
 		WANT_RUNECRAFT = tryReadBool("want_runecraft").orElse(false);
 		WANT_HARVESTING = tryReadBool("want_harvesting").orElse(false);
 		WANT_CUSTOM_LANDSCAPE = tryReadBool("custom_landscape").orElse(false);
+		WANT_LANDSCAPE_CACHE = tryReadBool("want_landscape_cache").orElse(false);
+		WANT_DEFINITION_BUNDLE = tryReadBool("want_definition_bundle").orElse(false);
 		WANT_EQUIPMENT_TAB = tryReadBool("want_equipment_tab").orElse(false);
 		WANT_BANK_PRESETS = tryReadBool("want_bank_presets").orElse(false);
 		WANT_PARTIES = tryReadBool("want_parties").orElse(false);
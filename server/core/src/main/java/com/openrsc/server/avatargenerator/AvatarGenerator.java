@@ -1,9 +1,11 @@
 package com.openrsc.server.avatargenerator;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.openrsc.server.avatargenerator.AvatarFormat.*;
 import com.openrsc.server.constants.Constants;
 import com.openrsc.server.model.PlayerAppearance;
 import com.openrsc.server.model.world.World;
+import com.openrsc.server.util.LatencySamples;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,9 +13,21 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -30,8 +44,24 @@ public final class AvatarGenerator {
 
 	private final World world;
 
+	/// Renders avatars off the game thread, one at a time
+	private final ThreadPoolExecutor renderer;
+	/// The newest render waiting for each player, so repeated logouts render once
+	private final ConcurrentHashMap<Integer, AvatarRequest> pending = new ConcurrentHashMap<>();
+	/// What each player's avatar file was last rendered from
+	private final ConcurrentHashMap<Integer, int[]> rendered = new ConcurrentHashMap<>();
+	/// How long the most recent renders took, in ms
+	private final LatencySamples renderTimes = new LatencySamples(256);
+	private final AtomicLong renderCount = new AtomicLong();
+	private final AtomicLong unchangedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+
 	public AvatarGenerator(final World world) {
 		this.world = world;
+		this.renderer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, world.getServer().getConfig().AVATAR_QUEUE_SIZE)),
+			new ThreadFactoryBuilder().setNameFormat(world.getServer().getName() + " : AvatarThread").build(),
+			new ThreadPoolExecutor.AbortPolicy());
 	}
 
 	static {
@@ -627,7 +657,8 @@ public final class AvatarGenerator {
 
 	}
 
-	public void generateAvatar(int playerID, PlayerAppearance appearance, int[] wornItems) throws IOException {
+	/// Queues a render of the player's avatar. Nothing is rendered if the avatar file already shows this appearance and these worn items.
+	public void generateAvatar(int playerID, PlayerAppearance appearance, int[] wornItems) {
 		if (appearance == null) {
 			throw new NullPointerException("The provided appearance may not be null!");
 		}
@@ -638,13 +669,98 @@ public final class AvatarGenerator {
 			throw new IllegalArgumentException("The provided worn items array is invalid!");
 		}
 
-		new AvatarTransaction(world, playerID, appearance, wornItems);
+		final AvatarRequest request = new AvatarRequest(appearance, wornItems);
+		if (Arrays.equals(rendered.get(playerID), request.content)) {
+			unchangedCount.incrementAndGet();
+			return;
+		}
+
+		// A render already waiting for this player will pick up the newest request.
+		if (pending.put(playerID, request) != null) {
+			return;
+		}
+		try {
+			renderer.execute(() -> render(playerID));
+		} catch (RejectedExecutionException e) {
+			pending.remove(playerID, request);
+			droppedCount.incrementAndGet();
+			LOGGER.warn("Avatar render queue is full, skipped avatar for player " + playerID);
+		}
+	}
+
+	private void render(int playerID) {
+		final AvatarRequest request = pending.remove(playerID);
+		if (request == null || Arrays.equals(rendered.get(playerID), request.content)) {
+			return;
+		}
+
+		final long start = System.currentTimeMillis();
+		try {
+			new AvatarTransaction(world, playerID, request.appearance, request.wornItems);
+			rendered.put(playerID, request.content);
+			renderCount.incrementAndGet();
+		} catch (IOException e) {
+			LOGGER.catching(e);
+		}
+		renderTimes.record(System.currentTimeMillis() - start);
+	}
+
+	/// Finishes the queued renders
+	public void stop() {
+		renderer.shutdown();
+		try {
+			if (!renderer.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.error("AvatarGenerator thread termination failed");
+			}
+		} catch (final InterruptedException e) {
+			LOGGER.catching(e);
+		}
+	}
+
+	public int getQueueLength() {
+		return renderer.getQueue().size();
+	}
+
+	/// @return The time in ms a render took at the percentile, over the most recent renders
+	public long getRenderTimePercentile(final double percentile) {
+		return renderTimes.getPercentile(percentile);
+	}
+
+	public long getRenderCount() {
+		return renderCount.get();
+	}
+
+	public long getUnchangedCount() {
+		return unchangedCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
 	}
 
 	public World getWorld() {
 		return world;
 	}
 
+	/// A copy of what a player looked like at logout
+	private final static class AvatarRequest {
+		private final PlayerAppearance appearance;
+		private final int[] wornItems;
+		/// Everything the render reads, to tell whether the avatar file is already up to date
+		private final int[] content;
+
+		AvatarRequest(PlayerAppearance appearance, int[] wornItems) {
+			this.appearance = new PlayerAppearance(appearance.getHairColour(), appearance.getTopColour(), appearance.getTrouserColour(),
+				appearance.getSkinColour(), appearance.getHead(), appearance.getBody());
+			this.wornItems = wornItems.clone();
+			this.content = Arrays.copyOf(this.wornItems, this.wornItems.length + 4);
+			this.content[this.wornItems.length] = appearance.getHairColour();
+			this.content[this.wornItems.length + 1] = appearance.getTopColour();
+			this.content[this.wornItems.length + 2] = appearance.getTrouserColour();
+			this.content[this.wornItems.length + 3] = appearance.getSkinColour();
+		}
+	}
+
 	/// An internal transaction type
 	private final static class AvatarTransaction {
 
@@ -680,7 +796,15 @@ public final class AvatarGenerator {
 					img.setRGB(i % Constants.AVATAR_WIDTH, i / Constants.AVATAR_WIDTH, pixels[i] | 0xFF000000);
 				}
 			}
-			ImageIO.write(img, "png", new File(getWorld().getServer().getConfig().AVATAR_DIR + playerID + ".png"));
+			// Written beside the avatar and moved over it, so the website never reads half a file.
+			final Path avatar = Paths.get(getWorld().getServer().getConfig().AVATAR_DIR + playerID + ".png");
+			final Path temporary = Paths.get(getWorld().getServer().getConfig().AVATAR_DIR + playerID + ".png.tmp");
+			ImageIO.write(img, "png", temporary.toFile());
+			try {
+				Files.move(temporary, avatar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporary, avatar, StandardCopyOption.REPLACE_EXISTING);
+			}
 		}
 		/// A helper function for rendering
 		private void drawPlayer(int x, int y, int scaleX, int scaleY, int unknown) {
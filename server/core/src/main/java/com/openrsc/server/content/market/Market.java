@@ -2,15 +2,16 @@ package com.openrsc.server.content.market;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.openrsc.server.content.market.task.*;
-import com.openrsc.server.database.struct.ExpiredAuction;
 import com.openrsc.server.external.ItemDefinition;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
+import com.openrsc.server.util.LatencySamples;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.WeakHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -29,15 +30,29 @@ public class Market implements Runnable {
 
 	private Boolean running;
 
-	private ArrayList<MarketItem> auctionItems;
+	private final MarketBook book;
+	/**
+	 * Set when the book may be missing auctions, such as one just listed whose id only the database knows
+	 */
+	private volatile boolean bookStale = true;
+	/**
+	 * The book version and time of the last full send to each player who has opened the auction house, for sending diffs
+	 */
+	private final WeakHashMap<Player, SentBook> sentBooks = new WeakHashMap<>();
+	private final LatencySamples openLatency = new LatencySamples(1024);
 	private LinkedBlockingQueue<MarketTask> auctionTaskQueue;
 	private long lastCleanUp = 0;
 	private LinkedBlockingQueue<OpenMarketTask> refreshRequestTasks;
 	private ScheduledExecutorService scheduledExecutor;
 
+	public static final class SentBook {
+		public long version;
+		public long fullSendTime;
+	}
+
 	public Market(final World world) {
 		this.world = world;
-		this.auctionItems = new ArrayList<>();
+		this.book = new MarketBook();
 		this.auctionTaskQueue = new LinkedBlockingQueue<>();
 		this.refreshRequestTasks = new LinkedBlockingQueue<>();
 		this.marketDatabase = new MarketDatabase(this);
@@ -75,39 +90,20 @@ public class Market implements Runnable {
 
 	private void checkAndRemoveExpiredItems() {
 		try {
-			// This is used to handle game logic
-			final LinkedList<MarketItem> expiredItems = new LinkedList<>();
-
-			// This is used to save to the database.
-			final ArrayList<ExpiredAuction> expiredAuctions = new ArrayList<ExpiredAuction>();
-
-			for (final MarketItem auction : auctionItems) {
-				if (auction.hasExpired()) {
-					expiredItems.add(auction);
-
-					// Create an entry to be saved to the database
-					final ExpiredAuction expiredAuction = new ExpiredAuction();
-					expiredAuction.item_id = auction.getCatalogID();
-					expiredAuction.item_amount = auction.getAmountLeft();
-					expiredAuction.time = System.currentTimeMillis() / 1000;
-					expiredAuction.playerID = auction.getSeller();
-					expiredAuction.explanation = "Expired";
-					expiredAuctions.add(expiredAuction);
-				}
-			}
+			// Re-read the auctions on sale now and then in case they were changed outside of the game
+			bookStale = true;
 
+			final List<MarketItem> expiredItems = book.removeExpired();
 			if (expiredItems.size() != 0) {
-				// Save to the database
-				getWorld().getServer().getDatabase()
-					.addExpiredAuction(expiredAuctions.toArray(new ExpiredAuction[expiredAuctions.size()]));
-
-				// Preform game logic
 				for (final MarketItem expiredItem : expiredItems) {
 					final int itemIndex = expiredItem.getCatalogID();
 					final int amount = expiredItem.getAmountLeft();
 
+					// Saved to the database with the rest of this run's writes
+					getMarketDatabase().addCollectableItem("Expired", itemIndex, amount, expiredItem.getSeller());
+					getMarketDatabase().queueSoldOut(expiredItem);
+
 					final Player sellerPlayer = getWorld().getPlayerID(expiredItem.getSeller());
-					getMarketDatabase().setSoldOut(expiredItem);
 
 					if (sellerPlayer != null) {
 						ItemDefinition def = sellerPlayer.getWorld().getServer().getEntityHandler().getItemDef(itemIndex);
@@ -124,7 +120,33 @@ public class Market implements Runnable {
 	}
 
 	public ArrayList<MarketItem> getAuctionItems() {
-		return auctionItems;
+		return book.getAuctionItems();
+	}
+
+	public MarketBook getBook() {
+		return book;
+	}
+
+	/**
+	 * Has the book re-read from the database at the end of this run.
+	 */
+	public void reloadBook() {
+		bookStale = true;
+	}
+
+	/**
+	 * Called on the auction house thread only.
+	 */
+	public SentBook getSentBook(final Player player) {
+		return sentBooks.computeIfAbsent(player, key -> new SentBook());
+	}
+
+	public void recordOpenLatency(final long latency) {
+		openLatency.record(latency);
+	}
+
+	public long getOpenLatencyPercentile(final double percentile) {
+		return openLatency.getPercentile(percentile);
 	}
 
 	private void processAuctionTasks() {
@@ -146,10 +168,11 @@ public class Market implements Runnable {
 	}
 
 	private void processUpdateAuctionItemCache() {
-		final int activeAuctionCount = getMarketDatabase().getAuctionCount();
-		if (activeAuctionCount == auctionItems.size()) return;
-		auctionItems.clear();
-		auctionItems = getMarketDatabase().getAuctionItemsOnSale();
+		// Reconciling with a database still missing queued writes would put sold out and expired auctions back on sale,
+		// so the book stays stale until they are written.
+		if (!bookStale || getMarketDatabase().hasPendingAuctionWrites()) return;
+		bookStale = false;
+		book.reconcile(getMarketDatabase().getAuctionItemsOnSale());
 	}
 
 	@Override
@@ -158,6 +181,7 @@ public class Market implements Runnable {
 			try {
 				if (System.currentTimeMillis() - lastCleanUp > 60000) checkAndRemoveExpiredItems();
 				processAuctionTasks();
+				getMarketDatabase().flush();
 				processUpdateAuctionItemCache();
 				processRefreshRequests();
 			} catch (final Throwable r) {
@@ -169,7 +193,7 @@ public class Market implements Runnable {
 	public void stop() {
 		synchronized(running) {
 			// Process the rest of the Market tasks.
-			auctionItems.clear();
+			getMarketDatabase().flush();
 			scheduledExecutor.shutdown();
 			try {
 				scheduledExecutor.awaitTermination(1, TimeUnit.MINUTES);
@@ -0,0 +1,166 @@
+package com.openrsc.server.content.market;
+
+import java.util.*;
+
+/**
+ * The auctions on sale, indexed by auction id, by seller and by expiry.
+ * Every change bumps the book's version and is logged so open auction houses can be sent only what changed.
+ */
+public class MarketBook {
+	/**
+	 * Most changes remembered, a client further behind than this gets the whole book again.
+	 */
+	private static final int MAX_CHANGES = 4096;
+
+	private final LinkedHashMap<Integer, MarketItem> byAuctionID = new LinkedHashMap<>();
+	private final HashMap<Integer, LinkedHashSet<MarketItem>> bySeller = new HashMap<>();
+	/**
+	 * Every auction lasts as long, so the oldest listing is the next to expire.
+	 */
+	private final PriorityQueue<MarketItem> byExpiry = new PriorityQueue<>(Comparator.comparingLong(MarketItem::getTime));
+
+	private final ArrayDeque<Change> changes = new ArrayDeque<>();
+	private long version = 0;
+
+	private static final class Change {
+		private final long version;
+		private final int auctionID;
+
+		private Change(final long version, final int auctionID) {
+			this.version = version;
+			this.auctionID = auctionID;
+		}
+	}
+
+	/**
+	 * Makes the book match the auctions on sale in the database, logging every auction that was added, removed or changed.
+	 */
+	public synchronized void reconcile(final List<MarketItem> onSale) {
+		final HashSet<Integer> seen = new HashSet<>();
+		for (final MarketItem fresh : onSale) {
+			seen.add(fresh.getAuctionID());
+			final MarketItem existing = byAuctionID.get(fresh.getAuctionID());
+			if (existing == null) {
+				add(fresh);
+			} else if (existing.getAmountLeft() != fresh.getAmountLeft() || existing.getPrice() != fresh.getPrice()) {
+				existing.setAmountLeft(fresh.getAmountLeft());
+				existing.setPrice(fresh.getPrice());
+				existing.setBuyers(fresh.getBuyers());
+				logChange(existing.getAuctionID());
+			}
+		}
+		final ArrayList<Integer> gone = new ArrayList<>();
+		for (final int auctionID : byAuctionID.keySet()) {
+			if (!seen.contains(auctionID)) {
+				gone.add(auctionID);
+			}
+		}
+		for (final int auctionID : gone) {
+			remove(auctionID);
+		}
+	}
+
+	private void add(final MarketItem item) {
+		byAuctionID.put(item.getAuctionID(), item);
+		bySeller.computeIfAbsent(item.getSeller(), seller -> new LinkedHashSet<>()).add(item);
+		byExpiry.add(item);
+		logChange(item.getAuctionID());
+	}
+
+	public synchronized MarketItem get(final int auctionID) {
+		return byAuctionID.get(auctionID);
+	}
+
+	/**
+	 * Takes an auction off sale.
+	 */
+	public synchronized void remove(final int auctionID) {
+		final MarketItem item = byAuctionID.remove(auctionID);
+		if (item == null) {
+			return;
+		}
+		final LinkedHashSet<MarketItem> sellerItems = bySeller.get(item.getSeller());
+		if (sellerItems != null) {
+			sellerItems.remove(item);
+			if (sellerItems.isEmpty()) {
+				bySeller.remove(item.getSeller());
+			}
+		}
+		byExpiry.remove(item);
+		logChange(auctionID);
+	}
+
+	/**
+	 * Records that an auction's amount or price changed, taking it off sale once none is left.
+	 */
+	public synchronized void updated(final MarketItem item) {
+		if (item.getAmountLeft() <= 0) {
+			remove(item.getAuctionID());
+		} else if (byAuctionID.get(item.getAuctionID()) == item) {
+			logChange(item.getAuctionID());
+		}
+	}
+
+	/**
+	 * Takes every expired auction off sale.
+	 *
+	 * @return The auctions that expired, oldest first.
+	 */
+	public synchronized List<MarketItem> removeExpired() {
+		final ArrayList<MarketItem> expired = new ArrayList<>();
+		MarketItem oldest;
+		while ((oldest = byExpiry.peek()) != null && oldest.hasExpired()) {
+			expired.add(oldest);
+			remove(oldest.getAuctionID());
+		}
+		return expired;
+	}
+
+	public synchronized ArrayList<MarketItem> getAuctionItems() {
+		return new ArrayList<>(byAuctionID.values());
+	}
+
+	public synchronized ArrayList<MarketItem> getAuctionItemsBySeller(final int seller) {
+		final LinkedHashSet<MarketItem> sellerItems = bySeller.get(seller);
+		return sellerItems == null ? new ArrayList<>() : new ArrayList<>(sellerItems);
+	}
+
+	public synchronized int size() {
+		return byAuctionID.size();
+	}
+
+	public synchronized long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return The ids of the auctions added, changed or removed after the given version,
+	 * or null if that version is too old for the changes to still be logged.
+	 */
+	public synchronized Set<Integer> getChangedSince(final long since) {
+		if (since > version) {
+			return null;
+		}
+		final Change oldest = changes.peekFirst();
+		if (since < version && (oldest == null || oldest.version > since + 1)) {
+			return null;
+		}
+		final LinkedHashSet<Integer> changed = new LinkedHashSet<>();
+		final Iterator<Change> newestFirst = changes.descendingIterator();
+		while (newestFirst.hasNext()) {
+			final Change change = newestFirst.next();
+			if (change.version <= since) {
+				break;
+			}
+			changed.add(change.auctionID);
+		}
+		return changed;
+	}
+
+	private void logChange(final int auctionID) {
+		changes.addLast(new Change(++version, auctionID));
+		if (changes.size() > MAX_CHANGES) {
+			changes.removeFirst();
+		}
+	}
+}
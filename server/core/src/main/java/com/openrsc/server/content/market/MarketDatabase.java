@@ -1,5 +1,6 @@
 package com.openrsc.server.content.market;
 
+import com.openrsc.server.database.GameDatabase;
 import com.openrsc.server.database.GameDatabaseException;
 import com.openrsc.server.database.struct.AuctionItem;
 import com.openrsc.server.database.struct.ExpiredAuction;
@@ -7,6 +8,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class MarketDatabase {
 
@@ -17,12 +20,26 @@ public class MarketDatabase {
 
 	private final Market market;
 
+	/**
+	 * Writes queued by auction house tasks, written in one batch per query at the end of each market run by flush()
+	 */
+	private final ArrayList<ExpiredAuction> pendingCollectables = new ArrayList<>();
+	private final ArrayList<ExpiredAuction> pendingCollected = new ArrayList<>();
+	private final LinkedHashMap<Integer, AuctionItem> pendingUpdates = new LinkedHashMap<>();
+	private final LinkedHashMap<Integer, AuctionItem> pendingSoldOut = new LinkedHashMap<>();
+
+	private final Object callCountLock = new Object();
+	private long callMinute = 0;
+	private long calls = 0;
+	private long lastMinuteCalls = 0;
+
 	public MarketDatabase(final Market market) {
 		this.market = market;
 	}
 
 	public boolean add(final MarketItem item) {
 		try {
+			countCall();
 			final AuctionItem auctionItem = new AuctionItem();
 			auctionItem.itemID = item.getCatalogID();
 			auctionItem.amount = item.getAmount();
@@ -42,32 +59,32 @@ public class MarketDatabase {
 		}
 	}
 
-	public boolean addCollectableItem(final String explanation, final int itemIndex, final int amount,
+	/**
+	 * Queues an item for a player to collect from a banker.
+	 */
+	public void addCollectableItem(final String explanation, final int itemIndex, final int amount,
 									  final int playerID) {
+		final ExpiredAuction expiredAuction = new ExpiredAuction();
+		expiredAuction.item_id = itemIndex;
+		expiredAuction.item_amount = amount;
+		expiredAuction.time = System.currentTimeMillis() / 1000;
+		expiredAuction.playerID = playerID;
+		expiredAuction.explanation = explanation.replaceAll("'", "");
+		pendingCollectables.add(expiredAuction);
+	}
 
-		final String finalExplanation = explanation.replaceAll("'", "");
-		try {
-			// Need to store in an array to pass to the database function;
-			final ExpiredAuction[] expiredAuctions = new ExpiredAuction[1];
-
-			final ExpiredAuction expiredAuction = new ExpiredAuction();
-			expiredAuction.item_id = itemIndex;
-			expiredAuction.item_amount = amount;
-			expiredAuction.time = System.currentTimeMillis() / 1000;
-			expiredAuction.playerID = playerID;
-			expiredAuction.explanation = finalExplanation;
-
-			expiredAuctions[0] = expiredAuction;
-			getMarket().getWorld().getServer().getDatabase().addExpiredAuction(expiredAuctions);
-			return true;
-		} catch (final GameDatabaseException e) {
-			LOGGER.catching(e);
-			return false;
-		}
+	/**
+	 * Queues collected items to be marked as claimed.
+	 */
+	public void collectItems(final ArrayList<ExpiredAuction> claimedItems) {
+		pendingCollected.addAll(claimedItems);
 	}
 
 	public boolean cancel(final MarketItem item) {
+		// Queued writes to this auction must not land after it is cancelled
+		flush();
 		try {
+			countCall();
 			getMarket().getWorld().getServer().getDatabase().cancelAuction(item.getAuctionID());
 			return true;
 		} catch (final GameDatabaseException e) {
@@ -76,43 +93,14 @@ public class MarketDatabase {
 		}
 	}
 
-	public int getAuctionCount() {
-		try {
-			return getMarket().getWorld().getServer().getDatabase().auctionCount();
-		} catch (final GameDatabaseException e) {
-			LOGGER.catching(e);
-		}
-		return 0;
-	}
-
 	public int getMyAuctionsCount(final int ownerID) {
-		try {
-			return getMarket().getWorld().getServer().getDatabase().playerAuctionCount(ownerID);
-		} catch (final GameDatabaseException e) {
-			LOGGER.catching(e);
-		}
-		return 0;
-	}
-
-	public MarketItem getAuctionItem(final int auctionID) {
-		try {
-			MarketItem retVal = null;
-			AuctionItem auctionItem = getMarket().getWorld().getServer().getDatabase().getAuctionItem(auctionID);
-			if (auctionItem != null) {
-				retVal = new MarketItem(auctionItem.auctionID, auctionItem.itemID, auctionItem.amount,
-					auctionItem.amount_left, auctionItem.price, auctionItem.seller, auctionItem.seller_username,
-					auctionItem.buyer_info, auctionItem.time);
-			}
-			return retVal;
-		} catch (final GameDatabaseException e) {
-			LOGGER.catching(e);
-			return null;
-		}
+		return getMarket().getBook().getAuctionItemsBySeller(ownerID).size();
 	}
 
 	public ArrayList<MarketItem> getAuctionItemsOnSale() {
 		final ArrayList<MarketItem> marketItems = new ArrayList<>();
 		try {
+			countCall();
 			final AuctionItem auctionItems[] = getMarket().getWorld().getServer().getDatabase().getAuctionItems();
 			for (AuctionItem item : auctionItems) {
 				MarketItem marketItem = new MarketItem(item.auctionID, item.itemID, item.amount, item.amount_left,
@@ -125,16 +113,14 @@ public class MarketDatabase {
 		return marketItems;
 	}
 
+	/**
+	 * Takes an auction off sale right away.
+	 */
 	public boolean setSoldOut(final MarketItem item) {
+		flush();
 		try {
-			final AuctionItem auctionItem = new AuctionItem();
-			auctionItem.amount_left = item.getAmountLeft();
-			auctionItem.sold_out = 1;
-			auctionItem.buyer_info = item.getBuyers();
-			auctionItem.auctionID = item.getAuctionID();
-
-			getMarket().getWorld().getServer().getDatabase().setSoldOut(auctionItem);
-
+			countCall();
+			getMarket().getWorld().getServer().getDatabase().setSoldOut(new AuctionItem[]{toSoldOut(item)});
 			return true;
 		} catch (final GameDatabaseException e) {
 			LOGGER.catching(e);
@@ -142,15 +128,75 @@ public class MarketDatabase {
 		}
 	}
 
-	public boolean update(final MarketItem item) {
-		try {
-			final AuctionItem auctionItem = new AuctionItem();
-			auctionItem.amount_left = item.getAmountLeft();
-			auctionItem.price = item.getPrice();
-			auctionItem.buyer_info = item.getBuyers();
-			auctionItem.auctionID = item.getAuctionID();
+	/**
+	 * Queues an auction to be taken off sale.
+	 */
+	public void queueSoldOut(final MarketItem item) {
+		pendingUpdates.remove(item.getAuctionID());
+		pendingSoldOut.put(item.getAuctionID(), toSoldOut(item));
+	}
+
+	/**
+	 * Queues an auction's amount, price and buyers to be written. Later updates to the same auction replace earlier ones.
+	 */
+	public void queueUpdate(final MarketItem item) {
+		final AuctionItem auctionItem = new AuctionItem();
+		auctionItem.amount_left = item.getAmountLeft();
+		auctionItem.price = item.getPrice();
+		auctionItem.buyer_info = item.getBuyers();
+		auctionItem.auctionID = item.getAuctionID();
+		pendingUpdates.put(item.getAuctionID(), auctionItem);
+	}
+
+	private AuctionItem toSoldOut(final MarketItem item) {
+		final AuctionItem auctionItem = new AuctionItem();
+		auctionItem.amount_left = item.getAmountLeft();
+		auctionItem.sold_out = 1;
+		auctionItem.buyer_info = item.getBuyers();
+		auctionItem.auctionID = item.getAuctionID();
+		return auctionItem;
+	}
 
-			getMarket().getWorld().getServer().getDatabase().updateAuction(auctionItem);
+	/**
+	 * Writes every queued change, one batch per query. Each batch is tried on its own, and a batch that fails stays
+	 * queued for the next flush, so one failing query can not lose the others' writes.
+	 */
+	public void flush() {
+		final GameDatabase database = getMarket().getWorld().getServer().getDatabase();
+		if (!pendingUpdates.isEmpty()
+			&& tryWrite(() -> database.updateAuction(pendingUpdates.values().toArray(new AuctionItem[0])))) {
+			pendingUpdates.clear();
+		}
+		if (!pendingSoldOut.isEmpty()
+			&& tryWrite(() -> database.setSoldOut(pendingSoldOut.values().toArray(new AuctionItem[0])))) {
+			pendingSoldOut.clear();
+		}
+		if (!pendingCollectables.isEmpty()
+			&& tryWrite(() -> database.addExpiredAuction(pendingCollectables.toArray(new ExpiredAuction[0])))) {
+			pendingCollectables.clear();
+		}
+		if (!pendingCollected.isEmpty()
+			&& tryWrite(() -> database.collectItems(pendingCollected.toArray(new ExpiredAuction[0])))) {
+			pendingCollected.clear();
+		}
+	}
+
+	/**
+	 * @return Whether auction changes failed to be written and wait for the next flush, so the auctions on sale in the
+	 * database are behind the market's own.
+	 */
+	public boolean hasPendingAuctionWrites() {
+		return !pendingUpdates.isEmpty() || !pendingSoldOut.isEmpty();
+	}
+
+	private interface Write {
+		void run() throws GameDatabaseException;
+	}
+
+	private boolean tryWrite(final Write write) {
+		try {
+			countCall();
+			write.run();
 			return true;
 		} catch (final GameDatabaseException e) {
 			LOGGER.catching(e);
@@ -159,10 +205,17 @@ public class MarketDatabase {
 	}
 
 	public ArrayList<CollectibleItem> getCollectibleItemsFor(final int player) {
+		// Items queued for or collected by this player earlier in the same run have to be visible
+		flush();
 		final ArrayList<CollectibleItem> list = new ArrayList<>();
 		try {
+			countCall();
 			final ExpiredAuction expiredAuctions[] = getMarket().getWorld().getServer().getDatabase().getCollectibleItems(player);
 			for (ExpiredAuction collectible : expiredAuctions) {
+				// Already in the player's bank, only the claim failed to be written so far
+				if (isCollectPending(collectible.claim_id)) {
+					continue;
+				}
 				CollectibleItem item = new CollectibleItem();
 				item.claim_id = collectible.claim_id;
 				item.item_id = collectible.item_id;
@@ -177,6 +230,42 @@ public class MarketDatabase {
 		return list;
 	}
 
+	private boolean isCollectPending(final int claimID) {
+		for (final ExpiredAuction collected : pendingCollected) {
+			if (collected.claim_id == claimID) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void countCall() {
+		synchronized (callCountLock) {
+			rollCallMinute();
+			calls++;
+		}
+	}
+
+	private void rollCallMinute() {
+		final long minute = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+		if (minute != callMinute) {
+			// No calls in a whole minute means the last minute's count was zero.
+			lastMinuteCalls = minute == callMinute + 1 ? calls : 0;
+			calls = 0;
+			callMinute = minute;
+		}
+	}
+
+	/**
+	 * @return Database calls made by the auction house during the last full minute.
+	 */
+	public long getCallsPerMinute() {
+		synchronized (callCountLock) {
+			rollCallMinute();
+			return lastMinuteCalls;
+		}
+	}
+
 	public Market getMarket() {
 		return market;
 	}
@@ -21,7 +21,7 @@ public class BuyMarketItemTask extends MarketTask {
 
 	@Override
 	public void doTask() {
-		MarketItem item = playerBuyer.getWorld().getMarket().getMarketDatabase().getAuctionItem(auctionID);
+		MarketItem item = playerBuyer.getWorld().getMarket().getBook().get(auctionID);
 		boolean updateDiscord = false;
 
 		if (item == null) {
@@ -88,15 +88,9 @@ public class BuyMarketItemTask extends MarketTask {
 		item.setAmountLeft(item.getAmountLeft() - amount);
 		item.setPrice(item.getAmountLeft() * priceForEach);
 
-		if (item.getAmountLeft() == 0) playerBuyer.getWorld().getMarket().getMarketDatabase().setSoldOut(item);
-		else playerBuyer.getWorld().getMarket().getMarketDatabase().update(item);
-
-		for (MarketItem marketItem : playerBuyer.getWorld().getMarket().getAuctionItems()) {
-			if (marketItem.getAuctionID() == item.getAuctionID()) {
-				marketItem.setAmountLeft(item.getAmountLeft());
-				marketItem.setPrice(item.getPrice());
-			}
-		}
+		if (item.getAmountLeft() == 0) playerBuyer.getWorld().getMarket().getMarketDatabase().queueSoldOut(item);
+		else playerBuyer.getWorld().getMarket().getMarketDatabase().queueUpdate(item);
+		playerBuyer.getWorld().getMarket().getBook().updated(item);
 
 		playerBuyer.getWorld().getMarket().addRequestOpenAuctionHouseTask(playerBuyer);
 
@@ -19,13 +19,14 @@ public class CancelMarketItemTask extends MarketTask {
 	@Override
 	public void doTask() {
 		boolean updateDiscord = false;
-		MarketItem item = owner.getWorld().getMarket().getMarketDatabase().getAuctionItem(auctionID);
+		MarketItem item = owner.getWorld().getMarket().getBook().get(auctionID);
 		if (item != null) {
 			int itemIndex = item.getCatalogID();
 			int amount = item.getAmountLeft();
 			ItemDefinition def = owner.getWorld().getServer().getEntityHandler().getItemDef(itemIndex);
 			if (!owner.getCarriedItems().getInventory().full() && (!def.isStackable() && owner.getCarriedItems().getInventory().size() + amount <= 30)) {
 				if (owner.getWorld().getMarket().getMarketDatabase().cancel(item)) {
+					owner.getWorld().getMarket().getBook().remove(auctionID);
 					if (!def.isStackable() && amount == 1)
 						owner.getCarriedItems().getInventory().add(new Item(itemIndex, 1));
 					else
@@ -35,6 +36,7 @@ public class CancelMarketItemTask extends MarketTask {
 				}
 			} else if (!owner.getBank().full()) {
 				if (owner.getWorld().getMarket().getMarketDatabase().cancel(item)) {
+					owner.getWorld().getMarket().getBook().remove(auctionID);
 					owner.getBank().add(new Item(itemIndex, amount), false);
 					ActionSender.sendBox(owner, "@gre@[Auction House - Success] % @whi@ The item has been canceled and returned to your bank. % Talk with a Banker to collect your item(s).", false);
 					updateDiscord = true;
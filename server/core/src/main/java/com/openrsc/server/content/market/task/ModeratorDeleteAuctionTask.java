@@ -21,11 +21,12 @@ public class ModeratorDeleteAuctionTask extends MarketTask {
 			player.setSuspiciousPlayer(true, "tried mod delete auction when not mod");
 			ActionSender.sendBox(player, "@red@[Auction House - Error] % @whi@ Unable to remove auction", false);
 		} else {
-			MarketItem item = player.getWorld().getMarket().getMarketDatabase().getAuctionItem(auctionID);
+			MarketItem item = player.getWorld().getMarket().getBook().get(auctionID);
 			if (item != null) {
 				int itemIndex = item.getCatalogID();
 				int amount = item.getAmountLeft();
 				if (player.getWorld().getMarket().getMarketDatabase().setSoldOut(item)) {
+					player.getWorld().getMarket().getBook().remove(auctionID);
 					player.getWorld().getMarket().getMarketDatabase().addCollectableItem("Removed by " + player.getStaffName(), itemIndex, amount, item.getSeller());
 					ActionSender.sendBox(player, "@gre@[Auction House - Success] % @whi@ Item has been removed from Auctions. % % Returned to collections for:  " + item.getSellerName(), false);
 					updateDiscord = true;
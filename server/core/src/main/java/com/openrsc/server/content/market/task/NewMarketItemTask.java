@@ -96,6 +96,8 @@ public class NewMarketItemTask extends MarketTask {
 		}
 
 		if (owner.getWorld().getMarket().getMarketDatabase().add(newItem)) {
+			// The new auction's id is only known to the database
+			owner.getWorld().getMarket().reloadBook();
 			//ActionSender.sendBox(owner, "@gre@[Auction House - Success] % @whi@ Auction has been listed % " + newItem.getAmount() + "x @yel@" + def.getName() + " @whi@for @yel@" + newItem.getPrice() + "gp % @whi@Completed auction fee: @gre@" + feeCost + "gp", false);
 			ActionSender.sendBox(owner, "@gre@[Auction House - Success] % @whi@ Auction has been listed % " + newItem.getAmount() + "x @yel@" + def.getName() + " @whi@for @yel@" + newItem.getPrice() + "gp", false);
 			updateDiscord = true;
@@ -1,5 +1,7 @@
 package com.openrsc.server.content.market.task;
 
+import com.openrsc.server.content.market.Market;
+import com.openrsc.server.content.market.MarketBook;
 import com.openrsc.server.content.market.MarketItem;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.Packet;
@@ -7,22 +9,60 @@ import com.openrsc.server.net.PacketBuilder;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.Set;
 
 public class OpenMarketTask extends MarketTask {
 
+	/**
+	 * How long a client's auction house can go without being sent in full, which also refreshes the hours left on every auction
+	 */
+	private static final long FULL_SEND_INTERVAL = 60 * 60 * 1000;
+
 	private Player owner;
+	private final long requestTime = System.currentTimeMillis();
 
 	public OpenMarketTask(Player player) {
 		this.owner = player;
 	}
 
 	public void doTask() {
-		PacketBuilder pb = new PacketBuilder(132);
-		pb.writeByte(0);
-		owner.write(pb.toPacket());
-
-		@SuppressWarnings("unchecked")
-		ArrayList<MarketItem> items = (ArrayList<MarketItem>) owner.getWorld().getMarket().getAuctionItems().clone();
+		final Market market = owner.getWorld().getMarket();
+		final MarketBook book = market.getBook();
+		final Market.SentBook sent = market.getSentBook(owner);
+		final long version = book.getVersion();
+
+		// The client keeps the auctions it was sent, so it only needs the ones that changed since
+		final Set<Integer> changed = sent.fullSendTime == 0 || System.currentTimeMillis() - sent.fullSendTime > FULL_SEND_INTERVAL
+			? null : book.getChangedSince(sent.version);
+		final ArrayList<MarketItem> items;
+		if (changed == null) {
+			PacketBuilder pb = new PacketBuilder(132);
+			pb.writeByte(0);
+			owner.write(pb.toPacket());
+			items = book.getAuctionItems();
+			sent.fullSendTime = System.currentTimeMillis();
+		} else {
+			items = new ArrayList<>();
+			final ArrayList<Integer> removed = new ArrayList<>();
+			for (final int auctionID : changed) {
+				final MarketItem item = book.get(auctionID);
+				if (item != null) {
+					items.add(item);
+				} else {
+					removed.add(auctionID);
+				}
+			}
+			if (!removed.isEmpty()) {
+				PacketBuilder pb = new PacketBuilder(132);
+				pb.writeByte(2);
+				pb.writeShort(removed.size());
+				for (final int auctionID : removed) {
+					pb.writeInt(auctionID);
+				}
+				owner.write(pb.toPacket());
+			}
+		}
+		sent.version = version;
 		Iterator<MarketItem> iterator = items.iterator();
 
 		int currentWritten = 0;
@@ -39,6 +79,8 @@ public class OpenMarketTask extends MarketTask {
 
 		if (!chunk.isFinished())
 			owner.write(chunk.toPacket());
+
+		market.recordOpenLatency(System.currentTimeMillis() - requestTime);
 	}
 
 	private class AuctionPacketChunk {
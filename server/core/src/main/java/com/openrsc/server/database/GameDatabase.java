@@ -22,9 +22,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class GameDatabase extends GameDatabaseQueries {
 	/**
@@ -35,6 +40,28 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 	public final Server server;
 	private volatile Boolean open;
 
+	/**
+	 * Item status changes waiting to be written by {@link #flushItemUpdates()}, latest item per item id.
+	 */
+	private final ConcurrentHashMap<Integer, Item> pendingItemUpdates = new ConcurrentHashMap<Integer, Item>();
+	/**
+	 * Held while queued item changes are taken and written, by a flush or by the owner's save,
+	 * so a flush can never write an older value over a save of the same item.
+	 */
+	private final Object itemUpdateLock = new Object();
+
+	/**
+	 * Set while the calling thread is inside savePlayer, so the rows it writes count towards the save volume.
+	 */
+	private final ThreadLocal<Boolean> savingPlayer = ThreadLocal.withInitial(() -> false);
+	private final LongAdder skippedSaveSections = new LongAdder();
+	private final Object saveVolumeLock = new Object();
+	private long saveVolumeMinute;
+	private long savedRows;
+	private long savedBytes;
+	private long lastMinuteSavedRows;
+	private long lastMinuteSavedBytes;
+
 	public GameDatabase(final Server server) {
 		this.server = server;
 		open = false;
@@ -46,6 +73,13 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 
 	protected abstract void closeInternal();
 
+	/**
+	 * Gives the calling thread a database connection of its own, used by the login executor workers.
+	 */
+	public abstract boolean openThreadConnection();
+
+	public abstract void closeThreadConnection();
+
 	protected abstract void startTransaction() throws GameDatabaseException;
 
 	protected abstract void commitTransaction() throws GameDatabaseException;
@@ -175,8 +209,8 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 	protected abstract int queryPlayerAuctionCount(final int playerId) throws GameDatabaseException;
 	protected abstract AuctionItem queryAuctionItem(final int auctionId) throws GameDatabaseException;
 	protected abstract AuctionItem[] queryAuctionItems() throws GameDatabaseException;
-	protected abstract void querySetSoldOut(final AuctionItem auctionItem) throws GameDatabaseException;
-	protected abstract void queryUpdateAuction(final AuctionItem auctionItem) throws GameDatabaseException;
+	protected abstract void querySetSoldOut(final AuctionItem[] auctionItems) throws GameDatabaseException;
+	protected abstract void queryUpdateAuction(final AuctionItem[] auctionItems) throws GameDatabaseException;
 
 	protected abstract void querySavePlayerData(int playerId, PlayerData playerData) throws GameDatabaseException;
 
@@ -217,6 +251,8 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 
 	protected abstract void queryItemUpdate(Item item) throws GameDatabaseException;
 
+	protected abstract void queryItemUpdates(Item[] items) throws GameDatabaseException;
+
 	protected abstract void queryInventoryAdd(int playerId, Item item, int slot) throws GameDatabaseException;
 
 	protected abstract void queryInventoryRemove(int playerId, Item item) throws GameDatabaseException;
@@ -335,6 +371,10 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 			loadPlayerLastSpellCast(loaded);
 			loadPlayerNpcKills(loaded);
 
+			// Loading the player is not a change to save.
+			loaded.takeUnsavedSections();
+			loaded.getCache().takeChanged();
+
 			commitTransaction();
 
 			return loaded;
@@ -350,6 +390,21 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 	}
 
 	public boolean savePlayer(final Player player) throws GameDatabaseException {
+		return savePlayer(player, true);
+	}
+
+	/**
+	 * @param full Write every section. Otherwise only the sections marked unsaved on the player are written, along with the character row.
+	 */
+	public boolean savePlayer(final Player player, final boolean full) throws GameDatabaseException {
+		// Taken before the sections are read, so a change made during the save is written next time.
+		final int unsavedSections = player.takeUnsavedSections();
+		savePlayerCastTime(player);
+		final boolean cacheChanged = player.getCache().takeChanged();
+		final int sections = full ? Player.SAVE_ALL : unsavedSections;
+		final ArrayList<Item> pendingItems = new ArrayList<Item>();
+
+		savingPlayer.set(true);
 		try {
 			startTransaction();
 
@@ -358,21 +413,23 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 				return false;
 			}
 
-			savePlayerBankPresets(player);
-			savePlayerInventory(player);
-			savePlayerEquipment(player);
-			querySavePlayerBank(player);
+			savePlayerPendingItems(player, pendingItems);
+
+			if ((sections & Player.SAVE_BANK_PRESETS) != 0) savePlayerBankPresets(player);
+			if ((sections & Player.SAVE_INVENTORY) != 0) savePlayerInventory(player);
+			if ((sections & Player.SAVE_EQUIPMENT) != 0) savePlayerEquipment(player);
+			if ((sections & Player.SAVE_BANK) != 0) querySavePlayerBank(player);
 			//savePlayerAchievements(player);
-			savePlayerQuests(player);
-			savePlayerCastTime(player);
-			savePlayerCache(player);
+			if ((sections & Player.SAVE_QUESTS) != 0) savePlayerQuests(player);
+			if (full || cacheChanged) querySavePlayerCache(player);
 			savePlayerNpcKills(player);
 			savePlayerData(player);
-			savePlayerSkills(player);
-			savePlayerSocial(player);
+			if ((sections & Player.SAVE_SKILLS) != 0) savePlayerSkills(player);
+			if ((sections & Player.SAVE_SOCIAL) != 0) savePlayerSocial(player);
 
 			commitTransaction();
 
+			skippedSaveSections.add(Integer.bitCount(~sections & Player.SAVE_ALL) + (full || cacheChanged ? 0 : 1));
 			return true;
 		} catch (final Exception ex) {
 			try {
@@ -381,10 +438,84 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 			} catch (final Exception e) {
 			}
 			LOGGER.catching(ex);
+			requeueItemUpdates(pendingItems);
+			player.markUnsaved(unsavedSections);
+			if (cacheChanged) {
+				player.getCache().markChanged();
+			}
 			return false;
+		} finally {
+			savingPlayer.set(false);
 		}
 	}
 
+	/**
+	 * Counts a row written on the calling thread towards the save volume, if the thread is inside savePlayer.
+	 */
+	protected void countSavedRow(final Object[] parameters) {
+		if (!savingPlayer.get()) {
+			return;
+		}
+		long bytes = 0;
+		for (final Object parameter : parameters) {
+			if (parameter instanceof Long) {
+				bytes += 8;
+			} else if (parameter instanceof Integer) {
+				bytes += 4;
+			} else if (parameter instanceof Boolean) {
+				bytes += 1;
+			} else if (parameter instanceof String) {
+				bytes += ((String) parameter).length();
+			} else if (parameter instanceof byte[]) {
+				bytes += ((byte[]) parameter).length;
+			}
+		}
+		synchronized (saveVolumeLock) {
+			rollSaveVolumeMinute();
+			savedRows++;
+			savedBytes += bytes;
+		}
+	}
+
+	private void rollSaveVolumeMinute() {
+		final long minute = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+		if (minute != saveVolumeMinute) {
+			// Nothing written in a whole minute means the last minute's volume was zero.
+			lastMinuteSavedRows = minute == saveVolumeMinute + 1 ? savedRows : 0;
+			lastMinuteSavedBytes = minute == saveVolumeMinute + 1 ? savedBytes : 0;
+			savedRows = 0;
+			savedBytes = 0;
+			saveVolumeMinute = minute;
+		}
+	}
+
+	/**
+	 * @return Rows written by player saves during the last full minute.
+	 */
+	public long getSavedRowsPerMinute() {
+		synchronized (saveVolumeLock) {
+			rollSaveVolumeMinute();
+			return lastMinuteSavedRows;
+		}
+	}
+
+	/**
+	 * @return Parameter bytes written by player saves during the last full minute.
+	 */
+	public long getSavedBytesPerMinute() {
+		synchronized (saveVolumeLock) {
+			rollSaveVolumeMinute();
+			return lastMinuteSavedBytes;
+		}
+	}
+
+	/**
+	 * @return Sections left out of incremental saves because they had not changed.
+	 */
+	public long getSkippedSaveSections() {
+		return skippedSaveSections.sum();
+	}
+
 	public boolean playerExists(final int playerId) throws GameDatabaseException {
 		return queryPlayerExists(playerId);
 	}
@@ -478,7 +609,109 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 	}
 
 	public void itemUpdate(final Item item) throws GameDatabaseException {
-		queryItemUpdate(item);
+		if (!getServer().getConfig().WANT_WRITE_BEHIND_ITEM_UPDATES) {
+			queryItemUpdate(item);
+			return;
+		}
+
+		if (item.getItemId() == Item.ITEM_ID_UNASSIGNED) {
+			throw new GameDatabaseException(this, "An unassigned item attempted to be updated: " + item.getCatalogId());
+		}
+		pendingItemUpdates.put(item.getItemId(), item);
+	}
+
+	/**
+	 * Writes every queued item status change in a single transaction.
+	 * Only call this from a LoginThread, between requests, so it never runs inside that thread's save transaction.
+	 *
+	 * @return The number of items written.
+	 */
+	public int flushItemUpdates() {
+		if (pendingItemUpdates.isEmpty()) {
+			return 0;
+		}
+
+		synchronized (itemUpdateLock) {
+			final ArrayList<Item> items = new ArrayList<Item>(pendingItemUpdates.size());
+			for (final Integer itemId : pendingItemUpdates.keySet()) {
+				final Item item = pendingItemUpdates.remove(itemId);
+				if (item != null) {
+					items.add(item);
+				}
+			}
+			if (items.isEmpty()) {
+				return 0;
+			}
+
+			try {
+				startTransaction();
+				queryItemUpdates(items.toArray(new Item[0]));
+				commitTransaction();
+				return items.size();
+			} catch (final GameDatabaseException ex) {
+				try {
+					rollbackTransaction();
+				} catch (final GameDatabaseException e) {
+					LOGGER.catching(e);
+				}
+				requeueItemUpdates(items);
+				LOGGER.catching(ex);
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Writes the queued changes to the player's own items as part of their save, on the saving thread's connection.
+	 * The values come from the items the player holds now, so an item queued by an earlier session of the account
+	 * can not write its old amount over them. Must be called first in the save transaction, before it holds any row
+	 * locks a flush could be waiting on.
+	 *
+	 * @param written Filled with the items written, so they can be queued again if the save fails.
+	 */
+	private void savePlayerPendingItems(final Player player, final ArrayList<Item> written) throws GameDatabaseException {
+		if (pendingItemUpdates.isEmpty()) {
+			return;
+		}
+
+		synchronized (itemUpdateLock) {
+			final List<Item> inventory = player.getCarriedItems().getInventory().getItems();
+			synchronized (inventory) {
+				takePendingItems(inventory, written);
+			}
+			final Item[] equipped = player.getCarriedItems().getEquipment().getList();
+			if (equipped != null) {
+				takePendingItems(Arrays.asList(equipped), written);
+			}
+			final List<Item> bank = player.getBank().getItems();
+			synchronized (bank) {
+				takePendingItems(bank, written);
+			}
+			if (!written.isEmpty()) {
+				queryItemUpdates(written.toArray(new Item[0]));
+			}
+		}
+	}
+
+	private void takePendingItems(final List<Item> held, final ArrayList<Item> taken) {
+		for (final Item item : held) {
+			if (item != null && item.getItemId() != Item.ITEM_ID_UNASSIGNED && pendingItemUpdates.remove(item.getItemId()) != null) {
+				taken.add(item);
+			}
+		}
+	}
+
+	/**
+	 * Keeps changes that failed to write for the next flush, unless the item changed again since.
+	 */
+	private void requeueItemUpdates(final List<Item> items) {
+		for (final Item item : items) {
+			pendingItemUpdates.putIfAbsent(item.getItemId(), item);
+		}
+	}
+
+	public int getPendingItemUpdateCount() {
+		return pendingItemUpdates.size();
 	}
 
 	public int inventoryAddToPlayer(final Player player, final Item item, int slot) {
@@ -631,12 +864,12 @@ public abstract class GameDatabase extends GameDatabaseQueries {
 		return queryAuctionItems();
 	}
 
-	public void setSoldOut(AuctionItem auctionItem) throws GameDatabaseException {
-		querySetSoldOut(auctionItem);
+	public void setSoldOut(AuctionItem[] auctionItems) throws GameDatabaseException {
+		querySetSoldOut(auctionItems);
 	}
 
-	public void updateAuction(AuctionItem auctionItem) throws GameDatabaseException {
-		queryUpdateAuction(auctionItem);
+	public void updateAuction(AuctionItem[] auctionItems) throws GameDatabaseException {
+		queryUpdateAuction(auctionItems);
 	}
 
 	public int playerIdFromDiscordPairToken(final String token) throws GameDatabaseException {
@@ -8,4 +8,21 @@ public abstract class GameLogger implements Runnable {
 	public abstract void start();
 	public abstract void stop();
 	public abstract void addQuery(final Query query);
+
+	/**
+	 * @return Queries waiting to be written.
+	 */
+	public abstract int getBacklog();
+	/**
+	 * @return Queries discarded because the queue was full, or because writing them failed.
+	 */
+	public abstract long getDroppedCount();
+	/**
+	 * @return Queries the most recent flush took from the queue, over every statement it ran.
+	 */
+	public abstract int getLastFlushSize();
+	/**
+	 * @return Duration of the most recent flush in ms.
+	 */
+	public abstract long getLastFlushDuration();
 }
@@ -43,6 +43,14 @@ public class MySqlGameDatabase extends GameDatabase {
 		getConnection().close();
 	}
 
+	public boolean openThreadConnection() {
+		return getConnection().openThreadConnection();
+	}
+
+	public void closeThreadConnection() {
+		getConnection().closeThreadConnection();
+	}
+
 	protected void startTransaction() throws GameDatabaseException {
 		try {
 			getConnection().executeQuery("START TRANSACTION");
@@ -80,6 +88,7 @@ public class MySqlGameDatabase extends GameDatabase {
 			for (Object[] parameters : records) {
 				// TODO this is copy+pasted from CreateStatement!
 				Object[] unpackedParameters = unpackParameters(parameters);
+				countSavedRow(unpackedParameters);
 
 				int parameterIndex = 1;
 				for (Object parameter : unpackedParameters) {
@@ -116,6 +125,7 @@ public class MySqlGameDatabase extends GameDatabase {
 	protected int executeUpdateQuery(String query, Object... parameters) throws GameDatabaseException {
 		try {
 			PreparedStatement statement = createStatement(query, parameters);
+			countSavedRow(unpackParameters(parameters));
 
 			int lastInsertId = -1;
 			try {
@@ -1329,13 +1339,33 @@ public class MySqlGameDatabase extends GameDatabase {
 	}
 
 	@Override
-	protected void querySetSoldOut(final AuctionItem auctionItem) throws GameDatabaseException {
-		executeUpdateQuery(getQueries().auctionSellOut, auctionItem.amount_left, auctionItem.sold_out, auctionItem.buyer_info, auctionItem.auctionID);
+	protected void querySetSoldOut(final AuctionItem[] auctionItems) throws GameDatabaseException {
+		ArrayList<Object[]> records = new ArrayList<Object[]>();
+		for (AuctionItem auctionItem : auctionItems) {
+			records.add(new Object[]{
+				auctionItem.amount_left,
+				auctionItem.sold_out,
+				auctionItem.buyer_info,
+				auctionItem.auctionID
+			});
+		}
+
+		executeBatchUpdateQuery(getQueries().auctionSellOut, records.toArray(new Object[][]{}));
 	}
 
 	@Override
-	protected void queryUpdateAuction(final AuctionItem auctionItem) throws GameDatabaseException {
-		executeUpdateQuery(getQueries().updateAuction, auctionItem.amount_left, auctionItem.price, auctionItem.buyer_info, auctionItem.auctionID);
+	protected void queryUpdateAuction(final AuctionItem[] auctionItems) throws GameDatabaseException {
+		ArrayList<Object[]> records = new ArrayList<Object[]>();
+		for (AuctionItem auctionItem : auctionItems) {
+			records.add(new Object[]{
+				auctionItem.amount_left,
+				auctionItem.price,
+				auctionItem.buyer_info,
+				auctionItem.auctionID
+			});
+		}
+
+		executeBatchUpdateQuery(getQueries().updateAuction, records.toArray(new Object[][]{}));
 	}
 
 	@Override
@@ -1690,6 +1720,23 @@ public class MySqlGameDatabase extends GameDatabase {
 		executeUpdateQuery(getQueries().save_ItemUpdate, item.getAmount(), item.getNoted() ? 1 : 0, item.isWielded() ? 1 : 0, item.getItemStatus().getDurability(), item.getItemId());
 	}
 
+	@Override
+	protected void queryItemUpdates(final Item[] items) throws GameDatabaseException {
+		final Object[][] records = new Object[items.length][];
+		for (int i = 0; i < items.length; i++) {
+			final Item item = items[i];
+			records[i] = new Object[]{
+				item.getAmount(),
+				item.getNoted() ? 1 : 0,
+				item.isWielded() ? 1 : 0,
+				item.getItemStatus().getDurability(),
+				item.getItemId()
+			};
+		}
+
+		executeBatchUpdateQuery(getQueries().save_ItemUpdate, records);
+	}
+
 	@Override
 	protected void queryInventoryAdd(final int playerId, final Item item, int slot) throws GameDatabaseException {
 		synchronized (itemIDList) {
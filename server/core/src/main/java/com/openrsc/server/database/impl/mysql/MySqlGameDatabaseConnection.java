@@ -5,6 +5,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.*;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MySqlGameDatabaseConnection {
 	/**
@@ -17,6 +19,12 @@ public class MySqlGameDatabaseConnection {
 	private Statement statement;
 	private boolean connected;
 
+	/**
+	 * Dedicated connections of the threads that called openThreadConnection. Every other thread shares the main connection.
+	 */
+	private final ThreadLocal<ThreadConnection> threadConnection = new ThreadLocal<ThreadConnection>();
+	private final Set<ThreadConnection> threadConnections = ConcurrentHashMap.newKeySet();
+
 	public MySqlGameDatabaseConnection(final Server server) {
 		this.server = server;
 		connected = false;
@@ -34,11 +42,8 @@ public class MySqlGameDatabaseConnection {
 		}
 
 		try {
-			connection = DriverManager.getConnection("jdbc:mysql://"
-					+ getServer().getConfig().DB_HOST + "/" + getServer().getConfig().DB_NAME + "?autoReconnect=true&useSSL=false&rewriteBatchedStatements=true&serverTimezone=UTC",
-				getServer().getConfig().DB_USER,
-				getServer().getConfig().DB_PASS);
-			statement = getConnection().createStatement();
+			connection = createConnection();
+			statement = connection.createStatement();
 			statement.setEscapeProcessing(true);
 			connected = checkConnection();
 		} catch (final SQLException e) {
@@ -56,6 +61,11 @@ public class MySqlGameDatabaseConnection {
 	}
 
 	public synchronized void close() {
+		for (final ThreadConnection dedicated : threadConnections) {
+			dedicated.close();
+		}
+		threadConnections.clear();
+
 		try {
 			if(statement != null) {
 				statement.close();
@@ -64,8 +74,8 @@ public class MySqlGameDatabaseConnection {
 			LOGGER.catching(e);
 		}
 		try {
-			if(getConnection() != null) {
-				getConnection().close();
+			if(connection != null) {
+				connection.close();
 			}
 		} catch (final SQLException e) {
 			LOGGER.catching(e);
@@ -75,6 +85,51 @@ public class MySqlGameDatabaseConnection {
 		connection = null;
 	}
 
+	/**
+	 * Opens a connection used only by the calling thread, so its transactions do not interleave with other threads.
+	 * If it can not be opened the thread keeps using the shared connection.
+	 *
+	 * @return true if the thread now has its own connection
+	 */
+	public boolean openThreadConnection() {
+		closeThreadConnection();
+
+		try {
+			final Connection dedicatedConnection = createConnection();
+			final Statement dedicatedStatement = dedicatedConnection.createStatement();
+			dedicatedStatement.setEscapeProcessing(true);
+
+			final ThreadConnection dedicated = new ThreadConnection(dedicatedConnection, dedicatedStatement);
+			threadConnection.set(dedicated);
+			threadConnections.add(dedicated);
+			return true;
+		} catch (final SQLException e) {
+			LOGGER.catching(e);
+			return false;
+		}
+	}
+
+	public void closeThreadConnection() {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated == null) {
+			return;
+		}
+		threadConnection.remove();
+		threadConnections.remove(dedicated);
+		dedicated.close();
+	}
+
+	public int getThreadConnectionCount() {
+		return threadConnections.size();
+	}
+
+	private Connection createConnection() throws SQLException {
+		return DriverManager.getConnection("jdbc:mysql://"
+				+ getServer().getConfig().DB_HOST + "/" + getServer().getConfig().DB_NAME + "?autoReconnect=true&useSSL=false&rewriteBatchedStatements=true&serverTimezone=UTC",
+			getServer().getConfig().DB_USER,
+			getServer().getConfig().DB_PASS);
+	}
+
 	private synchronized boolean checkConnection() {
 		try {
 			getStatement().executeQuery("SELECT CURRENT_DATE");
@@ -84,12 +139,24 @@ public class MySqlGameDatabaseConnection {
 		}
 	}
 
-	protected synchronized int executeUpdate(final String string) throws SQLException {
-		return getStatement().executeUpdate(string);
+	protected int executeUpdate(final String string) throws SQLException {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated != null) {
+			return dedicated.statement.executeUpdate(string);
+		}
+		synchronized (this) {
+			return getStatement().executeUpdate(string);
+		}
 	}
 
-	protected synchronized ResultSet executeQuery(final String string) throws SQLException {
-		return getStatement().executeQuery(string);
+	protected ResultSet executeQuery(final String string) throws SQLException {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated != null) {
+			return dedicated.statement.executeQuery(string);
+		}
+		synchronized (this) {
+			return getStatement().executeQuery(string);
+		}
 	}
 
 	/**
@@ -99,24 +166,51 @@ public class MySqlGameDatabaseConnection {
 	 * @return The MySQL query to run represented as a java.sql.PreparedStatement
 	 * @throws SQLException if there was an error when preparing the statement
 	 */
-	protected synchronized PreparedStatement prepareStatement(final String statement) throws SQLException {
-		return getConnection().prepareStatement(statement);
+	protected PreparedStatement prepareStatement(final String statement) throws SQLException {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated != null) {
+			return dedicated.connection.prepareStatement(statement);
+		}
+		synchronized (this) {
+			return connection.prepareStatement(statement);
+		}
 	}
 
-	protected synchronized PreparedStatement prepareStatement(final String statement, final String[] generatedColumns) throws SQLException {
-		return getConnection().prepareStatement(statement, generatedColumns);
+	protected PreparedStatement prepareStatement(final String statement, final String[] generatedColumns) throws SQLException {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated != null) {
+			return dedicated.connection.prepareStatement(statement, generatedColumns);
+		}
+		synchronized (this) {
+			return connection.prepareStatement(statement, generatedColumns);
+		}
 	}
 
-	protected synchronized PreparedStatement prepareStatement(final String statement, final int returnKeys) throws SQLException {
-		return getConnection().prepareStatement(statement, returnKeys);
+	protected PreparedStatement prepareStatement(final String statement, final int returnKeys) throws SQLException {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated != null) {
+			return dedicated.connection.prepareStatement(statement, returnKeys);
+		}
+		synchronized (this) {
+			return connection.prepareStatement(statement, returnKeys);
+		}
 	}
 
 	public final Server getServer() {
 		return server;
 	}
 
-	protected synchronized Connection getConnection() {
-		return connection;
+	/**
+	 * @return The calling thread's own connection if it has one, otherwise the shared connection.
+	 */
+	protected Connection getConnection() {
+		final ThreadConnection dedicated = threadConnection.get();
+		if (dedicated != null) {
+			return dedicated.connection;
+		}
+		synchronized (this) {
+			return connection;
+		}
 	}
 
 	private Statement getStatement() {
@@ -126,4 +220,27 @@ public class MySqlGameDatabaseConnection {
 	protected boolean isConnected() {
 		return connected;
 	}
+
+	private static final class ThreadConnection {
+		private final Connection connection;
+		private final Statement statement;
+
+		private ThreadConnection(final Connection connection, final Statement statement) {
+			this.connection = connection;
+			this.statement = statement;
+		}
+
+		private void close() {
+			try {
+				statement.close();
+			} catch (final SQLException e) {
+				LOGGER.catching(e);
+			}
+			try {
+				connection.close();
+			} catch (final SQLException e) {
+				LOGGER.catching(e);
+			}
+		}
+	}
 }
@@ -5,12 +5,22 @@ import com.openrsc.server.Server;
 import com.openrsc.server.database.GameLogger;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 import com.openrsc.server.database.impl.mysql.queries.ResultQuery;
+import com.openrsc.server.database.impl.mysql.queries.logging.LogQuery;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class MySqlGameLogger extends GameLogger {
 
@@ -19,17 +29,38 @@ public final class MySqlGameLogger extends GameLogger {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	/**
+	 * What addQuery does when the queue is full.
+	 */
+	public enum OverflowPolicy {
+		DROP_NEWEST,
+		DROP_OLDEST,
+		BLOCK
+	}
+
 	private volatile AtomicBoolean running;
 	private final BlockingQueue<Query> queries;
 	private final Server server;
 	private ScheduledExecutorService scheduledExecutor;
 	private final MySqlGameDatabase database;
 
+	private final int batchSize;
+	private final long flushInterval;
+	private final OverflowPolicy overflowPolicy;
+
+	private long lastFlush;
+	private final LongAdder droppedCount = new LongAdder();
+	private volatile int lastFlushSize;
+	private volatile long lastFlushDuration;
+
 	public MySqlGameLogger(final Server server, final MySqlGameDatabase database) {
 		this.server = server;
 
 		running = new AtomicBoolean(false);
-		queries = new ArrayBlockingQueue<>(10000);
+		queries = new ArrayBlockingQueue<>(Math.max(1, getServer().getConfig().GAME_LOGGER_QUEUE_SIZE));
+		batchSize = Math.max(1, getServer().getConfig().GAME_LOGGER_BATCH_SIZE);
+		flushInterval = Math.max(0, getServer().getConfig().GAME_LOGGER_FLUSH_INTERVAL);
+		overflowPolicy = parseOverflowPolicy(getServer().getConfig().GAME_LOGGER_OVERFLOW_POLICY);
 		// TODO: Implement GameLogger into the database driver.
 		if (database == null) {
 			LOGGER.error("GameDatabase provided was null or not a MySqlGameDatabase.");
@@ -38,6 +69,15 @@ public final class MySqlGameLogger extends GameLogger {
 		this.database = database;
 	}
 
+	private static OverflowPolicy parseOverflowPolicy(final String policy) {
+		try {
+			return OverflowPolicy.valueOf(policy.trim().toUpperCase());
+		} catch (final IllegalArgumentException | NullPointerException e) {
+			LOGGER.warn("Unknown game_logger_overflow_policy " + policy + ", using drop_newest");
+			return OverflowPolicy.DROP_NEWEST;
+		}
+	}
+
 	public final Server getServer() {
 		return server;
 	}
@@ -45,13 +85,20 @@ public final class MySqlGameLogger extends GameLogger {
 	public void start() {
 		synchronized (running) {
 			running.set(true);
+			lastFlush = System.currentTimeMillis();
 			scheduledExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(getServer().getName() + " : DatabaseLogging").build());
+			if (getServer().getConfig().WANT_DB_CONNECTION_POOL) {
+				scheduledExecutor.execute(() -> getDatabase().openThreadConnection());
+			}
 			scheduledExecutor.scheduleAtFixedRate(this, 0, 50, TimeUnit.MILLISECONDS);
 		}
 	}
 
 	public void stop() {
 		synchronized (running) {
+			if (getServer().getConfig().WANT_DB_CONNECTION_POOL) {
+				scheduledExecutor.execute(() -> getDatabase().closeThreadConnection());
+			}
 			scheduledExecutor.shutdown();
 			try {
 				final boolean terminationResult = scheduledExecutor.awaitTermination(1, TimeUnit.MINUTES);
@@ -61,6 +108,10 @@ public final class MySqlGameLogger extends GameLogger {
 			} catch (final InterruptedException e) {
 				LOGGER.catching(e);
 			}
+			// Write what is left rather than losing the last logs on shutdown.
+			if (getDatabase().getConnection().isConnected()) {
+				flush();
+			}
 			clearQueries();
 			scheduledExecutor = null;
 			running.set(false);
@@ -74,16 +125,88 @@ public final class MySqlGameLogger extends GameLogger {
 	@Override
 	public void run() {
 		synchronized (running) {
-			if (running.get()) {
-				while (queries.size() > 0 && getDatabase().getConnection().isConnected()) {
-					pollNextQuery();
+			if (running.get() && getDatabase().getConnection().isConnected()) {
+				// Wait for a full batch, or until the oldest rows have waited long enough.
+				if (queries.size() >= batchSize || System.currentTimeMillis() - lastFlush >= flushInterval) {
+					flush();
 				}
 			}
 		}
 	}
 
-	protected void pollNextQuery() {
-		runQuery(queries.poll());
+	/**
+	 * Writes every queued query. Log rows are grouped by statement and written as JDBC batches,
+	 * which the driver rewrites into multi-row inserts. Other queries run one by one, in the order they were added.
+	 */
+	private void flush() {
+		final long flushStart = System.currentTimeMillis();
+		lastFlush = flushStart;
+
+		final List<Query> drained = new ArrayList<>(queries.size());
+		queries.drainTo(drained);
+		if (drained.isEmpty()) {
+			return;
+		}
+
+		final Map<String, List<Query>> batches = new LinkedHashMap<>();
+		for (final Query query : drained) {
+			if (query instanceof LogQuery) {
+				batches.computeIfAbsent(query.getQuery(), k -> new ArrayList<>()).add(query);
+			} else {
+				runQuery(query);
+			}
+		}
+
+		for (final Map.Entry<String, List<Query>> batch : batches.entrySet()) {
+			runBatch(batch.getKey(), batch.getValue());
+		}
+
+		lastFlushSize = drained.size();
+		lastFlushDuration = System.currentTimeMillis() - flushStart;
+	}
+
+	private void runBatch(final String sql, final List<Query> batch) {
+		int written = 0;
+		try (final PreparedStatement statement = getDatabase().getConnection().getConnection().prepareStatement(sql)) {
+			while (written < batch.size()) {
+				final List<Query> chunk = batch.subList(written, Math.min(batch.size(), written + batchSize));
+				for (final Query query : chunk) {
+					query.bind(statement);
+					statement.addBatch();
+				}
+				executeChunk(statement, chunk);
+				written += chunk.size();
+			}
+		} catch (final SQLException ex) {
+			LOGGER.catching(ex);
+			droppedCount.add(batch.size() - written);
+		}
+	}
+
+	/**
+	 * Writes the chunk added to the statement's batch. When some of its rows fail, the rows the driver does not report
+	 * as written are retried one at a time, so a bad row only loses itself. Rows that fail again are counted as dropped.
+	 */
+	private void executeChunk(final PreparedStatement statement, final List<Query> chunk) throws SQLException {
+		try {
+			statement.executeBatch();
+		} catch (final BatchUpdateException ex) {
+			LOGGER.catching(ex);
+			statement.clearBatch();
+			final int[] updateCounts = ex.getUpdateCounts();
+			for (int i = 0; i < chunk.size(); i++) {
+				if (updateCounts != null && i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+					continue;
+				}
+				try {
+					chunk.get(i).bind(statement);
+					statement.executeUpdate();
+				} catch (final SQLException rowEx) {
+					LOGGER.catching(rowEx);
+					droppedCount.increment();
+				}
+			}
+		}
 	}
 
 	protected void runQuery(final Query query) {
@@ -91,9 +214,14 @@ public final class MySqlGameLogger extends GameLogger {
 			if (query != null) {
 				if (query instanceof ResultQuery) {
 					final ResultQuery rq = (ResultQuery) query;
-					rq.onResult(rq.prepareStatement(getDatabase().getConnection().getConnection()).executeQuery());
+					try (final PreparedStatement statement = rq.prepareStatement(getDatabase().getConnection().getConnection());
+						 final ResultSet result = statement.executeQuery()) {
+						rq.onResult(result);
+					}
 				} else {
-					query.prepareStatement(getDatabase().getConnection().getConnection()).execute();
+					try (final PreparedStatement statement = query.prepareStatement(getDatabase().getConnection().getConnection())) {
+						statement.execute();
+					}
 				}
 			}
 		/*} catch (final GameDatabaseException ex) {
@@ -108,14 +236,58 @@ public final class MySqlGameLogger extends GameLogger {
 		if (!running.get()) {
 			return;
 		}
-		queries.add(query);
+		switch (overflowPolicy) {
+			case DROP_OLDEST:
+				while (!queries.offer(query)) {
+					if (queries.poll() != null) {
+						droppedCount.increment();
+					}
+				}
+				break;
+			case BLOCK:
+				try {
+					queries.put(query);
+				} catch (final InterruptedException e) {
+					droppedCount.increment();
+					Thread.currentThread().interrupt();
+				}
+				break;
+			default:
+				if (!queries.offer(query)) {
+					droppedCount.increment();
+				}
+				break;
+		}
 	}
 
 	// Runs a query on whatever program thread initiated the request. This is mostly useful for playing loading/saving to ensure data is returned.
 	public void run(final Query query) {
+		if (!running.get()) {
+			return;
+		}
 		runQuery(query);
 	}
 
+	@Override
+	public int getBacklog() {
+		return queries.size();
+	}
+
+	@Override
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	@Override
+	public int getLastFlushSize() {
+		return lastFlushSize;
+	}
+
+	@Override
+	public long getLastFlushDuration() {
+		return lastFlushDuration;
+	}
+
 	private MySqlGameDatabase getDatabase() {
 		return database;
 	}
@@ -17,6 +17,19 @@ public abstract class Query {
 
 	public abstract Query build(); // add any logic here
 
-	public abstract PreparedStatement prepareStatement(Connection connection) throws SQLException;
+	/**
+	 * Sets this query's parameters on a statement prepared from {@link #getQuery()}.
+	 */
+	public abstract void bind(PreparedStatement statement) throws SQLException;
+
+	public PreparedStatement prepareStatement(final Connection connection) throws SQLException {
+		final PreparedStatement statement = connection.prepareStatement(query);
+		bind(statement);
+		return statement;
+	}
+
+	public final String getQuery() {
+		return query;
+	}
 
 }
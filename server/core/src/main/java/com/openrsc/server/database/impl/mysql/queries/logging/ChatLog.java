@@ -3,11 +3,10 @@ package com.openrsc.server.database.impl.mysql.queries.logging;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-public final class ChatLog extends Query {
+public final class ChatLog extends LogQuery {
 
 	private final String sender, message;
 
@@ -18,12 +17,10 @@ public final class ChatLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setString(1, sender);
 		statement.setString(2, message);
 		statement.setLong(3, time);
-		return statement;
 	}
 
 	@Override
@@ -8,12 +8,11 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 import com.openrsc.server.util.rsc.DataConversions;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 
-public class DeathLog extends Query {
+public class DeathLog extends LogQuery {
 
 	private ArrayList<Item> droppedLoot = new ArrayList<Item>();
 	private Point location;
@@ -58,11 +57,9 @@ public class DeathLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setString(1, message);
 		statement.setLong(2, time);
-		return statement;
 	}
 
 }
@@ -3,11 +3,10 @@ package com.openrsc.server.database.impl.mysql.queries.logging;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-public final class EventLog extends Query {
+public final class EventLog extends LogQuery {
 
 	private final String message;
 
@@ -17,11 +16,9 @@ public final class EventLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setString(1, message);
 		statement.setLong(2, time);
-		return statement;
 	}
 
 	@Override
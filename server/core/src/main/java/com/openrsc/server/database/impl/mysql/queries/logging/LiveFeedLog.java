@@ -3,11 +3,10 @@ package com.openrsc.server.database.impl.mysql.queries.logging;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-public class LiveFeedLog extends Query {
+public class LiveFeedLog extends LogQuery {
 	private String feedText;
 	private String username;
 
@@ -27,12 +26,10 @@ public class LiveFeedLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setString(1, username);
 		statement.setString(2, feedText);
 		statement.setLong(3, time);
-		return statement;
 	}
 
 }
@@ -0,0 +1,15 @@
+package com.openrsc.server.database.impl.mysql.queries.logging;
+
+import com.openrsc.server.database.impl.mysql.queries.Query;
+
+/**
+ * A query that only appends a log row. Nothing depends on the order log rows are written in,
+ * so the game logger may batch them with other log rows of the same statement.
+ */
+public abstract class LogQuery extends Query {
+
+	protected LogQuery(final String query) {
+		super(query);
+	}
+
+}
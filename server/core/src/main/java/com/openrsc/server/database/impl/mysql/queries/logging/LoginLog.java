@@ -3,11 +3,10 @@ package com.openrsc.server.database.impl.mysql.queries.logging;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-public final class LoginLog extends Query {
+public final class LoginLog extends LogQuery {
 
 	private final int player;
 	private final String ip;
@@ -19,12 +18,10 @@ public final class LoginLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setInt(1, player);
 		statement.setString(2, ip);
 		statement.setLong(3, time);
-		return statement;
 	}
 
 	@Override
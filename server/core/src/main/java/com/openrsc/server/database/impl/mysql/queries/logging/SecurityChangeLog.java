@@ -4,11 +4,10 @@ import com.openrsc.server.Server;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-public final class SecurityChangeLog extends Query {
+public final class SecurityChangeLog extends LogQuery {
 
 	private Server server;
 	private int playerId;
@@ -44,14 +43,12 @@ public final class SecurityChangeLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setInt(1, playerId);
 		statement.setString(2, eventAlias);
 		statement.setLong(3, time);
 		statement.setString(4, eventIp);
 		statement.setString(5, eventMessage);
-		return statement;
 	}
 
 	public enum ChangeEvent {
@@ -3,7 +3,6 @@ package com.openrsc.server.database.impl.mysql.queries.logging;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.database.impl.mysql.queries.Query;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -34,7 +33,7 @@ import java.sql.SQLException;
  * 21 - globaldrop
  */
 
-public final class StaffLog extends Query {
+public final class StaffLog extends LogQuery {
 
 	private String staffUsername, affectedUsername, staffIp, affectedIp, extra;
 	private int action, staffX, staffY, affectedX, affectedY;
@@ -95,8 +94,7 @@ public final class StaffLog extends Query {
 	}
 
 	@Override
-	public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(query);
+	public void bind(PreparedStatement statement) throws SQLException {
 		statement.setString(1, staffUsername);
 		statement.setInt(2, action);
 		statement.setString(3, affectedUsername);
@@ -109,7 +107,6 @@ public final class StaffLog extends Query {
 		statement.setString(10, affectedIp);
 		if (extra != null)
 			statement.setString(11, extra);
-		return statement;
 	}
 
 }
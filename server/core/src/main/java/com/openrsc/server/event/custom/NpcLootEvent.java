@@ -149,7 +149,7 @@ public class NpcLootEvent extends SingleEvent {
 				}
 			}
 			if(getWorld().withinWorld(baseX + x, baseY + y)) {
-				if ((getWorld().getTile(new Point(baseX + x, baseY + y)).traversalMask & 64) == 0) {
+				if ((getWorld().getTile(new Point(baseX + x, baseY + y)).getTraversalMask() & 64) == 0) {
 					final Npc n = new Npc(getWorld(), npcId, baseX + x, baseY + y, baseX + x - 20, baseX + x + 20, baseY + y - 20, baseY + y + 20);
 					n.setShouldRespawn(false);
 					getWorld().registerNpc(n);
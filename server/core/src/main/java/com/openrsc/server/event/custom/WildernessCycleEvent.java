@@ -7,7 +7,6 @@ import com.openrsc.server.database.impl.mysql.queries.ResultQuery;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -55,8 +54,7 @@ public class WildernessCycleEvent extends DelayedEvent {
 				}
 
 				@Override
-				public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-					return connection.prepareStatement(query);
+				public void bind(PreparedStatement statement) {
 				}
 			});
 
@@ -76,11 +74,9 @@ public class WildernessCycleEvent extends DelayedEvent {
 					}
 
 					@Override
-					public PreparedStatement prepareStatement(Connection connection) throws SQLException {
-						PreparedStatement statement = connection.prepareStatement(query);
+					public void bind(PreparedStatement statement) throws SQLException {
 						statement.setLong(1, now);
 						statement.setInt(2, lastWildernessType);
-						return statement;
 					}
 				});
 			}
@@ -1,5 +1,6 @@
 package com.openrsc.server.event.rsc;
 
+import com.openrsc.server.GameEventHandler;
 import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
@@ -23,6 +24,19 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	private String descriptor;
 	private long lastEventDuration = 0;
 	private boolean uniqueEvent = false;
+	/**
+	 * The handler this event is scheduled with, or null if it is driven manually through tick().
+	 */
+	private volatile GameEventHandler scheduler = null;
+	/**
+	 * The handler tick this event next runs on while it is scheduled.
+	 */
+	private volatile long dueTick = -1;
+	private long scheduleId = -1;
+	/**
+	 * Scratch value used by the handler to skip duplicate wheel entries.
+	 */
+	private long scheduleMark = -1;
 
 	public GameTickEvent(final World world, final Mob owner, final long ticks, final String descriptor, final boolean uniqueEvent) {
 		this.world = world;
@@ -65,12 +79,16 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	}
 
 	public final boolean shouldRun() {
-		return running && ticksBeforeRun <= 0;
+		return running && getTicksBeforeRun() <= 0;
 	}
 
 	public void stop() {
 		//if(!(this instanceof PluginTask)) LOGGER.info("Stopping : " + getDescriptor() + " : " + getOwner());
 		running = false;
+		final GameEventHandler scheduler = this.scheduler;
+		if (scheduler != null) {
+			scheduler.remove(this);
+		}
 	}
 
 	protected void setDelayTicks(long delayTicks) {
@@ -80,14 +98,20 @@ public abstract class GameTickEvent implements Callable<Integer> {
 
 	public void resetCountdown() {
 		ticksBeforeRun = delayTicks;
+		final GameEventHandler scheduler = this.scheduler;
+		if (scheduler != null) {
+			scheduler.reschedule(this, scheduler.getCurrentTick() + Math.max(delayTicks, 1));
+		}
 	}
 
 	public void tick() {
-		ticksBeforeRun--;
+		if (scheduler == null) {
+			ticksBeforeRun--;
+		}
 	}
 
 	public long timeTillNextRun() {
-		return System.currentTimeMillis() + (ticksBeforeRun * getWorld().getServer().getConfig().GAME_TICK);
+		return System.currentTimeMillis() + (getTicksBeforeRun() * getWorld().getServer().getConfig().GAME_TICK);
 	}
 
 	public final boolean shouldRemove() {
@@ -115,7 +139,8 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	}
 
 	public long getTicksBeforeRun() {
-		return ticksBeforeRun;
+		final GameEventHandler scheduler = this.scheduler;
+		return scheduler != null ? dueTick - scheduler.getCurrentTick() : ticksBeforeRun;
 	}
 
 	public final long getLastEventDuration() {
@@ -135,4 +160,33 @@ public abstract class GameTickEvent implements Callable<Integer> {
 	}
 
 	public boolean isUniqueEvent() { return uniqueEvent; }
+
+	public final GameEventHandler getScheduler() {
+		return scheduler;
+	}
+
+	public final void setScheduler(final GameEventHandler scheduler, final long scheduleId) {
+		this.scheduler = scheduler;
+		this.scheduleId = scheduleId;
+	}
+
+	public final long getDueTick() {
+		return dueTick;
+	}
+
+	public final void setDueTick(final long dueTick) {
+		this.dueTick = dueTick;
+	}
+
+	public final long getScheduleId() {
+		return scheduleId;
+	}
+
+	public final long getScheduleMark() {
+		return scheduleMark;
+	}
+
+	public final void setScheduleMark(final long scheduleMark) {
+		this.scheduleMark = scheduleMark;
+	}
 }
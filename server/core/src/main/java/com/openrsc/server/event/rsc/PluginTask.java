@@ -9,8 +9,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
+/**
+ * A plugin script, run on a plugin thread of its own from start to finish. Between the ticks it runs on, the script
+ * waits in pause() and its thread stays parked. The tick thread stepping the script waits in awaitPause() until the
+ * script pauses again, and is woken by it.
+ */
 public abstract class PluginTask extends GameTickEvent implements Callable<Integer> {
 	/**
 	 * The asynchronous logger.
@@ -18,12 +23,17 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 	private static final Logger LOGGER = LogManager.getLogger();
 
 	/**
-	 * List of PluginTasks indexed by thread to retrieve from a static context
+	 * The PluginTask running on each plugin thread, to retrieve from a static context
 	 */
-	private final static ConcurrentHashMap<String, PluginTask> tasksMap = new ConcurrentHashMap<String, PluginTask>();
+	private final static ThreadLocal<PluginTask> contextTask = new ThreadLocal<PluginTask>();
+
+	/**
+	 * How long a tick thread waits between checks on a task that has not woken it, which only happens if it was cancelled before starting
+	 */
+	private static final long AWAIT_PAUSE_TIMEOUT = 10;
 
 	public static PluginTask getContextPluginTask() {
-		return PluginTask.tasksMap.get(Thread.currentThread().getName());
+		return contextTask.get();
 	}
 
 	private volatile boolean initialized = false;
@@ -57,6 +67,8 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 			LOGGER.catching(ex);
 			stop();
 			return 0;
+		} finally {
+			contextTask.remove();
 		}
 	}
 
@@ -80,6 +92,8 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 			setDelayTicks(ticks);
 			setThreadRunning(false);
 			setTickCompleted(true);
+			// Wake the tick thread waiting in awaitPause()
+			notifyAll();
 			wait();
 			setThreadRunning(true);
 			setTickCompleted(false);
@@ -88,12 +102,26 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 		}
 	}
 
+	/**
+	 * Blocks the calling tick thread until the plugin reaches a pause point or finishes. This also waits for the PluginTask to start.
+	 * The plugin thread wakes it up as soon as it pauses or stops instead of it polling.
+	 */
+	public synchronized void awaitPause(final Future<Integer> future) {
+		while ((!isInitialized() || (isThreadRunning() && !isTickCompleted())) && !future.isDone()) {
+			try {
+				wait(AWAIT_PAUSE_TIMEOUT);
+			} catch (final InterruptedException ex) {
+				LOGGER.catching(ex);
+				return;
+			}
+		}
+	}
+
 	private synchronized void registerPluginThread() {
 		pluginThread = Thread.currentThread();
-		final String threadName = getPluginThread().getName();
 		setThreadRunning(true);
 		setTickCompleted(false);
-		tasksMap.put(threadName, this);
+		contextTask.set(this);
 		getScriptContext().startScript(action, data);
 	}
 
@@ -104,9 +132,9 @@ public abstract class PluginTask extends GameTickEvent implements Callable<Integ
 		if(thread != null) {
 			setThreadRunning(false);
 			setTickCompleted(false);
-			tasksMap.remove(thread.getName());
 			pluginThread = null;
 			getScriptContext().endScript();
+			notifyAll();
 
 			thread.interrupt();
 		}
@@ -267,6 +267,7 @@ public class CombatEvent extends GameTickEvent {
 					}
 				}
 			}
+			getWorld().aggroStateChanged();
 		}
 		stop();
 	}
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class CertDef {
+import java.io.Serializable;
+
+public class CertDef implements Serializable {
 	/**
 	 * The ID of the certificate
 	 */
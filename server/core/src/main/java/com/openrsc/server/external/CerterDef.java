@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class CerterDef {
+import java.io.Serializable;
+
+public class CerterDef implements Serializable {
 	/**
 	 * Certs this stall can deal with
 	 */
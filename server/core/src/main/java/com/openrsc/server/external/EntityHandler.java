@@ -3,6 +3,7 @@ package com.openrsc.server.external;
 import com.openrsc.server.Server;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.io.DefinitionBundle;
 import com.openrsc.server.model.Point;
 import com.openrsc.server.model.TelePoint;
 import com.openrsc.server.util.PersistenceManager;
@@ -11,6 +12,7 @@ import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -28,6 +30,23 @@ public final class EntityHandler {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	/**
+	 * The files the definitions are parsed from, relative to the config directory, for the definition bundle's checksums.
+	 */
+	private static final String[] DEFINITION_SOURCES = {
+		"aliases.xml",
+		"defs/NpcDefs.json", "defs/NpcDefsCustom.json", "defs/ItemDefs.json", "defs/ItemDefsCustom.json",
+		"defs/DoorDef.xml.gz", "defs/GameObjectDef.xml.gz", "defs/PrayerDef.xml.gz", "defs/SpellDef.xml.gz", "defs/TileDef.xml.gz",
+		"defs/extras/ItemHerbSecond.xml.gz", "defs/extras/ItemDartTipDef.xml.gz", "defs/extras/ItemGemDef.xml.gz",
+		"defs/extras/ItemLogCutDef.xml.gz", "defs/extras/ItemBowStringDef.xml.gz", "defs/extras/ItemArrowHeadDef.xml.gz",
+		"defs/extras/FiremakingDef.xml.gz", "defs/extras/ItemAffectedTypes.xml.gz", "defs/extras/ItemUnIdentHerbDef.xml.gz",
+		"defs/extras/ItemHerbDef.xml.gz", "defs/extras/ItemEdibleHeals.xml.gz", "defs/extras/ItemCookingDef.xml.gz",
+		"defs/extras/ItemPerfectCookingDef.xml.gz", "defs/extras/ItemSmeltingDef.xml.gz", "defs/extras/ItemSmithingDef.xml.gz",
+		"defs/extras/ItemCraftingDef.xml.gz", "defs/extras/ObjectMining.xml.gz", "defs/extras/ObjectWoodcutting.xml.gz",
+		"defs/extras/ObjectRunecraft.xml.gz", "defs/extras/ObjectFishing.xml.gz", "defs/extras/ObjectHarvesting.xml.gz",
+		"locs/extras/ObjectTelePoints.xml.gz", "defs/extras/NpcCerters.xml.gz"
+	};
+
 	private final Server server;
 	private final PersistenceManager persistenceManager;
 
@@ -139,19 +158,44 @@ public final class EntityHandler {
 	}
 
 	public void load() {
+		final long start = System.currentTimeMillis();
+		DefinitionBundle bundle = null;
+		if (getServer().getConfig().WANT_DEFINITION_BUNDLE) {
+			try {
+				bundle = new DefinitionBundle(getServer().getConfig().CONFIG_DIR, DEFINITION_SOURCES);
+			} catch (final IOException e) {
+				LOGGER.catching(e);
+			}
+		}
+
+		final Object[] tables = bundle != null ? bundle.load() : null;
+		if (tables != null) {
+			setTables(tables);
+		} else {
+			loadSources();
+			if (bundle != null) {
+				bundle.save(getTables());
+			}
+		}
+
+		// Applied after bundling, so the bundle does not depend on the config.
+		customNpcConditions();
+		customItemConditions();
+		behaviorNpcFlags();
+		LOGGER.info("Loaded " + npcs.size() + " npc and " + items.size() + " item definitions from the "
+			+ (tables != null ? "definition bundle" : "definition sources") + " in " + (System.currentTimeMillis() - start) + "ms");
+	}
+
+	private void loadSources() {
 		npcs = new ArrayList<>();
 		LOGGER.info("Loading npc definitions...");
 		loadNpcs(getServer().getConfig().CONFIG_DIR + "/defs/NpcDefs.json");
 		loadNpcs(getServer().getConfig().CONFIG_DIR + "/defs/NpcDefsCustom.json");
-		customNpcConditions();
-		LOGGER.info("Loaded " + npcs.size() + " npc definitions");
 
 		items = new ArrayList<>();
 		LOGGER.info("Loading item definitions...");
 		loadItems(getServer().getConfig().CONFIG_DIR + "/defs/ItemDefs.json");
 		loadItems(getServer().getConfig().CONFIG_DIR + "/defs/ItemDefsCustom.json");
-		customItemConditions();
-		LOGGER.info("Loaded " + items.size() + " item definitions");
 
 		doors = (DoorDef[]) getPersistenceManager().load("defs/DoorDef.xml.gz");
 		gameObjects = (GameObjectDef[]) getPersistenceManager().load("defs/GameObjectDef.xml.gz");
@@ -184,6 +228,53 @@ public final class EntityHandler {
 		certers = (HashMap<Integer, CerterDef>) getPersistenceManager().load("defs/extras/NpcCerters.xml.gz");
 	}
 
+	/**
+	 * The loaded tables, in the order setTables reads them.
+	 */
+	private Object[] getTables() {
+		return new Object[] {
+			npcs, items, doors, gameObjects, prayers, spells, tiles,
+			herbSeconds, dartTips, gems, logCut, bowString, arrowHeads, firemaking, itemAffectedTypes, itemUnIdentHerb,
+			itemHerb, itemEdibleHeals, itemCooking, itemPerfectCooking, itemSmelting, itemSmithing, itemCrafting,
+			objectMining, objectWoodcutting, objectRunecraft, objectFishing, objectHarvesting, objectTelePoints, certers
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private void setTables(final Object[] tables) {
+		int i = 0;
+		npcs = (ArrayList<NPCDef>) tables[i++];
+		items = (ArrayList<ItemDefinition>) tables[i++];
+		doors = (DoorDef[]) tables[i++];
+		gameObjects = (GameObjectDef[]) tables[i++];
+		prayers = (PrayerDef[]) tables[i++];
+		spells = (SpellDef[]) tables[i++];
+		tiles = (TileDef[]) tables[i++];
+		herbSeconds = (ItemHerbSecond[]) tables[i++];
+		dartTips = (HashMap<Integer, ItemDartTipDef>) tables[i++];
+		gems = (HashMap<Integer, ItemGemDef>) tables[i++];
+		logCut = (HashMap<Integer, ItemLogCutDef>) tables[i++];
+		bowString = (HashMap<Integer, ItemBowStringDef>) tables[i++];
+		arrowHeads = (HashMap<Integer, ItemArrowHeadDef>) tables[i++];
+		firemaking = (HashMap<Integer, FiremakingDef>) tables[i++];
+		itemAffectedTypes = (HashMap<Integer, int[]>) tables[i++];
+		itemUnIdentHerb = (HashMap<Integer, ItemUnIdentHerbDef>) tables[i++];
+		itemHerb = (HashMap<Integer, ItemHerbDef>) tables[i++];
+		itemEdibleHeals = (HashMap<Integer, Integer>) tables[i++];
+		itemCooking = (HashMap<Integer, ItemCookingDef>) tables[i++];
+		itemPerfectCooking = (HashMap<Integer, ItemPerfectCookingDef>) tables[i++];
+		itemSmelting = (HashMap<Integer, ItemSmeltingDef>) tables[i++];
+		itemSmithing = (ItemSmithingDef[]) tables[i++];
+		itemCrafting = (ItemCraftingDef[]) tables[i++];
+		objectMining = (HashMap<Integer, ObjectMiningDef>) tables[i++];
+		objectWoodcutting = (HashMap<Integer, ObjectWoodcuttingDef>) tables[i++];
+		objectRunecraft = (HashMap<Integer, ObjectRunecraftDef>) tables[i++];
+		objectFishing = (HashMap<Integer, ObjectFishingDef[]>) tables[i++];
+		objectHarvesting = (HashMap<Integer, ObjectHarvestingDef>) tables[i++];
+		objectTelePoints = (HashMap<Point, TelePoint>) tables[i++];
+		certers = (HashMap<Integer, CerterDef>) tables[i];
+	}
+
 	private void loadNpcs(String filename) {
 		try {
 			JSONObject object = new JSONObject(Files.readString(Paths.get(filename)));
@@ -228,6 +319,19 @@ public final class EntityHandler {
 		}
 	}
 
+	/**
+	 * Precomputes the npc special cases NpcBehavior checks every roam tick.
+	 */
+	private void behaviorNpcFlags() {
+		for (int id = 0; id < npcs.size(); id++) {
+			final NPCDef def = npcs.get(id);
+			def.setPlagueSheep(id == NpcId.FIRST_PLAGUE_SHEEP.id() || id == NpcId.SECOND_PLAGUE_SHEEP.id()
+				|| id == NpcId.THIRD_PLAGUE_SHEEP.id() || id == NpcId.FOURTH_PLAGUE_SHEEP.id());
+			def.setTackler(def.getName().equalsIgnoreCase("gnome baller")
+				&& id != NpcId.GNOME_BALLER_TEAMNORTH.id() && id != NpcId.GNOME_BALLER_TEAMSOUTH.id());
+		}
+	}
+
 	private void customNpcConditions() {
 		if (getServer().getConfig().RIGHT_CLICK_TRADE) {
 			for (int npcId : quickTradeNpcs) {
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class FiremakingDef {
+import java.io.Serializable;
+
+public class FiremakingDef implements Serializable {
 	/**
 	 * The exp given by these logs
 	 */
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemBowStringDef {
+public class ItemBowStringDef implements Serializable {
 
 	/**
 	 * The ID of the bow created
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class ItemCraftingDef {
+import java.io.Serializable;
+
+public class ItemCraftingDef implements Serializable {
 	/**
 	 * The exp given
 	 */
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class ItemDropDef {
+import java.io.Serializable;
+
+public class ItemDropDef implements Serializable {
 	public int amount;
 	public int id;
 	public int weight;
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemGemDef {
+public class ItemGemDef implements Serializable {
 
 	/**
 	 * The exp given by attaching this bow string
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemHerbDef {
+public class ItemHerbDef implements Serializable {
 
 	/**
 	 * The exp smelting this item gives
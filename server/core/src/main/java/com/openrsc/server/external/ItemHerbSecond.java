@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemHerbSecond {
+public class ItemHerbSecond implements Serializable {
 
 	/**
 	 * The exp given completing this potion
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemLogCutDef {
+public class ItemLogCutDef implements Serializable {
 
 	public int longbowExp;
 	public int longbowID;
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemPerfectCookingDef {
+public class ItemPerfectCookingDef implements Serializable {
 
 	public int exp;
 	/**
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for items
  */
-public class ItemSmeltingDef {
+public class ItemSmeltingDef implements Serializable {
 
 	/**
 	 * The id of the related bar
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class ItemSmithingDef {
+import java.io.Serializable;
+
+public class ItemSmithingDef implements Serializable {
 	/**
 	 * The amount of the item produced
 	 */
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for herbs
  */
-public class ItemUnIdentHerbDef {
+public class ItemUnIdentHerbDef implements Serializable {
 
 	/**
 	 * How much experience identifying gives
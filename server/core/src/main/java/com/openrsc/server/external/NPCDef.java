@@ -87,6 +87,12 @@ public class NPCDef extends EntityDef {
 	 */
 	public int roundMode;
 
+	/**
+	 * NpcBehavior special cases, set by EntityHandler after loading so the roam tick does not compare ids and names
+	 */
+	private transient boolean plagueSheep;
+	private transient boolean tackler;
+
 	public int getAtt() {
 		return attack;
 	}
@@ -185,4 +191,26 @@ public class NPCDef extends EntityDef {
 	}
 
 	public int roundMode() { return roundMode; }
+
+	/**
+	 * @return Whether the npc is one of the plague sheep, which never roam
+	 */
+	public boolean isPlagueSheep() {
+		return plagueSheep;
+	}
+
+	public void setPlagueSheep(boolean plagueSheep) {
+		this.plagueSheep = plagueSheep;
+	}
+
+	/**
+	 * @return Whether the npc is a gnome baller that tackles players carrying a gnome ball
+	 */
+	public boolean isTackler() {
+		return tackler;
+	}
+
+	public void setTackler(boolean tackler) {
+		this.tackler = tackler;
+	}
 }
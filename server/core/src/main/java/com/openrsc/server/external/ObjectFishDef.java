@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for fish
  */
-public class ObjectFishDef {
+public class ObjectFishDef implements Serializable {
 
 	/**
 	 * How much experience this fish should give
@@ -2,10 +2,12 @@ package com.openrsc.server.external;
 
 import com.openrsc.server.model.world.World;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for fishing spots
  */
-public class ObjectFishingDef {
+public class ObjectFishingDef implements Serializable {
 
 	/**
 	 * The If of any bait required to go with the net
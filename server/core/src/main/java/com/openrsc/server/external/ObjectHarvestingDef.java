@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for harvesting objects
  */
-public final class ObjectHarvestingDef {
+public final class ObjectHarvestingDef implements Serializable {
 
 	/**
 	 * How much experience identifying gives
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for rocks
  */
-public class ObjectMiningDef {
+public class ObjectMiningDef implements Serializable {
 
 	/**
 	 * How much experience identifying gives
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public final class ObjectRunecraftDef {
+import java.io.Serializable;
+
+public final class ObjectRunecraftDef implements Serializable {
 
 	//Level required to use this altar
 	public int requiredLvl;
@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for trees
  */
-public final class ObjectWoodcuttingDef {
+public final class ObjectWoodcuttingDef implements Serializable {
 
 	/**
 	 * How much experience identifying gives
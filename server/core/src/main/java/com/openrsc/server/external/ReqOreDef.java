@@ -1,9 +1,11 @@
 package com.openrsc.server.external;
 
+import java.io.Serializable;
+
 /**
  * The definition wrapper for ores
  */
-public class ReqOreDef {
+public class ReqOreDef implements Serializable {
 
 	/**
 	 * The amount of the ore required
@@ -1,6 +1,8 @@
 package com.openrsc.server.external;
 
-public class TileDef {
+import java.io.Serializable;
+
+public class TileDef implements Serializable {
 	public int colour;
 	public int objectType;
 	public int unknown;
@@ -0,0 +1,146 @@
+package com.openrsc.server.io;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * Every definition table EntityHandler loads, written to one file after parsing the JSON and XML sources.
+ * The file is keyed by checksums of the sources, so it is rebuilt whenever one of them changes.
+ * A definition class that changed shape since the file was written fails to read and the sources are parsed again.
+ */
+public final class DefinitionBundle {
+	/**
+	 * The asynchronous logger.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final int MAGIC = 0x44454631; // DEF1
+	/**
+	 * Bump this when the order or types of the tables EntityHandler bundles change.
+	 */
+	private static final int VERSION = 1;
+
+	private final File bundleFile;
+	private final long[] sourceChecksums;
+
+	/**
+	 * @param sources The files the tables are parsed from, relative to the config directory.
+	 */
+	public DefinitionBundle(final String configDirectory, final String[] sources) throws IOException {
+		this.bundleFile = new File(configDirectory, "defs" + File.separator + "Definitions.bundle");
+		this.sourceChecksums = new long[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			sourceChecksums[i] = checksum(new File(configDirectory, sources[i]));
+		}
+	}
+
+	/**
+	 * @return The tables in the order they were saved, or null if there is no bundle for these sources.
+	 */
+	public Object[] load() {
+		if (!bundleFile.exists()) {
+			return null;
+		}
+		try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(bundleFile.toPath()), 64 * 1024))) {
+			if (in.readInt() != MAGIC
+				|| in.readInt() != VERSION
+				|| in.readInt() != sourceChecksums.length) {
+				LOGGER.info("Definition bundle " + bundleFile.getName() + " is out of date, parsing the definition sources");
+				return null;
+			}
+			for (final long sourceChecksum : sourceChecksums) {
+				if (in.readLong() != sourceChecksum) {
+					LOGGER.info("Definition bundle " + bundleFile.getName() + " is out of date, parsing the definition sources");
+					return null;
+				}
+			}
+			try (final ObjectInputStream tables = new DefinitionInputStream(in)) {
+				return (Object[]) tables.readObject();
+			}
+		} catch (final InvalidClassException e) {
+			LOGGER.info("Definition bundle " + bundleFile.getName() + " was written by another version of the definitions, parsing the definition sources");
+			return null;
+		} catch (final Exception e) {
+			LOGGER.catching(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the tables, which must be loaded from the sources this bundle was created with.
+	 */
+	public void save(final Object[] tables) {
+		final Path temporary = new File(bundleFile.getPath() + ".tmp").toPath();
+		try {
+			try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(sourceChecksums.length);
+				for (final long sourceChecksum : sourceChecksums) {
+					out.writeLong(sourceChecksum);
+				}
+				final ObjectOutputStream objects = new ObjectOutputStream(out);
+				objects.writeObject(tables);
+				objects.flush();
+			}
+			Files.move(temporary, bundleFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (final IOException e) {
+			LOGGER.catching(e);
+		}
+	}
+
+	/**
+	 * @return The CRC32 of the file, or -1 if it does not exist.
+	 */
+	private static long checksum(final File file) throws IOException {
+		if (!file.exists()) {
+			return -1;
+		}
+		final CRC32 crc = new CRC32();
+		final byte[] chunk = new byte[64 * 1024];
+		try (final InputStream in = Files.newInputStream(file.toPath())) {
+			int read;
+			while ((read = in.read(chunk)) != -1) {
+				crc.update(chunk, 0, read);
+			}
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Only reads the server's own classes and the java.lang and java.util types the definitions use.
+	 */
+	private static final class DefinitionInputStream extends ObjectInputStream {
+		private DefinitionInputStream(final InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(final ObjectStreamClass description) throws IOException, ClassNotFoundException {
+			final String name = description.getName().replaceFirst("^\\[+L?", "");
+			if (name.length() > 1
+				&& !name.startsWith("com.openrsc.server.")
+				&& !name.startsWith("java.lang.")
+				&& !name.startsWith("java.util.")) {
+				throw new InvalidClassException(description.getName(), "Not a definition type");
+			}
+			return super.resolveClass(description);
+		}
+	}
+}
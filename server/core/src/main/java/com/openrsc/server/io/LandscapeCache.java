@@ -0,0 +1,174 @@
+package com.openrsc.server.io;
+
+import com.openrsc.server.external.DoorDef;
+import com.openrsc.server.external.EntityHandler;
+import com.openrsc.server.external.TileDef;
+import com.openrsc.server.model.world.region.Region;
+import com.openrsc.server.model.world.region.RegionManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The packed tile values of every region, as decoded from a landscape archive, stored in a file next to it.
+ * The file is keyed by checksums of the landscape archive and of the tile and door definitions the decoding depends on,
+ * so it is rebuilt whenever either changes.
+ */
+public final class LandscapeCache {
+	/**
+	 * The asynchronous logger.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final int MAGIC = 0x4C534331; // LSC1
+	/**
+	 * Bump this when the tile layout or the decoding in WorldLoader changes.
+	 */
+	private static final int VERSION = 1;
+
+	private final File cacheFile;
+	private final long landscapeChecksum;
+	private final long definitionsChecksum;
+
+	public LandscapeCache(final File landscapeFile, final EntityHandler entityHandler) throws IOException {
+		this.cacheFile = new File(landscapeFile.getPath() + ".cache");
+		this.landscapeChecksum = checksum(landscapeFile);
+		this.definitionsChecksum = checksum(entityHandler);
+	}
+
+	/**
+	 * Fills the regions from the cache file.
+	 *
+	 * @return false if there is no cache file for this landscape and these definitions, in which case no region was changed.
+	 */
+	public boolean load(final RegionManager regionManager) {
+		if (!cacheFile.exists()) {
+			return false;
+		}
+		try (final FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC
+				|| buffer.getInt() != VERSION
+				|| buffer.getLong() != landscapeChecksum
+				|| buffer.getLong() != definitionsChecksum
+				|| buffer.getInt() != regionManager.getRegionCount()) {
+				LOGGER.info("Landscape cache " + cacheFile.getName() + " is out of date, decoding the landscape");
+				return false;
+			}
+
+			// Read everything before touching a region, so a truncated file leaves the world untouched.
+			final int regionCount = buffer.getInt();
+			final int[] indexes = new int[regionCount];
+			final long[] uniformTiles = new long[regionCount];
+			final long[][] packedTiles = new long[regionCount][];
+			for (int i = 0; i < regionCount; i++) {
+				indexes[i] = buffer.getInt();
+				if (buffer.get() != 0) {
+					uniformTiles[i] = buffer.getLong();
+				} else {
+					packedTiles[i] = new long[Region.TILE_COUNT];
+					buffer.asLongBuffer().get(packedTiles[i]);
+					buffer.position(buffer.position() + Region.TILE_COUNT * Long.BYTES);
+				}
+			}
+
+			for (int i = 0; i < regionCount; i++) {
+				regionManager.getRegionByIndex(indexes[i], true).loadPackedTiles(packedTiles[i], uniformTiles[i]);
+			}
+			return true;
+		} catch (final Exception e) {
+			LOGGER.catching(e);
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the tile values of every region that has been looked up.
+	 */
+	public void save(final RegionManager regionManager) {
+		int regionCount = 0;
+		for (int index = 0; index < regionManager.getRegionCount(); index++) {
+			if (regionManager.getRegionByIndex(index, false) != null) {
+				regionCount++;
+			}
+		}
+
+		final Path temporary = new File(cacheFile.getPath() + ".tmp").toPath();
+		try {
+			try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(landscapeChecksum);
+				out.writeLong(definitionsChecksum);
+				out.writeInt(regionManager.getRegionCount());
+				out.writeInt(regionCount);
+				for (int index = 0; index < regionManager.getRegionCount(); index++) {
+					final Region region = regionManager.getRegionByIndex(index, false);
+					if (region == null) {
+						continue;
+					}
+					out.writeInt(index);
+					final long[] packed = region.getPackedTiles();
+					if (packed == null) {
+						out.writeByte(1);
+						out.writeLong(region.getUniformTile());
+					} else {
+						out.writeByte(0);
+						for (final long value : packed) {
+							out.writeLong(value);
+						}
+					}
+				}
+			}
+			Files.move(temporary, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (final IOException e) {
+			LOGGER.catching(e);
+		}
+	}
+
+	private static long checksum(final File file) throws IOException {
+		final CRC32 crc = new CRC32();
+		final byte[] chunk = new byte[64 * 1024];
+		try (final InputStream in = Files.newInputStream(file.toPath())) {
+			int read;
+			while ((read = in.read(chunk)) != -1) {
+				crc.update(chunk, 0, read);
+			}
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Checksum of the definition values WorldLoader reads while decoding the landscape.
+	 */
+	private static long checksum(final EntityHandler entityHandler) {
+		final CRC32 crc = new CRC32();
+		final ByteBuffer value = ByteBuffer.allocate(Integer.BYTES * 2);
+		TileDef tileDef;
+		for (int id = 0; (tileDef = entityHandler.getTileDef(id)) != null; id++) {
+			value.clear();
+			value.putInt(tileDef.getObjectType());
+			crc.update(value.array(), 0, Integer.BYTES);
+		}
+		DoorDef doorDef;
+		for (int id = 0; (doorDef = entityHandler.getDoorDef(id)) != null; id++) {
+			value.clear();
+			value.putInt(doorDef.getUnknown()).putInt(doorDef.getDoorType());
+			crc.update(value.array(), 0, Integer.BYTES * 2);
+		}
+		return crc.getValue();
+	}
+}
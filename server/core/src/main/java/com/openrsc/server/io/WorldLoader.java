@@ -67,11 +67,11 @@ public class WorldLoader {
 				Tile sectorTile = s.getTile(x, y);
 				TileValue tile = getWorld().getTile(bx, by);
 
-				tile.overlay = sectorTile.groundOverlay;
-				tile.diagWallVal = sectorTile.diagonalWalls;
-				tile.horizontalWallVal = sectorTile.horizontalWall;
-				tile.verticalWallVal = sectorTile.verticalWall;
-				tile.elevation = sectorTile.groundElevation;
+				tile.setOverlay(sectorTile.groundOverlay);
+				tile.setDiagWallVal(sectorTile.diagonalWalls);
+				tile.setHorizontalWallVal(sectorTile.horizontalWall);
+				tile.setVerticalWallVal(sectorTile.verticalWall);
+				tile.setElevation(sectorTile.groundElevation);
 
 				if ((sectorTile.groundOverlay & 0xff) == 250) {
 					sectorTile.groundOverlay = (byte) 2;
@@ -81,7 +81,7 @@ public class WorldLoader {
 				if (groundOverlay > 0
 					&& getWorld().getServer().getEntityHandler().getTileDef(groundOverlay - 1)
 					.getObjectType() != 0) {
-					tile.traversalMask |= 0x40; // 64
+					tile.orTraversalMask(0x40); // 64
 				}
 
 				final int verticalWall = sectorTile.verticalWall & 0xFF;
@@ -90,12 +90,12 @@ public class WorldLoader {
 					.getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(verticalWall - 1)
 					.getDoorType() != 0) {
-					getWorld().getTile(bx, by).traversalMask |= 1; // 1
-					getWorld().getTile(bx, by - 1).traversalMask |= 4; // 4
+					getWorld().getTile(bx, by).orTraversalMask(1); // 1
+					getWorld().getTile(bx, by - 1).orTraversalMask(4); // 4
 
 					if (projectileClipAllowed(verticalWall)) {
-						tile.projectileAllowed = true;
-						getWorld().getTile(bx, by - 1).projectileAllowed = true;
+						tile.setProjectileAllowed(true);
+						getWorld().getTile(bx, by - 1).setProjectileAllowed(true);
 					}
 				}
 
@@ -105,11 +105,11 @@ public class WorldLoader {
 					.getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(horizontalWall - 1)
 					.getDoorType() != 0) {
-					tile.traversalMask |= 2; // 2
-					getWorld().getTile(bx - 1, by).traversalMask |= 8; // 8
+					tile.orTraversalMask(2); // 2
+					getWorld().getTile(bx - 1, by).orTraversalMask(8); // 8
 					if (projectileClipAllowed(horizontalWall)) {
-						tile.projectileAllowed = true;
-						getWorld().getTile(bx - 1, by).projectileAllowed = true;
+						tile.setProjectileAllowed(true);
+						getWorld().getTile(bx - 1, by).setProjectileAllowed(true);
 					}
 				}
 
@@ -120,9 +120,9 @@ public class WorldLoader {
 					.getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(diagonalWalls - 1)
 					.getDoorType() != 0) {
-					tile.traversalMask |= 0x20; // 32
+					tile.orTraversalMask(0x20); // 32
 					if (projectileClipAllowed(diagonalWalls)) {
-						tile.projectileAllowed = true;
+						tile.setProjectileAllowed(true);
 					}
 				}
 				if (diagonalWalls > 12000
@@ -131,15 +131,15 @@ public class WorldLoader {
 					.getUnknown() == 0
 					&& getWorld().getServer().getEntityHandler().getDoorDef(diagonalWalls - 12001)
 					.getDoorType() != 0) {
-					tile.traversalMask |= 0x10; // 16
+					tile.orTraversalMask(0x10); // 16
 
 					if (projectileClipAllowed(diagonalWalls)) {
-						tile.projectileAllowed = true;
+						tile.setProjectileAllowed(true);
 					}
 				}
 
-				if (tile.overlay == 2 || tile.overlay == 11) {
-					tile.projectileAllowed = true;
+				if (tile.getOverlay() == 2 || tile.getOverlay() == 11) {
+					tile.setProjectileAllowed(true);
 				}
 			}
 		}
@@ -149,15 +149,33 @@ public class WorldLoader {
 
 	public void loadWorld() {
 		final long start = System.currentTimeMillis();
-		try {
-			if (getWorld().getServer().getConfig().MEMBER_WORLD) {
-				if (getWorld().getServer().getConfig().WANT_CUSTOM_LANDSCAPE)
-					tileArchive = new ZipFile(new File("./conf/server/data/Custom_P2PLandscape.orsc")); // Members landscape
-				else
-					tileArchive = new ZipFile(new File("./conf/server/data/Authentic_P2PLandscape.orsc")); // Members landscape
-			} else {
-				tileArchive = new ZipFile(new File("./conf/server/data/F2PLandscape.orsc")); // Free landscape
+		final File landscapeFile;
+		if (getWorld().getServer().getConfig().MEMBER_WORLD) {
+			if (getWorld().getServer().getConfig().WANT_CUSTOM_LANDSCAPE)
+				landscapeFile = new File("./conf/server/data/Custom_P2PLandscape.orsc"); // Members landscape
+			else
+				landscapeFile = new File("./conf/server/data/Authentic_P2PLandscape.orsc"); // Members landscape
+		} else {
+			landscapeFile = new File("./conf/server/data/F2PLandscape.orsc"); // Free landscape
+		}
+
+		final RegionManager regionManager = getWorld().getRegionManager();
+		LandscapeCache cache = null;
+		if (getWorld().getServer().getConfig().WANT_LANDSCAPE_CACHE) {
+			try {
+				cache = new LandscapeCache(landscapeFile, getWorld().getServer().getEntityHandler());
+				if (cache.load(regionManager)) {
+					LOGGER.info((System.currentTimeMillis() - start) + "ms to load landscape from " + landscapeFile.getName() + " cache.");
+					return;
+				}
+			} catch (final Exception e) {
+				LOGGER.catching(e);
+				cache = null;
 			}
+		}
+
+		try {
+			tileArchive = new ZipFile(landscapeFile);
 		} catch (final Exception e) {
 			LOGGER.catching(e);
 		}
@@ -181,9 +199,8 @@ public class WorldLoader {
 		// The authentic map file may have a way to flag null regions and only use one tile value across the entire thing
 		// Unfortunately, the map files we are using currently do not support that feature so we need to detect
 		// Unfortunately, we also have to allocate all the tiles and then clear them because the process of loading a sector can effect other sectors.
-		// Downside is that Scenery/Boundary spawn can change tile values, and if one is spawned in a "null region," then we will not be able to change the tile value from the Scenery/Boundary spawn.
+		// A Scenery/Boundary spawn that changes a tile of a "null region" gives that region its own tiles again.
 
-		final RegionManager regionManager = getWorld().getRegionManager();
 		for (int lvl = 0; lvl < 4; lvl++) {
 			for (int sx = 0; sx < 20; sx++) {
 				for (int sy = 0; sy < 20; sy++) {
@@ -193,6 +210,11 @@ public class WorldLoader {
 			}
 		}
 
+		// Only the landscape is cached, Scenery/Boundary spawns are applied on top of it by the WorldPopulator.
+		if (cache != null) {
+			cache.save(regionManager);
+		}
+
 		LOGGER.info((System.currentTimeMillis() - start) + "ms to load landscape with " + sectors + " regions.");
 	}
 
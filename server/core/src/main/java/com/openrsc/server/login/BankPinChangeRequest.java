@@ -37,6 +37,11 @@ public class BankPinChangeRequest extends LoginExecutorProcess {
 		return player;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return getPlayer().getUsernameHash();
+	}
+
 	public final String getOldBankPin() { return oldBankPin; }
 
 	public final String getNewBankPin() { return newBankPin; }
@@ -34,6 +34,11 @@ public class BankPinVerifyRequest extends LoginExecutorProcess {
 		return player;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return getPlayer().getUsernameHash();
+	}
+
 	public final String getBankPin() { return bankPin; }
 
 	public final Server getServer() {
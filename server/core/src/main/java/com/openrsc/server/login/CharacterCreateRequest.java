@@ -45,6 +45,11 @@ public class CharacterCreateRequest extends LoginExecutorProcess{
 		return username;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return DataConversions.usernameToHash(getUsername());
+	}
+
 	private void setUsername(final String username) {
 		this.username = username;
 	}
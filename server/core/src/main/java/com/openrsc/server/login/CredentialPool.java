@@ -0,0 +1,61 @@
+package com.openrsc.server.login;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.openrsc.server.util.rsc.DataConversions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads that hash and check passwords, so the BCrypt work of one login does not hold up the login threads.
+ * When the queue is full, or the pool has been stopped, the calling login thread checks the password itself.
+ */
+public class CredentialPool {
+	/**
+	 * The asynchronous logger.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private final ThreadPoolExecutor executor;
+
+	public CredentialPool(final String serverName, final int threads, final int queueSize) {
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+			new ThreadFactoryBuilder().setNameFormat(serverName + " : CredentialThread %d").build(),
+			// Unlike CallerRunsPolicy this also runs checks submitted once the pool is shut down, so their futures always complete
+			(check, pool) -> check.run());
+	}
+
+	/**
+	 * @return Completes with whether the password matches the stored hash.
+	 */
+	public CompletableFuture<Boolean> checkPassword(final String passwordPlainText, final String salt, final String passwordHashed) {
+		return CompletableFuture.supplyAsync(() -> DataConversions.checkPassword(passwordPlainText, salt, passwordHashed), executor);
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getThreadCount() {
+		return executor.getMaximumPoolSize();
+	}
+
+	/**
+	 * Finishes the queued checks, so their logins can still complete on the login threads.
+	 */
+	public void stop() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.error("CredentialPool thread termination failed");
+			}
+		} catch (final InterruptedException e) {
+			LOGGER.catching(e);
+		}
+	}
+}
@@ -1,14 +1,40 @@
 package com.openrsc.server.login;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 public abstract class LoginExecutorProcess {
-	private boolean processed = false;
+	private volatile boolean processed = false;
+	private long queuedTime = 0;
 
-	public final void process() {
-		processInternal();
-		processed = true;
+	/**
+	 * @param loginThread Runs work on the login thread that is processing this request.
+	 * @return Completes once the request is fully processed.
+	 */
+	public final CompletionStage<Void> process(final Executor loginThread) {
+		return processStaged(loginThread).thenRun(() -> processed = true);
 	}
 
 	public final boolean isProcessed() { return processed; }
 
+	public final long getQueuedTime() { return queuedTime; }
+
+	public final void setQueuedTime(final long queuedTime) { this.queuedTime = queuedTime; }
+
+	/**
+	 * The account this request is for. Requests for the same account are processed in the order they were added.
+	 */
+	public abstract long getUsernameHash();
+
 	abstract protected void processInternal();
+
+	/**
+	 * Requests that wait on other threads part way through override this, and continue on loginThread.
+	 * Later requests for the same account wait until the returned stage completes.
+	 */
+	protected CompletionStage<Void> processStaged(final Executor loginThread) {
+		processInternal();
+		return CompletableFuture.completedFuture(null);
+	}
 }
@@ -1,5 +1,6 @@
 package com.openrsc.server.login;
 
+import com.openrsc.server.LoginExecutor;
 import com.openrsc.server.Server;
 import com.openrsc.server.database.GameDatabaseException;
 import com.openrsc.server.database.struct.PlayerLoginData;
@@ -13,6 +14,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public abstract class LoginRequest extends LoginExecutorProcess{
 	/**
@@ -29,6 +33,17 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 	private long usernameHash;
 	private int clientVersion;
 
+	/**
+	 * validateAccount's result when only the password is left to check. Outside the range of every LoginResponse code.
+	 */
+	private static final int PASSWORD_REQUIRED = Integer.MIN_VALUE;
+
+	/**
+	 * The account found by validateAccount, for the password check.
+	 */
+	private PlayerLoginData loginData;
+	private int loginGroupId;
+	private boolean loginAsAdmin;
 
 	protected LoginRequest(final Server server, final Channel channel, final String username, final String password, final int clientVersion) {
 		this.server = server;
@@ -93,18 +108,49 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 	public abstract void loadingComplete(Player loadedPlayer);
 
 	protected void processInternal() {
-		final int loginResponse = validateLogin();
+		completeLogin(validateLogin());
+	}
+
+	/**
+	 * Looks the account up on the login thread, checks the password on the credential pool and then finishes back on the login thread.
+	 */
+	@Override
+	protected CompletionStage<Void> processStaged(final Executor loginThread) {
+		final CredentialPool credentialPool = getServer().getLoginExecutor().getCredentialPool();
+		if (credentialPool == null) {
+			return super.processStaged(loginThread);
+		}
+
+		final int accountResponse = validateAccount();
+		if (accountResponse != PASSWORD_REQUIRED) {
+			completeLogin((byte) accountResponse);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		final long checkStart = System.currentTimeMillis();
+		return credentialPool.checkPassword(getPassword(), loginData.salt, loginData.password)
+			.thenAcceptAsync(passwordMatches -> {
+				getServer().getLoginExecutor().recordStageLatency(LoginExecutor.Stage.PASSWORD_CHECK, System.currentTimeMillis() - checkStart);
+				completeLogin(validatePassword(passwordMatches));
+			}, loginThread);
+	}
+
+	private void completeLogin(final byte loginResponse) {
 		loginValidated(loginResponse);
 		if ((loginResponse & 0x40) != LoginResponse.LOGIN_UNSUCCESSFUL) {
+			final long loadStart = System.currentTimeMillis();
 			final Player loadedPlayer = getServer().getDatabase().loadPlayer(this);
 			loadedPlayer.setLoggedIn(true);
+			getServer().getLoginExecutor().recordStageLatency(LoginExecutor.Stage.PLAYER_LOAD, System.currentTimeMillis() - loadStart);
 
 			LOGGER.info("Player Loaded: " + getUsername());
 
+			final long registrationStart = System.currentTimeMillis();
 			getServer().getGameEventHandler().add(new ImmediateEvent(getServer().getWorld(), "Login Player") {
 				@Override
 				public void action() {
 					loadingComplete(loadedPlayer);
+					getServer().getLoginExecutor().recordStageLatency(LoginExecutor.Stage.WORLD_REGISTRATION, System.currentTimeMillis() - registrationStart);
 				}
 			});
 
@@ -113,6 +159,24 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 	}
 
 	public byte validateLogin() {
+		final int accountResponse = validateAccount();
+		if (accountResponse != PASSWORD_REQUIRED) {
+			return (byte) accountResponse;
+		}
+
+		final long checkStart = System.currentTimeMillis();
+		final boolean passwordMatches = DataConversions.checkPassword(getPassword(), loginData.salt, loginData.password);
+		getServer().getLoginExecutor().recordStageLatency(LoginExecutor.Stage.PASSWORD_CHECK, System.currentTimeMillis() - checkStart);
+		return validatePassword(passwordMatches);
+	}
+
+	/**
+	 * Runs every check that does not need the password.
+	 *
+	 * @return The login response, or PASSWORD_REQUIRED if the password decides it.
+	 */
+	private int validateAccount() {
+		final long lookupStart = System.currentTimeMillis();
 		PlayerLoginData playerData;
 		int groupId = Group.USER;
 		try {
@@ -121,6 +185,7 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 			}
 
 			playerData = getServer().getDatabase().getPlayerLoginData(username);
+			getServer().getLoginExecutor().recordStageLatency(LoginExecutor.Stage.DB_LOOKUP, System.currentTimeMillis() - lookupStart);
 
 			boolean isAdmin = getServer().getPacketFilter().isHostAdmin(getIpAddress());
 			if (playerData != null) {
@@ -172,21 +237,26 @@ public abstract class LoginRequest extends LoginExecutorProcess{
 				return (byte) LoginResponse.ACCOUNT_TEMP_DISABLED;
 			}
 
-			if (!DataConversions.checkPassword(getPassword(), playerData.salt, playerData.password)) {
-				server.getPacketFilter().addPasswordAttempt(getIpAddress());
-				return (byte) LoginResponse.INVALID_CREDENTIALS;
-			}
-
-			// Doing this at end because we only want to flag the host as an admin _IF_ they know the password.
-			if(isAdmin) {
-				getServer().getPacketFilter().addAdminHost(getIpAddress());
-			}
-
-
+			this.loginData = playerData;
+			this.loginGroupId = groupId;
+			this.loginAsAdmin = isAdmin;
 		} catch (GameDatabaseException e) {
 			LOGGER.catching(e);
 			return (byte) LoginResponse.LOGIN_UNSUCCESSFUL;
 		}
-		return (byte) LoginResponse.LOGIN_SUCCESSFUL[groupId];
+		return PASSWORD_REQUIRED;
+	}
+
+	private byte validatePassword(final boolean passwordMatches) {
+		if (!passwordMatches) {
+			server.getPacketFilter().addPasswordAttempt(getIpAddress());
+			return (byte) LoginResponse.INVALID_CREDENTIALS;
+		}
+
+		// Doing this at end because we only want to flag the host as an admin _IF_ they know the password.
+		if(loginAsAdmin) {
+			getServer().getPacketFilter().addAdminHost(getIpAddress());
+		}
+		return (byte) LoginResponse.LOGIN_SUCCESSFUL[loginGroupId];
 	}
 }
@@ -38,6 +38,11 @@ public class PasswordChangeRequest extends LoginExecutorProcess {
 		return player;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return getPlayer().getUsernameHash();
+	}
+
 	private void setPlayer(Player player) {
 		this.player = player;
 	}
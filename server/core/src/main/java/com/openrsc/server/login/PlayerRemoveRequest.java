@@ -26,6 +26,11 @@ public class PlayerRemoveRequest extends LoginExecutorProcess {
 		return player;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return getPlayer().getUsernameHash();
+	}
+
 	public final Server getServer() {
 		return server;
 	}
@@ -34,7 +39,7 @@ public class PlayerRemoveRequest extends LoginExecutorProcess {
 		getServer().getPacketFilter().removeLoggedInPlayer(getPlayer().getCurrentIP());
 
 		getPlayer().remove();
-		getServer().getWorld().getPlayers().remove(getPlayer());
+		getServer().getWorld().removePlayer(getPlayer());
 		LOGGER.info("Removed player " + getPlayer().getUsername());
 	}
 }
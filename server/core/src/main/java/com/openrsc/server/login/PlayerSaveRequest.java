@@ -29,6 +29,11 @@ public class PlayerSaveRequest extends LoginExecutorProcess {
 		return player;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return getPlayer().getUsernameHash();
+	}
+
 	public final Server getServer() {
 		return server;
 	}
@@ -36,7 +41,9 @@ public class PlayerSaveRequest extends LoginExecutorProcess {
 	protected void processInternal() {
 		//LOGGER.info("Saved player " + playerToSave.getUsername() + "");
 		try {
-			boolean success = getServer().getDatabase().savePlayer(getPlayer());
+			// Logging out always writes everything, auto saves only write what changed.
+			final boolean full = this.logout || !getServer().getConfig().WANT_INCREMENTAL_SAVES;
+			boolean success = getServer().getDatabase().savePlayer(getPlayer(), full);
 			if (success && this.logout) getPlayer().logoutSaveSuccess();
 		} catch (final GameDatabaseException ex) {
 			LOGGER.catching(ex);
@@ -53,6 +53,11 @@ public class RecoveryAttemptRequest extends LoginExecutorProcess{
 		return username;
 	}
 
+	@Override
+	public long getUsernameHash() {
+		return DataConversions.usernameToHash(getUsername());
+	}
+
 	private void setUsername(final String username) {
 		this.username = username;
 	}
@@ -1,419 +1,398 @@
 package com.openrsc.server.model;
 
 import com.openrsc.server.model.world.World;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.util.rsc.CollisionFlag;
 
-import javax.swing.*;
-import java.awt.*;
-import java.util.ArrayList;
+import java.util.Arrays;
 
+/**
+ * A* search over a (2 * depth + 1) square board centred on the start.
+ * Board x runs opposite to world x, so board west is world east.
+ *
+ * The board lives in per-thread scratch arrays that are reused between searches, stamped with a search generation
+ * instead of being cleared. Tiles are only read from the region manager when the search first reaches them.
+ */
 public class AStarPathfinder {
 
-	boolean debug = false;
-	//JPanel2 panel = new JPanel2();
-	//JFrame frame = new JFrame();
-	//javax.swing.GroupLayout layout = new javax.swing.GroupLayout(panel);
 	final static int basicCost = 10;
 	final static int diagCost = 14;
-	private int depth;
-	private Node[][] costBoard = null;
-	private Path bestPath = null;
-	private Point worldStart;
-	private Point pointStart;
-	private Point pointEnd;
-	private Point currentPosition;
+
+	/**
+	 * Walls around a board node.
+	 */
+	private static final byte SOUTH = 1;
+	private static final byte WEST = 2;
+	private static final byte NORTH = 4;
+	private static final byte EAST = 8;
+
+	private static final byte INIT = 0;
+	private static final byte OPEN = 1;
+	private static final byte CLOSED = 2;
+
+	private static final int FULL_BLOCK = CollisionFlag.FULL_BLOCK_A | CollisionFlag.FULL_BLOCK_B | CollisionFlag.FULL_BLOCK_C;
+
+	private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+	private final World world;
+	private final int depth;
+	private final int width;
+	private final Point worldStart;
+	private final Point worldEnd;
+	private final int endX;
+	private final int endY;
 	long starttime;
 	long endtime;
 	private Path path;
-	private ArrayList<Node> openNodes = new ArrayList<>();
-	private ArrayList<Node> closedNodes = new ArrayList<>();
+
+	private Scratch board;
 
 	public AStarPathfinder(World world, Point start, Point end, int depth) {
+		this.world = world;
 		this.worldStart = start;
-		this.pointStart = new Point(depth,depth);
-		this.pointEnd = new Point((start.getX()+depth)-end.getX(), end.getY() - (start.getY() - depth));
+		this.worldEnd = end;
+		this.endX = (start.getX() + depth) - end.getX();
+		this.endY = end.getY() - (start.getY() - depth);
 		this.depth = depth;
-		this.generateTraversalInfo(world, start, depth);
-		/*
-		if (debug) {
-			panel.setLayout(layout);
-			frame.add(panel);
-			frame.setSize(600, 600);
-			frame.setVisible(true);
-		}
-		 */
+		this.width = 2 * depth + 1;
 	}
 
 	public void feedPath(Path path) {
 		this.path = path;
 	}
-	public void generateTraversalInfo(World world, Point center, int depth) {
+
+	public Path findPath() {
 		if (depth < 1)
-			return;
+			return null;
 
-		costBoard = new Node[2*depth + 1][2*depth + 1];
-		initBoard(costBoard);
-		int curposx, curposy;
-		for (int x = -depth; x <= depth; x++) {
-			for (int y = -depth; y <= depth; y++) {
-				TileValue tile = world.getTile(center.getX() - x, center.getY() + y);
-				if (tile == null) {
-					continue;
-				}
-				curposx = x + depth;
-				curposy = y + depth;
-
-				if ((tile.traversalMask & (CollisionFlag.FULL_BLOCK_A | CollisionFlag.FULL_BLOCK_B | CollisionFlag.FULL_BLOCK_C)) != 0) {
-					if (y < depth) {
-						costBoard[curposx][curposy+1].northBlocked = true;
-					}
-					if (x > -depth) {
-						costBoard[curposx-1][curposy].eastBlocked = true;
-					}
-					if (y > -depth) {
-						costBoard[curposx][curposy-1].southBlocked = true;
-					}
-					if (x < depth) {
-						costBoard[curposx+1][curposy].westBlocked = true;
-					}
-				} else {
-					if (!costBoard[curposx][curposy].southBlocked)
-						costBoard[curposx][curposy].southBlocked = (tile.traversalMask & CollisionFlag.SOUTH_BLOCKED) != 0;
-					if (!costBoard[curposx][curposy].westBlocked)
-						costBoard[curposx][curposy].westBlocked = (tile.traversalMask & CollisionFlag.WEST_BLOCKED) != 0;
-					if (!costBoard[curposx][curposy].northBlocked)
-						costBoard[curposx][curposy].northBlocked = (tile.traversalMask & CollisionFlag.NORTH_BLOCKED) != 0;
-					if (!costBoard[curposx][curposy].eastBlocked)
-						costBoard[curposx][curposy].eastBlocked = (tile.traversalMask & CollisionFlag.EAST_BLOCKED) != 0;
+		if (depth == endX && depth == endY)
+			return null;
+
+		starttime = System.currentTimeMillis();
+		final PathCache cache = world.getPathCache();
+		final boolean cacheable = cache != null && depth < 4096
+			&& world.withinWorld(worldStart.getX(), worldStart.getY()) && world.withinWorld(worldEnd.getX(), worldEnd.getY());
+		final long key = cacheable ? PathCache.key(worldStart, worldEnd, depth) : 0;
+		final long collisionVersion = world.getRegionManager().getCollisionVersion();
+		if (cacheable) {
+			final PathCache.Entry entry = cache.get(key, collisionVersion);
+			if (entry != null) {
+				endtime = System.currentTimeMillis();
+				if (entry.waypoints == null)
+					return null;
+				for (final int waypoint : entry.waypoints) {
+					path.addDirect(waypoint >>> 16, waypoint & 0xFFFF);
 				}
+				return path;
 			}
 		}
-	}
-
-	private int calcDistance(Point one, Point two) {
-		int xdiff = Math.abs(one.getX() - two.getX());
-		int ydiff = Math.abs(one.getY() - two.getY());
-
-		int shortL = xdiff > ydiff ? ydiff : xdiff;
-		int longL = xdiff > ydiff ? xdiff : ydiff;
-
-		return shortL * diagCost + (longL - shortL) * basicCost;
-	}
 
-	public Node findNextNode() {
-		int minimum = Integer.MAX_VALUE;
-		Node minNode = null;
-		for (Node node : openNodes) {
-			if (node.hCost < minimum) {
-				minimum = node.hCost;
-				minNode = node;
-			} else if (node.hCost == minimum && node.fCost < minNode.fCost)
-				minNode = node;
+		final int[] waypoints = search();
+		endtime = System.currentTimeMillis();
+		if (cacheable) {
+			cache.put(key, collisionVersion, waypoints);
+		}
+		if (waypoints == null)
+			return null;
 
+		for (final int waypoint : waypoints) {
+			path.addDirect(waypoint >>> 16, waypoint & 0xFFFF);
 		}
-		return minNode;
+		return path;
 	}
 
-	private Path buildPath() {
-		Point parent = closedNodes.get(closedNodes.size()-1).parent;
-		Node endNode = costBoard[parent.getX()][parent.getY()];
-		while (endNode != null) {
-			int worldX = worldStart.getX() + depth - endNode.position.getX();
-			int worldY = worldStart.getY() - depth + endNode.position.getY();
-			if (endNode.parent == null)
-				endNode = null;
-			else {
-				path.addDirect(worldX, worldY);
-				endNode = costBoard[endNode.parent.getX()][endNode.parent.getY()];
+	/**
+	 * @return The world tiles between the start and the goal's parent as x << 16 | y, goal side first, or null if the goal can not be reached.
+	 */
+	private int[] search() {
+		board = scratch.get();
+		board.begin(width * width);
+		try {
+			selectNode(index(depth, depth));
+
+			final int end = endX >= 0 && endX < width && endY >= 0 && endY < width ? index(endX, endY) : -1;
+			int next;
+			while ((next = board.poll()) != -1) {
+				if (next == end) {
+					return buildPath(next);
+				}
+				selectNode(next);
 			}
+			return null;
+		} finally {
+			board = null;
+		}
+	}
 
+	private int[] buildPath(final int goal) {
+		int length = 0;
+		for (int node = board.parent[goal]; node != -1 && board.parent[node] != -1; node = board.parent[node]) {
+			length++;
 		}
-		return path;
+		final int[] waypoints = new int[length];
+		int i = 0;
+		for (int node = board.parent[goal]; node != -1 && board.parent[node] != -1; node = board.parent[node]) {
+			final int worldX = worldStart.getX() + depth - node / width;
+			final int worldY = worldStart.getY() - depth + node % width;
+			waypoints[i++] = worldX << 16 | worldY;
+		}
+		return waypoints;
 	}
 
-	public Path findPath() {
-		if (depth < 1)
-			return null;
+	private int index(final int x, final int y) {
+		return x * width + y;
+	}
 
-		if (pointStart.getX() == pointEnd.getX()
-		&& pointStart.getY() == pointEnd.getY())
-			return null;
+	private int calcDistance(final int x, final int y) {
+		int xdiff = Math.abs(x - endX);
+		int ydiff = Math.abs(y - endY);
 
-		boolean quit = false;
-		starttime = System.currentTimeMillis();
-		costBoard[depth][depth].selectNode();
-
-		while (true) {
-			Node next = findNextNode();
-			endtime = System.currentTimeMillis();
-			if (next == null)
-				return null;
-
-			if (next.position.getX() == pointEnd.getX()
-			&& next.position.getY() == pointEnd.getY()) {
-				closedNodes.add(next);
-				return buildPath();
-			}
+		int shortL = xdiff > ydiff ? ydiff : xdiff;
+		int longL = xdiff > ydiff ? xdiff : ydiff;
 
+		return shortL * diagCost + (longL - shortL) * basicCost;
+	}
 
-			next.selectNode();
-			if (debug) {
-			//	panel.repaint();
+	private byte traversalMask(final int x, final int y) {
+		final int node = index(x, y);
+		if (board.maskStamp[node] != board.generation) {
+			board.maskStamp[node] = board.generation;
+			board.masks[node] = world.getTraversalMask(worldStart.getX() + depth - x, worldStart.getY() - depth + y);
+		}
+		return board.masks[node];
+	}
 
-				/*
-				// We should no longer put threads to sleep
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException a) {
-					a.printStackTrace();
-				}*/
+	private boolean fullBlock(final int x, final int y) {
+		return (traversalMask(x, y) & FULL_BLOCK) != 0;
+	}
 
-			}
+	/**
+	 * A node is walled on a side by its own tile's walls, or by a fully blocked tile on that side.
+	 */
+	private byte walls(final int x, final int y) {
+		final int node = index(x, y);
+		if (board.wallStamp[node] == board.generation) {
+			return board.walls[node];
 		}
+		byte walls = 0;
+		final int mask = traversalMask(x, y);
+		if ((mask & FULL_BLOCK) == 0) {
+			if ((mask & CollisionFlag.SOUTH_BLOCKED) != 0)
+				walls |= SOUTH;
+			if ((mask & CollisionFlag.WEST_BLOCKED) != 0)
+				walls |= WEST;
+			if ((mask & CollisionFlag.NORTH_BLOCKED) != 0)
+				walls |= NORTH;
+			if ((mask & CollisionFlag.EAST_BLOCKED) != 0)
+				walls |= EAST;
+		}
+		if (y > 0 && fullBlock(x, y - 1))
+			walls |= NORTH;
+		if (x < width - 1 && fullBlock(x + 1, y))
+			walls |= EAST;
+		if (y < width - 1 && fullBlock(x, y + 1))
+			walls |= SOUTH;
+		if (x > 0 && fullBlock(x - 1, y))
+			walls |= WEST;
+		board.wallStamp[node] = board.generation;
+		board.walls[node] = walls;
+		return walls;
 	}
 
-	private void initBoard(Node[][] board) {
-		if (board == null)
-			return;
+	private boolean blocked(final int x, final int y, final byte side) {
+		return (walls(x, y) & side) != 0;
+	}
 
-		for(int i = 0; i < board[0].length; i++) {
-			for (int j = 0; j < board[0].length; j++) {
-				board[i][j] = new Node(i,j);
-			}
-		}
+	private void selectNode(final int node) {
+		board.setState(node, CLOSED);
+		final int x = node / width;
+		final int y = node % width;
+		final byte walls = walls(x, y);
+		final boolean south = (walls & SOUTH) != 0;
+		final boolean west = (walls & WEST) != 0;
+		final boolean north = (walls & NORTH) != 0;
+		final boolean east = (walls & EAST) != 0;
+		final boolean hasSouth = y < width - 1;
+		final boolean hasWest = x > 0;
+		final boolean hasNorth = y > 0;
+		final boolean hasEast = x < width - 1;
+
+		if (!south && hasSouth)
+			update(index(x, y + 1), node, basicCost);
+		if (!west && hasWest)
+			update(index(x - 1, y), node, basicCost);
+		if (!north && hasNorth)
+			update(index(x, y - 1), node, basicCost);
+		if (!east && hasEast)
+			update(index(x + 1, y), node, basicCost);
+		// A diagonal step also needs both tiles it cuts past to be open towards each other.
+		if (!(south || west) && hasWest && hasSouth && !blocked(x - 1, y, SOUTH) && !blocked(x, y + 1, WEST))
+			update(index(x - 1, y + 1), node, diagCost);
+		if (!(north || west) && hasWest && hasNorth && !blocked(x - 1, y, NORTH) && !blocked(x, y - 1, WEST))
+			update(index(x - 1, y - 1), node, diagCost);
+		if (!(north || east) && hasEast && hasNorth && !blocked(x + 1, y, NORTH) && !blocked(x, y - 1, EAST))
+			update(index(x + 1, y - 1), node, diagCost);
+		if (!(south || east) && hasEast && hasSouth && !blocked(x + 1, y, SOUTH) && !blocked(x, y + 1, EAST))
+			update(index(x + 1, y + 1), node, diagCost);
 	}
 
-	public boolean diagBlocked(Node node, adjacent_direction dir) {
-		Node neighbor1 = null;
-		Node neighbor2 = null;
-		if (dir == adjacent_direction.SOUTHWEST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.WEST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.SOUTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.southBlocked && !neighbor2.westBlocked)
-						return false;
-				}
-			}
-		} else if (dir == adjacent_direction.NORTHWEST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.WEST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.NORTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.northBlocked && !neighbor2.westBlocked)
-						return false;
-				}
-			}
-		} else if (dir == adjacent_direction.NORTHEAST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.EAST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.NORTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.northBlocked && !neighbor2.eastBlocked)
-						return false;
-				}
-			}
-		} else if (dir == adjacent_direction.SOUTHEAST) {
-			neighbor1 = node.getNeighbor(adjacent_direction.EAST);
-			if (neighbor1 != null) {
-				neighbor2 = node.getNeighbor(adjacent_direction.SOUTH);
-				if (neighbor2 != null) {
-					if (!neighbor1.southBlocked && !neighbor2.eastBlocked)
-						return false;
-				}
-			}
+	private void update(final int node, final int from, final int cost) {
+		final byte state = board.getState(node);
+		if (state == CLOSED)
+			return;
+
+		final int newCost = board.cost[from] + cost;
+		if (state == INIT) {
+			board.setState(node, OPEN);
+			board.cost[node] = newCost;
+			board.estimate[node] = calcDistance(node / width, node % width);
+			board.total[node] = newCost + board.estimate[node];
+			board.parent[node] = from;
+			board.add(node);
+			return;
 		}
-		return true;
+		// Equal costs still take the newest parent.
+		if (newCost > board.cost[node])
+			return;
+		board.cost[node] = newCost;
+		board.total[node] = newCost + board.estimate[node];
+		board.parent[node] = from;
+		board.decreased(node);
 	}
 
 	public long getRunTime() { return endtime - starttime; }
 
-	public class Node {
-		int fCost, gCost, hCost;
-		node_state state;
-		boolean southBlocked = false;
-		boolean northBlocked = false;
-		boolean westBlocked = false;
-		boolean eastBlocked = false;
-		public Point position;
-		Point parent;
-
-		public Node(int x, int y) {
-			position = new Point(x,y);
-			fCost = 0;
-			gCost = 0;
-			hCost = 0;
-			state = node_state.INIT;
+	/**
+	 * Reusable search state of one thread. Arrays are indexed by board node and only hold values for the
+	 * current generation where they carry a stamp.
+	 */
+	private static final class Scratch {
+		private int generation = 0;
+		private int capacity = 0;
+
+		private int[] stateStamp = new int[0];
+		private byte[] state = new byte[0];
+		private int[] maskStamp = new int[0];
+		private byte[] masks = new byte[0];
+		private int[] wallStamp = new int[0];
+		private byte[] walls = new byte[0];
+		private int[] cost = new int[0];
+		private int[] estimate = new int[0];
+		private int[] total = new int[0];
+		private int[] parent = new int[0];
+		private int[] order = new int[0];
+
+		/**
+		 * Binary min heap of open nodes ordered by total cost, then cost so far, then the order they were opened in.
+		 */
+		private int[] heap = new int[0];
+		private int[] heapIndex = new int[0];
+		private int heapSize = 0;
+		private int opened = 0;
+
+		private void begin(final int nodes) {
+			if (nodes > capacity) {
+				capacity = nodes;
+				stateStamp = new int[nodes];
+				state = new byte[nodes];
+				maskStamp = new int[nodes];
+				masks = new byte[nodes];
+				wallStamp = new int[nodes];
+				walls = new byte[nodes];
+				cost = new int[nodes];
+				estimate = new int[nodes];
+				total = new int[nodes];
+				parent = new int[nodes];
+				order = new int[nodes];
+				heap = new int[nodes];
+				heapIndex = new int[nodes];
+				generation = 0;
+			}
+			if (++generation == Integer.MAX_VALUE) {
+				Arrays.fill(stateStamp, 0);
+				Arrays.fill(maskStamp, 0);
+				Arrays.fill(wallStamp, 0);
+				generation = 1;
+			}
+			heapSize = 0;
+			opened = 0;
 		}
 
-		public void setState(node_state state) {
-			this.state = state;
+		private byte getState(final int node) {
+			return stateStamp[node] == generation ? state[node] : INIT;
 		}
 
-		public void update(Node node, int cost) {
-			if (this.state == node_state.INIT) {
-				this.setState(node_state.OPEN);
-				this.fCost = node.fCost + cost;
-				calcGCost();
-				openNodes.add(this);
-			} else if (this.state == node_state.CLOSED)
-				return;
-			else {
-				int newFcost = node.fCost + cost;
-				if (newFcost > this.fCost)
-					return;
-				this.fCost = newFcost;
+		private void setState(final int node, final byte value) {
+			if (stateStamp[node] != generation) {
+				stateStamp[node] = generation;
+				cost[node] = 0;
+				parent[node] = -1;
 			}
-			calcHCost();
-			this.parent = node.position;
+			state[node] = value;
 		}
 
-		public void calcGCost() {
-			gCost = calcDistance(this.position, pointEnd);
+		private boolean before(final int a, final int b) {
+			if (total[a] != total[b])
+				return total[a] < total[b];
+			if (cost[a] != cost[b])
+				return cost[a] < cost[b];
+			return order[a] < order[b];
 		}
 
-		public void calcHCost() {
-			hCost = fCost + gCost;
+		private void add(final int node) {
+			order[node] = opened++;
+			heap[heapSize] = node;
+			heapIndex[node] = heapSize;
+			siftUp(heapSize++);
 		}
 
-		public Node getNeighbor(adjacent_direction dir) {
-			switch (dir) {
-				case SOUTH:
-					if (position.getY() < 2*depth)
-						return costBoard[position.getX()][position.getY()+1];
-					else
-						return null;
-				case SOUTHWEST:
-					if (position.getY() < 2*depth && position.getX() > 0)
-						return costBoard[position.getX()-1][position.getY()+1];
-					else
-						return null;
-				case WEST:
-					if (position.getX() > 0)
-						return costBoard[position.getX()-1][position.getY()];
-					else
-						return null;
-				case NORTHWEST:
-					if (position.getY() > 0 && position.getX() > 0)
-						return costBoard[position.getX()-1][position.getY()-1];
-					else
-						return null;
-				case NORTH:
-					if (position.getY() > 0)
-						return costBoard[position.getX()][position.getY()-1];
-					else
-						return null;
-				case NORTHEAST:
-					if (position.getY() > 0 && position.getX() < 2*depth)
-						return costBoard[position.getX()+1][position.getY()-1];
-					else
-						return null;
-				case EAST:
-					if (position.getX() < 2*depth)
-						return costBoard[position.getX()+1][position.getY()];
-					else
-						return null;
-				case SOUTHEAST:
-					if (position.getY() < 2*depth && position.getX() < 2*depth)
-						return costBoard[position.getX()+1][position.getY()+1];
-					else
-						return null;
-			}
-			return null;
+		private void decreased(final int node) {
+			siftUp(heapIndex[node]);
 		}
 
-		private void selectNode() {
-			if (state == node_state.OPEN)
-				openNodes.remove(this);
-
-			setState(node_state.CLOSED);
-			closedNodes.add(this);
-			Node neighbor = null;
-			//South to SouthEast
-			if (!southBlocked && (neighbor = getNeighbor(adjacent_direction.SOUTH)) != null)
-				neighbor.update(this, basicCost);
-			if (!westBlocked && (neighbor = getNeighbor(adjacent_direction.WEST)) != null)
-				neighbor.update(this, basicCost);
-			if (!northBlocked && (neighbor = getNeighbor(adjacent_direction.NORTH)) != null)
-				neighbor.update(this, basicCost);
-			if (!eastBlocked && (neighbor = getNeighbor(adjacent_direction.EAST)) != null)
-				neighbor.update(this, basicCost);
-			if (!(southBlocked || westBlocked) && !diagBlocked(this, adjacent_direction.SOUTHWEST)
-				&& (neighbor = getNeighbor(adjacent_direction.SOUTHWEST)) != null)
-				neighbor.update(this, diagCost);
-			if (!(northBlocked || westBlocked) && !diagBlocked(this, adjacent_direction.NORTHWEST)
-				&& (neighbor = getNeighbor(adjacent_direction.NORTHWEST)) != null)
-				neighbor.update(this, diagCost);
-			if (!(northBlocked || eastBlocked) && !diagBlocked(this, adjacent_direction.NORTHEAST)
-				&& (neighbor = getNeighbor(adjacent_direction.NORTHEAST)) != null)
-				neighbor.update(this, diagCost);
-			if (!(southBlocked || eastBlocked) && !diagBlocked(this, adjacent_direction.SOUTHEAST)
-				&& (neighbor = getNeighbor(adjacent_direction.SOUTHEAST)) != null)
-				neighbor.update(this, diagCost);
+		private int poll() {
+			if (heapSize == 0)
+				return -1;
+			final int first = heap[0];
+			final int last = heap[--heapSize];
+			if (heapSize > 0) {
+				heap[0] = last;
+				heapIndex[last] = 0;
+				siftDown(0);
+			}
+			return first;
 		}
-	}
 
-
-	public enum node_state{
-		INIT,
-		OPEN,
-		CLOSED
-	}
-
-	public enum adjacent_direction{
-		SOUTH,
-		SOUTHWEST,
-		WEST,
-		NORTHWEST,
-		NORTH,
-		NORTHEAST,
-		EAST,
-		SOUTHEAST
-	}
-
-	/*debug code*/
-	class JPanel2 extends JPanel {
-		int width = 20;
-		JPanel2() {
+		private void siftUp(int position) {
+			final int node = heap[position];
+			while (position > 0) {
+				final int parentPosition = (position - 1) >>> 1;
+				final int parentNode = heap[parentPosition];
+				if (!before(node, parentNode))
+					break;
+				heap[position] = parentNode;
+				heapIndex[parentNode] = position;
+				position = parentPosition;
+			}
+			heap[position] = node;
+			heapIndex[node] = position;
 		}
 
-
-		@Override
-		public void paintComponent(Graphics g) {
-			super.paintComponent(g);
-			g.setFont(new Font("Arial",1,10));
-			for (Node[] nodes : costBoard) {
-				for (Node node : nodes) {
-					g.setColor(Color.black);
-					g.drawRect(node.position.getX()*width, node.position.getY()*width, width, width);
-					g.setColor(Color.red);
-					if (node.southBlocked)
-						g.fillRect(node.position.getX()*width, node.position.getY()*width+width - 4,width,3);
-					if (node.eastBlocked)
-						g.fillRect(node.position.getX()*width + width - 4, node.position.getY()*width,3,width);
-					if (node.northBlocked)
-						g.fillRect(node.position.getX()*width, node.position.getY()*width+1,width,3);
-					if (node.westBlocked)
-						g.fillRect(node.position.getX()*width+1, node.position.getY()*width,3,width);
-					if (node.state == node_state.OPEN) {
-						g.setColor(Color.green);
-						g.drawString("" + node.hCost, node.position.getX()*width, node.position.getY()*width + width/2);
-					} else if (node.state == node_state.CLOSED) {
-						g.setColor(Color.red);
-						g.drawString("" + node.hCost, node.position.getX()*width, node.position.getY()*width + width/2);
-					}
-				}
-			}
-			Node guy = closedNodes.get(closedNodes.size()-1);
-			g.setColor(Color.ORANGE);
-			while (guy != null) {
-				g.fillRect(guy.position.getX() * width, guy.position.getY()*width, 5,5);
-				if (guy.parent == null)
-					guy = null;
-				else
-					guy = costBoard[guy.parent.getX()][guy.parent.getY()];
+		private void siftDown(int position) {
+			final int node = heap[position];
+			while (true) {
+				int child = (position << 1) + 1;
+				if (child >= heapSize)
+					break;
+				if (child + 1 < heapSize && before(heap[child + 1], heap[child]))
+					child++;
+				if (!before(heap[child], node))
+					break;
+				heap[position] = heap[child];
+				heapIndex[heap[child]] = position;
+				position = child;
 			}
+			heap[position] = node;
+			heapIndex[node] = position;
 		}
 	}
 }
@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Player cache
@@ -17,6 +18,11 @@ public class Cache {
 	 */
 	private ConcurrentMap<String, Object> storage = new ConcurrentHashMap<String, Object>();
 
+	/**
+	 * Whether a value changed since the cache was last saved.
+	 */
+	private final AtomicBoolean changed = new AtomicBoolean(false);
+
 	public Map<String, Object> getCacheMap() {
 		return storage;
 	}
@@ -39,7 +45,7 @@ public class Cache {
 	 * @throws IllegalArgumentException when the key is already used in the database
 	 */
 	public void set(String key, int i) {
-		storage.put(key, i);
+		storeValue(key, i);
 	}
 
 	/**
@@ -50,7 +56,7 @@ public class Cache {
 	 * @throws IllegalArgumentException when the key is already used in the database
 	 */
 	public void store(String key, String s) {
-		storage.put(key, s);
+		storeValue(key, s);
 	}
 
 	/**
@@ -61,7 +67,7 @@ public class Cache {
 	 * @throws IllegalArgumentException when the key is already used in the database
 	 */
 	public void store(String key, Boolean b) {
-		storage.put(key, b);
+		storeValue(key, b);
 	}
 
 	/**
@@ -72,7 +78,7 @@ public class Cache {
 	 * @throws IllegalArgumentException when the key is already used in the database
 	 */
 	public void store(String key, long l) {
-		storage.put(key, l);
+		storeValue(key, l);
 	}
 
 	/**
@@ -157,17 +163,36 @@ public class Cache {
 	 * @param key
 	 */
 	public void remove(String key) {
-		storage.remove(key);
+		if (storage.remove(key) != null)
+			changed.set(true);
 	}
 
 	public void remove(String... key) {
 		for (String s : key) {
 			if (storage.containsKey(s))
-				storage.remove(s);
+				remove(s);
 		}
 	}
 
 	public void put(String key, Object o) {
-		storage.put(key, o);
+		storeValue(key, o);
+	}
+
+	private void storeValue(String key, Object value) {
+		if (!value.equals(storage.put(key, value)))
+			changed.set(true);
+	}
+
+	/**
+	 * Clears the changed flag before the cache is read for a save.
+	 *
+	 * @return Whether a value changed since the last save
+	 */
+	public boolean takeChanged() {
+		return changed.getAndSet(false);
+	}
+
+	public void markChanged() {
+		changed.set(true);
 	}
 }
@@ -0,0 +1,71 @@
+package com.openrsc.server.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Recent AStarPathfinder results, keyed by start, goal and depth. A result is only used while the world's
+ * collision version is the one it was found with, so registering or removing a blocking object drops every cached path.
+ */
+public class PathCache {
+	private final LinkedHashMap<Long, Entry> entries;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	public PathCache(final int capacity) {
+		final int maxEntries = Math.max(1, capacity);
+		this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	static long key(final Point start, final Point end, final int depth) {
+		return ((long) start.getX() << 54) ^ ((long) start.getY() << 40) ^ ((long) end.getX() << 26) ^ ((long) end.getY() << 12) ^ depth;
+	}
+
+	/**
+	 * @return The cached result, or null if there is none for this collision version.
+	 */
+	synchronized Entry get(final long key, final long collisionVersion) {
+		final Entry entry = entries.get(key);
+		if (entry == null || entry.collisionVersion != collisionVersion) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return entry;
+	}
+
+	synchronized void put(final long key, final long collisionVersion, final int[] waypoints) {
+		entries.put(key, new Entry(collisionVersion, waypoints));
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	static final class Entry {
+		private final long collisionVersion;
+		/**
+		 * The waypoints as x << 16 | y, in the order they were added to the path. Null if the goal could not be reached.
+		 */
+		final int[] waypoints;
+
+		private Entry(final long collisionVersion, final int[] waypoints) {
+			this.collisionVersion = collisionVersion;
+			this.waypoints = waypoints;
+		}
+	}
+}
@@ -5,7 +5,6 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.model.world.region.Region;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.util.rsc.CollisionFlag;
 
 import java.util.ArrayList;
@@ -166,12 +165,11 @@ public class PathValidation {
 	}
 
 	private static boolean checkBlockingDistance(World world, int x, int y, int bit, boolean isCurrentTile, boolean ignoreProjectileAllowed) {
-		TileValue t = world.getTile(x, y);
-		if (!ignoreProjectileAllowed && t.projectileAllowed) {
+		if (!ignoreProjectileAllowed && world.isProjectileAllowed(x, y)) {
 			return false;
 		}
 
-		return isBlocking(t.traversalMask, (byte) bit, isCurrentTile);
+		return isBlocking(world.getTraversalMask(x, y), (byte) bit, isCurrentTile);
 	}
 
 	public static boolean isBlocking(int objectValue, byte bit, boolean isCurrentTile) {
@@ -226,19 +224,19 @@ public class PathValidation {
 		// Object east
 		// |   or   |
 		//  \        X
-		int mask = world.getTile(x - 1, y).traversalMask;
+		int mask = world.getTraversalMask(x - 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on north tile, east side
-			mask = world.getTile(x, y - 1).traversalMask;
+			mask = world.getTraversalMask(x, y - 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northeast tile, west side
-			mask = world.getTile(x - 1, y - 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y - 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
@@ -247,19 +245,19 @@ public class PathValidation {
 
 		// Object north
 		// \__  or  X__
-		mask = world.getTile(x, y - 1).traversalMask;
+		mask = world.getTraversalMask(x, y - 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on east tile, north side
-			mask = world.getTile(x - 1, y).traversalMask;
+			mask = world.getTraversalMask(x - 1, y);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northeast tile, south side
-			mask = world.getTile(x - 1, y - 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y - 1);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			return blocking;
 
@@ -277,19 +275,19 @@ public class PathValidation {
 		// Object west
 		//   |  or  |
 		//  /      X
-		int mask = world.getTile(x + 1, y).traversalMask;
+		int mask = world.getTraversalMask(x + 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on north tile, west side
-			mask = world.getTile(x, y - 1).traversalMask;
+			mask = world.getTraversalMask(x, y - 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northwest tile, east side
-			mask = world.getTile(x + 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
@@ -298,19 +296,19 @@ public class PathValidation {
 
 		// Object north
 		// __/  or  __X
-		mask = world.getTile(x, y - 1).traversalMask;
+		mask = world.getTraversalMask(x, y - 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on west tile, north side
-			mask = world.getTile(x + 1, y).traversalMask;
+			mask = world.getTraversalMask(x + 1, y);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on northwest tile, south side
-			mask = world.getTile(x + 1, y - 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y - 1);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			return blocking;
 
@@ -327,19 +325,19 @@ public class PathValidation {
 		// Object east
 		//   /  or   X
 		//  |       |
-		int mask = world.getTile(x - 1, y).traversalMask;
+		int mask = world.getTraversalMask(x - 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on south tile, east side
-			mask = world.getTile(x, y + 1).traversalMask;
+			mask = world.getTraversalMask(x, y + 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southeast tile, west side
-			mask = world.getTile(x - 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
@@ -349,19 +347,19 @@ public class PathValidation {
 		// Object south
 		//  __       __
 		// /    or  X
-		mask = world.getTile(x, y + 1).traversalMask;
+		mask = world.getTraversalMask(x, y + 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_B + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on east tile, south side
-			mask = world.getTile(x - 1, y).traversalMask;
+			mask = world.getTraversalMask(x - 1, y);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southeast tile, north side
-			mask = world.getTile(x - 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x - 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			return blocking;
 
@@ -379,19 +377,19 @@ public class PathValidation {
 		// Object west
 		//  \  or  X
 		//   |      |
-		int mask = world.getTile(x + 1, y).traversalMask;
+		int mask = world.getTraversalMask(x + 1, y);
 		boolean blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on south tile, west side
-			mask = world.getTile(x, y + 1).traversalMask;
+			mask = world.getTraversalMask(x, y + 1);
 			blocking = (mask & CollisionFlag.WALL_WEST) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southwest tile, east side
-			mask = world.getTile(x + 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_EAST) != 0;
 			if (blocking) {
 				return true;
@@ -401,19 +399,19 @@ public class PathValidation {
 		// Object south
 		// __       __
 		//   \  or    X
-		mask = world.getTile(x, y + 1).traversalMask;
+		mask = world.getTraversalMask(x, y + 1);
 		blocking = (mask & (CollisionFlag.FULL_BLOCK_A + CollisionFlag.FULL_BLOCK_C)) != 0;
 		if (blocking) {
 
 			// Wall on west tile, south side
-			mask = world.getTile(x + 1, y).traversalMask;
+			mask = world.getTraversalMask(x + 1, y);
 			blocking = (mask & CollisionFlag.WALL_SOUTH) != 0;
 			if (blocking) {
 				return true;
 			}
 
 			// Wall on southwest tile, north side
-			mask = world.getTile(x + 1, y + 1).traversalMask;
+			mask = world.getTraversalMask(x + 1, y + 1);
 			blocking = (mask & CollisionFlag.WALL_NORTH) != 0;
 			return blocking;
 
@@ -526,10 +524,9 @@ public class PathValidation {
 	}
 
 	private static boolean checkBlocking(Mob mob, int x, int y, int bit, boolean isCurrentTile) {
-		TileValue t = mob.getWorld().getTile(x, y);
 		/*boolean inFisherKingdom = (mob.getLocation().inBounds(415, 976, 423, 984)
 			|| mob.getLocation().inBounds(511, 976, 519, 984));*/
-		boolean blockedPath = PathValidation.isBlocking(t.traversalMask, (byte) bit, isCurrentTile);
+		boolean blockedPath = PathValidation.isBlocking(mob.getWorld().getTraversalMask(x, y), (byte) bit, isCurrentTile);
 		return blockedPath || isMobBlocking(mob, x, y);
 	}
 
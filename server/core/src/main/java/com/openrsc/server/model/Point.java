@@ -5,9 +5,10 @@ import com.openrsc.server.model.entity.WildernessLocation.WildState;
 import com.openrsc.server.model.world.Area;
 import com.openrsc.server.util.rsc.Formulae;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 
-public class Point {
+public class Point implements Serializable {
 
 	private static ArrayList<WildernessLocation> wildernessLocations = new ArrayList<WildernessLocation>();
 
@@ -79,6 +79,7 @@ public class Skills {
 	public void setSkill(int skill, int level, int exp) {
 		levels[skill] = level;
 		exps[skill] = exp;
+		markUnsaved();
 		sendUpdate(skill);
 	}
 
@@ -87,6 +88,7 @@ public class Skills {
 		if (levels[skill] <= 0) {
 			levels[skill] = 0;
 		}
+		markUnsaved();
 		sendUpdate(skill);
 		if (skill != com.openrsc.server.constants.Skills.PRAYER
 			&& skill != com.openrsc.server.constants.Skills.HITS && !fromRestoreEvent) {
@@ -107,11 +109,13 @@ public class Skills {
 		if (oldLvl != newLvl) {
 			getMob().getUpdateFlags().setAppearanceChanged(true);
 		}
+		markUnsaved();
 		sendUpdate(skill);
 	}
 
 	public void incrementLevel(int skill) {
 		levels[skill]++;
+		markUnsaved();
 		sendUpdate(skill);
 	}
 
@@ -120,6 +124,7 @@ public class Skills {
 		if (levels[skill] <= 0)
 			levels[skill] = 0;
 
+		markUnsaved();
 		sendUpdate(skill);
 	}
 
@@ -131,6 +136,7 @@ public class Skills {
 			amount = levels[skill];
 		}
 		levels[skill] = levels[skill] + amount;
+		markUnsaved();
 		sendUpdate(skill);
 	}
 
@@ -143,6 +149,7 @@ public class Skills {
 		if (levels[skill] <= 0) {
 			levels[skill] = 0;
 		}
+		markUnsaved();
 
 		if (update)
 			sendUpdate(skill);
@@ -187,9 +194,19 @@ public class Skills {
 			getMob().getUpdateFlags().setAppearanceChanged(true);
 		}
 
+		markUnsaved();
 		sendUpdate(skill);
 	}
 
+	/**
+	 * Flags a player's skills for the next save.
+	 */
+	private void markUnsaved() {
+		if (mob != null && mob.isPlayer()) {
+			((Player) mob).markUnsaved(Player.SAVE_SKILLS);
+		}
+	}
+
 	private void sendUpdate(int skill) {
 		if (getMob().isPlayer()) {
 			Player player = (Player) getMob();
@@ -224,6 +241,7 @@ public class Skills {
 
 	private void normalize(int skill, boolean sendUpdate) {
 		levels[skill] = getMaxStat(skill);
+		markUnsaved();
 		if (sendUpdate)
 			sendUpdate(skill);
 	}
@@ -247,6 +265,7 @@ public class Skills {
 			maxStatsMob[skill] = level;
 		}
 		levels[skill] = level;
+		markUnsaved();
 	}
 
 	public int[] getLevels() {
@@ -5,6 +5,7 @@ import com.openrsc.server.model.entity.GroundItem;
 import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.model.world.region.RegionManager;
 
 import java.util.Collection;
 
@@ -18,37 +19,59 @@ public class ViewArea {
 	}
 
 	public Collection<GameObject> getGameObjectsInView() {
-		return mob.getWorld().getRegionManager().getLocalObjects(mob);
+		return getRegionManager().getLocalObjects(mob);
+	}
+
+	public <C extends Collection<? super GameObject>> C getGameObjectsInView(final C buffer) {
+		return getRegionManager().getLocalObjects(mob, buffer);
 	}
 
 	public Collection<GroundItem> getItemsInView() {
-		return mob.getWorld().getRegionManager().getLocalGroundItems(mob);
+		return getRegionManager().getLocalGroundItems(mob);
+	}
+
+	public <C extends Collection<? super GroundItem>> C getItemsInView(final C buffer) {
+		return getRegionManager().getLocalGroundItems(mob, buffer);
 	}
 
 	public Collection<Npc> getNpcsInView() {
-		return mob.getWorld().getRegionManager().getLocalNpcs(mob);
+		return getRegionManager().getLocalNpcs(mob);
+	}
+
+	public <C extends Collection<? super Npc>> C getNpcsInView(final C buffer) {
+		return getRegionManager().getLocalNpcs(mob, buffer);
 	}
 
 	public Collection<Player> getPlayersInView() {
-		return mob.getWorld().getRegionManager().getLocalPlayers(mob);
+		return getRegionManager().getLocalPlayers(mob);
+	}
+
+	public <C extends Collection<? super Player>> C getPlayersInView(final C buffer) {
+		return getRegionManager().getLocalPlayers(mob, buffer);
 	}
 
 	public GameObject getGameObject(Point location) {
-		for (GameObject o : getGameObjectsInView()) {
+		final GameObject[] found = new GameObject[1];
+		getRegionManager().visitLocalObjects(mob, o -> {
 			if (o.getLocation().equals(location) && o.getType() != 1) {
-				return o;
+				found[0] = o;
+				return false;
 			}
-		}
-		return null;
+			return true;
+		});
+		return found[0];
 	}
 
 	public GameObject getGameObject(int id, int x, int y) {
-		for (GameObject o : getGameObjectsInView()) {
+		final GameObject[] found = new GameObject[1];
+		getRegionManager().visitLocalObjects(mob, o -> {
 			if (o.getID() == id && o.getX() == x && o.getY() == y) {
-				return o;
+				found[0] = o;
+				return false;
 			}
-		}
-		return null;
+			return true;
+		});
+		return found[0];
 	}
 
 	/**
@@ -58,30 +81,43 @@ public class ViewArea {
 	 * @return FACT: RSC uses direction for wall objects, so that it doesn't collapse.
 	 */
 	public GameObject getWallObjectWithDir(Point location, int dir) {
-		for (GameObject o : getGameObjectsInView()) {
+		final GameObject[] found = new GameObject[1];
+		getRegionManager().visitLocalObjects(mob, o -> {
 			if (o.getDirection() == dir && o.getLocation().equals(location) && (o.getType() != 0)) {
-				return o;
+				found[0] = o;
+				return false;
 			}
-		}
-		return null;
+			return true;
+		});
+		return found[0];
 	}
 
 	public GroundItem getGroundItem(Point location) {
-		for (GroundItem o : getItemsInView()) {
+		final GroundItem[] found = new GroundItem[1];
+		getRegionManager().visitLocalGroundItems(mob, o -> {
 			if (o.getLocation().equals(location)) {
-				return o;
+				found[0] = o;
+				return false;
 			}
-		}
-		return null;
+			return true;
+		});
+		return found[0];
 	}
 
 	public GroundItem getGroundItem(int id, Point location) {
-		for (GroundItem o : getItemsInView()) {
+		final GroundItem[] found = new GroundItem[1];
+		getRegionManager().visitLocalGroundItems(mob, o -> {
 			if (o.getID() == id && o.getLocation().equals(location)) {
-				return o;
+				found[0] = o;
+				return false;
 			}
-		}
-		return null;
+			return true;
+		});
+		return found[0];
+	}
+
+	private RegionManager getRegionManager() {
+		return mob.getWorld().getRegionManager();
 	}
 
 }
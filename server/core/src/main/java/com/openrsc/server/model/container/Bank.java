@@ -38,6 +38,12 @@ public class Bank {
 	public boolean add(Item itemToAdd) { return add(itemToAdd, true); }
 
 	public boolean add(Item itemToAdd, boolean updateClient) {
+		final boolean added = addToList(itemToAdd, updateClient);
+		player.markUnsaved(Player.SAVE_BANK);
+		return added;
+	}
+
+	private boolean addToList(Item itemToAdd, boolean updateClient) {
 		synchronized(list) {
 			try {
 				// Check bounds of amount
@@ -148,6 +154,12 @@ public class Bank {
 	}
 
 	public boolean remove(int catalogID, int amount, boolean updateClient) {
+		final boolean removed = removeFromList(catalogID, amount, updateClient);
+		player.markUnsaved(Player.SAVE_BANK);
+		return removed;
+	}
+
+	private boolean removeFromList(int catalogID, int amount, boolean updateClient) {
 		synchronized(list) {
 			try {
 				int bankIndex = getFirstIndexById(catalogID);
@@ -322,6 +334,7 @@ public class Bank {
 			if (item != null && item2 != null) {
 				list.set(slot, item2);
 				list.set(to, item);
+				player.markUnsaved(Player.SAVE_BANK);
 				return true;
 			}
 			return false;
@@ -373,6 +386,7 @@ public class Bank {
 			// now fill in the target slot
 			array[to] = from;
 			list = new ArrayList<Item>(Arrays.asList(array));
+			player.markUnsaved(Player.SAVE_BANK);
 			return true;
 		}
 	}
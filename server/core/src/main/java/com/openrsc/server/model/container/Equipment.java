@@ -55,6 +55,12 @@ public class Equipment {
 	// Equipment::add(Item)
 	// Adds an item to the equipment container. Updates the database instantly.
 	public int add(Item item) {
+		final int slotID = addToList(item);
+		player.markUnsaved(Player.SAVE_EQUIPMENT);
+		return slotID;
+	}
+
+	private int addToList(Item item) {
 		synchronized (list) {
 			try {
 				ItemDefinition itemDef = item.getDef(player.getWorld());
@@ -93,6 +99,12 @@ public class Equipment {
 	}
 
 	public int remove(Item item, int amount, boolean updateClient) {
+		final int slotID = removeFromList(item, amount, updateClient);
+		player.markUnsaved(Player.SAVE_EQUIPMENT);
+		return slotID;
+	}
+
+	private int removeFromList(Item item, int amount, boolean updateClient) {
 		synchronized (list) {
 			try {
 				int itemId = item.getItemId();
@@ -143,6 +155,13 @@ public class Equipment {
 	}
 
 	public boolean unequipItem(UnequipRequest request, boolean updateClient) {
+		final boolean unequipped = unequip(request, updateClient);
+		// Without the equipment tab the wielded flag is saved with the inventory.
+		player.markUnsaved(Player.SAVE_EQUIPMENT | Player.SAVE_INVENTORY);
+		return unequipped;
+	}
+
+	private boolean unequip(UnequipRequest request, boolean updateClient) {
 		if (request.item == null || !request.item.isWieldable(player.getWorld())) {
 			return false;
 		}
@@ -234,6 +253,12 @@ public class Equipment {
 		return equipItem(request, true);
 	}
 	public boolean equipItem(EquipRequest request, boolean updateClient) {
+		final boolean equipped = equip(request, updateClient);
+		player.markUnsaved(Player.SAVE_EQUIPMENT | Player.SAVE_INVENTORY);
+		return equipped;
+	}
+
+	private boolean equip(EquipRequest request, boolean updateClient) {
 		//Make sure the item isn't a note
 		if (request.item.getNoted())
 			return false;
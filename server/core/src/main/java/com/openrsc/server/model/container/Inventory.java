@@ -84,6 +84,12 @@ public class Inventory {
 	}
 
 	public Boolean add(Item itemToAdd, boolean sendInventory) {
+		final Boolean added = addToList(itemToAdd, sendInventory);
+		player.markUnsaved(Player.SAVE_INVENTORY);
+		return added;
+	}
+
+	private Boolean addToList(Item itemToAdd, boolean sendInventory) {
 		synchronized (list) {
 			try {
 
@@ -211,6 +217,12 @@ public class Inventory {
 	}
 
 	public int remove(Item item, boolean sendInventory) {
+		final int removedId = removeFromList(item, sendInventory);
+		player.markUnsaved(Player.SAVE_INVENTORY);
+		return removedId;
+	}
+
+	private int removeFromList(Item item, boolean sendInventory) {
 		synchronized (list) {
 			try {
 				// Confirm items exist in the inventory
@@ -317,6 +329,7 @@ public class Inventory {
 		if (item != null && item2 != null) {
 			list.set(slot, item2);
 			list.set(to, item);
+			player.markUnsaved(Player.SAVE_INVENTORY);
 			ActionSender.sendInventory(player);
 		}
 	}
@@ -363,6 +376,7 @@ public class Inventory {
 		}
 		array[to] = from;
 		list = new ArrayList<Item>(Arrays.asList(array));
+		player.markUnsaved(Player.SAVE_INVENTORY);
 		return true;
 	}
 
@@ -681,6 +695,7 @@ public class Inventory {
 		synchronized (list) {
 			Collections.sort(list);
 		}
+		player.markUnsaved(Player.SAVE_INVENTORY);
 	}
 	//----------------------------------------------------------------
 }
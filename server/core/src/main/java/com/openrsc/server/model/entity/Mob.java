@@ -2,9 +2,7 @@ package com.openrsc.server.model.entity;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.event.rsc.GameTickEvent;
-import com.openrsc.server.event.rsc.impl.PoisonEvent;
 import com.openrsc.server.event.rsc.impl.RangeEventNpc;
-import com.openrsc.server.event.rsc.impl.StatRestorationEvent;
 import com.openrsc.server.event.rsc.impl.combat.CombatEvent;
 import com.openrsc.server.model.*;
 import com.openrsc.server.model.Path.PathType;
@@ -13,6 +11,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.Damage;
 import com.openrsc.server.model.entity.update.UpdateFlags;
+import com.openrsc.server.model.entity.update.UpdateFragments;
 import com.openrsc.server.model.states.CombatState;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
@@ -57,10 +56,6 @@ public abstract class Mob extends Entity {
 	 */
 	private long lastMovement = System.currentTimeMillis();
 	private int mobSprite = 0;
-	/**
-	 * The stat restore event
-	 */
-	private StatRestorationEvent statRestorationEvent;
 	/**
 	 * If we are warned to move
 	 */
@@ -113,6 +108,10 @@ public abstract class Mob extends Entity {
 	 * Holds all the update flags for the appearance packet.
 	 */
 	private UpdateFlags updateFlags = new UpdateFlags();
+	/**
+	 * Holds this mob's serialized update blocks for the current client update cycle.
+	 */
+	private final UpdateFragments updateFragments = new UpdateFragments();
 	/**
 	 * Used to block new requests when we are in the middle of one
 	 */
@@ -124,7 +123,6 @@ public abstract class Mob extends Entity {
 
 	public Mob (final World world) {
 		super(world);
-		statRestorationEvent = new StatRestorationEvent(getWorld(), this);
 	}
 
 	/**
@@ -197,15 +195,15 @@ public abstract class Mob extends Entity {
 			return true;
 		}
 		if (minX <= getX() - 1 && maxX >= getX() - 1 && minY <= getY() && maxY >= getY()
-			&& (getWorld().getTile(getX() - 1, getY()).traversalMask & CollisionFlag.WALL_WEST) == 0) {
+			&& (getWorld().getTraversalMask(getX() - 1, getY()) & CollisionFlag.WALL_WEST) == 0) {
 			return true;
 		}
 		if (1 + getX() >= minX && getX() + 1 <= maxX && getY() >= minY && maxY >= getY()
-			&& (CollisionFlag.WALL_EAST & getWorld().getTile(getX() + 1, getY()).traversalMask) == 0) {
+			&& (CollisionFlag.WALL_EAST & getWorld().getTraversalMask(getX() + 1, getY())) == 0) {
 			return true;
 		}
 		if (minX <= getX() && maxX >= getX() && getY() - 1 >= minY && maxY >= getY() - 1
-			&& (CollisionFlag.WALL_SOUTH & getWorld().getTile(getX(), getY() - 1).traversalMask) == 0) {
+			&& (CollisionFlag.WALL_SOUTH & getWorld().getTraversalMask(getX(), getY() - 1)) == 0) {
 			return true;
 		}
 		return false;
@@ -213,23 +211,23 @@ public abstract class Mob extends Entity {
 
 	private boolean canReachDiagonal(int minX, int maxX, int minY, int maxY) {
 		if (minX <= getX() && getX() <= maxX && minY <= getY() + 1 && maxY >= getY() + 1
-			&& (CollisionFlag.WALL_NORTH & getWorld().getTile(getX(), getY() + 1).traversalMask) == 0) {
+			&& (CollisionFlag.WALL_NORTH & getWorld().getTraversalMask(getX(), getY() + 1)) == 0) {
 			return true;
 		}
 		if (minX <= getX() - 1 && maxX >= getX() - 1 && minY <= getY() - 1 && maxY >= getY() - 1
-			&& (getWorld().getTile(getX() - 1, getY() - 1).traversalMask & CollisionFlag.WALL_SOUTH_WEST) == 0) {
+			&& (getWorld().getTraversalMask(getX() - 1, getY() - 1) & CollisionFlag.WALL_SOUTH_WEST) == 0) {
 			return true;
 		}
 		if (1 + getX() >= minX && getX() + 1 <= maxX && getY() - 1 >= minY && maxY >= getY() - 1
-			&& (CollisionFlag.WALL_SOUTH_EAST & getWorld().getTile(getX() + 1, getY() - 1).traversalMask) == 0) {
+			&& (CollisionFlag.WALL_SOUTH_EAST & getWorld().getTraversalMask(getX() + 1, getY() - 1)) == 0) {
 			return true;
 		}
 		if (minX <= getX() - 1 && maxX >= getX() - 1 && minY <= getY() + 1 && maxY >= getY() + 1
-			&& (getWorld().getTile(getX() - 1, getY() + 1).traversalMask & CollisionFlag.WALL_NORTH_WEST) == 0) {
+			&& (getWorld().getTraversalMask(getX() - 1, getY() + 1) & CollisionFlag.WALL_NORTH_WEST) == 0) {
 			return true;
 		}
 		if (1 + getX() >= minX && getX() + 1 <= maxX && getY() + 1 >= minY && maxY >= getY() + 1
-			&& (CollisionFlag.WALL_NORTH_EAST & getWorld().getTile(getX() + 1, getY() + 1).traversalMask) == 0) {
+			&& (CollisionFlag.WALL_NORTH_EAST & getWorld().getTraversalMask(getX() + 1, getY() + 1)) == 0) {
 			return true;
 		}
 		return false;
@@ -305,7 +303,7 @@ public abstract class Mob extends Entity {
 	}
 
 	private boolean isBlocking(Entity e, int x, int y, int bit) {
-		int val = getWorld().getTile(x, y).traversalMask;
+		int val = getWorld().getTraversalMask(x, y);
 		if ((val & bit) != 0) {
 			return true;
 		}
@@ -589,6 +587,7 @@ public abstract class Mob extends Entity {
 			combatEvent = new CombatEvent(getWorld(), this, victim);
 			victim.setCombatEvent(combatEvent);
 			getWorld().getServer().getGameEventHandler().add(combatEvent);
+			getWorld().aggroStateChanged();
 			if (gotUnderAttack) {
 				if (victim.isPlayer()) {
 					ActionSender.sendSound((Player) victim, "underattack");
@@ -671,16 +670,9 @@ public abstract class Mob extends Entity {
 	 * GAME LOGIC
 	 */
 	public void cure() {
-		final Mob me = this;
-		final PoisonEvent poisonEvent = getAttribute("poisonEvent", null);
-		if (poisonEvent != null) {
-			poisonEvent.stop();
-			removeAttribute("poisonEvent");
-			if (me.isPlayer()) {
-				if (((Player) me).getCache().hasKey("poisoned")) {
-					((Player) me).getCache().remove("poisoned");
-				}
-			}
+		getWorld().getMobEffects().cure(this);
+		if (isPlayer() && ((Player) this).getCache().hasKey("poisoned")) {
+			((Player) this).getCache().remove("poisoned");
 		}
 	}
 
@@ -703,12 +695,14 @@ public abstract class Mob extends Entity {
 	}
 
 	public void startPoisonEvent() {
-		if (getAttribute("poisonEvent", null) != null) {
-			cure();
-		}
-		final PoisonEvent poisonEvent = new PoisonEvent(getWorld(), this, getPoisonDamage());
-		setAttribute("poisonEvent", poisonEvent);
-		getWorld().getServer().getGameEventHandler().add(poisonEvent);
+		startPoisonEvent(getPoisonDamage());
+	}
+
+	/**
+	 * Poisons this mob with the given power, replacing any poison it already has.
+	 */
+	public void startPoisonEvent(final int poisonPower) {
+		getWorld().getMobEffects().startPoison(this, poisonPower);
 	}
 
 	/**
@@ -807,18 +801,18 @@ public abstract class Mob extends Entity {
 		mobSprite = x;
 	}
 
-	public StatRestorationEvent getStatRestorationEvent() {
-		return statRestorationEvent;
-	}
-
-	public void tryResyncStatEvent() { statRestorationEvent.tryResyncStat(); }
+	public void tryResyncStatEvent() { getWorld().getMobEffects().tryResyncStat(this); }
 
-	public void tryResyncHitEvent() { statRestorationEvent.tryResyncHit(); }
+	public void tryResyncHitEvent() { getWorld().getMobEffects().tryResyncHit(this); }
 
 	public UpdateFlags getUpdateFlags() {
 		return updateFlags;
 	}
 
+	public UpdateFragments getUpdateFragments() {
+		return updateFragments;
+	}
+
 	public synchronized ViewArea getViewArea() {
 		return viewArea;
 	}
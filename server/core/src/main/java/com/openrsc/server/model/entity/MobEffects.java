@@ -0,0 +1,351 @@
+package com.openrsc.server.model.entity;
+
+import com.openrsc.server.constants.Skills;
+import com.openrsc.server.external.PrayerDef;
+import com.openrsc.server.model.entity.npc.Npc;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.model.entity.player.Prayers;
+import com.openrsc.server.model.entity.update.HpUpdate;
+import com.openrsc.server.model.world.World;
+import com.openrsc.server.util.EntityList;
+
+import java.util.Arrays;
+
+/**
+ * Stat restoration, prayer drain and poison for every mob in the world, stepped in one pass per tick.
+ * The state lives in arrays indexed by the mob's world index so no mob needs an event of its own.
+ * Hit restoration is independent of the other stats, and the restoration timer may be re-synced
+ * if the mob has no stats to restore and a new trigger occurs such as drinking a potion.
+ */
+public final class MobEffects {
+	/**
+	 * Ticks between poison hits.
+	 */
+	private static final int POISON_DELAY = 32;
+	private static final int PRAYER_COUNT = 14;
+	private static final long NOT_POISONED = -1;
+
+	/**
+	 * The effect state of every slot in one of the world's entity lists.
+	 */
+	private static final class Slots {
+		private final Mob[] owners;
+		private final long[] lastStatRestoration;
+		private final long[] lastHitRestoration;
+		/**
+		 * One bit per skill that is being restored, hits and prayer are never in here.
+		 */
+		private final long[] restoringStats;
+		private final boolean[] restoringHits;
+		private final int[] poisonPower;
+		private final long[] poisonDueTick;
+
+		private Slots(final int capacity) {
+			owners = new Mob[capacity];
+			lastStatRestoration = new long[capacity];
+			lastHitRestoration = new long[capacity];
+			restoringStats = new long[capacity];
+			restoringHits = new boolean[capacity];
+			poisonPower = new int[capacity];
+			poisonDueTick = new long[capacity];
+		}
+	}
+
+	private final World world;
+	private final Slots players;
+	private final Slots npcs;
+	private final int playerSkills;
+	private final PrayerDef[] prayers = new PrayerDef[PRAYER_COUNT];
+
+	private int lastStepCount = 0;
+
+	public MobEffects(final World world) {
+		this.world = world;
+		this.players = new Slots(world.getPlayers().getCapacity());
+		this.npcs = new Slots(world.getNpcs().getCapacity());
+		this.playerSkills = world.getServer().getConstants().getSkills().getSkillsCount();
+	}
+
+	/**
+	 * Runs one tick of every effect. Called by the game event handler on the game thread before any due event runs.
+	 */
+	public void step(final long tick) {
+		final long now = System.currentTimeMillis();
+		int stepped = 0;
+
+		final EntityList<Player> playerList = world.getPlayers();
+		for (int index = 0; index < players.owners.length; index++) {
+			final Player player = playerList.get(index);
+			if (player == null || !player.isLoggedIn() || player.isRemoved()) {
+				continue;
+			}
+			claim(players, index, player, now, tick);
+			restore(players, index, player, playerSkills, now);
+			drainPrayer(player);
+			poison(players, index, player, tick);
+			stepped++;
+		}
+
+		final EntityList<Npc> npcList = world.getNpcs();
+		for (int index = 0; index < npcs.owners.length; index++) {
+			final Npc npc = npcList.get(index);
+			if (npc == null) {
+				continue;
+			}
+			claim(npcs, index, npc, now, tick);
+			restore(npcs, index, npc, 4, now);
+			poison(npcs, index, npc, tick);
+			stepped++;
+		}
+
+		lastStepCount = stepped;
+	}
+
+	public void clear() {
+		Arrays.fill(players.owners, null);
+		Arrays.fill(npcs.owners, null);
+	}
+
+	public int getLastStepCount() {
+		return lastStepCount;
+	}
+
+	/**
+	 * Resets a slot when a mob is seen in it for the first time, picking up poison a player logged out with.
+	 */
+	private void claim(final Slots slots, final int index, final Mob mob, final long now, final long tick) {
+		if (slots.owners[index] == mob) {
+			return;
+		}
+		slots.owners[index] = mob;
+		slots.lastStatRestoration[index] = now;
+		slots.lastHitRestoration[index] = now;
+		slots.restoringStats[index] = 0;
+		slots.restoringHits[index] = false;
+		slots.poisonPower[index] = 0;
+		slots.poisonDueTick[index] = NOT_POISONED;
+		if (mob.isPlayer() && ((Player) mob).getCache().hasKey("poisoned")) {
+			slots.poisonPower[index] = ((Player) mob).getCache().getInt("poisoned");
+			slots.poisonDueTick[index] = tick + POISON_DELAY;
+		}
+	}
+
+	/**
+	 * @return The slot the mob owns, or -1 if it has not been stepped in its current world index yet.
+	 */
+	private int slotOf(final Slots slots, final Mob mob) {
+		final int index = mob.getIndex();
+		if (index < 0 || index >= slots.owners.length || slots.owners[index] != mob) {
+			return -1;
+		}
+		return index;
+	}
+
+	private Slots slotsFor(final Mob mob) {
+		return mob.isPlayer() ? players : npcs;
+	}
+
+	private void restore(final Slots slots, final int index, final Mob mob, final int skillCount, final long now) {
+		boolean restoredStats = false;
+		boolean restoredHits = false;
+
+		// Add new skills to the restoration cycle
+		for (int skill = 0; skill < skillCount; skill++) {
+			if (skill == Skills.PRAYER || !needsRestore(mob, skill)) {
+				continue;
+			}
+			if (skill == Skills.HITS) {
+				slots.restoringHits[index] = true;
+			} else {
+				slots.restoringStats[index] |= 1L << skill;
+			}
+		}
+
+		final int gameTick = world.getServer().getConfig().GAME_TICK;
+
+		// Check for Hits
+		if (slots.restoringHits[index]) {
+			long delay = 100 * gameTick; // 64 seconds in authentic rate
+			if (mob.isPlayer() && ((Player) mob).getPrayers().isPrayerActivated(Prayers.RAPID_HEAL)) {
+				delay = 50 * gameTick;
+			}
+			final long lastHit = slots.lastHitRestoration[index];
+			final long deltaCycles = (now - lastHit) / delay;
+			if (now - lastHit > delay && mob.isPlayer()) {
+				normalizeLevel(slots, index, mob, Skills.HITS);
+				restoredHits = true;
+				final Player player = (Player) mob;
+				if (player.getParty() != null) {
+					player.getUpdateFlags().setHpUpdate(new HpUpdate(player, 0));
+					if (world.getServer().getConfig().WANT_PARTIES) {
+						player.getParty().sendParty();
+					}
+				}
+			} else if (!mob.isPlayer() && (now - (lastHit + deltaCycles * delay)) / (delay / 100) == 1) {
+				// npc only gets heal cycle sync on (re)spawn
+				normalizeLevel(slots, index, mob, Skills.HITS);
+			}
+		}
+
+		// Every other skill
+		final long restoring = slots.restoringStats[index];
+		if (restoring != 0) {
+			long delay = 100 * gameTick; // 64 seconds in authentic rate
+			if (mob.isPlayer() && ((Player) mob).getPrayers().isPrayerActivated(Prayers.RAPID_RESTORE)) {
+				delay = 50 * gameTick;
+			}
+			if (now - slots.lastStatRestoration[index] > delay) {
+				for (int skill = 0; skill < skillCount; skill++) {
+					if ((restoring & (1L << skill)) == 0) {
+						continue;
+					}
+					restoredStats = true;
+					if (normalizeLevel(slots, index, mob, skill) && mob.isPlayer()) {
+						((Player) mob).message("Your " + world.getServer().getConstants().getSkills().getSkillName(skill).toLowerCase()
+							+ " ability has returned to normal.");
+					}
+				}
+			}
+		}
+
+		if (restoredHits) {
+			slots.lastHitRestoration[index] = now;
+		}
+		if (restoredStats) {
+			slots.lastStatRestoration[index] = now;
+		}
+	}
+
+	/**
+	 * Moves a level one step towards its max level and stops restoring it once it gets there.
+	 *
+	 * @return true if the level is now normal
+	 */
+	private boolean normalizeLevel(final Slots slots, final int index, final Mob mob, final int skill) {
+		int cur = mob.getSkills().getLevel(skill);
+		final int norm = mob.getSkills().getMaxStat(skill);
+
+		if (cur > norm) {
+			mob.getSkills().setLevel(skill, --cur, true);
+		} else if (cur < norm) {
+			mob.getSkills().setLevel(skill, ++cur, true);
+		}
+
+		if (cur != norm) {
+			return false;
+		}
+		if (skill == Skills.HITS) {
+			slots.restoringHits[index] = false;
+		} else {
+			slots.restoringStats[index] &= ~(1L << skill);
+		}
+		return true;
+	}
+
+	private boolean needsRestore(final Mob mob, final int skill) {
+		return mob.getSkills().getLevel(skill) != mob.getSkills().getMaxStat(skill);
+	}
+
+	public void tryResyncStat(final Mob mob) {
+		final Slots slots = slotsFor(mob);
+		final int index = slotOf(slots, mob);
+		if (index != -1 && slots.restoringStats[index] == 0) {
+			slots.lastStatRestoration[index] = System.currentTimeMillis();
+		}
+	}
+
+	public void tryResyncHit(final Mob mob) {
+		final Slots slots = slotsFor(mob);
+		final int index = slotOf(slots, mob);
+		if (index != -1 && !needsRestore(mob, Skills.HITS)) {
+			slots.lastHitRestoration[index] = System.currentTimeMillis();
+			slots.restoringHits[index] = false;
+		}
+	}
+
+	private void drainPrayer(final Player player) {
+		int totalRate = 0;
+		for (int prayer = 0; prayer < PRAYER_COUNT; prayer++) {
+			if (player.getPrayers().isPrayerActivated(prayer)) {
+				if (prayers[prayer] == null) {
+					prayers[prayer] = world.getServer().getEntityHandler().getPrayerDef(prayer);
+				}
+				totalRate += prayers[prayer].getDrainRate();
+			}
+		}
+		if (totalRate == 0) {
+			return;
+		}
+
+		// since this runs every tick instead of on a ms basis, no need to include getConfig().GAME_TICK into equation
+		final int pointDrainage = (int) Math.ceil(totalRate * 120 / (300 * (1 + (player.getPrayerPoints() - 1) / 32.0)));
+		if (pointDrainage <= 0) {
+			return;
+		}
+		final int currentPrayerStatePoints = player.getPrayerStatePoints();
+		if (currentPrayerStatePoints > pointDrainage) {
+			final int newPrayerStatePoints = currentPrayerStatePoints - pointDrainage;
+			player.setPrayerStatePoints(newPrayerStatePoints);
+			final int normPrayer = (int) Math.ceil(newPrayerStatePoints / 120.0);
+			if (normPrayer < player.getSkills().getLevel(Skills.PRAYER)) {
+				player.getSkills().setLevel(Skills.PRAYER, normPrayer);
+			}
+		} else {
+			player.setPrayerStatePoints(0);
+			player.getSkills().setLevel(Skills.PRAYER, 0);
+			player.getPrayers().resetPrayers();
+			player.message("You have run out of prayer points. Return to a church to recharge");
+		}
+	}
+
+	private void poison(final Slots slots, final int index, final Mob mob, final long tick) {
+		if (slots.poisonDueTick[index] == NOT_POISONED || slots.poisonDueTick[index] > tick) {
+			return;
+		}
+		final int power = slots.poisonPower[index];
+		if (power < 10) {
+			mob.cure();
+			return;
+		}
+		final int damage = power / 10;
+		slots.poisonPower[index] = power - 2;
+		slots.poisonDueTick[index] = tick + POISON_DELAY;
+		if (mob.isPlayer()) {
+			final Player player = (Player) mob;
+			player.message("@gr3@You @gr2@are @gr1@poisioned! @gr2@You @gr3@lose @gr2@" + damage + " @gr1@health.");
+			player.getCache().set("poisoned", power - 2);
+		}
+		mob.damage(damage);
+	}
+
+	/**
+	 * Poisons a mob, replacing any poison it already has. The first hit lands {@value #POISON_DELAY} ticks from now.
+	 * Does nothing for a mob that is not in the world yet, a player logging in picks up their poison from their cache.
+	 */
+	public void startPoison(final Mob mob, final int power) {
+		final Slots slots = slotsFor(mob);
+		final int index = mob.getIndex();
+		final EntityList<? extends Mob> list = mob.isPlayer() ? world.getPlayers() : world.getNpcs();
+		if (index < 0 || index >= slots.owners.length || list.get(index) != mob) {
+			return;
+		}
+		final long tick = world.getServer().getGameEventHandler().getCurrentTick();
+		claim(slots, index, mob, System.currentTimeMillis(), tick);
+		slots.poisonPower[index] = power;
+		slots.poisonDueTick[index] = tick + POISON_DELAY;
+	}
+
+	/**
+	 * @return true if the mob was poisoned
+	 */
+	public boolean cure(final Mob mob) {
+		final Slots slots = slotsFor(mob);
+		final int index = slotOf(slots, mob);
+		if (index == -1 || slots.poisonDueTick[index] == NOT_POISONED) {
+			return false;
+		}
+		slots.poisonDueTick[index] = NOT_POISONED;
+		slots.poisonPower[index] = 0;
+		return true;
+	}
+}
@@ -118,8 +118,6 @@ public class Npc extends Mob {
 		  Unique ID for event tracking.
 		 */
 		setUUID(UUID.randomUUID().toString());
-
-		getWorld().getServer().getGameEventHandler().add(getStatRestorationEvent());
 	}
 
 	/**
@@ -13,6 +13,7 @@ import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -33,6 +34,15 @@ public class NpcBehavior {
 	private boolean draynorManorSkeleton;
 	private boolean blackKnightsFortress;
 
+	/**
+	 * The aggro target planAggroTarget found for this tick, used by tick instead of scanning the players in view again
+	 * while it can still be aggroed. A plan that found nothing is trusted as well, unless the world's aggro state
+	 * changed since the plan began.
+	 */
+	private Player plannedAggroTarget;
+	private boolean aggroPlanned;
+	private long plannedAggroStateVersion;
+
 	NpcBehavior(final Npc npc) {
 		this.npc = npc;
 		this.blackKnightsFortress = npc.getLoc().startX() > 274 && npc.getLoc().startX() < 283
@@ -57,26 +67,65 @@ public class NpcBehavior {
 	}
 
 	public void tick() {
-		if (state == State.ROAM) {
-			handleRoam();
-		} else if (state == State.AGGRO) {
-			handleAggro();
-		} else if (state == State.COMBAT) {
-			handleCombat();
-		} else if (state == State.TACKLE) {
-			handleTackle();
-		} else if (state == State.RETREAT || state == State.TACKLE_RETREAT) {
-			if (npc.finishedPath()) setRoaming();
+		try {
+			if (state == State.ROAM) {
+				handleRoam();
+			} else if (state == State.AGGRO) {
+				handleAggro();
+			} else if (state == State.COMBAT) {
+				handleCombat();
+			} else if (state == State.TACKLE) {
+				handleTackle();
+			} else if (state == State.RETREAT || state == State.TACKLE_RETREAT) {
+				if (npc.finishedPath()) setRoaming();
+			}
+		} finally {
+			plannedAggroTarget = null;
+			aggroPlanned = false;
 		}
 	}
 
+	/**
+	 * Starts this tick's aggro plan if the NPC is due to look for a target, see planAggroTarget.
+	 *
+	 * @return Whether the NPC should be offered the players around it.
+	 */
+	public boolean beginAggroPlan() {
+		if (state != State.ROAM || npc.getDef().isPlagueSheep() || !canScanForAggro()) {
+			return false;
+		}
+		plannedAggroTarget = null;
+		aggroPlanned = true;
+		plannedAggroStateVersion = npc.getWorld().getAggroStateVersion();
+		return true;
+	}
+
+	/**
+	 * Picks this tick's aggro target from the players around the NPC's region, ahead of tick. Only reads the world,
+	 * so NPCs may plan on several threads while the game thread waits.
+	 *
+	 * @param players The players in the NPC's region and the regions around it, in the order visitLocalPlayers visits them.
+	 */
+	public void planAggroTarget(final List<Player> players) {
+		for (final Player player : players) {
+			if (player.withinRange(npc) && player.withinRange(npc, aggroRadius) && canAggro(player)) {
+				plannedAggroTarget = player;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return Whether the NPC is idle and may be ticked less often while no player can see it.
+	 */
+	public boolean isIdle() {
+		return state == State.ROAM && npc.finishedPath() && !npc.inCombat() && !npc.isBusy();
+	}
+
 	private void handleRoam() {
 
 		// Plagued sheep shouldn't roam
-		if (npc.getID() == NpcId.FIRST_PLAGUE_SHEEP.id() ||
-			npc.getID() == NpcId.SECOND_PLAGUE_SHEEP.id() ||
-			npc.getID() == NpcId.THIRD_PLAGUE_SHEEP.id() ||
-			npc.getID() == NpcId.FOURTH_PLAGUE_SHEEP.id()) {
+		if (npc.getDef().isPlagueSheep()) {
 			return;
 		}
 
@@ -89,43 +138,40 @@ public class NpcBehavior {
 		}
 
 		// Check if NPC will aggro
-		if (checkCombatTimer(npc.getCombatTimer(), 5)) {
-			if ((npc.getDef().isAggressive() && !draynorManorSkeleton) || npc.getLocation().inWilderness() || (blackKnightsFortress)) {
-
-				// We loop through all players in view.
-				for (Player player : npc.getViewArea().getPlayersInView()) {
-
-					if (!player.withinRange(npc, aggroRadius)) continue;
-
-					// Player is a new target AND can't aggro.
-					if (!canAggro(player)) {
-						continue;
-					}
-
-					// Remove the opponent if the player has not been engaged in > 10 seconds
-					if (npc.getLastOpponent() == player && checkCombatTimer(npc.getLastOpponent().getCombatTimer(), 200)) {
-						npc.setLastOpponent(null);
-						setRoaming();
-					}
-
-					// AggroEvent, as NPC should target this player.
-					else {
-						setChasing(player);
-						handleAggro();
-						new AggroEvent(npc.getWorld(), npc, player);
-					}
-
-					// We've found a target, or stopped our aggro,
-					// so stop looping and take a tick break.
-					return;
+		if (canScanForAggro()) {
+			Player player = aggroPlanned ? plannedAggroTarget : null;
+
+			// An NPC ticked before this one may have engaged the planned target, or released a player the plan
+			// could not pick yet. Either bumps the aggro state, so only then is the plan checked against a new scan.
+			if (!aggroPlanned) {
+				player = findAggroTarget();
+			} else if (plannedAggroStateVersion != npc.getWorld().getAggroStateVersion()
+				&& (player == null || !player.withinRange(npc, aggroRadius) || !canAggro(player))) {
+				player = findAggroTarget();
+			}
+
+			if (player != null) {
+				// Remove the opponent if the player has not been engaged in > 10 seconds
+				if (npc.getLastOpponent() == player && checkCombatTimer(npc.getLastOpponent().getCombatTimer(), 200)) {
+					npc.setLastOpponent(null);
+					setRoaming();
+				}
+
+				// AggroEvent, as NPC should target this player.
+				else {
+					setChasing(player);
+					handleAggro();
+					new AggroEvent(npc.getWorld(), npc, player);
 				}
+
+				// We've found a target, or stopped our aggro,
+				// so stop looping and take a tick break.
+				return;
 			}
 		}
 
 		// Check for tackle
-		if (System.currentTimeMillis() - lastTackleAttempt > npc.getConfig().GAME_TICK * 5 &&
-			npc.getDef().getName().toLowerCase().equals("gnome baller")
-			&& !(npc.getID() == NpcId.GNOME_BALLER_TEAMNORTH.id() || npc.getID() == NpcId.GNOME_BALLER_TEAMSOUTH.id())) {
+		if (npc.getDef().isTackler() && System.currentTimeMillis() - lastTackleAttempt > npc.getConfig().GAME_TICK * 5) {
 			for (Player player : npc.getViewArea().getPlayersInView()) {
 				int range = 1;
 				if (!player.withinRange(npc, range) || !player.getCarriedItems().hasCatalogID(ItemId.GNOME_BALL.id(), Optional.of(false))
@@ -155,6 +201,27 @@ public class NpcBehavior {
 		}
 	}
 
+	private boolean canScanForAggro() {
+		return checkCombatTimer(npc.getCombatTimer(), 5)
+			&& ((npc.getDef().isAggressive() && !draynorManorSkeleton) || npc.getLocation().inWilderness() || (blackKnightsFortress));
+	}
+
+	/**
+	 * @return The first player in view the NPC can aggro, or null.
+	 */
+	private Player findAggroTarget() {
+		final Player[] found = new Player[1];
+		npc.getWorld().getRegionManager().visitLocalPlayers(npc, player -> {
+			// Player is a new target AND can't aggro.
+			if (!player.withinRange(npc, aggroRadius) || !canAggro(player)) {
+				return true;
+			}
+			found[0] = player;
+			return false;
+		});
+		return found[0];
+	}
+
 	private void handleAggro() {
 		// There should not be combat or aggro. Let's resume roaming.
 		if (target == null || target.isRemoved() || target.inCombat() || npc.isRespawning() || npc.isRemoved()) {
@@ -364,11 +431,13 @@ public class NpcBehavior {
 	public void setChasing(final Player player) {
 		state = State.AGGRO;
 		target = player;
+		npc.getWorld().aggroStateChanged();
 	}
 
 	public void setChasing(final Npc npc) {
 		state = State.AGGRO;
 		target = npc;
+		this.npc.getWorld().aggroStateChanged();
 	}
 
 	Player getChasedPlayer() {
@@ -394,6 +463,9 @@ public class NpcBehavior {
 
 	public void setRoaming() {
 		npc.setExecutedAggroScript(false);
+		if (state != State.ROAM) {
+			npc.getWorld().aggroStateChanged();
+		}
 		state = State.ROAM;
 	}
 
@@ -30,6 +30,7 @@ import com.openrsc.server.model.entity.Mob;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.struct.UnequipRequest;
 import com.openrsc.server.model.world.World;
+import com.openrsc.server.net.IncomingPacketQueue;
 import com.openrsc.server.net.Packet;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.net.rsc.OpcodeIn;
@@ -46,8 +47,8 @@ import org.apache.logging.log4j.Logger;
 
 import java.net.InetSocketAddress;
 import java.util.*;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -90,10 +91,22 @@ public final class Player extends Mob {
 	private Party party;
 	private ClanInvite activeClanInvitation;
 	private PartyInvite activePartyInvitation;
+	public static final int SAVE_INVENTORY = 1;
+	public static final int SAVE_EQUIPMENT = 1 << 1;
+	public static final int SAVE_BANK = 1 << 2;
+	public static final int SAVE_BANK_PRESETS = 1 << 3;
+	public static final int SAVE_QUESTS = 1 << 4;
+	public static final int SAVE_SKILLS = 1 << 5;
+	public static final int SAVE_SOCIAL = 1 << 6;
+	public static final int SAVE_ALL = (1 << 7) - 1;
 	public final int MAX_FATIGUE = 150000;
 	public final String MEMBER_MESSAGE = "This feature is only available for members only";
 	private final Map<Integer, Integer> killCache = new HashMap<>();
 	private boolean killCacheUpdated = false;
+	/**
+	 * Save sections changed since they were last written, incremental saves only write these.
+	 */
+	private final AtomicInteger unsavedSections = new AtomicInteger(0);
 	private final Map<Integer, Integer> questStages = new ConcurrentHashMap<>();
 	private int IRON_MAN_MODE = IronmanMode.None.id();
 	private int IRON_MAN_RESTRICTION = 1;
@@ -128,15 +141,11 @@ public final class Player extends Mob {
 	/**
 	 * Received packets from this player yet to be processed.
 	 */
-	private final LinkedList<Packet> incomingPackets = new LinkedList<>();
+	private final IncomingPacketQueue incomingPackets;
 	/**
 	 * Outgoing packets from this player yet to be processed.
 	 */
 	private final ArrayList<Packet> outgoingPackets = new ArrayList<>();
-	/**
-	 * Current active packets - used on packets that should be rated to 1-per-player.
-	 */
-	private final ArrayList<Integer> activePackets = new ArrayList<>();
 	/**
 	 * Added by Zerratar: Correct sleepword we are looking for! Case SenSitIvE
 	 */
@@ -165,10 +174,6 @@ public final class Player extends Mob {
 	 * Unix time when the player logged in
 	 */
 	private long currentLogin = 0;
-	/**
-	 * DelayedEvent responsible for handling prayer drains
-	 */
-	private PrayerDrainEvent prayerDrainEvent;
 	/**
 	 * The drain rate of the prayers currently enabled
 	 */
@@ -352,6 +357,11 @@ public final class Player extends Mob {
 
 		channel = request.getChannel();
 
+		// Item commands and talking to npcs are rated to 1-per-player until the queued one is handled.
+		incomingPackets = new IncomingPacketQueue(getWorld().getServer().getConfig().PACKET_LIMIT + 1);
+		incomingPackets.setTokens(OpcodeIn.ITEM_COMMAND.getOpcode(), 1);
+		incomingPackets.setTokens(OpcodeIn.NPC_TALK_TO.getOpcode(), 1);
+
 		currentIP = ((InetSocketAddress) request.getChannel().remoteAddress()).getAddress().getHostAddress();
 		currentLogin = System.currentTimeMillis();
 
@@ -463,24 +473,13 @@ public final class Player extends Mob {
 	}
 
 	public boolean requiresAppearanceUpdateFor(final Player player) {
-		for (Entry<Long, Integer> entry : knownPlayersAppearanceIDs.entrySet()) {
-			if (entry.getKey() == player.getUsernameHash()) {
-				if (entry.getValue() != player.getAppearanceID()) {
-					knownPlayersAppearanceIDs.put(player.getUsernameHash(), player.getAppearanceID());
-					return true;
-				}
-				return false;
-			}
-		}
-		knownPlayersAppearanceIDs.put(player.getUsernameHash(), player.getAppearanceID());
-		return true;
+		final Integer knownAppearanceID = knownPlayersAppearanceIDs.put(player.getUsernameHash(), player.getAppearanceID());
+		return knownAppearanceID == null || knownAppearanceID != player.getAppearanceID();
 	}
 
 	public boolean requiresAppearanceUpdateForPeek(final Player player) {
-		for (Entry<Long, Integer> entry : knownPlayersAppearanceIDs.entrySet())
-			if (entry.getKey() == player.getUsernameHash())
-				return entry.getValue() != player.getAppearanceID();
-		return true;
+		final Integer knownAppearanceID = knownPlayersAppearanceIDs.get(player.getUsernameHash());
+		return knownAppearanceID == null || knownAppearanceID != player.getAppearanceID();
 	}
 
 	public HashMap<Long, Integer> getKnownPlayerAppearanceIDs() {
@@ -932,6 +931,24 @@ public final class Player extends Mob {
 		killCacheUpdated = value;
 	}
 
+	/**
+	 * Flags sections of the player's save as changed, called after the change is made.
+	 *
+	 * @param sections SAVE_* bits
+	 */
+	public void markUnsaved(final int sections) {
+		unsavedSections.getAndAccumulate(sections, (current, added) -> current | added);
+	}
+
+	/**
+	 * Clears the changed sections before they are read for a save. Sections that fail to save are marked again.
+	 *
+	 * @return The SAVE_* bits that were set
+	 */
+	public int takeUnsavedSections() {
+		return unsavedSections.getAndSet(0);
+	}
+
 	public long getCastTimer() {
 		return lastSpellCast;
 	}
@@ -995,10 +1012,6 @@ public final class Player extends Mob {
 		return (int) ((now - lastRecoveryChangeRequest) / 86400);
 	}
 
-	public PrayerDrainEvent getDrainer() {
-		return prayerDrainEvent;
-	}
-
 	public int getDrainRate() {
 		return drainRate;
 	}
@@ -1645,15 +1658,8 @@ public final class Player extends Mob {
 	public void setLoggedIn(final boolean loggedIn) {
 		if (loggedIn) {
 			currentLogin = System.currentTimeMillis();
-			if (getCache().hasKey("poisoned")) {
-				startPoisonEvent();
-				PoisonEvent poisonEvent = getAttribute("poisonEvent", null);
-				poisonEvent.setPoisonPower(getCache().getInt("poisoned"));
-			}
+			// Poison carried over in the cache, stat restoration and prayer drain start when the world's mob effects first see this player
 			prayerStatePoints = getSkills().getLevel(Skills.PRAYER) * 120;
-			prayerDrainEvent = new PrayerDrainEvent(getWorld(), this, Integer.MAX_VALUE);
-			getWorld().getServer().getGameEventHandler().add(prayerDrainEvent);
-			getWorld().getServer().getGameEventHandler().add(getStatRestorationEvent());
 		}
 		this.loggedIn = loggedIn;
 	}
@@ -1863,14 +1869,15 @@ public final class Player extends Mob {
 
 	public void addToPacketQueue(final Packet e) {
 		ping();
-		if ((e.getID() == OpcodeIn.ITEM_COMMAND.getOpcode() || e.getID() == OpcodeIn.NPC_TALK_TO.getOpcode()) && activePackets.contains(e.getID())) {
-			return;
-		}
-		if (incomingPackets.size() <= getWorld().getServer().getConfig().PACKET_LIMIT) {
-			synchronized (incomingPackets) {
-				incomingPackets.add(e);
-				activePackets.add(e.getID());
-			}
+		switch (incomingPackets.offer(e)) {
+			case FULL:
+				getWorld().getServer().incrementDroppedIncomingPacketCount(e.getID());
+				break;
+			case RATE_LIMITED:
+				getWorld().getServer().incrementRateLimitedIncomingPacketCount(e.getID());
+				break;
+			default:
+				break;
 		}
 	}
 
@@ -1916,32 +1923,27 @@ public final class Player extends Mob {
 		if (!channel.isOpen() && !channel.isWritable()) {
 			return;
 		}
-		synchronized (incomingPackets) {
-			Packet packet = incomingPackets.poll();
-			while (packet != null) {
-				// Final copied variable needed to pass into lambda
-				final Packet curPacket = packet;
-				final long packetTime = getWorld().getServer().bench(
-					() -> {
-						activePackets.remove(activePackets.indexOf(curPacket.getID()));
-						final PacketHandler ph = PacketHandlerLookup.get(curPacket.getID());
-						if (ph != null && curPacket.getBuffer().readableBytes() >= 0) {
-							try {
-								ph.handlePacket(curPacket, this);
-							} catch (final Exception e) {
-								LOGGER.catching(e);
-								unregister(false, "Malformed packet!");
-							}
+		// Only handle what was queued when the tick started, packets arriving meanwhile wait for the next tick.
+		int pending = incomingPackets.size();
+		Packet packet;
+		while (pending-- > 0 && (packet = incomingPackets.poll()) != null) {
+			// Final copied variable needed to pass into lambda
+			final Packet curPacket = packet;
+			final long packetTime = getWorld().getServer().bench(
+				() -> {
+					final PacketHandler ph = PacketHandlerLookup.get(curPacket.getID());
+					if (ph != null && curPacket.getBuffer().readableBytes() >= 0) {
+						try {
+							ph.handlePacket(curPacket, this);
+						} catch (final Exception e) {
+							LOGGER.catching(e);
+							unregister(false, "Malformed packet!");
 						}
 					}
-				);
-				getWorld().getServer().addIncomingPacketDuration(curPacket.getID(), packetTime);
-				getWorld().getServer().incrementIncomingPacketCount(curPacket.getID());
-
-				packet = incomingPackets.poll();
-			};
-
-			incomingPackets.clear();
+				}
+			);
+			getWorld().getServer().addIncomingPacketDuration(curPacket.getID(), packetTime);
+			getWorld().getServer().incrementIncomingPacketCount(curPacket.getID());
 		}
 	}
 
@@ -1954,12 +1956,20 @@ public final class Player extends Mob {
 		if (!channel.isOpen() || !isLoggedIn() || !channel.isActive() || !channel.isWritable()) {
 			return;
 		}
+		// Coalesced writes queue the whole tick's packets in the channel and flush the socket once, instead of once per packet.
+		final boolean coalesce = getWorld().getServer().getConfig().WANT_COALESCED_PACKET_WRITES;
 		synchronized (outgoingPackets) {
 			try {
 				for (final Packet outgoing : outgoingPackets) {
+					getWorld().getServer().addOutgoingPacket(outgoing.getBuffer().readableBytes() + (outgoing.isRaw() ? 0 : 3));
 					final long packetTime = getWorld().getServer().bench(
 						() -> {
-							channel.writeAndFlush(outgoing);
+							if (coalesce) {
+								channel.write(outgoing);
+							} else {
+								channel.writeAndFlush(outgoing);
+								getWorld().getServer().incrementOutgoingFlushCount();
+							}
 						}
 					);
 					getWorld().getServer().addOutgoingPacketDuration(outgoing.getID(), packetTime);
@@ -1968,7 +1978,10 @@ public final class Player extends Mob {
 			} catch (final Exception e) {
 				LOGGER.catching(e);
 			}
-			//channel.flush();
+			if (coalesce && !outgoingPackets.isEmpty()) {
+				channel.flush();
+				getWorld().getServer().incrementOutgoingFlushCount();
+			}
 			outgoingPackets.clear();
 		}
 	}
@@ -2205,15 +2218,18 @@ public final class Player extends Mob {
 
 	public void setQuestStage(final int q, final int stage) {
 		getQuestStages().put(q, stage);
+		markUnsaved(SAVE_QUESTS);
 	}
 
 	public void updateQuestStage(final int q, final int stage) {
 		getQuestStages().put(q, stage);
+		markUnsaved(SAVE_QUESTS);
 		ActionSender.sendQuestInfo(this, q, stage);
 	}
 
 	public void updateQuestStage(final QuestInterface q, final int stage) {
 		getQuestStages().put(q.getQuestId(), stage);
+		markUnsaved(SAVE_QUESTS);
 		ActionSender.sendQuestInfo(this, q.getQuestId(), stage);
 	}
 
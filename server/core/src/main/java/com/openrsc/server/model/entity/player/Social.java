@@ -27,18 +27,22 @@ public class Social {
 
 	public void addFriend(long id, int world, String friendName) {
 		friendList.put(id, world);
+		player.markUnsaved(Player.SAVE_SOCIAL);
 	}
 
 	public void addIgnore(long id, int i, String friendName) {
 		ignoreList.add(id);
+		player.markUnsaved(Player.SAVE_SOCIAL);
 	}
 
 	public void removeFriend(long id) {
 		friendList.remove(id);
+		player.markUnsaved(Player.SAVE_SOCIAL);
 	}
 
 	public void removeIgnore(long id) {
 		ignoreList.remove(id);
+		player.markUnsaved(Player.SAVE_SOCIAL);
 	}
 
 	public boolean isFriendsWith(long usernameHash) {
@@ -0,0 +1,52 @@
+package com.openrsc.server.model.entity.update;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Holds the serialized update blocks of a mob for a single client update cycle,
+ * so every player viewing the mob can splice in the same bytes.
+ */
+public class UpdateFragments {
+
+	public static final int APPEARANCE = 0;
+	public static final int CHAT = 1;
+	/**
+	 * Chat as seen by admins, who also receive the text of hidden messages.
+	 */
+	public static final int CHAT_ADMIN = 2;
+	public static final int DAMAGE = 3;
+	public static final int PROJECTILE = 4;
+
+	private static final int FRAGMENT_TYPES = 5;
+
+	private final AtomicReferenceArray<Fragment> fragments = new AtomicReferenceArray<Fragment>(FRAGMENT_TYPES);
+
+	/**
+	 * @return The cached bytes of the given fragment type, or null if they were not built during the given cycle.
+	 */
+	public byte[] get(final int type, final long cycle) {
+		final Fragment fragment = fragments.get(type);
+		return fragment != null && fragment.cycle == cycle ? fragment.data : null;
+	}
+
+	public byte[] put(final int type, final long cycle, final byte[] data) {
+		fragments.set(type, new Fragment(cycle, data));
+		return data;
+	}
+
+	public void clear() {
+		for (int type = 0; type < FRAGMENT_TYPES; type++) {
+			fragments.set(type, null);
+		}
+	}
+
+	private static final class Fragment {
+		private final long cycle;
+		private final byte[] data;
+
+		private Fragment(final long cycle, final byte[] data) {
+			this.cycle = cycle;
+			this.data = data;
+		}
+	}
+}
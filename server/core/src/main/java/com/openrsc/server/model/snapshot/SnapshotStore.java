@@ -0,0 +1,129 @@
+package com.openrsc.server.model.snapshot;
+
+import com.openrsc.server.util.rsc.DataConversions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The most recent snapshots of the world, for abuse reports. Holds at most capacity snapshots and none older than the window,
+ * and indexes them by the owner's username hash so a report only looks at the players involved.
+ */
+public class SnapshotStore {
+	/**
+	 * Every held snapshot in the order they were added. When full the oldest is overwritten.
+	 */
+	private final Snapshot[] ring;
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Each owner's held snapshots, newest first.
+	 */
+	private final Map<Long, ArrayDeque<Snapshot>> byOwner = new HashMap<>();
+
+	private final long windowMillis;
+
+	public SnapshotStore(final int capacity, final long windowMillis) {
+		this.ring = new Snapshot[Math.max(1, capacity)];
+		this.windowMillis = windowMillis;
+	}
+
+	public synchronized void add(final Snapshot snapshot) {
+		final Snapshot evicted = ring[head];
+		if (evicted != null) {
+			removeFromOwner(evicted);
+		}
+		ring[head] = snapshot;
+		head = (head + 1) % ring.length;
+		size = Math.min(size + 1, ring.length);
+
+		byOwner.computeIfAbsent(ownerHash(snapshot.getOwner()), owner -> new ArrayDeque<>()).offerFirst(snapshot);
+		expire(snapshot.getTimestamp());
+	}
+
+	/**
+	 * @return The owner's snapshots from the window, oldest first.
+	 */
+	public synchronized List<Snapshot> getRecent(final String owner) {
+		final ArrayDeque<Snapshot> snapshots = byOwner.get(ownerHash(owner));
+		final List<Snapshot> recent = new ArrayList<>();
+		if (snapshots == null) {
+			return recent;
+		}
+		final long oldest = System.currentTimeMillis() - windowMillis;
+		final Iterator<Snapshot> i = snapshots.descendingIterator();
+		while (i.hasNext()) {
+			final Snapshot snapshot = i.next();
+			if (snapshot.getTimestamp() >= oldest) {
+				recent.add(snapshot);
+			}
+		}
+		return recent;
+	}
+
+	/**
+	 * @return Whether the owner has a snapshot from the window.
+	 */
+	public synchronized boolean hasRecent(final String owner) {
+		final ArrayDeque<Snapshot> snapshots = byOwner.get(ownerHash(owner));
+		return snapshots != null && !snapshots.isEmpty()
+			&& snapshots.peekFirst().getTimestamp() >= System.currentTimeMillis() - windowMillis;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public synchronized void clear() {
+		for (int i = 0; i < ring.length; i++) {
+			ring[i] = null;
+		}
+		head = 0;
+		size = 0;
+		byOwner.clear();
+	}
+
+	/**
+	 * Drops the snapshots that have left the window, oldest first.
+	 */
+	private void expire(final long now) {
+		while (size > 0) {
+			final int tail = (head - size + ring.length) % ring.length;
+			final Snapshot oldest = ring[tail];
+			if (now - oldest.getTimestamp() < windowMillis) {
+				return;
+			}
+			ring[tail] = null;
+			size--;
+			removeFromOwner(oldest);
+		}
+	}
+
+	/**
+	 * An owner's snapshots leave in the order they were added, so the evicted one is always the last in its deque.
+	 */
+	private void removeFromOwner(final Snapshot snapshot) {
+		final long owner = ownerHash(snapshot.getOwner());
+		final ArrayDeque<Snapshot> snapshots = byOwner.get(owner);
+		if (snapshots == null) {
+			return;
+		}
+		if (snapshots.peekLast() == snapshot) {
+			snapshots.pollLast();
+		} else {
+			snapshots.remove(snapshot);
+		}
+		if (snapshots.isEmpty()) {
+			byOwner.remove(owner);
+		}
+	}
+
+	private static long ownerHash(final String owner) {
+		return DataConversions.usernameToHash(owner);
+	}
+}
@@ -16,13 +16,16 @@ import com.openrsc.server.external.GameObjectLoc;
 import com.openrsc.server.external.NPCLoc;
 import com.openrsc.server.io.WorldLoader;
 import com.openrsc.server.model.GlobalMessage;
+import com.openrsc.server.model.PathCache;
 import com.openrsc.server.model.Point;
 import com.openrsc.server.model.Shop;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.GroundItem;
+import com.openrsc.server.model.entity.MobEffects;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.snapshot.Snapshot;
+import com.openrsc.server.model.snapshot.SnapshotStore;
 import com.openrsc.server.model.world.region.RegionManager;
 import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.net.rsc.ActionSender;
@@ -40,6 +43,8 @@ import org.apache.logging.log4j.Logger;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 
@@ -48,6 +53,8 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	private static final Comparator<Npc> NPC_LIST_ORDER = Comparator.comparingInt(Npc::getIndex);
+
 	/**
 	 * Avatar generator upon logout save to PNG.
 	 */
@@ -69,9 +76,21 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	public int godSpellsMax = 5;
 
 	private final RegionManager regionManager;
+	private final PathCache pathCache;
 	private final EntityList<Npc> npcs;
 	private HashMap<String, ArrayList<Npc>> npcPositions;
 	private final EntityList<Player> players;
+	/**
+	 * Secondary indexes over the player and npc lists, kept in step with them on (un)registration.
+	 */
+	private final ConcurrentMap<Long, Player> playersByUsernameHash;
+	private final ConcurrentMap<Integer, Player> playersByDatabaseId;
+	private final ConcurrentMap<String, Player> playersByUUID;
+	private final ConcurrentMap<String, Npc> npcsByUUID;
+	/**
+	 * Ordered by world index, the order the npc list walks its slots in, so the first npc with an id is the same one every time.
+	 */
+	private final ConcurrentMap<Integer, NavigableSet<Npc>> npcsById;
 	private final List<QuestInterface> quests;
 	private final List<MiniGameInterface> minigames;
 	private final List<Shop> shops;
@@ -89,18 +108,42 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	public NpcDrops npcDrops;
 
 	/**
-	 * Double ended queue to store snapshots into
+	 * Recent snapshots for abuse reports, bounded by snapshot_capacity and snapshot_window_seconds
+	 */
+	private final SnapshotStore snapshots;
+
+	/**
+	 * Stat restoration, prayer drain and poison for every player and npc
 	 */
-	private Deque<Snapshot> snapshots;
+	private final MobEffects mobEffects;
+
+	/**
+	 * Bumped whenever an npc starts chasing or a fight starts or ends, so an aggro plan can tell whether what it saw
+	 * still holds, see NpcBehavior.beginAggroPlan
+	 */
+	private final AtomicLong aggroStateVersion = new AtomicLong();
 
 	private final Server server;
 
 	public World(final Server server) {
+		this(server, 2000);
+	}
+
+	/**
+	 * @param playerCapacity How many players the world can hold. Clients address players by 11 bit indexes, so a world
+	 *                       players log in to holds at most 2048.
+	 */
+	public World(final Server server, final int playerCapacity) {
 		this.server = server;
 		this.npcs = new EntityList<>(4000);
 		this.npcPositions = new HashMap<>();
 		this.npcDrops = new NpcDrops(this);
-		this.players = new EntityList<>(2000);
+		this.players = new EntityList<>(playerCapacity);
+		this.playersByUsernameHash = new ConcurrentHashMap<>();
+		this.playersByDatabaseId = new ConcurrentHashMap<>();
+		this.playersByUUID = new ConcurrentHashMap<>();
+		this.npcsByUUID = new ConcurrentHashMap<>();
+		this.npcsById = new ConcurrentHashMap<>();
 		this.quests = Collections.synchronizedList( new LinkedList<>() );
 		this.minigames = Collections.synchronizedList( new LinkedList<>() );
 		this.shops = Collections.synchronizedList( new ArrayList<>() );
@@ -108,19 +151,25 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		this.playerUnderAttackMap = new ConcurrentHashMap<>();
 		this.npcUnderAttackMap = new ConcurrentHashMap<>();
 		this.fishingTrawler = new ConcurrentHashMap<>();
-		this.snapshots = new LinkedList<>();
+		this.mobEffects = new MobEffects(this);
+		this.snapshots = new SnapshotStore(getServer().getConfig().SNAPSHOT_CAPACITY, getServer().getConfig().SNAPSHOT_WINDOW_SECONDS * 1000L);
 		this.avatarGenerator = getServer().getConfig().AVATAR_GENERATOR ? new AvatarGenerator(this) : null;
 		this.worldLoader = new WorldLoader(this);
 		this.regionManager = new RegionManager(this);
+		this.pathCache = getServer().getConfig().WANT_PATH_CACHE ? new PathCache(getServer().getConfig().PATH_CACHE_SIZE) : null;
 		this.clanManager = new ClanManager(this);
 		this.partyManager = new PartyManager(this);
 		this.market = getServer().getConfig().SPAWN_AUCTION_NPCS ? new Market(this) : null;
 	}
 
+	public MobEffects getMobEffects() {
+		return mobEffects;
+	}
+
 	/**
-	 * Returns double-ended queue for snapshots.
+	 * Returns the store of recent snapshots.
 	 */
-	public synchronized Deque<Snapshot> getSnapshots() {
+	public SnapshotStore getSnapshots() {
 		return snapshots;
 	}
 
@@ -128,7 +177,7 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	 * Add entry to snapshots
 	 */
 	public void addEntryToSnapshots(Snapshot snapshot) {
-		getSnapshots().offerFirst(snapshot);
+		getSnapshots().add(snapshot);
 	}
 
 	public int countNpcs() {
@@ -155,7 +204,7 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 			public void action() {
 				registerGameObject(new GameObject(getWorld(), loc));
 				if (forceFullBlock) {
-					getTile(loc.getX(), loc.getY()).traversalMask |= 64;
+					getTile(loc.getX(), loc.getY()).orTraversalMask(64);
 				}
 			}
 		});
@@ -196,22 +245,28 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		return null;
 	}
 
+	public long getAggroStateVersion() {
+		return aggroStateVersion.get();
+	}
+
+	public void aggroStateChanged() {
+		aggroStateVersion.incrementAndGet();
+	}
+
 	public Npc getNpcById(final int id) {
-		for (final Npc npc : getNpcs()) {
-			if (npc.getID() == id) {
-				return npc;
-			}
+		final NavigableSet<Npc> npcsWithId = npcsById.get(id);
+		if (npcsWithId == null) {
+			return null;
 		}
-		return null;
+		final Iterator<Npc> iterator = npcsWithId.iterator();
+		return iterator.hasNext() ? iterator.next() : null;
 	}
 
 	public Npc getNpcByUUID(final String id) {
-		for (final Npc npc : getNpcs()) {
-			if (npc.getUUID() == id) {
-				return npc;
-			}
+		if (id == null) {
+			return null;
 		}
-		return null;
+		return npcsByUUID.get(id);
 	}
 
 	/**
@@ -238,36 +293,24 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	 * Gets a player by their username hash
 	 */
 	public Player getPlayer(final long usernameHash) {
-		for (final Player player : getPlayers()) {
-			if (player.getUsernameHash() == usernameHash) {
-				return player;
-			}
-		}
-		return null;
+		return playersByUsernameHash.get(usernameHash);
 	}
 
 	/**
 	 * Gets a player by their ID
 	 */
 	public Player getPlayerID(final int databaseID) {
-		for (final Player player : getPlayers()) {
-			if (player.getDatabaseID() == databaseID) {
-				return player;
-			}
-		}
-		return null;
+		return playersByDatabaseId.get(databaseID);
 	}
 
 	/**
 	 * Gets a player by their UUID
 	 */
 	public Player getPlayerUUID(final String uuid) {
-		for (final Player player : getPlayers()) {
-			if (player.getUUID().equals(uuid)) {
-				return player;
-			}
+		if (uuid == null) {
+			return null;
 		}
-		return null;
+		return playersByUUID.get(uuid);
 	}
 
 	public EntityList<Player> getPlayers() {
@@ -375,12 +418,21 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		if (getMarket() != null) {
 			getMarket().stop();
 		}
+		if (avatarGenerator != null) {
+			avatarGenerator.stop();
+		}
 		getRegionManager().unload();
 		getNpcDrops().unload();
 		npcs.clear();
+		npcsByUUID.clear();
+		npcsById.clear();
 		npcPositions.clear();
 		players.clear();
+		playersByUsernameHash.clear();
+		playersByDatabaseId.clear();
+		playersByUUID.clear();
 		snapshots.clear();
+		mobEffects.clear();
 		wildernessIPTracker.clear();
 		playerUnderAttackMap.clear();
 		npcUnderAttackMap.clear();
@@ -433,23 +485,23 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 							handleProjectileClipAllowance(x, y, dir, o.getType(), o.getGameObjectDef().getType(), -1);
 						}
 						if (o.getGameObjectDef().getType() == 1) {
-							getTile(x, y).traversalMask |= CollisionFlag.FULL_BLOCK_C;
+							getTile(x, y).orTraversalMask(CollisionFlag.FULL_BLOCK_C);
 						} else if (dir == 0) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_EAST;
+							getTile(x, y).orTraversalMask(CollisionFlag.WALL_EAST);
 							if (getTile(x - 1, y) != null)
-								getTile(x - 1, y).traversalMask |= CollisionFlag.WALL_WEST;
+								getTile(x - 1, y).orTraversalMask(CollisionFlag.WALL_WEST);
 						} else if (dir == 2) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_SOUTH;
+							getTile(x, y).orTraversalMask(CollisionFlag.WALL_SOUTH);
 							if (getTile(x, y + 1) != null)
-								getTile(x, y + 1).traversalMask |= CollisionFlag.WALL_NORTH;
+								getTile(x, y + 1).orTraversalMask(CollisionFlag.WALL_NORTH);
 						} else if (dir == 4) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_WEST;
+							getTile(x, y).orTraversalMask(CollisionFlag.WALL_WEST);
 							if (getTile(x + 1, y) != null)
-								getTile(x + 1, y).traversalMask |= CollisionFlag.WALL_EAST;
+								getTile(x + 1, y).orTraversalMask(CollisionFlag.WALL_EAST);
 						} else if (dir == 6) {
-							getTile(x, y).traversalMask |= CollisionFlag.WALL_NORTH;
+							getTile(x, y).orTraversalMask(CollisionFlag.WALL_NORTH);
 							if (getTile(x, y - 1) != null)
-								getTile(x, y - 1).traversalMask |= CollisionFlag.WALL_SOUTH;
+								getTile(x, y - 1).orTraversalMask(CollisionFlag.WALL_SOUTH);
 						}
 					}
 				}
@@ -465,17 +517,17 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 				}
 				if (dir == 0) {
 
-					getTile(x, y).traversalMask |= CollisionFlag.WALL_NORTH;
+					getTile(x, y).orTraversalMask(CollisionFlag.WALL_NORTH);
 					if (getTile(x, y - 1) != null)
-						getTile(x, y - 1).traversalMask |= CollisionFlag.WALL_SOUTH;
+						getTile(x, y - 1).orTraversalMask(CollisionFlag.WALL_SOUTH);
 				} else if (dir == 1) {
-					getTile(x, y).traversalMask |= CollisionFlag.WALL_EAST;
+					getTile(x, y).orTraversalMask(CollisionFlag.WALL_EAST);
 					if (getTile(x - 1, y) != null)
-						getTile(x - 1, y).traversalMask |= CollisionFlag.WALL_WEST;
+						getTile(x - 1, y).orTraversalMask(CollisionFlag.WALL_WEST);
 				} else if (dir == 2) {
-					getTile(x, y).traversalMask |= CollisionFlag.FULL_BLOCK_A;
+					getTile(x, y).orTraversalMask(CollisionFlag.FULL_BLOCK_A);
 				} else if (dir == 3) {
-					getTile(x, y).traversalMask |= CollisionFlag.FULL_BLOCK_B;
+					getTile(x, y).orTraversalMask(CollisionFlag.FULL_BLOCK_B);
 				}
 				break;
 		}
@@ -505,24 +557,24 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	private void handleProjectileClipAllowance(final int x, final int y, final int dir, final int type, final int objectType, final int doorType) {
 
 		// Always give the current tile a clip mask.
-		getTile(x, y).projectileAllowed = true;
+		getTile(x, y).setProjectileAllowed(true);
 
 		if ((type == 0 && objectType == 1) || (type == 1 && doorType != 1)) return;
 
 		if (dir == 0 && getTile(x - 1, y) != null) {
-			getTile(x - 1, y).projectileAllowed = true;
+			getTile(x - 1, y).setProjectileAllowed(true);
 		}
 
 		else if (dir == 2 && getTile(x, y + 1) != null) {
-			getTile(x, y + 1).projectileAllowed = true;
+			getTile(x, y + 1).setProjectileAllowed(true);
 		}
 
 		else if (dir == 4 && getTile(x + 1, y) != null) {
-			getTile(x + 1, y).projectileAllowed = true;
+			getTile(x + 1, y).setProjectileAllowed(true);
 		}
 
 		else if (dir == 6 && getTile(x, y - 1) != null) {
-			getTile(x, y - 1).projectileAllowed = true;
+			getTile(x, y - 1).setProjectileAllowed(true);
 		}
 	}
 
@@ -548,12 +600,15 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 	public Npc registerNpc(final Npc n) {
 		final NPCLoc npc = n.getLoc();
 		if (npc.startX < npc.minX || npc.startX > npc.maxX || npc.startY < npc.minY || npc.startY > npc.maxY
-			|| (getTile(npc.startX, npc.startY).overlay & 64) != 0) {
+			|| (getTile(npc.startX, npc.startY).getOverlay() & 64) != 0) {
 			LOGGER.error("Broken Npc: <id>" + npc.id + "</id><startX>" + npc.startX + "</startX><startY>"
 				+ npc.startY + "</startY>");
 		}
 
 		getNpcs().add(n);
+		npcsByUUID.put(n.getUUID(), n);
+		// Added after the npc list, which gives the npc its index
+		npcsById.computeIfAbsent(n.getID(), id -> new ConcurrentSkipListSet<>(NPC_LIST_ORDER)).add(n);
 		setNpcPosition(n);
 		return n;
 	}
@@ -571,6 +626,9 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 			player.setBusy(false);
 
 			getPlayers().add(player);
+			playersByUsernameHash.put(player.getUsernameHash(), player);
+			playersByDatabaseId.put(player.getDatabaseID(), player);
+			playersByUUID.put(player.getUUID(), player);
 			player.updateRegion();
 			getServer().getGameLogger().run(new PlayerOnlineFlagQuery(getServer(), player.getDatabaseID(), player.getCurrentIP(), true));
 			getServer().getGameLogger().addQuery(new LoginLog(player.getWorld(), player.getDatabaseID(), player.getCurrentIP()));
@@ -692,19 +750,19 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 				for (int x = o.getX(); x < o.getX() + width; ++x) {
 					for (int y = o.getY(); y < o.getY() + height; ++y) {
 						if (o.getGameObjectDef().getType() == 1) {
-							getTile(x, y).traversalMask &= 0xffbf;
+							getTile(x, y).andTraversalMask(0xffbf);
 						} else if (dir == 0) {
-							getTile(x, y).traversalMask &= 0xfffd;
-							getTile(x - 1, y).traversalMask &= 65535 - 8;
+							getTile(x, y).andTraversalMask(0xfffd);
+							getTile(x - 1, y).andTraversalMask(65535 - 8);
 						} else if (dir == 2) {
-							getTile(x, y).traversalMask &= 0xfffb;
-							getTile(x, y + 1).traversalMask &= 65535 - 1;
+							getTile(x, y).andTraversalMask(0xfffb);
+							getTile(x, y + 1).andTraversalMask(65535 - 1);
 						} else if (dir == 4) {
-							getTile(x, y).traversalMask &= 0xfff7;
-							getTile(x + 1, y).traversalMask &= 65535 - 2;
+							getTile(x, y).andTraversalMask(0xfff7);
+							getTile(x + 1, y).andTraversalMask(65535 - 2);
 						} else if (dir == 6) {
-							getTile(x, y).traversalMask &= 0xfffe;
-							getTile(x, y - 1).traversalMask &= 65535 - 4;
+							getTile(x, y).andTraversalMask(0xfffe);
+							getTile(x, y - 1).andTraversalMask(65535 - 4);
 						}
 					}
 				}
@@ -715,15 +773,15 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 				}
 				int x = o.getX(), y = o.getY();
 				if (dir == 0) {
-					getTile(x, y).traversalMask &= 0xfffe;
-					getTile(x, y - 1).traversalMask &= 65535 - 4;
+					getTile(x, y).andTraversalMask(0xfffe);
+					getTile(x, y - 1).andTraversalMask(65535 - 4);
 				} else if (dir == 1) {
-					getTile(x, y).traversalMask &= 0xfffd;
-					getTile(x - 1, y).traversalMask &= 65535 - 8;
+					getTile(x, y).andTraversalMask(0xfffd);
+					getTile(x - 1, y).andTraversalMask(65535 - 8);
 				} else if (dir == 2) {
-					getTile(x, y).traversalMask &= 0xffef;
+					getTile(x, y).andTraversalMask(0xffef);
 				} else if (dir == 3) {
-					getTile(x, y).traversalMask &= 0xffdf;
+					getTile(x, y).andTraversalMask(0xffdf);
 				}
 				break;
 		}
@@ -751,6 +809,11 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		if (hasNpc(n)) {
 			getNpcs().remove(n);
 		}
+		npcsByUUID.remove(n.getUUID(), n);
+		final NavigableSet<Npc> npcsWithId = npcsById.get(n.getID());
+		if (npcsWithId != null) {
+			npcsWithId.remove(n);
+		}
 		n.superRemove();
 	}
 
@@ -773,6 +836,18 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 
 	}
 
+	/**
+	 * Removes a player from the player list and lookup indexes once their logout save has completed
+	 */
+	public void removePlayer(final Player player) {
+		getPlayers().remove(player);
+		playersByUsernameHash.remove(player.getUsernameHash(), player);
+		playersByDatabaseId.remove(player.getDatabaseID(), player);
+		if (player.getUUID() != null) {
+			playersByUUID.remove(player.getUUID(), player);
+		}
+	}
+
 	public void unregisterQuest(final QuestInterface quest) {
 		if (getQuests().contains(quest)) {
 			getQuests().remove(quest);
@@ -796,6 +871,31 @@ public final class World implements SimpleSubscriber<FishingTrawler>, Runnable {
 		return getRegionManager().getTile(x, y);
 	}
 
+	/**
+	 * Reads a tile's traversal mask without creating a TileValue, for collision checks made every tick.
+	 */
+	public byte getTraversalMask(final int x, final int y) {
+		return getRegionManager().getTraversalMask(x, y);
+	}
+
+	public boolean isProjectileAllowed(final int x, final int y) {
+		return getRegionManager().isProjectileAllowed(x, y);
+	}
+
+	/**
+	 * @return The cache of recent AStarPathfinder results, or null if want_path_cache is off.
+	 */
+	public PathCache getPathCache() {
+		return pathCache;
+	}
+
+	/**
+	 * @return The logout avatar renderer, or null if avatar_generator is off.
+	 */
+	public AvatarGenerator getAvatarGenerator() {
+		return avatarGenerator;
+	}
+
 	public TileValue getTile(final Point point) {
 		return getRegionManager().getTile(point);
 	}
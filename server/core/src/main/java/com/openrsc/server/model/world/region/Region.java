@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.player.Player;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 
@@ -19,6 +20,11 @@ public class Region {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger();
 
+	/**
+	 * Number of tiles in a region.
+	 */
+	public static final int TILE_COUNT = Constants.REGION_SIZE * Constants.REGION_SIZE;
+
 	/**
 	 * The RegionManager this Region belongs to
 	 */
@@ -44,14 +50,15 @@ public class Region {
 	final private HashSet<GroundItem> items = new HashSet<>();
 
 	/**
-	 * A list of tiles in this region.
+	 * The packed values of the tiles in this region, indexed by x * REGION_SIZE + y. See TileValue for the layout.
+	 * Null while every tile in the region has the same value.
 	 */
-	private volatile TileValue[][] tiles;
+	private volatile long[] tiles;
 
 	/**
-	 * The constant tile value used for this region.
+	 * The value of every tile in this region while tiles is null.
 	 */
-	private volatile TileValue tile;
+	private volatile long tile;
 
 	/**
 	 * The X index of this region
@@ -74,14 +81,9 @@ public class Region {
 		this.regionX = regionX;
 		this.regionY = regionY;
 
-		this.tiles = new TileValue[Constants.REGION_SIZE][Constants.REGION_SIZE];
-		this.tile = null;
-
-		for (int i = 0; i < Constants.REGION_SIZE; i++) {
-			for (int j = 0; j < Constants.REGION_SIZE; j++) {
-				tiles[i][j] = new TileValue();
-			}
-		}
+		// Regions start out uniform and get their own tile array the first time a tile changes.
+		this.tiles = null;
+		this.tile = 0L;
 	}
 
 	public void unload() {
@@ -90,7 +92,7 @@ public class Region {
 		objects.clear();
 		items.clear();
 		tiles = null;
-		tile = null;
+		tile = 0L;
 	}
 
 	/**
@@ -308,7 +310,47 @@ public class Region {
 	}
 
 	public TileValue getTileValue(final int regionX, final int regionY) {
-		return tile != null ? tile : tiles[regionX][regionY];
+		return new TileValue(this, regionX, regionY);
+	}
+
+	long getPackedTile(final int regionX, final int regionY) {
+		final long[] packed = tiles;
+		return packed != null ? packed[regionX * Constants.REGION_SIZE + regionY] : tile;
+	}
+
+	void setPackedTile(final int regionX, final int regionY, final long value) {
+		long[] packed = tiles;
+		if (packed == null) {
+			if (value == tile) {
+				return;
+			}
+			// Changing one tile of a uniform region gives it its own tile array again.
+			packed = new long[TILE_COUNT];
+			Arrays.fill(packed, tile);
+			tiles = packed;
+		}
+		packed[regionX * Constants.REGION_SIZE + regionY] = value;
+	}
+
+	/**
+	 * @return The packed tile values, or null if every tile has the value of getUniformTile.
+	 */
+	public long[] getPackedTiles() {
+		return tiles;
+	}
+
+	public long getUniformTile() {
+		return tile;
+	}
+
+	/**
+	 * Replaces the values of every tile, as read back from the landscape cache.
+	 *
+	 * @param packedTiles The packed tile values, or null if every tile has the value of uniformTile.
+	 */
+	public void loadPackedTiles(final long[] packedTiles, final long uniformTile) {
+		tile = uniformTile;
+		tiles = packedTiles;
 	}
 
 	public TileValue getTileValue(final Point regionPoint) {
@@ -328,17 +370,17 @@ public class Region {
 	}
 
 	public void checkRegionValues() {
-		boolean allTilesEqual = true;
-		final TileValue firstTile = tiles[0][0];
-		for (int i = 0; i < Constants.REGION_SIZE && allTilesEqual; i++) {
-			for (int j = 0; j < Constants.REGION_SIZE && allTilesEqual; j++) {
-				allTilesEqual = allTilesEqual && firstTile.equals(tiles[i][j]);
+		final long[] packed = tiles;
+		if (packed == null) {
+			return;
+		}
+		for (final long value : packed) {
+			if (value != packed[0]) {
+				return;
 			}
 		}
 
-		if (allTilesEqual) {
-			tile = tiles[0][0];
-			tiles = null;
-		}
+		tile = packed[0];
+		tiles = null;
 	}
 }
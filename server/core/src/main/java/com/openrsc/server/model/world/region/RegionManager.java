@@ -11,18 +11,46 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class RegionManager {
-	private final ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Region>> regions;
+	/**
+	 * Number of regions along each axis of the world.
+	 */
+	private static final int HORIZONTAL_REGIONS = Constants.MAX_WIDTH / Constants.REGION_SIZE;
+	private static final int VERTICAL_REGIONS = Constants.MAX_HEIGHT / Constants.REGION_SIZE;
+
+	/**
+	 * Region offsets visited by the range queries, the centre region first.
+	 */
+	private static final int[] SURROUNDING_X = {0, -1, +1, -1, 0, +1, 0, -1, +1};
+	private static final int[] SURROUNDING_Y = {0, -1, +1, 0, -1, 0, +1, +1, -1};
+
+	/**
+	 * All regions inside the world boundaries, indexed by regionX * VERTICAL_REGIONS + regionY.
+	 * Regions are created lazily the first time they are looked up.
+	 */
+	private final AtomicReferenceArray<Region> regions;
+
+	/**
+	 * Regions outside of the world boundaries. Nothing should normally live out there.
+	 */
+	private final ConcurrentHashMap<Long, Region> outOfBoundsRegions;
+
+	/**
+	 * Incremented whenever a tile's traversal mask changes, so cached paths know when they may be out of date.
+	 */
+	private final AtomicLong collisionVersion = new AtomicLong();
 
 	private final World world;
 
 	public RegionManager(final World world) {
 		this.world = world;
-		this.regions = new ConcurrentHashMap<>();
+		this.regions = new AtomicReferenceArray<>(HORIZONTAL_REGIONS * VERTICAL_REGIONS);
+		this.outOfBoundsRegions = new ConcurrentHashMap<>();
 	}
 
 	public void load() {
@@ -31,12 +59,16 @@ public class RegionManager {
 	}
 
 	public void unload() {
-		for (final ConcurrentHashMap<Integer, Region> yRegionList : regions.values()) {
-			for (final Region region : yRegionList.values()) {
+		for (int i = 0; i < regions.length(); i++) {
+			final Region region = regions.getAndSet(i, null);
+			if (region != null) {
 				region.unload();
 			}
 		}
-		regions.clear();
+		for (final Region region : outOfBoundsRegions.values()) {
+			region.unload();
+		}
+		outOfBoundsRegions.clear();
 	}
 
 	/**
@@ -46,15 +78,81 @@ public class RegionManager {
 	 * @return The collection of local players.
 	 */
 	public Collection<Player> getLocalPlayers(final Entity entity) {
-		final LinkedHashSet<Player> localPlayers = new LinkedHashSet<Player>();
-		for (final Region region : getSurroundingRegions(entity.getLocation())) {
+		return getLocalPlayers(entity, new LinkedHashSet<>());
+	}
+
+	/**
+	 * Gets the local players around an entity.
+	 *
+	 * @param entity The entity.
+	 * @param buffer The collection the local players are added to.
+	 * @return The buffer.
+	 */
+	public <C extends Collection<? super Player>> C getLocalPlayers(final Entity entity, final C buffer) {
+		final Point location = entity.getLocation();
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
 			for (final Player player : region.getPlayers()) {
 				if (player.withinRange(entity)) {
-					localPlayers.add(player);
+					buffer.add(player);
 				}
 			}
 		}
-		return localPlayers;
+		return buffer;
+	}
+
+	/**
+	 * Visits the local players around an entity.
+	 *
+	 * @param entity The entity.
+	 * @param visitor The visitor.
+	 * @return <code>false</code> if the visitor stopped the query early.
+	 */
+	public boolean visitLocalPlayers(final Entity entity, final RegionVisitor<? super Player> visitor) {
+		final Point location = entity.getLocation();
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final Player player : region.getPlayers()) {
+				if (player.withinRange(entity) && !visitor.visit(player)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Visits the players in the region of a location and the regions around it, without the view range check of visitLocalPlayers.
+	 *
+	 * @param location The location.
+	 * @param visitor The visitor.
+	 * @return <code>false</code> if the visitor stopped the query early.
+	 */
+	public boolean visitSurroundingPlayers(final Point location, final RegionVisitor<? super Player> visitor) {
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final Player player : region.getPlayers()) {
+				if (!visitor.visit(player)) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -64,41 +162,156 @@ public class RegionManager {
 	 * @return The collection of local NPCs.
 	 */
 	public Collection<Npc> getLocalNpcs(final Entity entity) {
-		final LinkedHashSet<Npc> localNpcs = new LinkedHashSet<>();
-		for (final Region region : getSurroundingRegions(entity.getLocation())) {
+		return getLocalNpcs(entity, new LinkedHashSet<>());
+	}
+
+	/**
+	 * Gets the local NPCs around an entity.
+	 *
+	 * @param entity The entity.
+	 * @param buffer The collection the local NPCs are added to.
+	 * @return The buffer.
+	 */
+	public <C extends Collection<? super Npc>> C getLocalNpcs(final Entity entity, final C buffer) {
+		final Point location = entity.getLocation();
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
 			for (final Npc npc : region.getNpcs()) {
 				if (npc.withinRange(entity)) {
-					localNpcs.add(npc);
+					buffer.add(npc);
+				}
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Visits the local NPCs around an entity.
+	 *
+	 * @param entity The entity.
+	 * @param visitor The visitor.
+	 * @return <code>false</code> if the visitor stopped the query early.
+	 */
+	public boolean visitLocalNpcs(final Entity entity, final RegionVisitor<? super Npc> visitor) {
+		final Point location = entity.getLocation();
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final Npc npc : region.getNpcs()) {
+				if (npc.withinRange(entity) && !visitor.visit(npc)) {
+					return false;
 				}
 			}
 		}
-		return localNpcs;
+		return true;
 	}
 
 	public Collection<GameObject> getLocalObjects(final Mob entity) {
-		LinkedHashSet<GameObject> localObjects = new LinkedHashSet<GameObject>();
-		for (final Iterator<Region> region = getSurroundingRegions(entity.getLocation()).iterator(); region.hasNext(); ) {
-			for (final Iterator<GameObject> o = region.next().getGameObjects().iterator(); o.hasNext(); ) {
-				if (o == null) continue;
-				final GameObject gameObject = o.next();
-				if (gameObject.getLocation().withinGridRange(entity.getLocation(), getWorld().getServer().getConfig().VIEW_DISTANCE)) {
-					localObjects.add(gameObject);
+		return getLocalObjects(entity, new LinkedHashSet<>());
+	}
+
+	public <C extends Collection<? super GameObject>> C getLocalObjects(final Mob entity, final C buffer) {
+		final Point location = entity.getLocation();
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final GameObject gameObject : region.getGameObjects()) {
+				if (gameObject != null && gameObject.getLocation().withinGridRange(location, viewDistance)) {
+					buffer.add(gameObject);
+				}
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Visits the game and wall objects within the view grid of an entity.
+	 *
+	 * @param entity The entity.
+	 * @param visitor The visitor.
+	 * @return <code>false</code> if the visitor stopped the query early.
+	 */
+	public boolean visitLocalObjects(final Mob entity, final RegionVisitor<? super GameObject> visitor) {
+		final Point location = entity.getLocation();
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final GameObject gameObject : region.getGameObjects()) {
+				if (gameObject == null) continue;
+				if (gameObject.getLocation().withinGridRange(location, viewDistance) && !visitor.visit(gameObject)) {
+					return false;
 				}
 			}
 		}
-		return localObjects;
+		return true;
 	}
 
 	public Collection<GroundItem> getLocalGroundItems(final Mob entity) {
-		final LinkedHashSet<GroundItem> localItems = new LinkedHashSet<GroundItem>();
-		for (final Region region : getSurroundingRegions(entity.getLocation())) {
-			for (final GroundItem o : region.getGroundItems()) {
-				if (o.getLocation().withinGridRange(entity.getLocation(), getWorld().getServer().getConfig().VIEW_DISTANCE)) {
-					localItems.add(o);
+		return getLocalGroundItems(entity, new LinkedHashSet<>());
+	}
+
+	public <C extends Collection<? super GroundItem>> C getLocalGroundItems(final Mob entity, final C buffer) {
+		final Point location = entity.getLocation();
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final GroundItem groundItem : region.getGroundItems()) {
+				if (groundItem.getLocation().withinGridRange(location, viewDistance)) {
+					buffer.add(groundItem);
 				}
 			}
 		}
-		return localItems;
+		return buffer;
+	}
+
+	/**
+	 * Visits the ground items within the view grid of an entity.
+	 *
+	 * @param entity The entity.
+	 * @param visitor The visitor.
+	 * @return <code>false</code> if the visitor stopped the query early.
+	 */
+	public boolean visitLocalGroundItems(final Mob entity, final RegionVisitor<? super GroundItem> visitor) {
+		final Point location = entity.getLocation();
+		final int viewDistance = getWorld().getServer().getConfig().VIEW_DISTANCE;
+		final int regionX = location.getX() / Constants.REGION_SIZE;
+		final int regionY = location.getY() / Constants.REGION_SIZE;
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region region = getLoadedRegion(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
+			if (region == null) {
+				continue;
+			}
+			for (final GroundItem groundItem : region.getGroundItems()) {
+				if (groundItem.getLocation().withinGridRange(location, viewDistance) && !visitor.visit(groundItem)) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -112,11 +325,8 @@ public class RegionManager {
 		final int regionY = location.getY() / Constants.REGION_SIZE;
 
 		final LinkedHashSet<Region> surrounding = new LinkedHashSet<Region>();
-		surrounding.add(getRegionFromSectorCoordinates(regionX, regionY));
-		final int[] xMod = {-1, +1, -1, 0, +1, 0, -1, +1};
-		final int[] yMod = {-1, +1, 0, -1, 0, +1, +1, -1};
-		for (int i = 0; i < xMod.length; i++) {
-			final Region tmpRegion = getRegionFromSectorCoordinates(regionX + xMod[i], regionY + yMod[i]);
+		for (int i = 0; i < SURROUNDING_X.length; i++) {
+			final Region tmpRegion = getRegionFromSectorCoordinates(regionX + SURROUNDING_X[i], regionY + SURROUNDING_Y[i]);
 			if (tmpRegion != null) {
 				surrounding.add(tmpRegion);
 			}
@@ -124,17 +334,54 @@ public class RegionManager {
 		return surrounding;
 	}
 
+	/**
+	 * Gets a region without creating it. Regions that were never looked up can not hold any entities.
+	 */
+	private Region getLoadedRegion(final int regionX, final int regionY) {
+		if (!withinRegionBounds(regionX, regionY)) {
+			return null;
+		}
+		return regions.get(regionX * VERTICAL_REGIONS + regionY);
+	}
+
+	/**
+	 * @return The number of regions inside the world boundaries.
+	 */
+	public int getRegionCount() {
+		return regions.length();
+	}
+
+	/**
+	 * @param index  The index of a region inside the world boundaries, between 0 and getRegionCount.
+	 * @param create Whether to create the region if it was never looked up.
+	 */
+	public Region getRegionByIndex(final int index, final boolean create) {
+		return create
+			? getRegionFromSectorCoordinates(index / VERTICAL_REGIONS, index % VERTICAL_REGIONS)
+			: regions.get(index);
+	}
+
 	private Region getRegionFromSectorCoordinates(final int regionX, final int regionY) {
-		// Create a new HashMap if it doesn't exist.
-		if (!getRegions().containsKey(regionX)) {
-			getRegions().put(regionX, new ConcurrentHashMap<>());
+		if (!withinRegionBounds(regionX, regionY)) {
+			if (regionX < 0 || regionY < 0) {
+				return null;
+			}
+			return outOfBoundsRegions.computeIfAbsent(((long) regionX << 32) | regionY,
+				key -> new Region(this, regionX, regionY));
 		}
 
-		if (!getRegions().get(regionX).containsKey(regionY)) {
-			getRegions().get(regionX).put(regionY, new Region(this, regionX, regionY));
+		// Create the region atomically if it doesn't exist, client updates may look regions up from several threads.
+		final int index = regionX * VERTICAL_REGIONS + regionY;
+		final Region region = regions.get(index);
+		if (region != null) {
+			return region;
 		}
+		regions.compareAndSet(index, null, new Region(this, regionX, regionY));
+		return regions.get(index);
+	}
 
-		return getRegions().get(regionX).get(regionY);
+	private static boolean withinRegionBounds(final int regionX, final int regionY) {
+		return regionX >= 0 && regionX < HORIZONTAL_REGIONS && regionY >= 0 && regionY < VERTICAL_REGIONS;
 	}
 
 	public Region getRegion(final int x, final int y) {
@@ -166,8 +413,44 @@ public class RegionManager {
 		return getTile(point.getX(), point.getY());
 	}
 
-	private ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Region>> getRegions() {
-		return regions;
+	/**
+	 * Reads a tile's traversal mask straight from its region, without creating the region or a TileValue.
+	 *
+	 * @return The traversal mask, or 0 outside of the world and in regions that were never loaded.
+	 */
+	public byte getTraversalMask(final int x, final int y) {
+		if (!withinWorld(x, y)) {
+			return 0;
+		}
+		final Region region = getLoadedRegion(x / Constants.REGION_SIZE, y / Constants.REGION_SIZE);
+		if (region == null) {
+			return 0;
+		}
+		return TileValue.getTraversalMask(region.getPackedTile(x % Constants.REGION_SIZE, y % Constants.REGION_SIZE));
+	}
+
+	/**
+	 * Reads whether projectiles pass over a tile straight from its region, like getTraversalMask.
+	 *
+	 * @return false outside of the world and in regions that were never loaded.
+	 */
+	public boolean isProjectileAllowed(final int x, final int y) {
+		if (!withinWorld(x, y)) {
+			return false;
+		}
+		final Region region = getLoadedRegion(x / Constants.REGION_SIZE, y / Constants.REGION_SIZE);
+		if (region == null) {
+			return false;
+		}
+		return TileValue.isProjectileAllowed(region.getPackedTile(x % Constants.REGION_SIZE, y % Constants.REGION_SIZE));
+	}
+
+	public long getCollisionVersion() {
+		return collisionVersion.get();
+	}
+
+	void markCollisionChanged() {
+		collisionVersion.incrementAndGet();
 	}
 
 	public World getWorld() {
@@ -0,0 +1,15 @@
+package com.openrsc.server.model.world.region;
+
+/**
+ * Callback used by the RegionManager range queries so that callers can walk the entities around a point, and stop
+ * early, without a collection of the results being built. Iterating the regions and any state a visitor captures
+ * still allocate.
+ */
+public interface RegionVisitor<T> {
+
+	/**
+	 * @param entity An entity within range of the query.
+	 * @return <code>true</code> to keep visiting, <code>false</code> to stop the query early.
+	 */
+	public boolean visit(T entity);
+}
@@ -1,34 +1,128 @@
 package com.openrsc.server.model.world.region;
 
+/**
+ * A tile of a Region. The tile's values are packed into one long in the region, this only points at them.
+ */
 public class TileValue {
-	public byte traversalMask = 0;
-	public short diagWallVal = 0;
-	public byte horizontalWallVal = 0;
-	public byte overlay = 0;
-	public byte verticalWallVal = 0;
-	public byte elevation = 0;
-	public boolean projectileAllowed = false;
+	/**
+	 * Bit offsets of the values inside the packed long.
+	 */
+	private static final int TRAVERSAL_MASK_SHIFT = 0;
+	private static final int DIAG_WALL_SHIFT = 8;
+	private static final int HORIZONTAL_WALL_SHIFT = 24;
+	private static final int OVERLAY_SHIFT = 32;
+	private static final int VERTICAL_WALL_SHIFT = 40;
+	private static final int ELEVATION_SHIFT = 48;
+	private static final int PROJECTILE_ALLOWED_SHIFT = 56;
+
+	private final Region region;
+	private final int x;
+	private final int y;
+
+	TileValue(final Region region, final int x, final int y) {
+		this.region = region;
+		this.x = x;
+		this.y = y;
+	}
+
+	private long get() {
+		return region.getPackedTile(x, y);
+	}
+
+	private void set(final long value, final int shift, final long mask) {
+		region.setPackedTile(x, y, (get() & ~(mask << shift)) | ((value & mask) << shift));
+	}
+
+	static byte getTraversalMask(final long packed) {
+		return (byte) (packed >>> TRAVERSAL_MASK_SHIFT);
+	}
+
+	static boolean isProjectileAllowed(final long packed) {
+		return ((packed >>> PROJECTILE_ALLOWED_SHIFT) & 1) != 0;
+	}
+
+	public byte getTraversalMask() {
+		return getTraversalMask(get());
+	}
+
+	public void setTraversalMask(final int traversalMask) {
+		if (getTraversalMask() == (byte) traversalMask) {
+			return;
+		}
+		set(traversalMask, TRAVERSAL_MASK_SHIFT, 0xFFL);
+		region.getRegionManager().markCollisionChanged();
+	}
+
+	public void orTraversalMask(final int flags) {
+		setTraversalMask(getTraversalMask() | flags);
+	}
+
+	public void andTraversalMask(final int flags) {
+		setTraversalMask(getTraversalMask() & flags);
+	}
+
+	public short getDiagWallVal() {
+		return (short) (get() >>> DIAG_WALL_SHIFT);
+	}
+
+	public void setDiagWallVal(final short diagWallVal) {
+		set(diagWallVal, DIAG_WALL_SHIFT, 0xFFFFL);
+	}
+
+	public byte getHorizontalWallVal() {
+		return (byte) (get() >>> HORIZONTAL_WALL_SHIFT);
+	}
+
+	public void setHorizontalWallVal(final byte horizontalWallVal) {
+		set(horizontalWallVal, HORIZONTAL_WALL_SHIFT, 0xFFL);
+	}
+
+	public byte getOverlay() {
+		return (byte) (get() >>> OVERLAY_SHIFT);
+	}
+
+	public void setOverlay(final byte overlay) {
+		set(overlay, OVERLAY_SHIFT, 0xFFL);
+	}
+
+	public byte getVerticalWallVal() {
+		return (byte) (get() >>> VERTICAL_WALL_SHIFT);
+	}
+
+	public void setVerticalWallVal(final byte verticalWallVal) {
+		set(verticalWallVal, VERTICAL_WALL_SHIFT, 0xFFL);
+	}
+
+	public byte getElevation() {
+		return (byte) (get() >>> ELEVATION_SHIFT);
+	}
+
+	public void setElevation(final byte elevation) {
+		set(elevation, ELEVATION_SHIFT, 0xFFL);
+	}
+
+	public boolean isProjectileAllowed() {
+		return isProjectileAllowed(get());
+	}
+
+	public void setProjectileAllowed(final boolean projectileAllowed) {
+		set(projectileAllowed ? 1 : 0, PROJECTILE_ALLOWED_SHIFT, 1L);
+	}
 
 	@Override
 	public String toString() {
 		return "TileValue{" +
-			"traversalMask=" + traversalMask +
-			", diagWallVal=" + diagWallVal +
-			", horizontalWallVal=" + horizontalWallVal +
-			", overlay=" + overlay +
-			", verticalWallVal=" + verticalWallVal +
-			", elevation=" + elevation +
-			", projectileAllowed=" + projectileAllowed +
+			"traversalMask=" + getTraversalMask() +
+			", diagWallVal=" + getDiagWallVal() +
+			", horizontalWallVal=" + getHorizontalWallVal() +
+			", overlay=" + getOverlay() +
+			", verticalWallVal=" + getVerticalWallVal() +
+			", elevation=" + getElevation() +
+			", projectileAllowed=" + isProjectileAllowed() +
 			'}';
 	}
 
 	public boolean equals(final TileValue other) {
-		return 	this.traversalMask == other.traversalMask &&
-				this.diagWallVal == other.diagWallVal &&
-				this.horizontalWallVal == other.horizontalWallVal &&
-				this.overlay == other.overlay &&
-				this.verticalWallVal == other.verticalWallVal &&
-				this.elevation == other.elevation &&
-				this.projectileAllowed == other.projectileAllowed;
+		return get() == other.get();
 	}
 }
@@ -145,15 +145,11 @@ public class DiscordService implements Runnable{
 						}
 					}
 				} else if (message.getContentRaw().startsWith("!auctions")) {
-					final ArrayList<MarketItem> auctionList = (ArrayList<MarketItem>)this.server.getWorld().getMarket().getAuctionItems().clone();
-					final Iterator<MarketItem> e = auctionList.iterator();
-					if (e.hasNext()) {
+					if (this.server.getWorld().getMarket().getBook().size() > 0) {
 							int dbID = 0;
 							if ((dbID = discordToDBId(message.getAuthor().getIdLong())) != 0) {
-								while (e.hasNext()) {
-									MarketItem a = e.next();
-									if (a.getSeller() == dbID)
-										reply = reply + server.getEntityHandler().getItemDef(a.getCatalogID()).getName() + " (" + a.getAmountLeft() + ") @ " + a.getPrice() + "gp ea. (" + a.getHoursLeft() + "hrs)\n";
+								for (final MarketItem a : this.server.getWorld().getMarket().getBook().getAuctionItemsBySeller(dbID)) {
+									reply = reply + server.getEntityHandler().getItemDef(a.getCatalogID()).getName() + " (" + a.getAmountLeft() + ") @ " + a.getPrice() + "gp ea. (" + a.getHoursLeft() + "hrs)\n";
 								}
 							} else
 								reply = "You have not paired an account yet. Type !help for more information";
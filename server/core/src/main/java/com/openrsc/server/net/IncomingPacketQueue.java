@@ -0,0 +1,84 @@
+package com.openrsc.server.net;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Received packets of one player. Netty threads offer packets and the game thread polls them, without a shared lock.
+ *
+ * Every opcode has a bucket of tokens. Queuing a packet takes one of its opcode's tokens and polling it gives the token back,
+ * so an opcode limited to one token can only be queued once until the game thread handles it.
+ */
+public final class IncomingPacketQueue {
+	private static final int OPCODES = 256;
+
+	public enum Offer {
+		QUEUED,
+		/**
+		 * Dropped because the queue was full.
+		 */
+		FULL,
+		/**
+		 * Dropped because its opcode is limited to fewer tokens than the queue holds and they were all taken.
+		 */
+		RATE_LIMITED
+	}
+
+	private final Queue<Packet> packets = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicIntegerArray tokens = new AtomicIntegerArray(OPCODES);
+	private final boolean[] limited = new boolean[OPCODES];
+	private final int capacity;
+
+	/**
+	 * @param capacity The most packets queued at once. Every opcode starts with this many tokens.
+	 */
+	public IncomingPacketQueue(final int capacity) {
+		this.capacity = Math.max(1, capacity);
+		for (int opcode = 0; opcode < OPCODES; opcode++) {
+			tokens.set(opcode, this.capacity);
+		}
+	}
+
+	/**
+	 * Sets how many packets of an opcode can be queued at once. Only call this before packets are offered.
+	 */
+	public void setTokens(final int opcode, final int count) {
+		tokens.set(opcode, Math.max(0, Math.min(count, capacity)));
+		limited[opcode] = count < capacity;
+	}
+
+	/**
+	 * @return Whether the packet was queued, or why it was dropped.
+	 */
+	public Offer offer(final Packet packet) {
+		final int opcode = packet.getID() & 0xFF;
+		if (tokens.getAndDecrement(opcode) <= 0) {
+			tokens.incrementAndGet(opcode);
+			// An opcode with every token the queue can hold only runs out when the queue is full
+			return limited[opcode] ? Offer.RATE_LIMITED : Offer.FULL;
+		}
+		if (size.getAndIncrement() >= capacity) {
+			size.decrementAndGet();
+			tokens.incrementAndGet(opcode);
+			return Offer.FULL;
+		}
+		packets.add(packet);
+		return Offer.QUEUED;
+	}
+
+	public Packet poll() {
+		final Packet packet = packets.poll();
+		if (packet != null) {
+			size.decrementAndGet();
+			tokens.incrementAndGet(packet.getID() & 0xFF);
+		}
+		return packet;
+	}
+
+	public int size() {
+		return size.get();
+	}
+}
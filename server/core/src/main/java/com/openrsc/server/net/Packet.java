@@ -2,11 +2,13 @@ package com.openrsc.server.net;
 
 import io.netty.buffer.ByteBuf;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class Packet {
 	/**
 	 * Next Packet Number
 	 */
-	public static long nextPacketNumber = 0;
+	private static final AtomicLong nextPacketNumber = new AtomicLong(0);
 
 	/**
 	 * The opcode.
@@ -189,6 +191,6 @@ public class Packet {
 	}
 
 	public static long getNextPacketNumber() {
-		return nextPacketNumber++;
+		return nextPacketNumber.getAndIncrement();
 	}
 }
@@ -115,6 +115,17 @@ public class PacketBuilder {
 		return new Packet(opcode, payload);
 	}
 
+	/**
+	 * Copies the payload written so far.
+	 *
+	 * @return The payload bytes.
+	 */
+	public byte[] toByteArray() {
+		final byte[] data = new byte[payload.readableBytes()];
+		payload.getBytes(payload.readerIndex(), data);
+		return data;
+	}
+
 	/**
 	 * Writes a RuneScape string.
 	 *
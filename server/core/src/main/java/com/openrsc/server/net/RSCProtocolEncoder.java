@@ -1,7 +1,6 @@
 package com.openrsc.server.net;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.netty.util.Attribute;
@@ -10,20 +9,27 @@ import io.netty.util.AttributeMap;
 
 public final class RSCProtocolEncoder extends MessageToByteEncoder<Packet> implements AttributeMap {
 
+	/**
+	 * Length header and opcode written in front of every non-raw packet.
+	 */
+	private static final int HEADER_LENGTH = 3;
+
+	@Override
+	protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Packet message, boolean preferDirect) throws Exception {
+		// Size the pooled output buffer for the whole packet so it never has to grow while encoding.
+		final int length = message.getBuffer().readableBytes() + (message.isRaw() ? 0 : HEADER_LENGTH);
+		return preferDirect ? ctx.alloc().ioBuffer(length) : ctx.alloc().heapBuffer(length);
+	}
+
 	@Override
 	protected void encode(ChannelHandlerContext arg0, Packet message, ByteBuf outBuffer) throws Exception {
 		if (!message.isRaw()) {
 			int packetLength = message.getBuffer().readableBytes();
 
-			ByteBuf buffer = Unpooled.buffer(packetLength + 3);
-
-			buffer.writeShort(buffer.capacity());
-			buffer.writeByte(message.getID());
-			buffer.writeBytes(message.getBuffer());
-			outBuffer.writeBytes(buffer);
-		} else {
-			outBuffer.writeBytes(message.getBuffer());
+			outBuffer.writeShort(packetLength + HEADER_LENGTH);
+			outBuffer.writeByte(message.getID());
 		}
+		outBuffer.writeBytes(message.getBuffer());
 	}
 
 	@Override
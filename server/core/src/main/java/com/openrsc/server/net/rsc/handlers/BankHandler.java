@@ -122,6 +122,7 @@ public final class BankHandler implements PacketHandler {
 					else
 						player.getBank().getBankPreset(presetSlot).getEquipment()[k] = new Item(ItemId.NOTHING.id(),0);
 				}
+				player.markUnsaved(Player.SAVE_BANK_PRESETS);
 				break;
 			default:
 				return;
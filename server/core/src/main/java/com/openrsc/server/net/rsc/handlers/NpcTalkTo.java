@@ -5,7 +5,6 @@ import com.openrsc.server.model.action.WalkToMobAction;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.net.Packet;
 import com.openrsc.server.net.rsc.PacketHandler;
 
@@ -116,7 +115,6 @@ public final class NpcTalkTo implements PacketHandler {
 			}
 
 			private boolean checkBlocking(World world, int x, int y, int bit) {
-				TileValue t = world.getTile(x, y);
 				Point point = new Point(x, y);
 				for (Npc n : n.getViewArea().getNpcsInView()) {
 					if (n.getLocation().equals(point)) {
@@ -128,7 +126,7 @@ public final class NpcTalkTo implements PacketHandler {
 						return true;
 					}
 				}
-				return isBlocking(t.traversalMask, (byte) bit);
+				return isBlocking(world.getTraversalMask(x, y), (byte) bit);
 			}
 
 			private boolean isBlocking(int objectValue, byte bit) {
@@ -2,12 +2,9 @@ package com.openrsc.server.net.rsc.handlers;
 
 import com.openrsc.server.database.impl.mysql.queries.logging.GameReport;
 import com.openrsc.server.model.entity.player.Player;
-import com.openrsc.server.model.snapshot.Snapshot;
 import com.openrsc.server.net.Packet;
 import com.openrsc.server.net.rsc.PacketHandler;
 
-import java.util.Iterator;
-
 public final class ReportHandler implements PacketHandler {
 
 	public void handlePacket(Packet packet, Player player) throws Exception {
@@ -25,18 +22,7 @@ public final class ReportHandler implements PacketHandler {
 			player.setSuspiciousPlayer(true, "report reason < 0 or reason > 13");
 		}
 		if (reason != 4 && reason != 6) {
-			Iterator<Snapshot> i = player.getWorld().getSnapshots().iterator();
-			if (i.hasNext()) {
-				Snapshot s = i.next();
-				if (!s.getOwner().equalsIgnoreCase(hash)) {
-					player.message("For that rule you can only report players who have spoken or traded recently.");
-					return;
-				}
-				if (System.currentTimeMillis() - s.getTimestamp() > 60000) {
-					player.message("For that rule you can only report players who have spoken or traded recently.");
-					return;
-				}
-			} else {
+			if (!player.getWorld().getSnapshots().hasRecent(hash)) {
 				player.message("For that rule you can only report players who have spoken or traded recently.");
 				return;
 			}
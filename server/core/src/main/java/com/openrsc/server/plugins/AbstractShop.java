@@ -33,4 +33,9 @@ public abstract class AbstractShop implements OpNpcTrigger, TalkNpcTrigger {
 	public boolean blockOpNpc(Player player, Npc n, String command) {
 		return blockTalkNpc(player, n);
 	}
+
+	@Override
+	public int[] getOpNpcIds() {
+		return getTalkNpcIds();
+	}
 }
@@ -18,7 +18,6 @@ import com.openrsc.server.model.entity.update.Bubble;
 import com.openrsc.server.model.entity.update.ChatMessage;
 import com.openrsc.server.model.states.Action;
 import com.openrsc.server.model.world.World;
-import com.openrsc.server.model.world.region.TileValue;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
@@ -835,7 +834,6 @@ public class Functions {
 	}
 
 	private static boolean checkBlocking(Npc npc, int x, int y, int bit) {
-		TileValue t = npc.getWorld().getTile(x, y);
 		Point point = new Point(x, y);
 		for (Npc n : npc.getViewArea().getNpcsInView()) {
 			if (n.getLocation().equals(point)) {
@@ -847,7 +845,7 @@ public class Functions {
 				return true;
 			}
 		}
-		return isBlocking(t.traversalMask, (byte) bit);
+		return isBlocking(npc.getWorld().getTraversalMask(x, y), (byte) bit);
 	}
 
 	private static boolean isBlocking(int objectValue, byte bit) {
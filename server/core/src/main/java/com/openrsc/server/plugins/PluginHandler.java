@@ -15,8 +15,6 @@ import org.apache.logging.log4j.Logger;
 import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -48,12 +46,19 @@ public final class PluginHandler {
 	private Object defaultHandler = null;
 	private List<Class<?>> knownInterfaces;
 	private Map<String, Set<Object>> plugins;
+	/**
+	 * Dispatch tables built from plugins by initPlugins, by trigger name without the Trigger suffix.
+	 */
+	private Map<String, TriggerTable> triggerTables;
 
 	public PluginHandler (final Server server) {
 		this.server = server;
-		this.threadFactory = new NamedThreadFactory(getServer().getName()+" : PluginThread");
+		// Every running script keeps its own plugin thread, parked in PluginTask.pause() between the ticks it runs on.
+		// Their stacks are the JVM default unless plugin_thread_stack_kb sets one.
+		this.threadFactory = new NamedThreadFactory(getServer().getName()+" : PluginThread", getServer().getConfig().PLUGIN_THREAD_STACK_KB * 1024L);
 		this.knownInterfaces = new ArrayList<>();
 		this.plugins = new HashMap<>();
+		this.triggerTables = new HashMap<>();
 		this.loadedClassFiles = new ArrayList<>();
 	}
 
@@ -212,6 +217,14 @@ public final class PluginHandler {
 			}
 		}
 
+		for (final Class<?> interfce : knownInterfaces) {
+			final Set<Object> triggerPlugins = plugins.get(interfce.getSimpleName());
+			if (triggerPlugins != null && interfce.getSimpleName().endsWith("Trigger")) {
+				final TriggerTable table = new TriggerTable(interfce, triggerPlugins);
+				triggerTables.put(table.getName(), table);
+			}
+		}
+
 		//Look for quests/minigames specifically
 		final Class<?>[] interfces = {QuestInterface.class, MiniGameInterface.class};
 		for (final Class<?> interfce : interfces) {
@@ -287,6 +300,7 @@ public final class PluginHandler {
 
 		knownInterfaces.clear();
 		plugins.clear();
+		triggerTables.clear();
 		loadedClassFiles.clear();
 
 		executor = null;
@@ -317,29 +331,23 @@ public final class PluginHandler {
 			}
 			boolean shouldBlockDefault = false;
 
-			if (plugins.containsKey(interfce + "Trigger")) {
-				for (final Object c : plugins.get(interfce + "Trigger")) {
+			final TriggerTable table = triggerTables.get(interfce);
+			if (table != null) {
+				for (final Object c : table.getCandidates(data)) {
 					try {
-						final Class<?>[] dataClasses = new Class<?>[data.length];
-						int i = 0;
-						for (final Object o : data) {
-							dataClasses[i++] = o.getClass();
-						}
-						final Method m = c.getClass().getMethod("block" + interfce, dataClasses);
-						final boolean shouldBlock = (Boolean) m.invoke(c, data);
-						if (shouldBlock) {
+						if (table.block(c, data)) {
 							shouldBlockDefault = true;
-							invokePluginAction(owner, world, interfce, c, data, walkToAction);
+							invokePluginAction(owner, world, table, c, data, walkToAction);
 						}
-					} catch (final Exception e) {
+					} catch (final Throwable e) {
 						LOGGER.catching(e);
 					}
 				}
 			}
 
 			try {
-				if (!shouldBlockDefault) {
-					invokePluginAction(owner, world, interfce, defaultHandler, data, walkToAction);
+				if (!shouldBlockDefault && table != null) {
+					invokePluginAction(owner, world, table, defaultHandler, data, walkToAction);
 				}
 			} catch (final Exception e) {
 				LOGGER.catching(e);
@@ -349,55 +357,40 @@ public final class PluginHandler {
 		}
 	}
 
-	private void invokePluginAction(final Player owner, final World world, final String interfce, final Object cls, final Object[] data, final WalkToAction walkToAction) {
+	private void invokePluginAction(final Player owner, final World world, final TriggerTable table, final Object cls, final Object[] data, final WalkToAction walkToAction) {
 		if (reloading) {
 			return;
 		}
-		if (plugins.containsKey(interfce + "Trigger")) {
-			try {
-				final Class<?>[] dataClasses = new Class<?>[data.length];
-				int i = 0;
-				for (final Object o : data) {
-					dataClasses[i++] = o.getClass();
+		if (cls == null || !table.isHandledBy(cls)) {
+			// There is an executive listener, but NOT a corresponding action listener, OR
+			// there is no action listener defined in Default plugin
+			LOGGER.info((cls == null ? "null" : cls.getClass().getSimpleName()) + ".on" + table.getName() + " : " + Arrays.deepToString(data));
+			return;
+		}
+		try {
+			final String pluginName = cls.getClass().getSimpleName() + ".on" + table.getName();
+			final PluginTickEvent e = new PluginTickEvent(world, owner, pluginName, walkToAction, new PluginTask(world, owner, table.getName(), data) {
+				@Override
+				public int action() {
+					try {
+						LOGGER.info("Tick " + getWorld().getServer().getCurrentTick() + " : " + pluginName + " : " + Arrays.deepToString(data));
+						table.action(cls, data);
+						return 1;
+					} catch (final PluginInterruptedException ex) {
+						// PluginTask.call() will do stop() after this which will correctly shut down the Plugin.
+						//LOGGER.info("Plugin Interrupted: " + ex.getMessage());
+						return 1;
+					} catch (final Throwable ex) {
+						LOGGER.catching(ex);
+						return 0;
+					}
 				}
+			});
 
-				try {
-					final Method m = cls.getClass().getMethod("on" + interfce, dataClasses);
-					final String pluginName = cls.getClass().getSimpleName() + "." + m.getName();
-					final PluginTickEvent e = new PluginTickEvent(world, owner, pluginName, walkToAction, new PluginTask(world, owner, interfce, data) {
-						@Override
-						public int action() {
-							try {
-								LOGGER.info("Tick " + getWorld().getServer().getCurrentTick() + " : " + pluginName + " : " + Arrays.deepToString(data));
-								m.invoke(cls, data);
-								return 1;
-							} catch (final InvocationTargetException ex) {
-								if (ex.getCause() instanceof PluginInterruptedException) {
-									// PluginTask.call() will do stop() after this which will correctly shut down the Plugin.
-									//LOGGER.info("Plugin Interrupted: " + ex.getMessage());
-									return 1;
-								} else {
-									LOGGER.catching(ex);
-									return 0;
-								}
-							} catch (final Exception ex) {
-								LOGGER.catching(ex);
-								return 0;
-							}
-						}
-					});
-
-					getServer().getGameEventHandler().add(e);
-				} catch (final NoSuchMethodException ex) {
-					LOGGER.info(ex.getMessage());
-					LOGGER.info(cls.getClass().getSimpleName() + ".on" + interfce + " : " + Arrays.deepToString(data));
-					// getClass().getMethod() failed because there is an executive listener, but NOT a corresponding action listener, OR
-					// there is no action listener defined in Default plugin
-				}
-			} catch (final Exception e) {
-				System.err.println("Exception at plugin handling: ");
-				LOGGER.catching(e);
-			}
+			getServer().getGameEventHandler().add(e);
+		} catch (final Exception e) {
+			System.err.println("Exception at plugin handling: ");
+			LOGGER.catching(e);
 		}
 	}
 
@@ -405,6 +398,20 @@ public final class PluginHandler {
 		return getExecutor().submit(pluginTask);
 	}
 
+	/**
+	 * @return The number of plugin threads alive, parked or running
+	 */
+	public int getThreadCount() {
+		return getExecutor() == null ? 0 : getExecutor().getPoolSize();
+	}
+
+	/**
+	 * @return The most plugin threads that have been alive at once
+	 */
+	public int getLargestThreadCount() {
+		return getExecutor() == null ? 0 : getExecutor().getLargestPoolSize();
+	}
+
 	public List<Class<?>> getKnownInterfaces() {
 		return knownInterfaces;
 	}
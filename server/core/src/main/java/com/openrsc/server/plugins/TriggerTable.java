@@ -0,0 +1,167 @@
+package com.openrsc.server.plugins;
+
+import com.openrsc.server.model.container.Item;
+import com.openrsc.server.model.entity.Entity;
+import com.openrsc.server.model.entity.player.Player;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The plugins of one trigger interface, with its block and on methods resolved once when the plugins are loaded.
+ *
+ * Plugins that override the trigger's optional get...Ids method are only asked about those npc, object or item ids.
+ * The id is taken from the first npc, object or item in the trigger's data.
+ */
+public final class TriggerTable {
+	private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private final Class<?> trigger;
+	private final String name;
+	private final MethodHandle block;
+	private final MethodHandle action;
+	private final int arguments;
+
+	/**
+	 * Plugins asked about every trigger, in load order.
+	 */
+	private final Handler[] unindexed;
+	private final Map<Integer, Handler[]> indexed;
+	private final boolean hasIndex;
+
+	public TriggerTable(final Class<?> trigger, final Collection<Object> plugins) throws ReflectiveOperationException {
+		this.trigger = trigger;
+		this.name = trigger.getSimpleName().substring(0, trigger.getSimpleName().length() - "Trigger".length());
+
+		Method blockMethod = null;
+		Method actionMethod = null;
+		Method idsMethod = null;
+		for (final Method method : trigger.getMethods()) {
+			if (method.getName().equals("block" + name)) {
+				blockMethod = method;
+			} else if (method.getName().equals("on" + name)) {
+				actionMethod = method;
+			} else if (method.getName().equals("get" + name + "Ids") && method.getParameterCount() == 0) {
+				idsMethod = method;
+			}
+		}
+		if (blockMethod == null || actionMethod == null) {
+			throw new NoSuchMethodException(trigger.getName() + " needs block" + name + " and on" + name);
+		}
+
+		final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		this.arguments = blockMethod.getParameterCount();
+		this.block = spread(lookup.unreflect(blockMethod), arguments);
+		this.action = spread(lookup.unreflect(actionMethod), arguments);
+
+		final List<Handler> anyId = new ArrayList<>();
+		final Map<Integer, List<Handler>> byId = new HashMap<>();
+		int order = 0;
+		for (final Object plugin : plugins) {
+			final Handler handler = new Handler(plugin, order++);
+			final int[] ids = idsMethod == null ? null : (int[]) idsMethod.invoke(plugin);
+			if (ids == null) {
+				anyId.add(handler);
+				continue;
+			}
+			// A plugin listing an id twice must still only be asked once
+			final Set<Integer> distinct = new HashSet<>();
+			for (final int id : ids) {
+				if (distinct.add(id)) {
+					byId.computeIfAbsent(id, k -> new ArrayList<>()).add(handler);
+				}
+			}
+		}
+
+		this.unindexed = anyId.toArray(new Handler[0]);
+		this.indexed = new HashMap<>();
+		for (final Map.Entry<Integer, List<Handler>> entry : byId.entrySet()) {
+			indexed.put(entry.getKey(), entry.getValue().toArray(new Handler[0]));
+		}
+		this.hasIndex = !indexed.isEmpty();
+	}
+
+	private static MethodHandle spread(final MethodHandle handle, final int arguments) {
+		return handle.asSpreader(Object[].class, arguments).asType(SPREAD_TYPE);
+	}
+
+	String getName() {
+		return name;
+	}
+
+	boolean isHandledBy(final Object plugin) {
+		return trigger.isInstance(plugin);
+	}
+
+	/**
+	 * @return The plugins that may block the trigger for this data, in load order.
+	 */
+	public List<Object> getCandidates(final Object[] data) {
+		final Handler[] matching = hasIndex ? indexed.get(getId(data)) : null;
+		final List<Object> candidates = new ArrayList<>(unindexed.length + (matching == null ? 0 : matching.length));
+		if (matching == null) {
+			for (final Handler handler : unindexed) {
+				candidates.add(handler.plugin);
+			}
+			return candidates;
+		}
+
+		// Both arrays are in load order, so merge them to keep plugins running in the order they were loaded.
+		int i = 0, j = 0;
+		while (i < unindexed.length || j < matching.length) {
+			if (j >= matching.length || (i < unindexed.length && unindexed[i].order < matching[j].order)) {
+				candidates.add(unindexed[i++].plugin);
+			} else {
+				candidates.add(matching[j++].plugin);
+			}
+		}
+		return candidates;
+	}
+
+	public boolean block(final Object plugin, final Object[] data) throws Throwable {
+		checkArguments(data);
+		return (Boolean) (Object) block.invokeExact(plugin, data);
+	}
+
+	void action(final Object plugin, final Object[] data) throws Throwable {
+		checkArguments(data);
+		final Object ignored = action.invokeExact(plugin, data);
+	}
+
+	private void checkArguments(final Object[] data) {
+		if (data.length != arguments) {
+			throw new IllegalArgumentException(name + " expects " + arguments + " arguments but was given " + data.length);
+		}
+	}
+
+	private static Integer getId(final Object[] data) {
+		for (final Object o : data) {
+			if (o instanceof Item) {
+				return ((Item) o).getCatalogId();
+			}
+			if (o instanceof Entity && !(o instanceof Player)) {
+				return ((Entity) o).getID();
+			}
+		}
+		return null;
+	}
+
+	private static final class Handler {
+		private final Object plugin;
+		private final int order;
+
+		private Handler(final Object plugin, final int order) {
+			this.plugin = plugin;
+			this.order = order;
+		}
+	}
+}
@@ -18,4 +18,11 @@ public interface OpInvTrigger {
 	 * Return true to prevent inventory action
 	 */
 	boolean blockOpInv(Player player, Integer invIndex, Item item, String command);
+
+	/**
+	 * @return The item ids blockOpInv can return true for, or null to be asked about every one
+	 */
+	default int[] getOpInvIds() {
+		return null;
+	}
 }
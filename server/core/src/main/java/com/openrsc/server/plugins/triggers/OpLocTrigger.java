@@ -12,4 +12,11 @@ public interface OpLocTrigger {
 	 * Prevent a user from activating an in-game object.
 	 */
 	boolean blockOpLoc(Player player, GameObject obj, String command);
+
+	/**
+	 * @return The object ids blockOpLoc can return true for, or null to be asked about every one
+	 */
+	default int[] getOpLocIds() {
+		return null;
+	}
 }
@@ -6,4 +6,11 @@ import com.openrsc.server.model.entity.player.Player;
 public interface OpNpcTrigger {
 	void onOpNpc(Player player, Npc n, String command);
 	boolean blockOpNpc(Player player, Npc n, String command);
+
+	/**
+	 * @return The npc ids blockOpNpc can return true for, or null to be asked about every one
+	 */
+	default int[] getOpNpcIds() {
+		return null;
+	}
 }
@@ -16,4 +16,11 @@ public interface TalkNpcTrigger {
 	 * Return true to block a player from talking to a npc
 	 */
 	boolean blockTalkNpc(Player player, Npc n);
+
+	/**
+	 * @return The npc ids blockTalkNpc can return true for, or null to be asked about every one
+	 */
+	default int[] getTalkNpcIds() {
+		return null;
+	}
 }
@@ -39,6 +39,10 @@ public final class EntityList<T extends Entity> extends AbstractCollection<T> {
 		return indexOf(entity) > -1;
 	}
 
+	public int getCapacity() {
+		return capacity;
+	}
+
 	public int count() {
 		return indicies.size();
 	}
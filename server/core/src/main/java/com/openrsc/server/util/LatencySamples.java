@@ -0,0 +1,36 @@
+package com.openrsc.server.util;
+
+import java.util.Arrays;
+
+/**
+ * The most recent latency samples of something, for percentiles in the profiling output.
+ */
+public class LatencySamples {
+	private final long[] samples;
+	private int count = 0;
+	private int index = 0;
+
+	public LatencySamples(final int size) {
+		this.samples = new long[Math.max(1, size)];
+	}
+
+	public synchronized void record(final long latency) {
+		samples[index] = latency;
+		index = (index + 1) % samples.length;
+		count = Math.min(count + 1, samples.length);
+	}
+
+	/**
+	 * @param percentile The percentile between 0 and 100.
+	 * @return The latency at that percentile over the most recent samples, 0 if there are none.
+	 */
+	public synchronized long getPercentile(final double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		final long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+		final int position = (int) Math.ceil(percentile / 100.0 * count) - 1;
+		return sorted[Math.max(0, Math.min(position, count - 1))];
+	}
+}
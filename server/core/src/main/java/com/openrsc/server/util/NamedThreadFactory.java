@@ -13,6 +13,10 @@ public final class NamedThreadFactory implements ThreadFactory {
 	 * The next id.
 	 */
 	private AtomicInteger id = new AtomicInteger(0);
+	/**
+	 * The stack size of each thread in bytes, 0 for the JVM default.
+	 */
+	private final long stackSize;
 
 	/**
 	 * Creates the named thread factory.
@@ -20,13 +24,24 @@ public final class NamedThreadFactory implements ThreadFactory {
 	 * @param name The unique name.
 	 */
 	public NamedThreadFactory(String name) {
+		this(name, 0);
+	}
+
+	/**
+	 * Creates the named thread factory.
+	 *
+	 * @param name      The unique name.
+	 * @param stackSize The stack size of each thread in bytes, 0 for the JVM default.
+	 */
+	public NamedThreadFactory(String name, long stackSize) {
 		this.name = name;
+		this.stackSize = stackSize;
 	}
 
 	@Override
 	public Thread newThread(Runnable runnable) {
 		int currentId = id.getAndIncrement();
-		return new Thread(runnable, name + "-" + currentId);
+		return new Thread(null, runnable, name + "-" + currentId, stackSize);
 	}
 
 }
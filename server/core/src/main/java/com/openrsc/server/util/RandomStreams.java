@@ -0,0 +1,124 @@
+package com.openrsc.server.util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands every thread its own random number stream, so combat, drops and plugins running on different pool threads
+ * never contend on one shared seed the way they do with a single {@link Random}.
+ * <p>
+ * When seeded, stream n is derived from the seed and n, numbering streams in the order threads first ask for one.
+ * Outcomes are then reproducible only when the same work runs on the same threads in the same order, such as a test
+ * driving the game from one thread. The game event and plugin pools do not schedule work deterministically, so a
+ * running server's rolls are not repeatable even when seeded. The seed is global to the JVM.
+ */
+public final class RandomStreams {
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private static final ThreadLocal<Stream> STREAMS = new ThreadLocal<>();
+	private static final AtomicLong streamsCreated = new AtomicLong();
+
+	private static volatile boolean seeded = false;
+	private static volatile long seed = 0;
+	/**
+	 * Bumped whenever the seed changes so threads drop the streams they already have.
+	 */
+	private static volatile int generation = 0;
+
+	private RandomStreams() {
+	}
+
+	/**
+	 * Returns the calling thread's stream. It must not be handed to another thread.
+	 */
+	public static Random current() {
+		final Stream stream = STREAMS.get();
+		if (stream != null && stream.generation == generation) {
+			return stream;
+		}
+		final Stream created = newStream();
+		STREAMS.set(created);
+		return created;
+	}
+
+	/**
+	 * Makes every stream created from now on deterministic. Streams are numbered again from zero.
+	 */
+	public static synchronized void setSeed(final long newSeed) {
+		seed = newSeed;
+		seeded = true;
+		streamsCreated.set(0);
+		generation++;
+	}
+
+	/**
+	 * Goes back to streams seeded from entropy.
+	 */
+	public static synchronized void clearSeed() {
+		seeded = false;
+		generation++;
+	}
+
+	public static boolean isSeeded() {
+		return seeded;
+	}
+
+	private static Stream newStream() {
+		final long ordinal = streamsCreated.getAndIncrement();
+		final long initial = seeded ? mix64(seed + ordinal * GOLDEN_GAMMA) : ThreadLocalRandom.current().nextLong();
+		return new Stream(initial, generation);
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * A SplitMix64 generator behind the {@link Random} interface. Not thread safe, each one belongs to one thread.
+	 */
+	private static final class Stream extends Random {
+		private static final long serialVersionUID = 1L;
+
+		private final int generation;
+		private long state;
+
+		private Stream(final long initial, final int generation) {
+			super(0L);
+			this.generation = generation;
+			this.state = initial;
+		}
+
+		private long nextSeed() {
+			return mix64(state += GOLDEN_GAMMA);
+		}
+
+		@Override
+		public void setSeed(final long seed) {
+			// Called by Random's constructor before this class is initialised
+			state = seed;
+		}
+
+		@Override
+		protected int next(final int bits) {
+			return (int) (nextSeed() >>> (64 - bits));
+		}
+
+		@Override
+		public int nextInt() {
+			return (int) (nextSeed() >>> 32);
+		}
+
+		@Override
+		public long nextLong() {
+			return nextSeed();
+		}
+
+		@Override
+		public double nextDouble() {
+			return (nextSeed() >>> 11) * 0x1.0p-53;
+		}
+	}
+}
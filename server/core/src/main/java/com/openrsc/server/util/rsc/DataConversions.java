@@ -3,6 +3,7 @@ package com.openrsc.server.util.rsc;
 import com.openrsc.server.model.Point;
 import com.openrsc.server.net.Packet;
 import com.openrsc.server.util.BCrypt;
+import com.openrsc.server.util.RandomStreams;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -51,7 +52,6 @@ public final class DataConversions {
 	private static final String bcryptTest = "$2y$"+bcryptWorkFactor+"$";
 	private static SimpleDateFormat formatter = new SimpleDateFormat("HH:mm:ss dd-MM-yy");
 	private static MessageDigest md5, sha1, sha512;
-	private static Random rand = new Random();
 	private static SecureRandom secureRandom = new SecureRandom();
 
 	/**
@@ -373,14 +373,14 @@ public final class DataConversions {
 	}
 
 	/**
-	 * Returns the random number generator
+	 * Returns the calling thread's random number generator, which must not be shared with other threads
 	 */
 	public static Random getRandom() {
-		return rand;
+		return RandomStreams.current();
 	}
 
 	public static int random(int range) {
-		int number = (int) (Math.random() * (range + 1));
+		int number = (int) (getRandom().nextDouble() * (range + 1));
 		return number < 0 ? 0 : number;
 	}
 
@@ -431,14 +431,14 @@ public final class DataConversions {
 	 * returns a random number within the given bounds
 	 */
 	public static double random(double low, double high) {
-		return high - (rand.nextDouble() * low);
+		return high - (getRandom().nextDouble() * low);
 	}
 
 	/**
 	 * returns a random number within the given bounds
 	 */
 	public static int random(int low, int high) {
-		return low + rand.nextInt(high - low + 1);
+		return low + getRandom().nextInt(high - low + 1);
 	}
 
 	public static double round(double value, int decimalPlace) {
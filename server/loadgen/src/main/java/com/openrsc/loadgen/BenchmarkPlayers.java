@@ -0,0 +1,69 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.login.LoginRequest;
+import com.openrsc.server.model.PlayerAppearance;
+import com.openrsc.server.model.Point;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.model.world.World;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Players for the benchmarks, registered with a world the way a login registers them but without a client or a
+ * database. The world's server must not be started, so its game logger drops the login's queries.
+ */
+final class BenchmarkPlayers {
+	private static final SocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 43594);
+
+	private BenchmarkPlayers() {
+	}
+
+	static Player register(final World world, final String username, final int databaseId, final int x, final int y) {
+		final Player player = new Player(world, new Request(world, username));
+		player.setDatabaseID(databaseId);
+		// The appearance a player loaded with an invalid one gets
+		player.getSettings().setAppearance(new PlayerAppearance(0, 0, 0, 0, 1, 2));
+		player.setWornItems(player.getSettings().getAppearance().getSprites());
+		player.setLocation(new Point(x, y), true);
+		world.registerPlayer(player);
+		player.setLoggedIn(true);
+		return player;
+	}
+
+	/**
+	 * Drops what the server wrote to the player, which would otherwise pile up in its channel.
+	 */
+	static void discardOutbound(final Player player) {
+		((EmbeddedChannel) player.getChannel()).releaseOutbound();
+	}
+
+	/**
+	 * Where the player's packets end up, at the address a local client would have.
+	 */
+	private static final class Channel extends EmbeddedChannel {
+		@Override
+		public SocketAddress remoteAddress() {
+			return ADDRESS;
+		}
+	}
+
+	private static final class Request extends LoginRequest {
+		private Request(final World world, final String username) {
+			super(world.getServer(), new Channel(), username, "", world.getServer().getConfig().CLIENT_VERSION);
+		}
+
+		@Override
+		public void loginValidated(final int response) {
+		}
+
+		@Override
+		public void loadingComplete(final Player loadedPlayer) {
+		}
+
+		@Override
+		protected void processInternal() {
+		}
+	}
+}
@@ -0,0 +1,616 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.net.rsc.ActionSender.Opcode;
+import com.openrsc.server.util.rsc.DataConversions;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import orsc.net.Opcodes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulated client. Everything but the traffic counters is only touched on the bot's channel event loop,
+ * the generator posts each tick there too.
+ */
+public final class Bot {
+	/**
+	 * The asynchronous logger.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger();
+
+	private static final int LOGIN = 0;
+	private static final int REGISTER = 78;
+	private static final int PLAYER_POSITIONS = 191;
+	private static final int NPC_POSITIONS = 79;
+
+	/**
+	 * Ticks after login before the profile starts, long enough to skip the tutorial.
+	 */
+	private static final int SETTLE_TICKS = 5;
+	private static final int PING_INTERVAL = 8;
+	private static final int TRADE_TIMEOUT = 20;
+	private static final long RESPONSE_TIMEOUT_SECONDS = 30;
+
+	public enum State {
+		WAITING, REGISTERING, LOGGING_IN, ONLINE, OFFLINE, FAILED
+	}
+
+	/**
+	 * An npc in view, where it was when it came into view.
+	 */
+	public static final class LocalNpc {
+		private final int index;
+		private final int id;
+		private final int x;
+		private final int y;
+
+		private LocalNpc(final int index, final int id, final int x, final int y) {
+			this.index = index;
+			this.id = id;
+			this.x = x;
+			this.y = y;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public int getId() {
+			return id;
+		}
+	}
+
+	private final LoadGenerator generator;
+	private final String username;
+	private final String password;
+	private final BotProfile profile;
+	private final Random random;
+
+	private volatile State state = State.WAITING;
+	private volatile Channel channel;
+	/**
+	 * Only written on the event loop, read by the generator when it samples.
+	 */
+	private volatile long bytesReceived = 0;
+	private volatile long bytesSent = 0;
+
+	private volatile int index = -1;
+	private int x, y;
+	private int homeX = -1, homeY = -1;
+	private int lastX, lastY;
+	private int stillTicks = 0;
+	private final List<Integer> localPlayers = new ArrayList<>();
+	private final List<LocalNpc> localNpcs = new ArrayList<>();
+
+	private int ticks = 0;
+	private int cooldown = 0;
+	private boolean menuOpen = false;
+	private boolean bankOpen = false;
+	private int firstBankItem = -1;
+	private int firstBankItemAmount = 0;
+	private int bankVisits = 0;
+	private boolean tradeOpen = false;
+	private int tradeTicks = 0;
+	private Bot partner;
+
+	public Bot(final LoadGenerator generator, final String username, final String password, final BotProfile profile, final long seed) {
+		this.generator = generator;
+		this.username = username;
+		this.password = password;
+		this.profile = profile;
+		this.random = new Random(seed);
+	}
+
+	public void start(final boolean register) {
+		state = register ? State.REGISTERING : State.LOGGING_IN;
+		generator.connect(new Connection()).addListener((ChannelFutureListener) future -> {
+			if (!future.isSuccess()) {
+				fail("could not connect: " + future.cause());
+				return;
+			}
+			channel = future.channel();
+			if (register) {
+				sendCredentials(REGISTER, false);
+			} else {
+				sendCredentials(LOGIN, true);
+			}
+			final State awaiting = state;
+			final Channel awaitingChannel = channel;
+			channel.eventLoop().schedule(() -> {
+				if (state == awaiting && channel == awaitingChannel) {
+					fail("no response from the server");
+				}
+			}, RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		});
+	}
+
+	public void stop() {
+		final Channel current = channel;
+		if (current == null || !current.isActive()) {
+			return;
+		}
+		current.eventLoop().execute(() -> {
+			if (state == State.ONLINE) {
+				send(packet(Opcodes.Out.LOGOUT));
+			}
+			state = State.OFFLINE;
+			current.eventLoop().schedule(() -> current.close(), 1, TimeUnit.SECONDS);
+		});
+	}
+
+	/**
+	 * Posts a game tick to the bot's event loop.
+	 */
+	public void scheduleTick() {
+		final Channel current = channel;
+		if (state == State.ONLINE && current != null) {
+			current.eventLoop().execute(this::tick);
+		}
+	}
+
+	private void tick() {
+		if (state != State.ONLINE) {
+			return;
+		}
+		ticks++;
+		if (ticks % PING_INTERVAL == 0) {
+			send(packet(Opcodes.Out.PING));
+		}
+		stillTicks = x == lastX && y == lastY ? stillTicks + 1 : 0;
+		lastX = x;
+		lastY = y;
+		if (tradeOpen && ++tradeTicks > TRADE_TIMEOUT) {
+			send(packet(Opcodes.Out.TRADE_DECLINED));
+			tradeOpen = false;
+		}
+		if (ticks <= SETTLE_TICKS) {
+			return;
+		}
+		if (homeX == -1) {
+			homeX = x;
+			homeY = y;
+		}
+		if (cooldown > 0) {
+			cooldown--;
+		}
+		profile.tick(this);
+	}
+
+	private void handle(final BotPacket packet) {
+		final int opcode = packet.getOpcode();
+		if (opcode == BotPacket.RAW) {
+			handleResponse(packet.readUnsignedByte());
+		} else if (opcode == PLAYER_POSITIONS) {
+			readPlayerPositions(packet);
+		} else if (opcode == NPC_POSITIONS) {
+			readNpcPositions(packet);
+		} else if (opcode == Opcode.SEND_WORLD_INFO.opcode) {
+			index = packet.readUnsignedShort();
+		} else if (opcode == Opcode.SEND_APPEARANCE_CHANGE.opcode) {
+			sendAppearance();
+		} else if (opcode == Opcode.SEND_ON_TUTORIAL.opcode) {
+			if (packet.readUnsignedByte() == 1) {
+				send(packet(Opcodes.Out.ON_TUTORIAL_ISLAND));
+			}
+		} else if (opcode == Opcode.SEND_OPTIONS_MENU_OPEN.opcode) {
+			menuOpen = true;
+		} else if (opcode == Opcode.SEND_OPTIONS_MENU_CLOSE.opcode) {
+			menuOpen = false;
+		} else if (opcode == Opcode.SEND_BANK_OPEN.opcode) {
+			bankOpen = true;
+			final int size = packet.readUnsignedShort();
+			packet.readUnsignedShort();
+			firstBankItem = size > 0 ? packet.readUnsignedShort() : -1;
+			firstBankItemAmount = size > 0 ? packet.readInt() : 0;
+		} else if (opcode == Opcode.SEND_BANK_CLOSE.opcode) {
+			bankOpen = false;
+		} else if (opcode == Opcode.SEND_TRADE_WINDOW.opcode) {
+			tradeOpen = true;
+			tradeTicks = 0;
+			send(packet(Opcodes.Out.TRADE_ACCEPTED));
+		} else if (opcode == Opcode.SEND_TRADE_OPEN_CONFIRM.opcode) {
+			send(packet(Opcodes.Out.TRADE_CONFIRM_ACCEPTED));
+		} else if (opcode == Opcode.SEND_TRADE_CLOSE.opcode) {
+			tradeOpen = false;
+		} else if (opcode == Opcode.SEND_LOGOUT.opcode) {
+			state = State.OFFLINE;
+		}
+	}
+
+	private void handleResponse(final int response) {
+		if (state == State.REGISTERING) {
+			// 2 is a name already in use, an account left by an earlier run
+			if (response == 0 || response == 2) {
+				final Channel registration = channel;
+				channel = null;
+				registration.close();
+				start(false);
+			} else {
+				fail("registration response " + response);
+			}
+		} else if (state == State.LOGGING_IN) {
+			if ((response & 0x40) != 0) {
+				state = State.ONLINE;
+				generator.botOnline(this);
+			} else {
+				fail("login response " + response);
+			}
+		}
+	}
+
+	private void disconnected(final Channel closed) {
+		if (closed != channel) {
+			return;
+		}
+		if (state == State.ONLINE) {
+			LOGGER.info(username + " was disconnected");
+			state = State.OFFLINE;
+		} else if (state == State.REGISTERING || state == State.LOGGING_IN) {
+			fail("disconnected before the response");
+		}
+	}
+
+	private void fail(final String reason) {
+		if (state == State.FAILED) {
+			return;
+		}
+		LOGGER.info(username + " failed, " + reason);
+		state = State.FAILED;
+		generator.botFailed(this);
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Own position first, then the players already in view in the order the server sent them, then the new ones.
+	 */
+	private void readPlayerPositions(final BotPacket packet) {
+		packet.startBitAccess();
+		x = packet.readBits(11);
+		y = packet.readBits(13);
+		packet.readBits(4);
+		int known = packet.readBits(8);
+		if (known > localPlayers.size()) {
+			localPlayers.clear();
+			return;
+		}
+		localPlayers.subList(known, localPlayers.size()).clear();
+		for (int i = 0; i < known; ) {
+			if (readRemoval(packet)) {
+				localPlayers.remove(i);
+				known--;
+			} else {
+				i++;
+			}
+		}
+		while (packet.getRemainingBits() >= 27) {
+			final int playerIndex = packet.readBits(11);
+			packet.readBits(6);
+			packet.readBits(6);
+			packet.readBits(4);
+			localPlayers.add(playerIndex);
+		}
+		packet.finishBitAccess();
+	}
+
+	private void readNpcPositions(final BotPacket packet) {
+		packet.startBitAccess();
+		int known = packet.readBits(8);
+		if (known > localNpcs.size()) {
+			localNpcs.clear();
+			return;
+		}
+		localNpcs.subList(known, localNpcs.size()).clear();
+		for (int i = 0; i < known; ) {
+			if (readRemoval(packet)) {
+				localNpcs.remove(i);
+				known--;
+			} else {
+				i++;
+			}
+		}
+		while (packet.getRemainingBits() >= 38) {
+			final int npcIndex = packet.readBits(12);
+			final int offsetX = packet.readBits(6);
+			final int offsetY = packet.readBits(6);
+			packet.readBits(4);
+			final int npcId = packet.readBits(10);
+			localNpcs.add(new LocalNpc(npcIndex, npcId, x + (offsetX > 31 ? offsetX - 64 : offsetX), y + (offsetY > 31 ? offsetY - 64 : offsetY)));
+		}
+		packet.finishBitAccess();
+	}
+
+	/**
+	 * Reads the update of a mob already in view.
+	 *
+	 * @return Whether the mob left view.
+	 */
+	private static boolean readRemoval(final BotPacket packet) {
+		if (packet.readBits(1) == 0) {
+			return false;
+		}
+		if (packet.readBits(1) == 0) {
+			packet.readBits(3);
+			return false;
+		}
+		if (packet.readBits(2) == 3) {
+			return true;
+		}
+		packet.readBits(2);
+		return false;
+	}
+
+	private void sendAppearance() {
+		final ByteBuf appearance = packet(Opcodes.Out.PLAYER_APPEARANCE_CHANGE);
+		appearance.writeByte(1); // head gender
+		appearance.writeByte(0); // head type
+		appearance.writeByte(1); // body gender
+		appearance.writeByte(0);
+		appearance.writeByte(random.nextInt(10)); // hair colour
+		appearance.writeByte(random.nextInt(15)); // top colour
+		appearance.writeByte(random.nextInt(15)); // trouser colour
+		appearance.writeByte(random.nextInt(5)); // skin colour
+		appearance.writeByte(0);
+		appearance.writeByte(0);
+		send(appearance);
+	}
+
+	private void sendCredentials(final int opcode, final boolean login) {
+		final ByteBuf credentials = channel.alloc().buffer();
+		credentials.writeShort(0);
+		credentials.writeByte(opcode);
+		if (login) {
+			credentials.writeByte(0); // not reconnecting
+			credentials.writeInt(generator.getClientVersion());
+		}
+		writeLine(credentials, username);
+		writeLine(credentials, password);
+		if (!login) {
+			writeLine(credentials, username + "@loadgen.invalid");
+		}
+		send(credentials);
+	}
+
+	private static void writeLine(final ByteBuf buffer, final String value) {
+		buffer.writeBytes(value.getBytes(StandardCharsets.ISO_8859_1));
+		buffer.writeByte(10);
+	}
+
+	private ByteBuf packet(final Opcodes.Out opcode) {
+		final ByteBuf packet = channel.alloc().buffer();
+		packet.writeShort(0);
+		packet.writeByte(opcode.getOpcode());
+		return packet;
+	}
+
+	/**
+	 * Fills in the length, the opcode and payload after the two byte header, and sends the packet.
+	 */
+	private void send(final ByteBuf packet) {
+		final int length = packet.readableBytes();
+		packet.setShort(0, length - 2);
+		bytesSent += length;
+		channel.writeAndFlush(packet);
+	}
+
+	void countReceived(final int bytes) {
+		bytesReceived += bytes;
+	}
+
+	public void walkTo(final int targetX, final int targetY) {
+		final ByteBuf walk = packet(Opcodes.Out.WALK_TO_POINT);
+		walk.writeShort(targetX);
+		walk.writeShort(targetY);
+		send(walk);
+	}
+
+	public void walkAroundHome(final int radius) {
+		walkTo(homeX + random.nextInt(radius * 2 + 1) - radius, homeY + random.nextInt(radius * 2 + 1) - radius);
+	}
+
+	/**
+	 * Walks at most distance tiles toward the target.
+	 */
+	public void walkToward(final int targetX, final int targetY, final int distance) {
+		walkTo(x + Math.max(-distance, Math.min(distance, targetX - x)), y + Math.max(-distance, Math.min(distance, targetY - y)));
+	}
+
+	/**
+	 * Sends chat the way the client does, the length followed by the huffman encoded message.
+	 */
+	public void chat(final String message) {
+		final byte[] text = DataConversions.stringToBytes(message);
+		final byte[] encoded = new byte[text.length * 4 + 4];
+		final int length = DataConversions.encryption.encryptString(text.length, encoded, 0, text, 0);
+		final ByteBuf chat = packet(Opcodes.Out.CHAT_MESSAGE);
+		if (text.length < 128) {
+			chat.writeByte(text.length);
+		} else {
+			chat.writeShort(0x8000 + text.length);
+		}
+		chat.writeBytes(encoded, 0, length);
+		send(chat);
+	}
+
+	public void attackNpc(final LocalNpc npc) {
+		final ByteBuf attack = packet(Opcodes.Out.NPC_ATTACK1);
+		attack.writeShort(npc.getIndex());
+		send(attack);
+	}
+
+	public void talkToNpc(final LocalNpc npc) {
+		final ByteBuf talk = packet(Opcodes.Out.NPC_TALK_TO);
+		talk.writeShort(npc.getIndex());
+		send(talk);
+	}
+
+	public void answerMenu(final int option) {
+		final ByteBuf answer = packet(Opcodes.Out.QUESTION_DIALOG_ANSWER);
+		answer.writeByte(option);
+		send(answer);
+		menuOpen = false;
+	}
+
+	public void requestTrade(final int playerIndex) {
+		final ByteBuf request = packet(Opcodes.Out.PLAYER_TRADE);
+		request.writeShort(playerIndex);
+		send(request);
+	}
+
+	public void depositInventory() {
+		send(packet(Opcodes.Out.BANK_DEPOSIT_ALL_FROM_INVENTORY));
+	}
+
+	public void withdraw(final int catalogId, final int amount) {
+		final ByteBuf withdraw = packet(Opcodes.Out.BANK_WITHDRAW);
+		withdraw.writeShort(catalogId);
+		withdraw.writeInt(amount);
+		withdraw.writeByte(0); // not as notes, only read when bank notes are on
+		send(withdraw);
+	}
+
+	public void closeBank() {
+		send(packet(Opcodes.Out.BANK_CLOSE));
+		bankOpen = false;
+		bankVisits++;
+	}
+
+	/**
+	 * @return The closest npc in view with one of the ids, or null.
+	 */
+	public LocalNpc findNpc(final int[] ids) {
+		LocalNpc closest = null;
+		int closestDistance = Integer.MAX_VALUE;
+		for (final LocalNpc npc : localNpcs) {
+			for (final int id : ids) {
+				if (npc.id != id) {
+					continue;
+				}
+				final int distance = Math.abs(npc.x - x) + Math.abs(npc.y - y);
+				if (distance < closestDistance) {
+					closest = npc;
+					closestDistance = distance;
+				}
+			}
+		}
+		return closest;
+	}
+
+	public boolean canSee(final int playerIndex) {
+		return localPlayers.contains(playerIndex);
+	}
+
+	public Random getRandom() {
+		return random;
+	}
+
+	public boolean isReady() {
+		return cooldown == 0;
+	}
+
+	public void setCooldown(final int ticks) {
+		this.cooldown = ticks;
+	}
+
+	/**
+	 * @return Whether the bot has stood on the same tile for the number of ticks.
+	 */
+	public boolean isStill(final int ticks) {
+		return stillTicks >= ticks;
+	}
+
+	public boolean isMenuOpen() {
+		return menuOpen;
+	}
+
+	public boolean isBankOpen() {
+		return bankOpen;
+	}
+
+	public int getFirstBankItem() {
+		return firstBankItem;
+	}
+
+	public int getFirstBankItemAmount() {
+		return firstBankItemAmount;
+	}
+
+	public int getBankVisits() {
+		return bankVisits;
+	}
+
+	public boolean isTradeOpen() {
+		return tradeOpen;
+	}
+
+	public Bot getPartner() {
+		return partner;
+	}
+
+	public void setPartner(final Bot partner) {
+		this.partner = partner;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public LoadGenerator getGenerator() {
+		return generator;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public BotProfile getProfile() {
+		return profile;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public long getBytesReceived() {
+		return bytesReceived;
+	}
+
+	public long getBytesSent() {
+		return bytesSent;
+	}
+
+	/**
+	 * The handler for one of the bot's connections, registration and login each get their own.
+	 */
+	final class Connection extends SimpleChannelInboundHandler<BotPacket> {
+		Bot getBot() {
+			return Bot.this;
+		}
+
+		@Override
+		protected void channelRead0(final ChannelHandlerContext ctx, final BotPacket packet) {
+			handle(packet);
+		}
+
+		@Override
+		public void channelInactive(final ChannelHandlerContext ctx) {
+			disconnected(ctx.channel());
+		}
+
+		@Override
+		public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+			LOGGER.info(username + " connection error: " + cause.getMessage());
+			ctx.close();
+		}
+	}
+}
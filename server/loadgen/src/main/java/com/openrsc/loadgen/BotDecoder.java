@@ -0,0 +1,57 @@
+package com.openrsc.loadgen;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.util.List;
+
+/**
+ * Splits what the server sends into packets, the reverse of RSCProtocolEncoder.
+ * The server answers a login or registration with a single raw byte, everything after that is framed.
+ */
+public final class BotDecoder extends ByteToMessageDecoder {
+	/**
+	 * Length header and opcode in front of every framed packet.
+	 */
+	private static final int HEADER_LENGTH = 3;
+
+	private final Bot bot;
+	private boolean awaitingResponse = true;
+
+	public BotDecoder(final Bot bot) {
+		this.bot = bot;
+	}
+
+	@Override
+	protected void decode(final ChannelHandlerContext ctx, final ByteBuf buffer, final List<Object> out) {
+		if (awaitingResponse) {
+			if (buffer.readableBytes() < 1) {
+				return;
+			}
+			awaitingResponse = false;
+			bot.countReceived(1);
+			out.add(new BotPacket(BotPacket.RAW, new byte[]{buffer.readByte()}));
+			return;
+		}
+
+		if (buffer.readableBytes() < HEADER_LENGTH) {
+			return;
+		}
+		buffer.markReaderIndex();
+		final int length = buffer.readUnsignedShort();
+		if (length < HEADER_LENGTH) {
+			ctx.close();
+			return;
+		}
+		if (buffer.readableBytes() < length - 2) {
+			buffer.resetReaderIndex();
+			return;
+		}
+		final int opcode = buffer.readUnsignedByte();
+		final byte[] payload = new byte[length - HEADER_LENGTH];
+		buffer.readBytes(payload);
+		bot.countReceived(length);
+		out.add(new BotPacket(opcode, payload));
+	}
+}
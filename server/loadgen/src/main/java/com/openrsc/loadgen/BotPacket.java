@@ -0,0 +1,68 @@
+package com.openrsc.loadgen;
+
+/**
+ * A packet the server sent a bot. Raw packets, the login and registration responses, have an opcode of -1.
+ */
+public final class BotPacket {
+	public static final int RAW = -1;
+
+	private final int opcode;
+	private final byte[] payload;
+	private int position = 0;
+	private int bitPosition = -1;
+
+	public BotPacket(final int opcode, final byte[] payload) {
+		this.opcode = opcode;
+		this.payload = payload;
+	}
+
+	public int getOpcode() {
+		return opcode;
+	}
+
+	public int getLength() {
+		return payload.length;
+	}
+
+	public int getReadableBytes() {
+		return payload.length - position;
+	}
+
+	public int readUnsignedByte() {
+		return payload[position++] & 0xff;
+	}
+
+	public int readUnsignedShort() {
+		return (readUnsignedByte() << 8) | readUnsignedByte();
+	}
+
+	public int readInt() {
+		return (readUnsignedShort() << 16) | readUnsignedShort();
+	}
+
+	public void startBitAccess() {
+		bitPosition = position * 8;
+	}
+
+	/**
+	 * Reads bits most significant first, the order PacketBuilder.writeBits writes them.
+	 */
+	public int readBits(int count) {
+		int value = 0;
+		while (count-- > 0) {
+			final int bit = (payload[bitPosition >> 3] >> (7 - (bitPosition & 7))) & 1;
+			value = (value << 1) | bit;
+			bitPosition++;
+		}
+		return value;
+	}
+
+	public int getRemainingBits() {
+		return payload.length * 8 - bitPosition;
+	}
+
+	public void finishBitAccess() {
+		position = (bitPosition + 7) / 8;
+		bitPosition = -1;
+	}
+}
@@ -0,0 +1,158 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.constants.NpcId;
+
+/**
+ * What a bot does each tick once it is in the world.
+ */
+public enum BotProfile {
+	/**
+	 * Walks to a random tile near where it logged in every few ticks.
+	 */
+	WALK {
+		@Override
+		void tick(final Bot bot) {
+			if (bot.isReady()) {
+				bot.walkAroundHome(10);
+				bot.setCooldown(3 + bot.getRandom().nextInt(4));
+			}
+		}
+	},
+	/**
+	 * Chats every few ticks and wanders a little.
+	 */
+	CHAT {
+		private final String[] messages = {
+			"Hello", "Selling lobsters", "Buying logs", "Anyone want to duel", "Where is the bank",
+			"Nice weather today", "Lag", "Free stuff at the castle", "Level up", "Brb"
+		};
+
+		@Override
+		void tick(final Bot bot) {
+			if (!bot.isReady()) {
+				return;
+			}
+			bot.chat(messages[bot.getRandom().nextInt(messages.length)]);
+			if (bot.getRandom().nextInt(3) == 0) {
+				bot.walkAroundHome(5);
+			}
+			bot.setCooldown(5 + bot.getRandom().nextInt(10));
+		}
+	},
+	/**
+	 * Attacks the closest weak npc in view, or wanders until one comes into view.
+	 */
+	FIGHT {
+		private final int[] targets = {NpcId.CHICKEN.id(), NpcId.MAN1.id(), NpcId.MAN2.id(), NpcId.RAT_LVL8.id(),
+			NpcId.GOBLIN_LVL7.id(), NpcId.GOBLIN_LVL13.id(), NpcId.COW_ATTACKABLE.id()};
+
+		@Override
+		void tick(final Bot bot) {
+			if (!bot.isReady()) {
+				return;
+			}
+			final Bot.LocalNpc target = bot.findNpc(targets);
+			if (target != null) {
+				bot.attackNpc(target);
+				bot.setCooldown(15 + bot.getRandom().nextInt(10));
+			} else {
+				bot.walkAroundHome(15);
+				bot.setCooldown(4);
+			}
+		}
+	},
+	/**
+	 * Trades with its partner whenever they are both in view and neither is trading.
+	 */
+	TRADE {
+		@Override
+		void tick(final Bot bot) {
+			final Bot partner = bot.getPartner();
+			if (!bot.isReady() || bot.isTradeOpen() || partner == null || partner.getState() != Bot.State.ONLINE) {
+				return;
+			}
+			if (bot.canSee(partner.getIndex())) {
+				bot.requestTrade(partner.getIndex());
+				bot.setCooldown(10 + bot.getRandom().nextInt(10));
+			} else {
+				bot.walkAroundHome(2);
+				bot.setCooldown(4);
+			}
+		}
+	},
+	/**
+	 * Walks to the bank, talks to a banker and alternates between depositing everything and withdrawing.
+	 */
+	BANK {
+		private final int[] bankers = {NpcId.BANKER_GEN1.id(), NpcId.BANKER_GEN2.id()};
+
+		@Override
+		void tick(final Bot bot) {
+			if (bot.isBankOpen()) {
+				if (bot.getBankVisits() % 2 == 0 || bot.getFirstBankItem() == -1) {
+					bot.depositInventory();
+				} else {
+					bot.withdraw(bot.getFirstBankItem(), Math.min(bot.getFirstBankItemAmount(), 10));
+				}
+				bot.closeBank();
+				bot.setCooldown(10 + bot.getRandom().nextInt(10));
+				return;
+			}
+			if (bot.isMenuOpen()) {
+				bot.answerMenu(0);
+				return;
+			}
+			if (!bot.isReady()) {
+				return;
+			}
+			final Bot.LocalNpc banker = bot.findNpc(bankers);
+			if (banker != null) {
+				bot.talkToNpc(banker);
+				bot.setCooldown(15);
+			} else if (bot.isStill(2)) {
+				bot.walkToward(bot.getGenerator().getBankX(), bot.getGenerator().getBankY(), 15);
+			}
+		}
+	};
+
+	abstract void tick(Bot bot);
+
+	/**
+	 * @param weights Comma separated profile=weight pairs, like walk=40,chat=20.
+	 * @return The profile for each of count bots, assigned in proportion to the weights and interleaved.
+	 */
+	public static BotProfile[] assign(final String weights, final int count) {
+		final BotProfile[] profiles = values();
+		final int[] weight = new int[profiles.length];
+		int total = 0;
+		for (final String pair : weights.split(",")) {
+			final String[] parts = pair.trim().split("=");
+			final int value = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+			weight[valueOf(parts[0].trim().toUpperCase()).ordinal()] += value;
+			total += value;
+		}
+		if (total <= 0) {
+			throw new IllegalArgumentException("No profile has a weight: " + weights);
+		}
+		final BotProfile[] assigned = new BotProfile[count];
+		final int[] given = new int[profiles.length];
+		for (int i = 0; i < count; i++) {
+			// The profile furthest below its share so far, which spreads every profile across the login order
+			int next = 0;
+			double furthestBelow = Double.NEGATIVE_INFINITY;
+			for (int p = 0; p < profiles.length; p++) {
+				if (weight[p] == 0) {
+					continue;
+				}
+				final double below = (double) weight[p] / total * (i + 1) - given[p];
+				if (below > furthestBelow) {
+					furthestBelow = below;
+					next = p;
+				}
+			}
+			given[next]++;
+			assigned[i] = profiles[next];
+		}
+		return assigned;
+	}
+}
@@ -0,0 +1,99 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.GameEventHandler;
+import com.openrsc.server.Server;
+import com.openrsc.server.event.rsc.GameTickEvent;
+import com.openrsc.server.model.world.World;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares how long one tick of game events takes when every event is invoked to count down and the per descriptor
+ * maps are rebuilt from all of them, which is what {@link GameEventHandler} did before its timing wheel, against the
+ * timing wheel handing the executor only the events due that tick.
+ * <p>
+ * The events are mostly idle: most wait hundreds of ticks between runs and a few run every tick. The wheel runs on a
+ * server built from the given conf, default.conf if none is given, which is never started so no database is needed.
+ */
+public final class EventBenchmark {
+	private static final int EVENTS = 50_000;
+	private static final int BUSY_EVENTS = 500;
+	private static final int TICKS = 200;
+	private static final int ROUNDS = 5;
+
+	public static void main(final String[] args) throws Exception {
+		final Server server = new Server(args.length > 0 ? args[0] : "default.conf");
+		final World world = server.getWorld();
+		final GameEventHandler handler = server.getGameEventHandler();
+		handler.load();
+
+		final int coreThreads = Runtime.getRuntime().availableProcessors();
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(coreThreads, coreThreads * 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		// Summed so the JIT cannot drop the runs
+		final AtomicLong runs = new AtomicLong();
+
+		final Random random = new Random(1);
+		final ConcurrentHashMap<String, GameTickEvent> events = new ConcurrentHashMap<>();
+		for (int i = 0; i < EVENTS; i++) {
+			final long delay = i < BUSY_EVENTS ? 1 : 100 + random.nextInt(900);
+			events.put(CountedEvent.class + UUID.randomUUID().toString(), new CountedEvent(world, delay, runs));
+			handler.add(new CountedEvent(world, delay, runs));
+		}
+
+		System.out.println(String.format("%-12s %12s %12s", "events", "us/tick", "runs"));
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT
+			final boolean report = round == ROUNDS - 1;
+
+			runs.set(0);
+			long start = System.nanoTime();
+			for (int tick = 0; tick < TICKS; tick++) {
+				executor.invokeAll(events.values());
+				final HashMap<String, Integer> counts = new HashMap<>();
+				final HashMap<String, Long> durations = new HashMap<>();
+				for (final GameTickEvent event : events.values()) {
+					counts.merge(event.getDescriptor(), 1, Integer::sum);
+					durations.merge(event.getDescriptor(), event.getLastEventDuration(), Long::sum);
+				}
+			}
+			report("invoke all", start, runs.get(), report);
+
+			runs.set(0);
+			start = System.nanoTime();
+			for (int tick = 0; tick < TICKS; tick++) {
+				handler.runGameEvents();
+			}
+			report("wheel", start, runs.get(), report);
+		}
+
+		handler.unload();
+		executor.shutdown();
+	}
+
+	private static void report(final String name, final long start, final long runs, final boolean report) {
+		if (report) {
+			System.out.println(String.format("%-12s %12d %12d", name, (System.nanoTime() - start) / TICKS / 1000, runs));
+		}
+	}
+
+	private static final class CountedEvent extends GameTickEvent {
+		private final AtomicLong runs;
+
+		private CountedEvent(final World world, final long delay, final AtomicLong runs) {
+			super(world, null, delay, "Benchmark Event");
+			this.runs = runs;
+		}
+
+		@Override
+		public void run() {
+			runs.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package com.openrsc.loadgen;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.openrsc.server.GameStateUpdater;
+import com.openrsc.server.Server;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logs in simulated clients and reports how the server copes. Run it from the server directory, either against a
+ * server that is already running or with --conf to start one in this process, which adds the server's own tick and
+ * phase timings to the report. Both need the server's MySQL database.
+ */
+public final class LoadGenerator {
+	/**
+	 * The asynchronous logger.
+	 */
+	private static final Logger LOGGER;
+
+	static {
+		// The same logging setup as the server, which may run in this process
+		System.setProperty("log4j.configurationFile", "conf/server/log4j2.xml");
+		System.setProperty("Log4jContextSelector",
+			"org.apache.logging.log4j.core.async.AsyncLoggerContextSelector");
+		LOGGER = LogManager.getLogger();
+	}
+
+	private static final String USAGE = "Options: --conf <file> | --host <host> --port <port>, --bots <count>, "
+		+ "--profiles walk=30,chat=20,fight=20,trade=15,bank=15, --logins-per-second <count>, --warmup <seconds>, "
+		+ "--duration <seconds>, --prefix <name>, --password <password>, --register <true|false>, --seed <seed>, "
+		+ "--client-version <version>, --tick <ms>, --bank <x,y>, --threads <count>, --report <file>";
+
+	private final String conf;
+	private String host = "127.0.0.1";
+	private int port = 43594;
+	private int botCount = 100;
+	private String profiles = "walk=30,chat=20,fight=20,trade=15,bank=15";
+	private int loginsPerSecond = 20;
+	private int warmupSeconds = 30;
+	private int durationSeconds = 300;
+	private String prefix = "loadbot";
+	private String password = "loadbot";
+	private boolean register = true;
+	private long seed = 1;
+	private int clientVersion = -1;
+	private int tick = 640;
+	private int bankX = 216;
+	private int bankY = 634;
+	private int threads = 0;
+	private String reportFile;
+
+	private Server server;
+	private EventLoopGroup group;
+	private Bootstrap bootstrap;
+	private ScheduledExecutorService scheduler;
+	private final List<Bot> bots = new ArrayList<>();
+	private final AtomicInteger online = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+	private final LoadReport report = new LoadReport();
+	private volatile boolean measuring = false;
+	private volatile long measuredTicks = 0;
+
+	public static void main(final String[] args) {
+		try {
+			new LoadGenerator(args).run();
+			System.exit(0);
+		} catch (final IllegalArgumentException e) {
+			LOGGER.error(e.getMessage());
+			LOGGER.error(USAGE);
+			System.exit(1);
+		} catch (final Throwable t) {
+			LOGGER.catching(t);
+			System.exit(1);
+		}
+	}
+
+	private LoadGenerator(final String[] args) {
+		final Map<String, String> options = new HashMap<>();
+		for (int i = 0; i < args.length; i += 2) {
+			if (!args[i].startsWith("--") || i + 1 >= args.length) {
+				throw new IllegalArgumentException("Expected an option and a value at " + args[i]);
+			}
+			options.put(args[i].substring(2), args[i + 1]);
+		}
+		conf = options.remove("conf");
+		host = option(options, "host", host);
+		port = Integer.parseInt(option(options, "port", String.valueOf(port)));
+		botCount = Integer.parseInt(option(options, "bots", String.valueOf(botCount)));
+		profiles = option(options, "profiles", profiles);
+		loginsPerSecond = Math.max(1, Integer.parseInt(option(options, "logins-per-second", String.valueOf(loginsPerSecond))));
+		warmupSeconds = Integer.parseInt(option(options, "warmup", String.valueOf(warmupSeconds)));
+		durationSeconds = Integer.parseInt(option(options, "duration", String.valueOf(durationSeconds)));
+		prefix = option(options, "prefix", prefix);
+		password = option(options, "password", password);
+		register = Boolean.parseBoolean(option(options, "register", String.valueOf(register)));
+		seed = Long.parseLong(option(options, "seed", String.valueOf(seed)));
+		clientVersion = Integer.parseInt(option(options, "client-version", String.valueOf(clientVersion)));
+		tick = Integer.parseInt(option(options, "tick", String.valueOf(tick)));
+		final String[] bank = option(options, "bank", bankX + "," + bankY).split(",");
+		bankX = Integer.parseInt(bank[0].trim());
+		bankY = Integer.parseInt(bank[1].trim());
+		threads = Integer.parseInt(option(options, "threads", String.valueOf(threads)));
+		reportFile = options.remove("report");
+		if (!options.isEmpty()) {
+			throw new IllegalArgumentException("Unknown options " + options.keySet());
+		}
+		if ((prefix + (botCount - 1)).length() > 12) {
+			throw new IllegalArgumentException("Usernames are at most 12 characters, shorten --prefix for " + botCount + " bots");
+		}
+	}
+
+	private static String option(final Map<String, String> options, final String name, final String defaultValue) {
+		final String value = options.remove(name);
+		return value == null ? defaultValue : value;
+	}
+
+	private void run() throws Exception {
+		if (conf != null) {
+			startServer();
+		}
+		if (clientVersion == -1) {
+			throw new IllegalArgumentException("--client-version is required without --conf");
+		}
+
+		group = new NioEventLoopGroup(threads, new ThreadFactoryBuilder().setNameFormat("LoadBot-%d").build());
+		bootstrap = new Bootstrap()
+			.group(group)
+			.channel(NioSocketChannel.class)
+			.option(ChannelOption.TCP_NODELAY, true)
+			.remoteAddress(host, port);
+		scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("LoadGenerator").build());
+
+		final BotProfile[] assigned = BotProfile.assign(profiles, botCount);
+		Bot unpairedTrader = null;
+		for (int i = 0; i < botCount; i++) {
+			final Bot bot = new Bot(this, prefix + i, password, assigned[i], seed * 31 + i);
+			if (assigned[i] == BotProfile.TRADE) {
+				if (unpairedTrader == null) {
+					unpairedTrader = bot;
+				} else {
+					unpairedTrader.setPartner(bot);
+					bot.setPartner(unpairedTrader);
+					unpairedTrader = null;
+				}
+			}
+			bots.add(bot);
+		}
+
+		LOGGER.info("Logging in " + botCount + " bots at " + loginsPerSecond + " per second against " + host + ":" + port);
+		scheduler.scheduleAtFixedRate(this::tickBots, tick, tick, TimeUnit.MILLISECONDS);
+		final long loginInterval = Math.max(1, 1000 / loginsPerSecond);
+		final int loginsPerInterval = Math.max(1, (int) (loginsPerSecond * loginInterval / 1000));
+		for (int i = 0; i < bots.size(); i++) {
+			bots.get(i).start(register);
+			if ((i + 1) % loginsPerInterval == 0) {
+				Thread.sleep(loginInterval);
+			}
+		}
+		final long loginDeadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+		while (online.get() + failed.get() < botCount && System.currentTimeMillis() < loginDeadline) {
+			Thread.sleep(100);
+		}
+		LOGGER.info(online.get() + " bots online, " + failed.get() + " failed, warming up for " + warmupSeconds + " seconds");
+		Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+
+		final long[] receivedAtStart = new long[botCount];
+		final long[] sentAtStart = new long[botCount];
+		for (int i = 0; i < botCount; i++) {
+			receivedAtStart[i] = bots.get(i).getBytesReceived();
+			sentAtStart[i] = bots.get(i).getBytesSent();
+		}
+		final int onlineAtStart = online.get();
+		final long start = System.currentTimeMillis();
+		measuring = true;
+		LOGGER.info("Measuring for " + durationSeconds + " seconds");
+		Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+		measuring = false;
+
+		// Without the server in this process ticks are counted on the generator's own clock
+		final long ticks = server != null ? measuredTicks : (System.currentTimeMillis() - start) / tick;
+		int onlineThroughout = 0;
+		for (int i = 0; i < botCount; i++) {
+			final Bot bot = bots.get(i);
+			if (bot.getState() != Bot.State.ONLINE || ticks == 0) {
+				continue;
+			}
+			onlineThroughout++;
+			report.record("Bytes received per bot per tick", "bytes", (bot.getBytesReceived() - receivedAtStart[i]) / ticks);
+			report.record("Bytes sent per bot per tick", "bytes", (bot.getBytesSent() - sentAtStart[i]) / ticks);
+		}
+		report.note("Bots: " + botCount + " (" + profiles + "), " + onlineAtStart + " online when measuring started, "
+			+ onlineThroughout + " still online at the end, " + failed.get() + " failed to log in");
+		report.note("Measured " + ticks + " ticks of " + tick + "ms over " + durationSeconds + " seconds, seed " + seed);
+		if (server == null) {
+			report.note("The server ran in another process, pass --conf to include its tick and phase timings");
+		}
+		final List<String> lines = report.getLines();
+		for (final String line : lines) {
+			LOGGER.info(line);
+		}
+		if (reportFile != null) {
+			Files.write(Paths.get(reportFile), lines);
+		}
+
+		stop();
+	}
+
+	/**
+	 * Starts the server in this process with its player and connection limits lifted for the bots.
+	 */
+	private void startServer() throws IOException {
+		server = new Server(conf);
+		server.getConfig().MAX_PLAYERS = Math.max(server.getConfig().MAX_PLAYERS, botCount);
+		server.getConfig().MAX_PLAYERS_PER_IP = Math.max(server.getConfig().MAX_PLAYERS_PER_IP, botCount);
+		// Admin hosts skip the connection, login and packet rate limits
+		server.getPacketFilter().addAdminHost(InetAddress.getByName(host).getHostAddress());
+		server.setTickListener(this::recordServerTick);
+		server.start();
+		port = server.getConfig().SERVER_PORT;
+		tick = server.getConfig().GAME_TICK;
+		if (clientVersion == -1) {
+			clientVersion = server.getConfig().CLIENT_VERSION;
+		}
+	}
+
+	/**
+	 * Runs on the game thread at the end of every tick.
+	 */
+	private void recordServerTick() {
+		if (!measuring) {
+			return;
+		}
+		measuredTicks++;
+		final GameStateUpdater updater = server.getGameUpdater();
+		report.record("Tick", "ms", server.getLastTickDuration());
+		report.record("Incoming packets", "ms", server.getLastIncomingPacketsDuration());
+		report.record("Game state", "ms", server.getLastGameStateDuration());
+		report.record("  Plan npcs", "ms", updater.getLastPlanNpcsDuration());
+		report.record("  Process npcs", "ms", updater.getLastProcessNpcsDuration());
+		report.record("  Process players", "ms", updater.getLastProcessPlayersDuration());
+		report.record("  Walk to actions", "ms", updater.getLastExecuteWalkToActionsDuration());
+		report.record("  Message queues", "ms", updater.getLastProcessMessageQueuesDuration());
+		report.record("  Update clients", "ms", updater.getLastUpdateClientsDuration());
+		report.record("  Cleanup", "ms", updater.getLastDoCleanupDuration());
+		report.record("  World update", "ms", updater.getLastWorldUpdateDuration());
+		report.record("Events", "ms", server.getLastEventsDuration());
+		report.record("Outgoing packets", "ms", server.getLastOutgoingPacketsDuration());
+		report.record("Late", "ms", Math.max(0, server.getLastTickDuration() - server.getConfig().GAME_TICK));
+		report.record("Players", "count", server.getWorld().getPlayers().size());
+		final int players = Math.max(1, server.getWorld().getPlayers().size());
+		report.record("Server bytes out per player", "bytes", server.getLastOutgoingBytes() / players);
+	}
+
+	private void tickBots() {
+		for (final Bot bot : bots) {
+			bot.scheduleTick();
+		}
+	}
+
+	private void stop() throws InterruptedException {
+		LOGGER.info("Logging out");
+		for (final Bot bot : bots) {
+			bot.stop();
+		}
+		Thread.sleep(TimeUnit.SECONDS.toMillis(2));
+		scheduler.shutdownNow();
+		group.shutdownGracefully().sync();
+		if (server != null) {
+			// Let the server save the bots before it stops
+			Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+			server.stop();
+		}
+	}
+
+	ChannelFuture connect(final Bot.Connection connection) {
+		return bootstrap.clone().handler(new ChannelInitializer<SocketChannel>() {
+			@Override
+			protected void initChannel(final SocketChannel channel) {
+				channel.pipeline().addLast(new BotDecoder(connection.getBot()), connection);
+			}
+		}).connect();
+	}
+
+	void botOnline(final Bot bot) {
+		online.incrementAndGet();
+	}
+
+	void botFailed(final Bot bot) {
+		failed.incrementAndGet();
+	}
+
+	int getClientVersion() {
+		return clientVersion;
+	}
+
+	public int getBankX() {
+		return bankX;
+	}
+
+	public int getBankY() {
+		return bankY;
+	}
+}
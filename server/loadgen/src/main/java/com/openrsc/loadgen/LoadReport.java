@@ -0,0 +1,60 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.util.LatencySamples;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every value recorded during the measured part of a run, summarised per metric in the order they were first recorded.
+ */
+public final class LoadReport {
+	private static final int MAX_SAMPLES = 1 << 17;
+
+	private static final class Metric {
+		private final String unit;
+		private final LatencySamples samples = new LatencySamples(MAX_SAMPLES);
+		private long sum = 0;
+		private long count = 0;
+
+		private Metric(final String unit) {
+			this.unit = unit;
+		}
+	}
+
+	private final Map<String, Metric> metrics = new LinkedHashMap<>();
+	private final List<String> notes = new ArrayList<>();
+
+	public synchronized void record(final String name, final String unit, final long value) {
+		final Metric metric = metrics.computeIfAbsent(name, key -> new Metric(unit));
+		metric.samples.record(value);
+		metric.sum += value;
+		metric.count++;
+	}
+
+	/**
+	 * Adds a line to the top of the report.
+	 */
+	public synchronized void note(final String note) {
+		notes.add(note);
+	}
+
+	public synchronized List<String> getLines() {
+		final List<String> lines = new ArrayList<>(notes);
+		lines.add(String.format("%-36s %10s %8s %8s %8s %8s %10s", "metric", "mean", "p50", "p95", "p99", "max", "samples"));
+		for (final Map.Entry<String, Metric> entry : metrics.entrySet()) {
+			final Metric metric = entry.getValue();
+			lines.add(String.format("%-36s %10.2f %8d %8d %8d %8d %10d",
+				entry.getKey() + " (" + metric.unit + ")",
+				metric.count == 0 ? 0.0 : (double) metric.sum / metric.count,
+				metric.samples.getPercentile(50),
+				metric.samples.getPercentile(95),
+				metric.samples.getPercentile(99),
+				metric.samples.getPercentile(100),
+				metric.count));
+		}
+		return lines;
+	}
+}
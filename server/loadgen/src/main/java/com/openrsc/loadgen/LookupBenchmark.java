@@ -0,0 +1,136 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.Server;
+import com.openrsc.server.model.entity.npc.Npc;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.model.world.World;
+
+import java.util.Random;
+
+/**
+ * Compares how long World's player and npc lookups take when they scan the entity lists, which is what
+ * getPlayer(long) and getNpcById did before World indexed them, against World's own getPlayer, getPlayerID,
+ * getPlayerUUID and getNpcById reading its indexes.
+ * <p>
+ * Every player count gets a fresh world of a server built from the given conf, default.conf if none is given, which is
+ * never started so no database is needed. The counts go up to the 2000 players a world holds, and past it to 5000 in a
+ * world given a bigger player list. Each world holds the same npcs.
+ */
+public final class LookupBenchmark {
+	private static final int[] PLAYER_COUNTS = {100, 500, 1000, 2000, 5000};
+	private static final int DEFAULT_CAPACITY = 2000;
+	private static final int NPCS = 3500;
+	private static final int NPC_IDS = 800;
+	private static final int LOOKUPS = 20_000;
+	private static final int ROUNDS = 3;
+
+	/**
+	 * Counts what the lookups found, so the JIT cannot drop them.
+	 */
+	private static long found;
+
+	public static void main(final String[] args) throws Exception {
+		final Server server = new Server(args.length > 0 ? args[0] : "default.conf");
+		server.getEntityHandler().load();
+
+		System.out.println(String.format("%-8s %12s %12s %12s %12s %12s %12s", "players", "hash scan", "getPlayer",
+			"getPlayerID", "getPlayerUUID", "npc id scan", "getNpcById"));
+		for (final int playerCount : PLAYER_COUNTS) {
+			run(server, playerCount);
+		}
+		System.exit(0);
+	}
+
+	private static void run(final Server server, final int playerCount) {
+		final Random random = new Random(1);
+		final World world = new World(server, Math.max(DEFAULT_CAPACITY, playerCount));
+		world.getWorldLoader().loadWorld();
+
+		final Player[] players = new Player[playerCount];
+		for (int i = 0; i < playerCount; i++) {
+			players[i] = BenchmarkPlayers.register(world, "bench" + i, i + 1, 50 + random.nextInt(400), 440 + random.nextInt(360));
+		}
+		while (world.getNpcs().size() < NPCS) {
+			final int x = 50 + random.nextInt(400);
+			final int y = 440 + random.nextInt(360);
+			// Npcs are not spawned on water
+			if ((world.getTile(x, y).getOverlay() & 64) == 0) {
+				world.registerNpc(new Npc(world, random.nextInt(NPC_IDS), x, y));
+			}
+		}
+
+		final long[] usernameHashes = new long[LOOKUPS];
+		final int[] databaseIds = new int[LOOKUPS];
+		final String[] uuids = new String[LOOKUPS];
+		final int[] npcIds = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			final Player player = players[random.nextInt(playerCount)];
+			usernameHashes[i] = player.getUsernameHash();
+			databaseIds[i] = player.getDatabaseID();
+			uuids[i] = player.getUUID();
+			npcIds[i] = random.nextInt(NPC_IDS);
+		}
+
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT
+			long start = System.nanoTime();
+			for (final long usernameHash : usernameHashes) {
+				for (final Player player : world.getPlayers()) {
+					if (player.getUsernameHash() == usernameHash) {
+						found++;
+						break;
+					}
+				}
+			}
+			final long hashScan = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (final long usernameHash : usernameHashes) {
+				if (world.getPlayer(usernameHash) != null) {
+					found++;
+				}
+			}
+			final long byHash = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (final int databaseId : databaseIds) {
+				if (world.getPlayerID(databaseId) != null) {
+					found++;
+				}
+			}
+			final long byDatabaseId = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (final String uuid : uuids) {
+				if (world.getPlayerUUID(uuid) != null) {
+					found++;
+				}
+			}
+			final long byUUID = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (final int npcId : npcIds) {
+				for (final Npc npc : world.getNpcs()) {
+					if (npc.getID() == npcId) {
+						found++;
+						break;
+					}
+				}
+			}
+			final long npcScan = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (final int npcId : npcIds) {
+				if (world.getNpcById(npcId) != null) {
+					found++;
+				}
+			}
+			final long byNpcId = System.nanoTime() - start;
+
+			if (round == ROUNDS - 1) {
+				System.out.println(String.format("%-8d %12d %12d %12d %12d %12d %12d", playerCount, hashScan / LOOKUPS,
+					byHash / LOOKUPS, byDatabaseId / LOOKUPS, byUUID / LOOKUPS, npcScan / LOOKUPS, byNpcId / LOOKUPS));
+			}
+		}
+	}
+}
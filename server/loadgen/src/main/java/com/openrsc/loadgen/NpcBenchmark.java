@@ -0,0 +1,111 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.GameStateUpdater;
+import com.openrsc.server.Server;
+import com.openrsc.server.model.entity.npc.Npc;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.model.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times the npc phase of a game tick with every aggro target planned on the GameThread, against planned on the npc
+ * update pool as with want_parallel_npc_updates, and with npc_dormant_tick_interval ticking the npcs no player can see
+ * every fourth tick. Only the planning is parallel, moving and ticking the npcs stays on the GameThread.
+ * <p>
+ * The npcs stand in a grid over the mainland, two in three of them aggressive. The players stand between the npcs of
+ * the western half, in view of the npcs around them but out of their reach, so every aggressive npc near a player
+ * scans the players around it each tick and finds nobody, as most do on a live server. Full game ticks are run on a
+ * server built from the given conf, default.conf if none is given, which is never started so no database is needed.
+ */
+public final class NpcBenchmark {
+	private static final int COLUMNS = 40;
+	private static final int ROWS = 19;
+	private static final int SPACING = 20;
+	private static final int MIN_X = 50;
+	private static final int MIN_Y = 440;
+	private static final int NPCS_PER_SPOT = 4;
+	private static final int PLAYERS_PER_SPOT = 2;
+	private static final int TICKS = 100;
+	private static final int ROUNDS = 3;
+
+	public static void main(final String[] args) throws Exception {
+		final Server server = new Server(args.length > 0 ? args[0] : "default.conf");
+		server.getEntityHandler().load();
+		final World world = server.getWorld();
+		world.getWorldLoader().loadWorld();
+
+		int aggressiveId = -1;
+		int passiveId = -1;
+		for (int id = 0; aggressiveId == -1 || passiveId == -1; id++) {
+			if (server.getEntityHandler().getNpcDef(id).isAggressive()) {
+				aggressiveId = aggressiveId == -1 ? id : aggressiveId;
+			} else if (server.getEntityHandler().getNpcDef(id).isAttackable()) {
+				passiveId = passiveId == -1 ? id : passiveId;
+			}
+		}
+
+		final List<Player> players = new ArrayList<>();
+		for (int column = 0; column < COLUMNS; column++) {
+			for (int row = 0; row < ROWS; row++) {
+				final int x = MIN_X + column * SPACING;
+				final int y = MIN_Y + row * SPACING;
+				// Npcs are not spawned on water
+				if ((world.getTile(x, y).getOverlay() & 64) != 0) {
+					continue;
+				}
+				for (int i = 0; i < NPCS_PER_SPOT; i++) {
+					world.registerNpc(new Npc(world, i % 3 == 0 ? passiveId : aggressiveId, x, y));
+				}
+				// Half the grid away from the npcs' walking area and the 4 tiles around it they chase within
+				if (column < COLUMNS / 2) {
+					for (int i = 0; i < PLAYERS_PER_SPOT; i++) {
+						players.add(BenchmarkPlayers.register(world, "bench" + players.size(), players.size() + 1,
+							x + SPACING / 2, y + SPACING / 2 + i));
+					}
+				}
+			}
+		}
+		System.out.println(world.getNpcs().size() + " npcs, " + players.size() + " players, "
+			+ Runtime.getRuntime().availableProcessors() + " processors");
+
+		final GameStateUpdater updater = server.getGameUpdater();
+		System.out.println(String.format("%-12s %12s %12s %10s", "npc phase", "plan ms", "npcs ms", "dormant"));
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT
+			final boolean report = round == ROUNDS - 1;
+			run(server, players, "serial", false, 0, report);
+			run(server, players, "parallel", true, 0, report);
+			run(server, players, "dormant 4", false, 4, report);
+		}
+		updater.unload();
+		System.exit(0);
+	}
+
+	private static void run(final Server server, final List<Player> players, final String name, final boolean parallel,
+							final int dormantTickInterval, final boolean report) {
+		server.getConfig().WANT_PARALLEL_NPC_UPDATES = parallel;
+		server.getConfig().NPC_DORMANT_TICK_INTERVAL = dormantTickInterval;
+		final GameStateUpdater updater = server.getGameUpdater();
+		updater.unload();
+		updater.load();
+
+		long plan = 0;
+		long npcs = 0;
+		long dormant = 0;
+		for (int tick = 0; tick < TICKS; tick++) {
+			updater.doUpdates();
+			plan += updater.getLastPlanNpcsDuration();
+			npcs += updater.getLastProcessNpcsDuration();
+			dormant += updater.getLastDormantNpcCount();
+			for (final Player player : players) {
+				BenchmarkPlayers.discardOutbound(player);
+			}
+		}
+		if (report) {
+			System.out.println(String.format("%-12s %12.2f %12.2f %10d", name, (double) plan / TICKS, (double) npcs / TICKS,
+				dormant / TICKS));
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.net.Packet;
+import com.openrsc.server.net.RSCProtocolEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.ReferenceCountUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Compares the bytes, allocations and flushes a tick of outgoing packets costs for 1000 players when every packet is
+ * copied through a temporary buffer and written and flushed on its own, which is what Player.processOutgoingPackets
+ * and RSCProtocolEncoder did before coalesced writes, against encoding straight into the output buffer and flushing
+ * once per player per tick.
+ * <p>
+ * Each player is an embedded channel running the encoder, ending in a handler that counts and releases what reaches
+ * the socket, so every flush stands for one socket write syscall. Allocations are the bytes the benchmark thread
+ * allocated, as reported by the JVM.
+ */
+public final class OutgoingBenchmark {
+	private static final int PLAYERS = 1000;
+	private static final int MIN_PACKETS = 10;
+	private static final int MAX_PACKETS = 30;
+	private static final int MAX_PAYLOAD = 120;
+	private static final int TICKS = 50;
+	private static final int ROUNDS = 5;
+
+	public static void main(final String[] args) {
+		final Random random = new Random(1);
+		final Packet[][] packets = new Packet[PLAYERS][];
+		for (int player = 0; player < PLAYERS; player++) {
+			packets[player] = new Packet[MIN_PACKETS + random.nextInt(MAX_PACKETS - MIN_PACKETS + 1)];
+			for (int i = 0; i < packets[player].length; i++) {
+				final byte[] payload = new byte[random.nextInt(MAX_PAYLOAD + 1)];
+				random.nextBytes(payload);
+				packets[player][i] = new Packet(random.nextInt(256), Unpooled.wrappedBuffer(payload));
+			}
+		}
+
+		final Socket legacySocket = new Socket();
+		final EmbeddedChannel[] legacyChannels = new EmbeddedChannel[PLAYERS];
+		final Socket coalescedSocket = new Socket();
+		final EmbeddedChannel[] coalescedChannels = new EmbeddedChannel[PLAYERS];
+		for (int player = 0; player < PLAYERS; player++) {
+			legacyChannels[player] = new EmbeddedChannel(legacySocket, new LegacyEncoder());
+			coalescedChannels[player] = new EmbeddedChannel(coalescedSocket, new RSCProtocolEncoder());
+			// As the server's bootstrap sets it
+			coalescedChannels[player].config().setAllocator(PooledByteBufAllocator.DEFAULT);
+		}
+
+		System.out.println(String.format("%-10s %12s %14s %10s %10s", "writes", "bytes/tick", "alloc/tick", "flushes", "us/tick"));
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT
+			final boolean report = round == ROUNDS - 1;
+			run("per packet", legacyChannels, legacySocket, packets, false, report);
+			run("coalesced", coalescedChannels, coalescedSocket, packets, true, report);
+		}
+	}
+
+	private static void run(final String name, final EmbeddedChannel[] channels, final Socket socket, final Packet[][] packets,
+							final boolean coalesce, final boolean report) {
+		socket.bytes = 0;
+		socket.flushes = 0;
+		final long allocatedBefore = allocatedBytes();
+		final long start = System.nanoTime();
+		for (int tick = 0; tick < TICKS; tick++) {
+			for (int player = 0; player < channels.length; player++) {
+				final EmbeddedChannel channel = channels[player];
+				for (final Packet packet : packets[player]) {
+					if (coalesce) {
+						channel.write(packet);
+					} else {
+						channel.writeAndFlush(packet);
+					}
+					// Encoding read the payload, rewind it so the packet can be sent again
+					packet.getBuffer().readerIndex(0);
+				}
+				if (coalesce) {
+					channel.flush();
+				}
+			}
+		}
+		final long elapsed = System.nanoTime() - start;
+		final long allocated = allocatedBytes() - allocatedBefore;
+		if (report) {
+			System.out.println(String.format("%-10s %12d %14d %10d %10d", name, socket.bytes / TICKS, allocated / TICKS,
+				socket.flushes / TICKS, elapsed / TICKS / 1000));
+		}
+	}
+
+	private static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Stands in for the socket, counting what would be written to it.
+	 */
+	private static final class Socket extends ChannelOutboundHandlerAdapter {
+		private long bytes;
+		private long flushes;
+
+		@Override
+		public boolean isSharable() {
+			return true;
+		}
+
+		@Override
+		public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+			bytes += ((ByteBuf) msg).readableBytes();
+			ReferenceCountUtil.release(msg);
+			promise.setSuccess();
+		}
+
+		@Override
+		public void flush(final ChannelHandlerContext ctx) {
+			flushes++;
+		}
+	}
+
+	/**
+	 * RSCProtocolEncoder as it was before coalesced writes, copying every packet through an unpooled buffer.
+	 */
+	private static final class LegacyEncoder extends MessageToByteEncoder<Packet> {
+		@Override
+		protected void encode(final ChannelHandlerContext ctx, final Packet message, final ByteBuf outBuffer) {
+			if (!message.isRaw()) {
+				final int packetLength = message.getBuffer().readableBytes();
+
+				final ByteBuf buffer = Unpooled.buffer(packetLength + 3);
+
+				buffer.writeShort(buffer.capacity());
+				buffer.writeByte(message.getID());
+				buffer.writeBytes(message.getBuffer());
+				outBuffer.writeBytes(buffer);
+			} else {
+				outBuffer.writeBytes(message.getBuffer());
+			}
+		}
+	}
+}
@@ -0,0 +1,314 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.Server;
+import com.openrsc.server.model.AStarPathfinder;
+import com.openrsc.server.model.Path;
+import com.openrsc.server.model.Point;
+import com.openrsc.server.model.world.World;
+import com.openrsc.server.util.rsc.CollisionFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares how long A* searches take on the real landscape with the pathfinder as it was before its rewrite, which
+ * built a board of node objects for every search and scanned the open list for the cheapest node, against
+ * {@link AStarPathfinder} without and with the path cache.
+ * <p>
+ * Searches are split into short paths of at most 4 tiles, long paths of at least 14 tiles and unreachable goals, all
+ * at the depth of 20 mobs walk with. The old pathfinder reads traversal masks the same way the new one does, so only
+ * the search itself is compared. The landscape is loaded into a server built from the given conf, default.conf if
+ * none is given, which is never started so no database is needed.
+ */
+public final class PathfinderBenchmark {
+	private static final int DEPTH = 20;
+	private static final int SEARCHES_PER_KIND = 200;
+	private static final int ROUNDS = 5;
+
+	public static void main(final String[] args) throws Exception {
+		final Server server = new Server(args.length > 0 ? args[0] : "default.conf");
+		server.getEntityHandler().load();
+		server.getConfig().WANT_LANDSCAPE_CACHE = false;
+		server.getConfig().WANT_PATH_CACHE = false;
+		final World world = new World(server);
+		world.getWorldLoader().loadWorld();
+		server.getConfig().WANT_PATH_CACHE = true;
+		server.getConfig().PATH_CACHE_SIZE = SEARCHES_PER_KIND * 3;
+		final World cachedWorld = new World(server);
+		cachedWorld.getWorldLoader().loadWorld();
+
+		final List<Point[]> shortPaths = new ArrayList<>();
+		final List<Point[]> longPaths = new ArrayList<>();
+		final List<Point[]> unreachable = new ArrayList<>();
+		final Random random = new Random(1);
+		// Around Lumbridge, Draynor and Varrock on the ground floor
+		while (shortPaths.size() < SEARCHES_PER_KIND || longPaths.size() < SEARCHES_PER_KIND || unreachable.size() < SEARCHES_PER_KIND) {
+			final Point start = new Point(60 + random.nextInt(200), 440 + random.nextInt(240));
+			if ((world.getTraversalMask(start.getX(), start.getY()) & CollisionFlag.FULL_BLOCK) != 0) {
+				continue;
+			}
+			final Point end = new Point(start.getX() + random.nextInt(2 * DEPTH + 1) - DEPTH, start.getY() + random.nextInt(2 * DEPTH + 1) - DEPTH);
+			final int distance = Math.max(Math.abs(end.getX() - start.getX()), Math.abs(end.getY() - start.getY()));
+			final boolean reachable = newSearch(world, start, end) != null;
+			if (reachable && distance >= 1 && distance <= 4) {
+				add(shortPaths, start, end);
+			} else if (reachable && distance >= 14) {
+				add(longPaths, start, end);
+			} else if (!reachable && distance >= 2) {
+				add(unreachable, start, end);
+			}
+		}
+
+		System.out.println(String.format("%-12s %-8s %12s %10s", "paths", "search", "ns/search", "found"));
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT and fill the path cache
+			final boolean report = round == ROUNDS - 1;
+			run("short", shortPaths, world, cachedWorld, report);
+			run("long", longPaths, world, cachedWorld, report);
+			run("unreachable", unreachable, world, cachedWorld, report);
+		}
+		System.out.println("Path cache: " + cachedWorld.getPathCache().getHits() + " hits, " + cachedWorld.getPathCache().getMisses() + " misses");
+	}
+
+	private static void add(final List<Point[]> paths, final Point start, final Point end) {
+		if (paths.size() < SEARCHES_PER_KIND) {
+			paths.add(new Point[]{start, end});
+		}
+	}
+
+	private static void run(final String name, final List<Point[]> paths, final World world, final World cachedWorld, final boolean report) {
+		long start = System.nanoTime();
+		int found = 0;
+		for (final Point[] path : paths) {
+			if (new LegacyPathfinder(world, path[0], path[1], DEPTH).findPath() != null) {
+				found++;
+			}
+		}
+		report(name, "old", paths.size(), start, found, report);
+
+		start = System.nanoTime();
+		found = 0;
+		for (final Point[] path : paths) {
+			if (newSearch(world, path[0], path[1]) != null) {
+				found++;
+			}
+		}
+		report(name, "new", paths.size(), start, found, report);
+
+		start = System.nanoTime();
+		found = 0;
+		for (final Point[] path : paths) {
+			if (newSearch(cachedWorld, path[0], path[1]) != null) {
+				found++;
+			}
+		}
+		report(name, "cached", paths.size(), start, found, report);
+	}
+
+	private static Path newSearch(final World world, final Point start, final Point end) {
+		final AStarPathfinder pathfinder = new AStarPathfinder(world, start, end, DEPTH);
+		pathfinder.feedPath(new Path(null, Path.PathType.WALK_TO_ENTITY));
+		return pathfinder.findPath();
+	}
+
+	private static void report(final String name, final String search, final int searches, final long start, final int found, final boolean report) {
+		if (report) {
+			System.out.println(String.format("%-12s %-8s %12d %10d", name, search, (System.nanoTime() - start) / searches, found));
+		}
+	}
+
+	/**
+	 * AStarPathfinder as it was before its rewrite: a fresh board of nodes per search and a linear scan of the open list.
+	 */
+	private static final class LegacyPathfinder {
+		private static final int BASIC_COST = 10;
+		private static final int DIAG_COST = 14;
+
+		private final int depth;
+		private final Node[][] costBoard;
+		private final Point worldStart;
+		private final Point pointStart;
+		private final Point pointEnd;
+		private final Path path = new Path(null, Path.PathType.WALK_TO_ENTITY);
+		private final ArrayList<Node> openNodes = new ArrayList<>();
+		private final ArrayList<Node> closedNodes = new ArrayList<>();
+
+		private LegacyPathfinder(final World world, final Point start, final Point end, final int depth) {
+			this.worldStart = start;
+			this.pointStart = new Point(depth, depth);
+			this.pointEnd = new Point((start.getX() + depth) - end.getX(), end.getY() - (start.getY() - depth));
+			this.depth = depth;
+			this.costBoard = new Node[2 * depth + 1][2 * depth + 1];
+			for (int i = 0; i < costBoard.length; i++) {
+				for (int j = 0; j < costBoard.length; j++) {
+					costBoard[i][j] = new Node(i, j);
+				}
+			}
+			for (int x = -depth; x <= depth; x++) {
+				for (int y = -depth; y <= depth; y++) {
+					final int mask = world.getTraversalMask(start.getX() - x, start.getY() + y);
+					final int curposx = x + depth;
+					final int curposy = y + depth;
+					if ((mask & CollisionFlag.FULL_BLOCK) != 0) {
+						if (y < depth) {
+							costBoard[curposx][curposy + 1].northBlocked = true;
+						}
+						if (x > -depth) {
+							costBoard[curposx - 1][curposy].eastBlocked = true;
+						}
+						if (y > -depth) {
+							costBoard[curposx][curposy - 1].southBlocked = true;
+						}
+						if (x < depth) {
+							costBoard[curposx + 1][curposy].westBlocked = true;
+						}
+					} else {
+						final Node node = costBoard[curposx][curposy];
+						node.southBlocked |= (mask & CollisionFlag.SOUTH_BLOCKED) != 0;
+						node.westBlocked |= (mask & CollisionFlag.WEST_BLOCKED) != 0;
+						node.northBlocked |= (mask & CollisionFlag.NORTH_BLOCKED) != 0;
+						node.eastBlocked |= (mask & CollisionFlag.EAST_BLOCKED) != 0;
+					}
+				}
+			}
+		}
+
+		private int calcDistance(final Point one, final Point two) {
+			final int xdiff = Math.abs(one.getX() - two.getX());
+			final int ydiff = Math.abs(one.getY() - two.getY());
+			final int shortL = Math.min(xdiff, ydiff);
+			final int longL = Math.max(xdiff, ydiff);
+			return shortL * DIAG_COST + (longL - shortL) * BASIC_COST;
+		}
+
+		private Node findNextNode() {
+			int minimum = Integer.MAX_VALUE;
+			Node minNode = null;
+			for (final Node node : openNodes) {
+				if (node.hCost < minimum) {
+					minimum = node.hCost;
+					minNode = node;
+				} else if (node.hCost == minimum && node.fCost < minNode.fCost) {
+					minNode = node;
+				}
+			}
+			return minNode;
+		}
+
+		private Path buildPath() {
+			final Point parent = closedNodes.get(closedNodes.size() - 1).parent;
+			Node endNode = costBoard[parent.getX()][parent.getY()];
+			while (endNode != null) {
+				final int worldX = worldStart.getX() + depth - endNode.position.getX();
+				final int worldY = worldStart.getY() - depth + endNode.position.getY();
+				if (endNode.parent == null) {
+					endNode = null;
+				} else {
+					path.addDirect(worldX, worldY);
+					endNode = costBoard[endNode.parent.getX()][endNode.parent.getY()];
+				}
+			}
+			return path;
+		}
+
+		private Path findPath() {
+			if (pointStart.getX() == pointEnd.getX() && pointStart.getY() == pointEnd.getY()) {
+				return null;
+			}
+			costBoard[depth][depth].selectNode();
+			while (true) {
+				final Node next = findNextNode();
+				if (next == null) {
+					return null;
+				}
+				if (next.position.getX() == pointEnd.getX() && next.position.getY() == pointEnd.getY()) {
+					closedNodes.add(next);
+					return buildPath();
+				}
+				next.selectNode();
+			}
+		}
+
+		/**
+		 * @return Whether the diagonal step towards dx, dy is blocked by the walls of the two tiles beside it.
+		 */
+		private boolean diagBlocked(final Node node, final int dx, final int dy) {
+			final Node besideX = node.getNeighbor(dx, 0);
+			final Node besideY = node.getNeighbor(0, dy);
+			if (besideX == null || besideY == null) {
+				return true;
+			}
+			final boolean besideXBlocked = dy > 0 ? besideX.southBlocked : besideX.northBlocked;
+			final boolean besideYBlocked = dx > 0 ? besideY.eastBlocked : besideY.westBlocked;
+			return besideXBlocked || besideYBlocked;
+		}
+
+		private final class Node {
+			private int fCost;
+			private int gCost;
+			private int hCost;
+			private int state;
+			private boolean southBlocked;
+			private boolean northBlocked;
+			private boolean westBlocked;
+			private boolean eastBlocked;
+			private final Point position;
+			private Point parent;
+
+			private Node(final int x, final int y) {
+				position = new Point(x, y);
+			}
+
+			private void update(final Node node, final int cost) {
+				if (state == 0) {
+					state = 1;
+					fCost = node.fCost + cost;
+					gCost = calcDistance(position, pointEnd);
+					openNodes.add(this);
+				} else if (state == 2) {
+					return;
+				} else {
+					final int newFcost = node.fCost + cost;
+					if (newFcost > fCost) {
+						return;
+					}
+					fCost = newFcost;
+				}
+				hCost = fCost + gCost;
+				parent = node.position;
+			}
+
+			private Node getNeighbor(final int dx, final int dy) {
+				final int x = position.getX() + dx;
+				final int y = position.getY() + dy;
+				return x >= 0 && x <= 2 * depth && y >= 0 && y <= 2 * depth ? costBoard[x][y] : null;
+			}
+
+			private void selectNode() {
+				if (state == 1) {
+					openNodes.remove(this);
+				}
+				state = 2;
+				closedNodes.add(this);
+				Node neighbor;
+				if (!southBlocked && (neighbor = getNeighbor(0, 1)) != null)
+					neighbor.update(this, BASIC_COST);
+				if (!westBlocked && (neighbor = getNeighbor(-1, 0)) != null)
+					neighbor.update(this, BASIC_COST);
+				if (!northBlocked && (neighbor = getNeighbor(0, -1)) != null)
+					neighbor.update(this, BASIC_COST);
+				if (!eastBlocked && (neighbor = getNeighbor(1, 0)) != null)
+					neighbor.update(this, BASIC_COST);
+				if (!(southBlocked || westBlocked) && !diagBlocked(this, -1, 1) && (neighbor = getNeighbor(-1, 1)) != null)
+					neighbor.update(this, DIAG_COST);
+				if (!(northBlocked || westBlocked) && !diagBlocked(this, -1, -1) && (neighbor = getNeighbor(-1, -1)) != null)
+					neighbor.update(this, DIAG_COST);
+				if (!(northBlocked || eastBlocked) && !diagBlocked(this, 1, -1) && (neighbor = getNeighbor(1, -1)) != null)
+					neighbor.update(this, DIAG_COST);
+				if (!(southBlocked || eastBlocked) && !diagBlocked(this, 1, 1) && (neighbor = getNeighbor(1, 1)) != null)
+					neighbor.update(this, DIAG_COST);
+			}
+		}
+	}
+}
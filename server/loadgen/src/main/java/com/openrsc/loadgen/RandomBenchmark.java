@@ -0,0 +1,87 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.util.RandomStreams;
+import com.openrsc.server.util.rsc.DataConversions;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compares how many rolls per millisecond threads get from one shared {@link Random}, which is what every roll used
+ * before {@link RandomStreams}, against each thread rolling on its own stream from {@link DataConversions#getRandom()}.
+ */
+public final class RandomBenchmark {
+	private static final int ROLLS_PER_THREAD = 20_000_000;
+	private static final int ROUNDS = 3;
+
+	public static void main(final String[] args) throws InterruptedException {
+		final Random shared = new Random();
+		final int processors = Runtime.getRuntime().availableProcessors();
+
+		System.out.println(String.format("%-10s %8s %16s %16s", "rng", "threads", "rolls/ms", "sink"));
+		for (int threads = 1; threads <= processors * 2; threads *= 2) {
+			for (int round = 0; round < ROUNDS; round++) {
+				// The last round is reported, the earlier ones warm up the JIT
+				final boolean report = round == ROUNDS - 1;
+				run("shared", threads, () -> shared, report);
+				run("streams", threads, DataConversions::getRandom, report);
+			}
+		}
+
+		RandomStreams.setSeed(1234);
+		final int first = rollOnNewThread();
+		RandomStreams.setSeed(1234);
+		final int second = rollOnNewThread();
+		RandomStreams.clearSeed();
+		System.out.println("Seeded streams repeat: " + (first == second));
+	}
+
+	private static void run(final String name, final int threads, final Supplier<Random> random, final boolean report) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(threads);
+		// Summed so the JIT cannot drop the rolls
+		final AtomicLong sink = new AtomicLong();
+		for (int i = 0; i < threads; i++) {
+			final Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				long sum = 0;
+				for (int roll = 0; roll < ROLLS_PER_THREAD; roll++) {
+					sum += random.get().nextInt(100);
+				}
+				sink.addAndGet(sum);
+				done.countDown();
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+		final long startTime = System.nanoTime();
+		start.countDown();
+		done.await();
+		final long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+		if (report) {
+			System.out.println(String.format("%-10s %8d %16d %16d", name, threads, (long) threads * ROLLS_PER_THREAD / elapsedMillis, sink.get()));
+		}
+	}
+
+	/**
+	 * @return A hash of the first rolls a fresh thread gets
+	 */
+	private static int rollOnNewThread() throws InterruptedException {
+		final int[] hash = new int[1];
+		final Thread thread = new Thread(() -> {
+			for (int roll = 0; roll < 100; roll++) {
+				hash[0] = hash[0] * 31 + DataConversions.random(0, 99);
+			}
+		});
+		thread.start();
+		thread.join();
+		return hash[0];
+	}
+}
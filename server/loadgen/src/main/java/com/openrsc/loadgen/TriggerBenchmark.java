@@ -0,0 +1,118 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.model.container.Item;
+import com.openrsc.server.model.entity.player.Player;
+import com.openrsc.server.plugins.TriggerTable;
+import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares how long one trigger dispatch takes when every plugin is found and asked by reflection, which is what
+ * PluginHandler did before {@link TriggerTable}, against the table asking every plugin and the table asking only the
+ * plugins indexed under the id.
+ * <p>
+ * The plugins are shaped like the shipped TalkNpc plugins: 260 of them, 237 listing the few ids they handle and the
+ * rest asked about everything. They are dispatched as OpInv so the trigger data can be built without a world.
+ */
+public final class TriggerBenchmark {
+	private static final int PLUGINS = 260;
+	private static final int INDEXED_PLUGINS = 237;
+	private static final int IDS_PER_PLUGIN = 5;
+	private static final int DISPATCHES = 200_000;
+	private static final int ROUNDS = 5;
+
+	public static void main(final String[] args) throws Throwable {
+		final Random random = new Random(1);
+		final List<Object> plugins = new ArrayList<>();
+		final List<Object> unindexedPlugins = new ArrayList<>();
+		final int idSpace = PLUGINS * IDS_PER_PLUGIN;
+		for (int i = 0; i < PLUGINS; i++) {
+			final int[] ids = new int[IDS_PER_PLUGIN];
+			for (int j = 0; j < ids.length; j++) {
+				ids[j] = random.nextInt(idSpace);
+			}
+			plugins.add(new IdPlugin(ids, i < INDEXED_PLUGINS));
+			unindexedPlugins.add(new IdPlugin(ids, false));
+		}
+		final TriggerTable indexed = new TriggerTable(OpInvTrigger.class, plugins);
+		final TriggerTable unindexed = new TriggerTable(OpInvTrigger.class, unindexedPlugins);
+
+		final Object[][] data = new Object[DISPATCHES][];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = new Object[]{null, 0, new Item(random.nextInt(idSpace)), "use"};
+		}
+
+		System.out.println(String.format("%-12s %12s %12s", "dispatch", "ns/dispatch", "blocked"));
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT
+			final boolean report = round == ROUNDS - 1;
+			runReflection(plugins, data, report);
+			runTable("table", unindexed, data, report);
+			runTable("indexed", indexed, data, report);
+		}
+	}
+
+	private static void runReflection(final List<Object> plugins, final Object[][] data, final boolean report) throws Exception {
+		// The data's runtime classes, the player is left out since none is needed to block on an item
+		final Class<?>[] dataClasses = {Player.class, Integer.class, Item.class, String.class};
+		long blocked = 0;
+		final long start = System.nanoTime();
+		for (final Object[] trigger : data) {
+			for (final Object plugin : plugins) {
+				final Method method = plugin.getClass().getMethod("blockOpInv", dataClasses);
+				if ((Boolean) method.invoke(plugin, trigger)) {
+					blocked++;
+				}
+			}
+		}
+		report("reflection", start, blocked, report);
+	}
+
+	private static void runTable(final String name, final TriggerTable table, final Object[][] data, final boolean report) throws Throwable {
+		long blocked = 0;
+		final long start = System.nanoTime();
+		for (final Object[] trigger : data) {
+			for (final Object plugin : table.getCandidates(trigger)) {
+				if (table.block(plugin, trigger)) {
+					blocked++;
+				}
+			}
+		}
+		report(name, start, blocked, report);
+	}
+
+	private static void report(final String name, final long start, final long blocked, final boolean report) {
+		if (report) {
+			System.out.println(String.format("%-12s %12d %12d", name, (System.nanoTime() - start) / DISPATCHES, blocked));
+		}
+	}
+
+	public static final class IdPlugin implements OpInvTrigger {
+		private final int[] ids;
+		private final boolean indexed;
+
+		private IdPlugin(final int[] ids, final boolean indexed) {
+			this.ids = ids;
+			this.indexed = indexed;
+		}
+
+		@Override
+		public void onOpInv(final Player player, final Integer invIndex, final Item item, final String command) {
+		}
+
+		@Override
+		public boolean blockOpInv(final Player player, final Integer invIndex, final Item item, final String command) {
+			return DataConversions.inArray(ids, item.getCatalogId());
+		}
+
+		@Override
+		public int[] getOpInvIds() {
+			return indexed ? ids : null;
+		}
+	}
+}
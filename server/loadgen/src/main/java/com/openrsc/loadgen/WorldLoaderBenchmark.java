@@ -0,0 +1,110 @@
+package com.openrsc.loadgen;
+
+import com.openrsc.server.Server;
+import com.openrsc.server.model.world.World;
+import com.openrsc.server.model.world.region.Region;
+import com.openrsc.server.model.world.region.RegionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares how long loading the landscape takes and how much heap its tiles hold when every sector is decoded from the
+ * landscape archive, against reading the tiles back from the landscape cache that want_landscape_cache keeps. The
+ * packed tiles are also compared against the heap the same tiles took before packing, when every tile of a region
+ * with differing tiles was its own object in a 48x48 grid.
+ * <p>
+ * The landscape is loaded into fresh worlds of a server built from the given conf, default.conf if none is given,
+ * which is never started so no database is needed. Loading with the cache writes the cache file next to the landscape,
+ * as a server with want_landscape_cache does.
+ */
+public final class WorldLoaderBenchmark {
+	private static final int ROUNDS = 3;
+
+	/**
+	 * Keeps what is being measured reachable while the heap is read.
+	 */
+	private static Object retained;
+
+	public static void main(final String[] args) throws Exception {
+		final Server server = new Server(args.length > 0 ? args[0] : "default.conf");
+		server.getEntityHandler().load();
+
+		System.out.println(String.format("%-10s %10s %14s", "landscape", "ms", "heap bytes"));
+		for (int round = 0; round < ROUNDS; round++) {
+			// The last round is reported, the earlier ones warm up the JIT and write the cache
+			final boolean report = round == ROUNDS - 1;
+			load(server, "decoded", false, report);
+			load(server, "cached", true, report);
+		}
+	}
+
+	private static void load(final Server server, final String name, final boolean cached, final boolean report) {
+		server.getConfig().WANT_LANDSCAPE_CACHE = cached;
+		final World world = new World(server);
+		retained = world;
+
+		final long heapBefore = usedHeap();
+		final long start = System.nanoTime();
+		world.getWorldLoader().loadWorld();
+		final long elapsed = System.nanoTime() - start;
+		final long heap = usedHeap() - heapBefore;
+
+		if (report) {
+			System.out.println(String.format("%-10s %10d %14d", name, elapsed / 1_000_000, heap));
+			if (!cached) {
+				final long unpackedBefore = usedHeap();
+				retained = unpacked(world.getRegionManager());
+				System.out.println(String.format("%-10s %10s %14d", "unpacked", "-", usedHeap() - unpackedBefore));
+			}
+		}
+		retained = null;
+	}
+
+	/**
+	 * Builds the tiles of every loaded region the way regions held them before packing.
+	 */
+	private static List<Object> unpacked(final RegionManager regionManager) {
+		final List<Object> regions = new ArrayList<>();
+		for (int index = 0; index < regionManager.getRegionCount(); index++) {
+			final Region region = regionManager.getRegionByIndex(index, false);
+			if (region == null) {
+				continue;
+			}
+			if (region.getPackedTiles() == null) {
+				regions.add(new UnpackedTile());
+				continue;
+			}
+			final UnpackedTile[][] tiles = new UnpackedTile[48][48];
+			for (final UnpackedTile[] column : tiles) {
+				for (int y = 0; y < column.length; y++) {
+					column[y] = new UnpackedTile();
+				}
+			}
+			regions.add(tiles);
+		}
+		return regions;
+	}
+
+	private static long usedHeap() {
+		final Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * The fields a tile had before they were packed into one long.
+	 */
+	@SuppressWarnings("unused")
+	private static final class UnpackedTile {
+		private byte traversalMask;
+		private short diagWallVal;
+		private byte horizontalWallVal;
+		private byte overlay;
+		private byte verticalWallVal;
+		private byte elevation;
+		private boolean projectileAllowed;
+	}
+}
@@ -65,8 +65,8 @@ public final class Admins implements CommandTrigger {
 
 		TileValue value = player.getWorld().getTile(location.getX(), location.getY());
 
-		if (value.diagWallVal != 0 || value.horizontalWallVal != 0 || value.verticalWallVal != 0
-			|| value.overlay != 0) {
+		if (value.getDiagWallVal() != 0 || value.getHorizontalWallVal() != 0 || value.getVerticalWallVal() != 0
+			|| value.getOverlay() != 0) {
 			return getRandomLocation(player);
 		}
 		return location;
@@ -444,7 +444,7 @@ public final class Admins implements CommandTrigger {
 		}
 
 		Point itemLocation = new Point(x, y);
-		if ((player.getWorld().getTile(itemLocation).traversalMask & 64) != 0) {
+		if ((player.getWorld().getTile(itemLocation).getTraversalMask() & 64) != 0) {
 			player.message(messagePrefix + "Can not place a ground item here");
 			return;
 		}
@@ -1113,7 +1113,7 @@ public final class Admins implements CommandTrigger {
 					}
 
 					if (player.getWorld().withinWorld(baseX + x, baseY + y)) {
-						if ((player.getWorld().getTile(new Point(baseX + x, baseY + y)).traversalMask & 64) == 0) {
+						if ((player.getWorld().getTile(new Point(baseX + x, baseY + y)).getTraversalMask() & 64) == 0) {
 							player.getWorld().registerItem(new GroundItem(player.getWorld(), id, baseX + x, baseY + y, amount, (Player) null));
 						}
 					}
@@ -1210,7 +1210,7 @@ public final class Admins implements CommandTrigger {
 						}
 					}
 					if (player.getWorld().withinWorld(baseX + x, baseY + y)) {
-						if ((player.getWorld().getTile(new Point(baseX + x, baseY + y)).traversalMask & 64) == 0) {
+						if ((player.getWorld().getTile(new Point(baseX + x, baseY + y)).getTraversalMask() & 64) == 0) {
 							final Npc n = new Npc(player.getWorld(), id, baseX + x, baseY + y, baseX + x - 20, baseX + x + 20, baseY + y - 20, baseY + y + 20);
 							n.setShouldRespawn(false);
 							player.getWorld().registerNpc(n);
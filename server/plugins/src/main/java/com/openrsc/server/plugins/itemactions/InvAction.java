@@ -15,23 +15,30 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class InvAction implements OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {
+		ItemId.BARCRAWL_CARD.id(), ItemId.INSTRUCTION_MANUAL.id(), ItemId.DIARY.id(), ItemId.DRY_STICKS.id(),
+		ItemId.SCRUFFY_NOTE.id(), ItemId.MAGIC_SCROLL.id(), ItemId.TOURIST_GUIDE.id(),
+		ItemId.TREE_GNOME_TRANSLATION.id(), ItemId.WAR_SHIP.id(), ItemId.GLOUGHS_JOURNAL.id(), ItemId.INVOICE.id(),
+		ItemId.GLOUGHS_NOTES.id(), ItemId.MESSENGER_PIGEONS.id(), ItemId.JANGERBERRIES.id(),
+		ItemId.A_FREE_SHANTAY_DISCLAIMER.id(), ItemId.TECHNICAL_PLANS.id(), ItemId.ANA_IN_A_BARREL.id(),
+		ItemId.RANDASS_JOURNAL.id(), ItemId.A_DOLL_OF_IBAN.id(), ItemId.STAFF_OF_IBAN_BROKEN.id(),
+		ItemId.NIGHTSHADE.id(), ItemId.SHAMAN_ROBE.id(), ItemId.SPELL_SCROLL.id(),
+		ItemId.BOOK_OF_EXPERIMENTAL_CHEMISTRY.id(), ItemId.LEVEL_1_CERTIFICATE.id(), ItemId.LEVEL_2_CERTIFICATE.id(),
+		ItemId.LEVEL_3_CERTIFICATE.id(), ItemId.DIGSITE_SCROLL.id(), ItemId.ASTROLOGY_BOOK.id(),
+		ItemId.STONE_TABLET.id(), ItemId.OYSTER.id(), ItemId.SCRUMPLED_PIECE_OF_PAPER.id(), ItemId.NULODIONS_NOTES.id(),
+		ItemId.OLD_JOURNAL.id(), ItemId.BURNTPIE.id(), ItemId.BURNT_STEW.id(), ItemId.BURNT_CURRY.id(),
+		ItemId.BLESSED_GOLDEN_BOWL_WITH_PLAIN_WATER.id(), ItemId.GOLDEN_BOWL_WITH_PLAIN_WATER.id(), ItemId.SPADE.id(),
+		ItemId.DWARF_SMITHY_NOTE.id()
+	};
+
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return inArray(item.getCatalogId(),
-			ItemId.BARCRAWL_CARD.id(), ItemId.INSTRUCTION_MANUAL.id(), ItemId.DIARY.id(),
-			ItemId.DRY_STICKS.id(), ItemId.SCRUFFY_NOTE.id(), ItemId.MAGIC_SCROLL.id(),
-			ItemId.TOURIST_GUIDE.id(), ItemId.TREE_GNOME_TRANSLATION.id(), ItemId.WAR_SHIP.id(),
-			ItemId.GLOUGHS_JOURNAL.id(), ItemId.INVOICE.id(), ItemId.GLOUGHS_NOTES.id(),
-			ItemId.MESSENGER_PIGEONS.id(), ItemId.JANGERBERRIES.id(), ItemId.A_FREE_SHANTAY_DISCLAIMER.id(),
-			ItemId.TECHNICAL_PLANS.id(), ItemId.ANA_IN_A_BARREL.id(), ItemId.RANDASS_JOURNAL.id(),
-			ItemId.A_DOLL_OF_IBAN.id(), ItemId.STAFF_OF_IBAN_BROKEN.id(), ItemId.NIGHTSHADE.id(),
-			ItemId.SHAMAN_ROBE.id(), ItemId.SPELL_SCROLL.id(), ItemId.BOOK_OF_EXPERIMENTAL_CHEMISTRY.id(),
-			ItemId.LEVEL_1_CERTIFICATE.id(), ItemId.LEVEL_2_CERTIFICATE.id(), ItemId.LEVEL_3_CERTIFICATE.id(),
-			ItemId.DIGSITE_SCROLL.id(), ItemId.ASTROLOGY_BOOK.id(), ItemId.STONE_TABLET.id(),
-			ItemId.OYSTER.id(), ItemId.SCRUMPLED_PIECE_OF_PAPER.id(), ItemId.NULODIONS_NOTES.id(), ItemId.OLD_JOURNAL.id(),
-			ItemId.BURNTPIE.id(), ItemId.BURNT_STEW.id(), ItemId.BURNT_CURRY.id(),
-			ItemId.BLESSED_GOLDEN_BOWL_WITH_PLAIN_WATER.id(), ItemId.GOLDEN_BOWL_WITH_PLAIN_WATER.id(), ItemId.SPADE.id(),
-			ItemId.DWARF_SMITHY_NOTE.id());
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import com.openrsc.server.plugins.MiniGameInterface;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -18,6 +19,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public class AlfredGrimhandBarCrawl implements MiniGameInterface, TalkNpcTrigger,
 	OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BARBARIAN_GUARD.id()};
+
 	@Override
 	public int getMiniGameId() {
 		return Minigames.ALFRED_GRIMHANDS_BARCRAWL;
@@ -45,7 +48,12 @@ public class AlfredGrimhandBarCrawl implements MiniGameInterface, TalkNpcTrigger
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.BARBARIAN_GUARD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
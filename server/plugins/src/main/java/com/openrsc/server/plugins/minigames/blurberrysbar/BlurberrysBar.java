@@ -17,6 +17,10 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class BlurberrysBar implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger, DropObjTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.GNOME_COCKTAIL_GUIDE.id()};
+
+	private static final int[] TALK_NPC_IDS = {NpcId.BLURBERRY.id()};
+
 	@Override
 	public int getMiniGameId() {
 		return Minigames.BLURBERRYS_BAR;
@@ -39,7 +43,12 @@ public class BlurberrysBar implements MiniGameInterface, TalkNpcTrigger, OpInvTr
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BLURBERRY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -294,7 +303,12 @@ public class BlurberrysBar implements MiniGameInterface, TalkNpcTrigger, OpInvTr
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GNOME_COCKTAIL_GUIDE.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -6,12 +6,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseInvTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class DrinkMixing implements UseInvTrigger, OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.COCKTAIL_SHAKER.id()};
+
 	private boolean canMix(Item itemOne, Item itemTwo) {
 		for (DrinkMix dm : DrinkMix.values()) {
 			if (dm.isValid(itemOne.getCatalogId(), itemTwo.getCatalogId())) {
@@ -160,7 +163,12 @@ public class DrinkMixing implements UseInvTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.COCKTAIL_SHAKER.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -5,11 +5,14 @@ import com.openrsc.server.content.minigame.fishingtrawler.FishingTrawler;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class BailingBucket implements OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.BAILING_BUCKET.id()};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		/*if (player.isBusy()) {
@@ -35,7 +38,12 @@ public class BailingBucket implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BAILING_BUCKET.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 }
@@ -3,14 +3,22 @@ package com.openrsc.server.plugins.minigames.fishingtrawler;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class ExitBarrel implements OpLocTrigger {
 
+	private static final int[] OP_LOC_IDS = {1070};
+
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1070;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
@@ -5,12 +5,15 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.delloc;
 import static com.openrsc.server.plugins.Functions.mes;
 
 public class FillHole implements OpLocTrigger {
 
+	private static final int[] OP_LOC_IDS = {1077, 1071};
+
 	@Override
 	public void onOpLoc(Player player, GameObject obj, String command) {
 		if (player.getCarriedItems().remove(new Item(ItemId.SWAMP_PASTE.id())) != -1) {
@@ -23,6 +26,11 @@ public class FillHole implements OpLocTrigger {
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1077 || obj.getID() == 1071;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 }
@@ -14,9 +14,16 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class InspectNet implements OpLocTrigger {
 
+	private static final int[] OP_LOC_IDS = {1102, 1101};
+
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1102 || obj.getID() == 1101;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
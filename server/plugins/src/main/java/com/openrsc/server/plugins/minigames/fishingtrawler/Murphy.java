@@ -18,6 +18,10 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Murphy implements MiniGameInterface, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.MURPHY_LAND.id(), NpcId.MURPHY_BOAT.id(), NpcId.MURPHY_UNRELEASED.id()
+	};
+
 	/**
 	 * IMPORTANT NOTES:
 	 * <p>
@@ -51,7 +55,12 @@ public class Murphy implements MiniGameInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MURPHY_LAND.id() || n.getID() == NpcId.MURPHY_BOAT.id() || n.getID() == NpcId.MURPHY_UNRELEASED.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -26,6 +26,10 @@ import static com.openrsc.server.plugins.Functions.*;
 public class GnomeBall implements MiniGameInterface, UsePlayerTrigger, TakeObjTrigger,
 	OpInvTrigger, OpLocTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.GNOME_BALL.id()};
+
+	private static final int[] OP_LOC_IDS = {702};
+
 	private static final int[][] SCORES_XP = {{20, 30, 35, 40, 220} , {40, 50, 60, 70, 220}};
 
 	@Override
@@ -231,12 +235,22 @@ public class GnomeBall implements MiniGameInterface, UsePlayerTrigger, TakeObjTr
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GNOME_BALL.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 702;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.Formulae;
 
 import java.util.Optional;
@@ -15,6 +16,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class GnomeCooking implements OpInvTrigger, UseLocTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.GIANNE_DOUGH.id()};
+
 	private boolean canCook(Item item, GameObject object) {
 		for (GnomeCook c : GnomeCook.values()) {
 			if (item.getCatalogId() == c.uncookedID && inArray(object.getID(), 119)) {
@@ -314,7 +317,12 @@ public class GnomeCooking implements OpInvTrigger, UseLocTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GIANNE_DOUGH.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
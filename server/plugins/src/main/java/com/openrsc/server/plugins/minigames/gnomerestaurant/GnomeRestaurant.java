@@ -20,6 +20,10 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInvTrigger, DropObjTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.GIANNE_COOK_BOOK.id()};
+
+	private static final int[] TALK_NPC_IDS = {NpcId.ALUFT_GIANNE.id()};
+
 	@Override
 	public int getMiniGameId() {
 		return Minigames.GNOME_RESTAURANT;
@@ -42,7 +46,12 @@ public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInv
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ALUFT_GIANNE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -528,7 +537,12 @@ public class GnomeRestaurant implements MiniGameInterface, TalkNpcTrigger, OpInv
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.GIANNE_COOK_BOOK.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
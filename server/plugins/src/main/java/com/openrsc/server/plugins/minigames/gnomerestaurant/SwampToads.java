@@ -13,9 +13,16 @@ import com.openrsc.server.constants.ItemId;
 
 public class SwampToads implements TakeObjTrigger, OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.SWAMP_TOAD.id()};
+
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.SWAMP_TOAD.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -10,12 +10,15 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Chamber_Guardian extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.CHAMBER_GUARDIAN.id()};
+
 	private final Shop shop = new Shop(true, 60000 * 5, 100, 60, 2,
 		new Item(ItemId.STAFF_OF_ZAMORAK.id(), 5), new Item(ItemId.STAFF_OF_SARADOMIN.id(), 5), new Item(ItemId.STAFF_OF_GUTHIX.id(), 5));
 
@@ -81,7 +84,12 @@ public class Chamber_Guardian extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CHAMBER_GUARDIAN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
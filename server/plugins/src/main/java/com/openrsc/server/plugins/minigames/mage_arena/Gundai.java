@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.triggers.OpNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -15,6 +16,8 @@ import java.util.ArrayList;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Gundai implements TalkNpcTrigger, OpNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.GUNDAI.id()};
+
 	private static final Logger LOGGER = LogManager.getLogger(Gundai.class);
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
@@ -71,7 +74,12 @@ public class Gundai implements TalkNpcTrigger, OpNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GUNDAI.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
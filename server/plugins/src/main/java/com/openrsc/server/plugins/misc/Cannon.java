@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
@@ -16,6 +17,8 @@ public class Cannon implements OpLocTrigger,
 	OpInvTrigger,
 	UseLocTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.DWARF_CANNON_BASE.id()};
+
 	public final static int[] cannonObjectIDs = {
 		946, // Cannon Base
 		947, // Cannon Stand
@@ -243,7 +246,12 @@ public class Cannon implements OpLocTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.DWARF_CANNON_BASE.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
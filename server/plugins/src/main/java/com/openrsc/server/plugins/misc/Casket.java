@@ -11,9 +11,16 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Casket implements OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.CASKET.id()};
+
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.CASKET.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -4,14 +4,22 @@ import com.openrsc.server.constants.Skills;
 import com.openrsc.server.model.entity.GameObject;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class DeadTree implements OpLocTrigger {
 
+	private static final int[] OP_LOC_IDS = {88};
+
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 88;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
@@ -4,9 +4,12 @@ import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class DiskOfReturning implements OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.DISK_OF_RETURNING.id()};
+
 	public boolean insideMines(Player player) {
 		return ((player.getX() >= 250 && player.getX() <= 315) && (player.getY() >= 3325 && player.getY() <= 3400));
 	}
@@ -26,6 +29,11 @@ public class DiskOfReturning implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.DISK_OF_RETURNING.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 }
@@ -10,12 +10,15 @@ import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class DragonstoneAmulet implements OpInvTrigger, UseLocTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.CHARGED_DRAGONSTONE_AMULET.id()};
+
 	/**
 	 * RE-CHARGE AMULET
 	 **/
@@ -23,7 +26,12 @@ public class DragonstoneAmulet implements OpInvTrigger, UseLocTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.CHARGED_DRAGONSTONE_AMULET.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
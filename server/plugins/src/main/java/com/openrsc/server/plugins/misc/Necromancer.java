@@ -7,12 +7,15 @@ import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.SpellNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Necromancer implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTrigger, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.NECROMANCER.id()};
+
 	@Override
 	public boolean blockAttackNpc(Player player, Npc n) {
 		return n.getID() == NpcId.NECROMANCER.id();
@@ -93,7 +96,12 @@ public class Necromancer implements AttackNpcTrigger, KillNpcTrigger, SpellNpcTr
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.NECROMANCER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -18,6 +18,10 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {
+		ItemId.PANNING_TRAY.id(), ItemId.PANNING_TRAY_FULL.id(), ItemId.PANNING_TRAY_GOLD_NUGGET.id()
+	};
+
 	private static int PANNING_POINT = 1058;
 
 	@Override
@@ -135,7 +139,12 @@ public class Panning implements OpLocTrigger, UseLocTrigger, UseNpcTrigger, OpIn
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.PANNING_TRAY.id() || item.getCatalogId() == ItemId.PANNING_TRAY_FULL.id() || item.getCatalogId() == ItemId.PANNING_TRAY_GOLD_NUGGET.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 
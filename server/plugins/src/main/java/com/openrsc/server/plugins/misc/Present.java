@@ -16,6 +16,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Present implements UsePlayerTrigger, OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.PRESENT.id()};
+
 	private static DropTable presentDrops;
 
 	static {
@@ -346,6 +348,11 @@ public class Present implements UsePlayerTrigger, OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.PRESENT.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 }
@@ -1,6 +1,5 @@
 package com.openrsc.server.plugins.misc;
 
-import com.openrsc.server.event.rsc.impl.PoisonEvent;
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.GameObject;
@@ -53,9 +52,7 @@ public class SinisterChest implements OpLocTrigger, UseLocTrigger {
 			give(player, ItemId.UNIDENTIFIED_KWUARM.id(), 1);
 			give(player, ItemId.UNIDENTIFIED_TORSTOL.id(), 1);
 			// Poison player with damage 6.
-			player.startPoisonEvent();
-			PoisonEvent poisonEvent = player.getAttribute("poisonEvent", null);
-			poisonEvent.setPoisonPower(68);
+			player.startPoisonEvent(68);
 		}
 	}
 }
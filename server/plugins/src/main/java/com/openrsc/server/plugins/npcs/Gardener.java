@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Gardener extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GARDENER.id()};
+
 	Shop shop = new Shop(false, 3000, 130, 40, 3,
 		new Item(ItemId.FRUIT_PICKER.id(), 10), new Item(ItemId.HAND_SHOVEL.id(), 5),
 		new Item(ItemId.HERB_CLIPPERS.id(), 3), new Item(ItemId.WATERING_CAN.id(), 2),
@@ -59,7 +62,12 @@ public final class Gardener extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GARDENER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
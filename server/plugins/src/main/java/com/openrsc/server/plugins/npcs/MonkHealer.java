@@ -8,8 +8,11 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class MonkHealer implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.MONK.id(), NpcId.ABBOT_LANGLEY.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		npcsay(player, n, "Greetings traveller");
@@ -35,6 +38,11 @@ public class MonkHealer implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MONK.id() || n.getID() == NpcId.ABBOT_LANGLEY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
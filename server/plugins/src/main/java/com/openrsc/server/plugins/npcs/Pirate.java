@@ -9,10 +9,16 @@ import com.openrsc.server.util.rsc.DataConversions;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Pirate implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.PIRATE_LVL27.id(), NpcId.PIRATE_LVL30.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(),
-			NpcId.PIRATE_LVL27.id(), NpcId.PIRATE_LVL30.id());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
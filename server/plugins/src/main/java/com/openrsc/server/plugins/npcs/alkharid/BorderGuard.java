@@ -9,12 +9,15 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class BorderGuard implements
 	TalkNpcTrigger, OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BORDER_GUARD_ALKHARID.id(), NpcId.BORDER_GUARD_LUMBRIDGE.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		if (player.getQuestStage(Quests.PRINCE_ALI_RESCUE) == -1
@@ -72,7 +75,12 @@ public final class BorderGuard implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BORDER_GUARD_ALKHARID.id() || n.getID() == NpcId.BORDER_GUARD_LUMBRIDGE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -10,11 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class GemTrader extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GEM_TRADER.id()};
+
 	private final Shop shop = new Shop(false, 60000 * 10, 100, 70, 3,
 		new Item(ItemId.UNCUT_SAPPHIRE.id(), 1),
 		new Item(ItemId.UNCUT_EMERALD.id(), 1),
@@ -28,7 +31,12 @@ public final class GemTrader extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.GEM_TRADER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -10,9 +10,12 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.Quests;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public final class KebabSeller implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.KEBAB_SELLER.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		final String[] options;
@@ -50,7 +53,12 @@ public final class KebabSeller implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KEBAB_SELLER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -10,11 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class LouieLegs extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.LOUIE_LEGS.id()};
+
 	private final Shop shop = new Shop(false, 25000, 100, 65, 1,
 		new Item(ItemId.BRONZE_PLATE_MAIL_LEGS.id(), 5),
 		new Item(ItemId.IRON_PLATE_MAIL_LEGS.id(), 3),
@@ -26,7 +29,12 @@ public final class LouieLegs extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.LOUIE_LEGS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -10,11 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class RanaelSkirt extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.RANAEL.id()};
+
 	private final Shop shop = new Shop(false, 25000, 100, 65, 1,
 		new Item(ItemId.BRONZE_PLATED_SKIRT.id(), 5),
 		new Item(ItemId.IRON_PLATED_SKIRT.id(), 3),
@@ -26,7 +29,12 @@ public final class RanaelSkirt extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.RANAEL.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -25,6 +25,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeObjTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.ASSISTANT.id(), NpcId.SHANTAY.id(), NpcId.SHANTAY_PASS_GUARD_MOVING.id(),
+		NpcId.SHANTAY_PASS_GUARD_STANDING.id()
+	};
+
 	private static final Logger LOGGER = LogManager.getLogger(ShantayPassNpcs.class);
 	//private static int ASSISTANT = NpcId.NpcId.ASSISTANT.id().id();
 	//private static int SHANTAY_DISCLAIMER = ItemId.A_FREE_SHANTAY_DISCLAIMER.id();
@@ -393,8 +398,12 @@ public class ShantayPassNpcs extends AbstractShop implements OpLocTrigger, TakeO
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ASSISTANT.id() || n.getID() == NpcId.SHANTAY.id() || n.getID() == NpcId.SHANTAY_PASS_GUARD_MOVING.id()
-			|| n.getID() == NpcId.SHANTAY_PASS_GUARD_STANDING.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
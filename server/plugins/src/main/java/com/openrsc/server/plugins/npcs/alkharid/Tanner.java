@@ -6,10 +6,13 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Tanner implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.TANNER.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		npcsay(player, n, "Greetings friend I'm a manufacturer of leather");
@@ -52,7 +55,12 @@ public class Tanner implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.TANNER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
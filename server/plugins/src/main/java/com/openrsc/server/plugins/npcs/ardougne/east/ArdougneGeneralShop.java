@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class ArdougneGeneralShop extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.KORTAN.id(), NpcId.AEMAD.id()};
+
 	private final Shop shop = new Shop(true, 15000, 130, 40, 3, new Item(ItemId.VIAL.id(),
 		10), new Item(ItemId.BRONZE_PICKAXE.id(), 2), new Item(ItemId.IRON_AXE.id(), 2), new Item(ItemId.COOKEDMEAT.id(), 2),
 		new Item(ItemId.TINDERBOX.id(), 2), new Item(ItemId.BALL_OF_WOOL.id(), 2), new Item(ItemId.BRONZE_ARROWS.id(), 30),
@@ -21,7 +24,12 @@ public class ArdougneGeneralShop extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.KORTAN.id() || n.getID() == NpcId.AEMAD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -4,14 +4,24 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class CombatGuards implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GUARD_TRAINING_CAMP_OGRE.id(), NpcId.GUARD_TRAINING_CAMP_DUMMY.id()
+	};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.GUARD_TRAINING_CAMP_OGRE.id(), NpcId.GUARD_TRAINING_CAMP_DUMMY.id());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
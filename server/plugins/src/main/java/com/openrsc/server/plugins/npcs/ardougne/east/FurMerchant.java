@@ -10,12 +10,15 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.time.Instant;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class FurMerchant extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.FUR_TRADER.id()};
+
 	private final Shop shop = new Shop(false, 15000, 120, 95, 2, new Item(ItemId.FUR.id(), 3), new Item(ItemId.GREY_WOLF_FUR.id(), 3));
 
 	@Override
@@ -50,7 +53,12 @@ public class FurMerchant extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FUR_TRADER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
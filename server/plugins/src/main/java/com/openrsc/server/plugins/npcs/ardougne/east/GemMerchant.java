@@ -10,12 +10,15 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.time.Instant;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class GemMerchant extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GEM_MERCHANT.id()};
+
 	private final Shop shop = new Shop(false, 60000 * 5, 150, 80, 3, new Item(ItemId.SAPPHIRE.id(),
 		2), new Item(ItemId.EMERALD.id(), 1), new Item(ItemId.RUBY.id(), 1), new Item(ItemId.DIAMOND.id(),
 		0));
@@ -56,7 +59,12 @@ public class GemMerchant extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GEM_MERCHANT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
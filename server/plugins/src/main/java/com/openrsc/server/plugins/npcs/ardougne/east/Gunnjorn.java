@@ -7,12 +7,20 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class Gunnjorn implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GUNNJORN.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GUNNJORN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -7,11 +7,14 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class RobinBanks implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.ROBIN_BANKS.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		if (getMaxLevel(player, Skills.THIEVING) >= 99) {
@@ -46,6 +49,11 @@ public class RobinBanks implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ROBIN_BANKS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
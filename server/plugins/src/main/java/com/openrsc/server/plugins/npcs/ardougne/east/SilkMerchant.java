@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class SilkMerchant implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.SILK_MERCHANT.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		if (player.getCache().hasKey("silkStolen") && (Instant.now().getEpochSecond() < player.getCache().getLong("silkStolen") + 1200)) {
@@ -77,6 +80,11 @@ public class SilkMerchant implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SILK_MERCHANT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
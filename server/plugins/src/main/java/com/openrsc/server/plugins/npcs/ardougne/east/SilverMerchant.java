@@ -10,12 +10,15 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.time.Instant;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class SilverMerchant extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.SILVER_MERCHANT.id()};
+
 	private final Shop shop = new Shop(false, 60000 * 2, 100, 70, 2, new Item(ItemId.UNSTRUNG_HOLY_SYMBOL_OF_SARADOMIN.id(),
 		2), new Item(ItemId.SILVER.id(), 1), new Item(ItemId.SILVER_BAR.id(), 1));
 
@@ -49,7 +52,12 @@ public class SilverMerchant extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SILVER_MERCHANT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -10,12 +10,15 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.time.Instant;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class SpiceMerchant extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.SPICE_MERCHANT.id()};
+
 	private final Shop shop = new Shop(false, 15000, 100, 70, 2, new Item(ItemId.SPICE.id(), 1));
 
 	@Override
@@ -56,7 +59,12 @@ public class SpiceMerchant extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SPICE_MERCHANT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -12,6 +12,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Citizens implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.CITIZEN_TIRED.id(), NpcId.CITIZEN_FRIGHTENED.id(), NpcId.CITIZEN_FRUSTRATED.id(),
+		NpcId.CITIZEN_ANGRY.id(), NpcId.CITIZEN_DISILLUSIONED.id(), NpcId.RECRUITER.id()
+	};
+
 	@Override
 	public void onTalkNpc(Player player, Npc npc) {
 		int menu;
@@ -127,7 +132,11 @@ public class Citizens implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return inArray(n.getID(), NpcId.CITIZEN_TIRED.id(), NpcId.CITIZEN_FRIGHTENED.id(), NpcId.CITIZEN_FRUSTRATED.id(),
-			NpcId.CITIZEN_ANGRY.id(), NpcId.CITIZEN_DISILLUSIONED.id(), NpcId.RECRUITER.id());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
@@ -11,9 +11,16 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Barbarians implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BARBARIAN.id(), NpcId.GUNTHOR_THE_BRAVE.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BARBARIAN.id() || n.getID() == NpcId.GUNTHOR_THE_BRAVE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -14,6 +14,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public final class Oracle implements
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.ORACLE.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		ArrayList<String> options = new ArrayList<>();
@@ -91,6 +93,11 @@ public final class Oracle implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ORACLE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
@@ -10,11 +10,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class BoatFromBrimhaven implements TalkNpcTrigger, OpLocTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.CUSTOMS_OFFICIAL.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		int option = multi(player, n, "Can I board this ship?",
@@ -83,7 +86,12 @@ public class BoatFromBrimhaven implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CUSTOMS_OFFICIAL.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -7,9 +7,12 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class CharlieTheCook implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.CHARLIE_THE_COOK.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		if (n.getID() == NpcId.CHARLIE_THE_COOK.id()) {
@@ -54,7 +57,12 @@ public class CharlieTheCook implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CHARLIE_THE_COOK.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
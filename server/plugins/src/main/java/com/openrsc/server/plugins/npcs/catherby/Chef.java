@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -16,6 +17,8 @@ import static com.openrsc.server.plugins.quests.members.FamilyCrest.getGauntletE
 
 public class Chef implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.CHEF.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		switch (player.getQuestStage(Quests.FAMILY_CREST)) {
@@ -235,7 +238,12 @@ public class Chef implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CHEF.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -8,12 +8,15 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Aggie implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.AGGIE.id()};
+
 	private static final int SKIN_PASTE = 0;
 	private static final int FROGS = 1;
 	private static final int MADWITCH = 2;
@@ -302,6 +305,11 @@ public final class Aggie implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.AGGIE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
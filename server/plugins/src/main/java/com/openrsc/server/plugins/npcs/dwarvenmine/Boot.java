@@ -6,12 +6,15 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Boot implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BOOT_THE_DWARF.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		npcsay(player, n, "Hello tall person");
@@ -47,7 +50,12 @@ public class Boot implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BOOT_THE_DWARF.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
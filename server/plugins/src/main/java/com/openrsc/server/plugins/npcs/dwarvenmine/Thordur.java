@@ -9,9 +9,12 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class Thordur implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.THORDUR.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		say(player, n, "Hello");
@@ -139,7 +142,12 @@ public class Thordur implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THORDUR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	static final int WANTED_SAY_HI = 0;
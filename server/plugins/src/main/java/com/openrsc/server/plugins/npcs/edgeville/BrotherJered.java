@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -14,6 +15,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public class BrotherJered implements
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_JERED.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		int option = multi(player, n, "What can you do to help a bold adventurer like myself?", "Praise be to Saradomin");
@@ -51,7 +54,12 @@ public class BrotherJered implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BROTHER_JERED.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -6,11 +6,14 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class ScotRuth implements
 	TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.SCOTRUTH.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		if (player.getCache().hasKey("scotruth_to_chaos_altar")) {
@@ -42,6 +45,11 @@ public class ScotRuth implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SCOTRUTH.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
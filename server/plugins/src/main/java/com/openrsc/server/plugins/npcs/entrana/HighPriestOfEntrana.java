@@ -5,11 +5,14 @@ import com.openrsc.server.constants.NpcId;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class HighPriestOfEntrana implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.HIGH_PRIEST_OF_ENTRANA.id()};
+
 	private static void entranaPriestDialogue(Player player, Npc n, int cID) {
 		if (cID == -1) {
 			npcsay(player, n, "Many greetings welcome to our fair island");
@@ -111,7 +114,12 @@ public class HighPriestOfEntrana implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.HIGH_PRIEST_OF_ENTRANA.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	class EntranaPriest {
@@ -15,11 +15,18 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public final class Barmaid implements
 	TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.BARMAID.id()};
+
 	private final String notEnoughMoney = "Oh dear. I don't seem to have enough money";
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BARMAID.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
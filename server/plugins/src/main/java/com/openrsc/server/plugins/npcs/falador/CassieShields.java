@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class CassieShields extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.CASSIE.id()};
+
 	private final Shop shop = new Shop(false, 25000, 100, 60, 2,
 		new Item(ItemId.WOODEN_SHIELD.id(), 5), new Item(ItemId.BRONZE_SQUARE_SHIELD.id(), 3), new Item(ItemId.BRONZE_KITE_SHIELD.id(), 3),
 		new Item(ItemId.IRON_SQUARE_SHIELD.id(), 2), new Item(ItemId.IRON_KITE_SHIELD.id(), 0), new Item(ItemId.STEEL_SQUARE_SHIELD.id(), 0),
@@ -21,7 +24,12 @@ public final class CassieShields extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.CASSIE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
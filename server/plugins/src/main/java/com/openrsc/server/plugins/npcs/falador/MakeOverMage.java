@@ -7,10 +7,13 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class MakeOverMage implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.MAKE_OVER_MAGE.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		npcsay(player, n, "Are you happy with your looks?",
@@ -31,7 +34,12 @@ public class MakeOverMage implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MAKE_OVER_MAGE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
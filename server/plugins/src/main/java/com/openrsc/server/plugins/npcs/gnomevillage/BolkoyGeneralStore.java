@@ -10,12 +10,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 import static com.openrsc.server.plugins.Functions.say;
 
 public final class BolkoyGeneralStore extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BOLKOY.id()};
+
 	private final Shop shop = new Shop(true, 15000, 130, 40, 3, new Item(ItemId.BRONZE_PICKAXE.id(),
 		5), new Item(ItemId.POT.id(), 3), new Item(ItemId.JUG.id(), 2), new Item(ItemId.SHEARS.id(), 2), new Item(ItemId.BUCKET.id(),
 		2), new Item(ItemId.TINDERBOX.id(), 2), new Item(ItemId.CHISEL.id(), 2), new Item(ItemId.HAMMER.id(), 5),
@@ -91,7 +94,12 @@ public final class BolkoyGeneralStore extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BOLKOY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
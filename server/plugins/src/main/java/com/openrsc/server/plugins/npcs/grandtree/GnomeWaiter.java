@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class GnomeWaiter extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GNOME_WAITER.id()};
+
 	private final Shop shop = new Shop(false, 30000, 100, 25, 1,
 		new Item(ItemId.GNOME_WAITER_CHEESE_AND_TOMATO_BATTA.id(), 3), new Item(ItemId.GNOME_WAITER_TOAD_BATTA.id(), 3), new Item(ItemId.GNOME_WAITER_WORM_BATTA.id(), 3),
 		new Item(ItemId.GNOME_WAITER_FRUIT_BATTA.id(), 3), new Item(ItemId.GNOME_WAITER_VEG_BATTA.id(), 3), new Item(ItemId.GNOME_WAITER_CHOCOLATE_BOMB.id(), 3),
@@ -43,7 +46,12 @@ public final class GnomeWaiter extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GNOME_WAITER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
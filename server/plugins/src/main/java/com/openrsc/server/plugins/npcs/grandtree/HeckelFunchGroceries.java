@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class HeckelFunchGroceries extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.HECKEL_FUNCH.id()};
+
 	private final Shop shop = new Shop(false, 30000, 100, 55, 1,
 		new Item(ItemId.BRANDY.id(), 5), new Item(ItemId.GIN.id(), 5), new Item(ItemId.VODKA.id(), 5),
 		new Item(ItemId.WHISKY.id(), 5), new Item(ItemId.FRESH_PINEAPPLE.id(), 5), new Item(ItemId.EQUA_LEAVES.id(), 3),
@@ -45,7 +48,12 @@ public final class HeckelFunchGroceries extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.HECKEL_FUNCH.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
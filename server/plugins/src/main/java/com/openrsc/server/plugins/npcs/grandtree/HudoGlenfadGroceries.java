@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class HudoGlenfadGroceries extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.HUDO_GLENFAD.id()};
+
 	private final Shop shop = new Shop(false, 30000, 100, 55, 1,
 		new Item(ItemId.GIANNE_DOUGH.id(), 8), new Item(ItemId.EQUA_LEAVES.id(), 5), new Item(ItemId.POT_OF_FLOUR.id(), 5),
 		new Item(ItemId.GNOME_SPICE.id(), 5), new Item(ItemId.ONION.id(), 5), new Item(ItemId.POTATO.id(), 3),
@@ -45,7 +48,12 @@ public final class HudoGlenfadGroceries extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.HUDO_GLENFAD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
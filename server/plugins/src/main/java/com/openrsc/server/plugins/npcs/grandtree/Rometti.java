@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Rometti extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.ROMETTI.id()};
+
 	private final Shop shop = new Shop(false, 3000, 100, 55, 1,
 		new Item(ItemId.GNOME_ROBE_PINK.id(), 5), new Item(ItemId.GNOME_ROBE_GREEN.id(), 5), new Item(ItemId.GNOME_ROBE_PURPLE.id(), 5),
 		new Item(ItemId.GNOME_ROBE_CREAM.id(), 5), new Item(ItemId.GNOME_ROBE_BLUE.id(), 5), new Item(ItemId.GNOMESHAT_PINK.id(), 5),
@@ -48,7 +51,12 @@ public final class Rometti extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ROMETTI.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
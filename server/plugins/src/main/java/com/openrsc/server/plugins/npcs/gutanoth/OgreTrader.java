@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class OgreTrader extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.OGRE_TRADER_GENSTORE.id()};
+
 	private final Shop shop = new Shop(false, 15000, 130, 40, 3,
 		new Item(ItemId.POT.id(), 3),
 		new Item(ItemId.JUG.id(), 2),
@@ -26,7 +29,12 @@ public class OgreTrader extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.OGRE_TRADER_GENSTORE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
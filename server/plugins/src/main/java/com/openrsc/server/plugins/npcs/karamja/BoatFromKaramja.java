@@ -10,12 +10,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class BoatFromKaramja implements TalkNpcTrigger, OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.CUSTOMS_OFFICER.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		int option = multi(player, n, "Can I board this ship?",
@@ -84,7 +87,12 @@ public final class BoatFromKaramja implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CUSTOMS_OFFICER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -9,9 +9,12 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class Docky implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.DOCKY.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		if (n.getID() == NpcId.DOCKY.id()) {
@@ -50,6 +53,11 @@ public class Docky implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DOCKY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
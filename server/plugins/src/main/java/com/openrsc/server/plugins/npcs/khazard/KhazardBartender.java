@@ -9,10 +9,13 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public final class KhazardBartender implements
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.KHAZARD_BARTENDER.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		if (n.getID() == NpcId.KHAZARD_BARTENDER.id()) {
@@ -41,6 +44,11 @@ public final class KhazardBartender implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KHAZARD_BARTENDER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
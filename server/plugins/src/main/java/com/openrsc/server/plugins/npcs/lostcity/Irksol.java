@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Irksol extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.IRKSOL.id()};
+
 	private final Shop shop = new Shop(false, 3000, 50, 30, 2,
 		new Item(ItemId.RUBY_RING.id(), 5));
 
@@ -41,7 +44,12 @@ public final class Irksol extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.IRKSOL.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
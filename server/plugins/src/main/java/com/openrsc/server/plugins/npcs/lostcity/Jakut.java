@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Jakut extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.JAKUT.id()};
+
 	private final Shop shop = new Shop(false, 3000, 100, 60, 2,
 		new Item(ItemId.DRAGON_SWORD.id(), 2));
 
@@ -38,7 +41,12 @@ public final class Jakut extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.JAKUT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -15,6 +16,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public final class DukeOfLumbridge implements
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.DUKE_OF_LUMBRIDGE.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		npcsay(player, n, "Greetings welcome to my castle");
@@ -72,7 +75,12 @@ public final class DukeOfLumbridge implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DUKE_OF_LUMBRIDGE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
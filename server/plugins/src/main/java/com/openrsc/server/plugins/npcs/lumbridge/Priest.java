@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Priest implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.PRIEST.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {// that could work
 		if (player.getQuestStage(Quests.THE_RESTLESS_GHOST) == 1) {
@@ -133,6 +136,11 @@ public class Priest implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.PRIEST.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
@@ -7,6 +7,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Urhney implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.URHNEY.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		npcsay(player, n, "Go away, I'm meditating");
@@ -161,7 +164,12 @@ public class Urhney implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.URHNEY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
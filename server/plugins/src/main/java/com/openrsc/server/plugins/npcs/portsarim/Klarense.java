@@ -7,11 +7,14 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Klarense implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.KLARENSE.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		if (!player.getCache().hasKey("owns_ship")) {
@@ -117,7 +120,12 @@ public class Klarense implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KLARENSE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -17,6 +17,10 @@ import static com.openrsc.server.plugins.Functions.*;
 public final class MonkOfEntrana implements OpLocTrigger,
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.MONK_OF_ENTRANA_PORTSARIM.id(), NpcId.MONK_OF_ENTRANA_UNRELEASED.id()
+	};
+
 	final private int[] blockedItems = {
 		// Arrows
 		ItemId.BRONZE_ARROWS.id(),
@@ -84,7 +88,12 @@ public final class MonkOfEntrana implements OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.MONK_OF_ENTRANA_PORTSARIM.id() || n.getID() == NpcId.MONK_OF_ENTRANA_UNRELEASED.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -9,6 +9,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.quests.free.DragonSlayer;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -16,6 +17,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public final class NedInShip implements
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.NED_BOAT.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		//2 cases: ned in portsarim side
@@ -117,6 +120,11 @@ public final class NedInShip implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.NED_BOAT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
@@ -10,12 +10,17 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class PortSarimSailor implements OpLocTrigger,
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.CAPTAIN_TOBIAS.id(), NpcId.SEAMAN_THRESNOR.id(), NpcId.SEAMAN_LORRIS.id()
+	};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		npcsay(player, n, "Do you want to go on a trip to Karamja?",
@@ -57,7 +62,12 @@ public final class PortSarimSailor implements OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CAPTAIN_TOBIAS.id() || n.getID() == NpcId.SEAMAN_THRESNOR.id() || n.getID() == NpcId.SEAMAN_LORRIS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -7,12 +7,15 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class BrotherGalahad implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_GALAHAD.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		if (player.getQuestStage(Quests.THE_HOLY_GRAIL) == -1) {
@@ -193,7 +196,12 @@ public class BrotherGalahad implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BROTHER_GALAHAD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
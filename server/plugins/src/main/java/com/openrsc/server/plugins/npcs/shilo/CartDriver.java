@@ -8,16 +8,24 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class CartDriver implements TalkNpcTrigger, OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.CART_DRIVER_SHILO.id()};
+
 	public static final int TRAVEL_CART = 768;
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CART_DRIVER_SHILO.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	private void cartRide(Player player, Npc n) {
@@ -9,19 +9,27 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class JungleForester implements TalkNpcTrigger, UseNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.JUNGLE_FORESTER.id()};
+
 	/*
 	 * JungleForesterNPC class is for not started Legends quest.
 	 */
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.JUNGLE_FORESTER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -9,12 +9,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class Yohnus implements TalkNpcTrigger, OpBoundTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.YOHNUS.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		if (n.getID() == NpcId.YOHNUS.id()) {
@@ -74,7 +77,12 @@ public class Yohnus implements TalkNpcTrigger, OpBoundTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.YOHNUS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -8,9 +8,12 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class BankAssistant implements
 	TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.BANK_ASSISTANT.id()};
+
 	/**
 	 * Tutorial island bank assistant
 	 */
@@ -47,7 +50,12 @@ public class BankAssistant implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BANK_ASSISTANT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -9,11 +9,14 @@ import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.SpellNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class CombatInstructor implements TalkNpcTrigger, KillNpcTrigger, AttackNpcTrigger, SpellNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.COMBAT_INSTRUCTOR.id()};
+
 	/**
 	 * Tutorial island combat instructor
 	 * Level-7 rat not the regular rat!!!!!!!
@@ -81,7 +84,12 @@ public class CombatInstructor implements TalkNpcTrigger, KillNpcTrigger, AttackN
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COMBAT_INSTRUCTOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
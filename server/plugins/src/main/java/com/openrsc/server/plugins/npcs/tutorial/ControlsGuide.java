@@ -7,8 +7,11 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class ControlsGuide implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.CONTROLS_GUIDE.id()};
+
 	/**
 	 * Tutorial island second room guide
 	 */
@@ -32,7 +35,12 @@ public class ControlsGuide implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.CONTROLS_GUIDE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -9,8 +9,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class CookingInstructor implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.COOKING_INSTRUCTOR.id()};
+
 	/**
 	 * Tutorial island cooking instructor
 	 */
@@ -74,7 +77,12 @@ public class CookingInstructor implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COOKING_INSTRUCTOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
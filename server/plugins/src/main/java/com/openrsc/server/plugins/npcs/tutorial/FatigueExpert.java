@@ -8,8 +8,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class FatigueExpert implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.FATIGUE_EXPERT.id()};
+
 	/**
 	 * Tutorial island fatigue expert
 	 */
@@ -51,7 +54,12 @@ public class FatigueExpert implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FATIGUE_EXPERT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -7,8 +7,11 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class FinancialAdvisor implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.FINANCIAL_ADVISOR.id()};
+
 	/**
 	 * Tutorial island financial advisor
 	 */
@@ -41,7 +44,12 @@ public class FinancialAdvisor implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FINANCIAL_ADVISOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -6,11 +6,14 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class FishingInstructor implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.FISHING_INSTRUCTOR.id()};
+
 	/**
 	 * Tutorial island fishing instructor
 	 */
@@ -52,7 +55,12 @@ public class FishingInstructor implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FISHING_INSTRUCTOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -8,8 +8,11 @@ import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class Guide implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.GUIDE_STARTING.id()};
+
 	/**
 	 * Tutorial island guide first room
 	 */
@@ -36,7 +39,12 @@ public class Guide implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GUIDE_STARTING.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -9,8 +9,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class MagicInstructor implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.MAGIC_INSTRUCTOR.id()};
+
 	/**
 	 * Tutorial island magic instructor
 	 */
@@ -96,7 +99,12 @@ public class MagicInstructor implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MAGIC_INSTRUCTOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -16,6 +16,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public final class Apothecary implements
 	TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.APOTHECARY.id()};
+
 	@Override
 	public void onTalkNpc(Player player, final Npc n) {
 		if (player.getQuestStage(Quests.ROMEO_N_JULIET) == 4) {
@@ -170,6 +172,11 @@ public final class Apothecary implements
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.APOTHECARY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
@@ -15,9 +15,16 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Bartender implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BARTENDER_VARROCK.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BARTENDER_VARROCK.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
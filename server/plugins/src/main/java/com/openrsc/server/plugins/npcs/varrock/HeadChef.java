@@ -7,11 +7,14 @@ import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class HeadChef implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.HEAD_CHEF.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		npcsay(player, n, "Hello welcome to the chef's guild",
@@ -41,7 +44,12 @@ public class HeadChef implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.HEAD_CHEF.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 }
@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -16,6 +17,8 @@ import static com.openrsc.server.plugins.quests.free.ShieldOfArrav.*;
 
 public class ManPhoenix implements TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.STRAVEN.id()};
+
 	@Override
 	public void onTalkNpc(final Player player, final Npc n) {
 		stravenDialogue(player, n, true);
@@ -273,6 +276,11 @@ public class ManPhoenix implements TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.STRAVEN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
@@ -11,11 +11,14 @@ import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class TeaSeller extends AbstractShop implements TakeObjTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.TEA_SELLER.id()};
+
 	private final Shop shop = new Shop(false, 30000, 100, 60, 2, new Item(ItemId.CUP_OF_TEA.id(),
 		20));
 
@@ -26,7 +29,12 @@ public final class TeaSeller extends AbstractShop implements TakeObjTrigger {
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.TEA_SELLER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -11,10 +11,18 @@ import static com.openrsc.server.plugins.quests.free.ShieldOfArrav.isPhoenixGang
 
 import com.openrsc.server.constants.ItemId;
 import com.openrsc.server.constants.NpcId;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class Tramp implements TalkNpcTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.TRAMP.id()};
+
 	public boolean blockTalkNpc(final Player player, final Npc npc) {
-		return npc.getID() == NpcId.TRAMP.id();
+		return DataConversions.inArray(TALK_NPC_IDS, npc.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -9,16 +9,24 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class FatTony extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.FAT_TONY.id()};
+
 	private final Shop shop = new Shop(false, 5000, 100, 60, 2, new Item(ItemId.PIZZA_BASE.id(), 30));
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return n.getID() == NpcId.FAT_TONY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
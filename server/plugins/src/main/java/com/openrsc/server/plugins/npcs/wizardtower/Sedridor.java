@@ -8,6 +8,7 @@ import com.openrsc.server.plugins.triggers.OpNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.quests.members.RuneMysteries;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -16,6 +17,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class Sedridor implements TalkNpcTrigger, OpNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.SEDRIDOR.id()};
+
 	@Override
 	public void onTalkNpc(Player player, Npc n) {
 		npcsay(player,n,"Welcome, adventurer, to the world-renowned Wizards' Tower",
@@ -39,7 +42,12 @@ public class Sedridor implements TalkNpcTrigger, OpNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SEDRIDOR.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
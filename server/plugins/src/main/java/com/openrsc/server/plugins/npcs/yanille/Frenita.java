@@ -9,11 +9,14 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.world.World;
 import com.openrsc.server.net.rsc.ActionSender;
 import com.openrsc.server.plugins.AbstractShop;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public final class Frenita extends AbstractShop {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.FRENITA.id()};
+
 	private final Shop shop = new Shop(false, 3000, 100, 55, 1,
 		new Item(ItemId.PIE_DISH.id(), 5), new Item(ItemId.COOKING_APPLE.id(), 2), new Item(ItemId.CAKE_TIN.id(), 2),
 		new Item(ItemId.BOWL.id(), 2), new Item(ItemId.POTATO.id(), 5), new Item(ItemId.TINDERBOX.id(), 4),
@@ -37,7 +40,12 @@ public final class Frenita extends AbstractShop {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FRENITA.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
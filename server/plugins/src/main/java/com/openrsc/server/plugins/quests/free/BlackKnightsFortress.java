@@ -14,6 +14,7 @@ import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
@@ -21,6 +22,8 @@ public class BlackKnightsFortress implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseLocTrigger,
 	OpBoundTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.SIR_AMIK_VARZE.id()};
+
 	/**
 	 * GameObjects associated with this quest;
 	 */
@@ -196,7 +199,12 @@ public class BlackKnightsFortress implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.SIR_AMIK_VARZE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
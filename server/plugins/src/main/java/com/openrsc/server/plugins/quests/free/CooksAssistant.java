@@ -8,11 +8,14 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class CooksAssistant implements QuestInterface, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.COOK.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.COOKS_ASSISTANT;
@@ -159,7 +162,12 @@ public class CooksAssistant implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COOK.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	class Cook {
@@ -22,6 +22,12 @@ public class DemonSlayer implements QuestInterface,
 	KillNpcTrigger, TalkNpcTrigger, OpLocTrigger,
 	UseLocTrigger, PlayerRangeNpcTrigger, AttackNpcTrigger {
 
+	private static final int[] OP_LOC_IDS = {77};
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GYPSY.id(), NpcId.SIR_PRYSIN.id(), NpcId.TRAIBORN_THE_WIZARD.id(), NpcId.CAPTAIN_ROVIN.id()
+	};
+
 	@Override
 	public int getQuestId() {
 		return Quests.DEMON_SLAYER;
@@ -78,13 +84,22 @@ public class DemonSlayer implements QuestInterface,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] { NpcId.GYPSY.id(), NpcId.SIR_PRYSIN.id(),
-				NpcId.TRAIBORN_THE_WIZARD.id(), NpcId.CAPTAIN_ROVIN.id() }, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 77;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.*;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -22,6 +23,8 @@ public class ErnestTheChicken implements QuestInterface,
 	TalkNpcTrigger, OpLocTrigger,
 	UseLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.VERONICA.id(), NpcId.PROFESSOR_ODDENSTEIN.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.ERNEST_THE_CHICKEN;
@@ -87,7 +90,12 @@ public class ErnestTheChicken implements QuestInterface,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.VERONICA.id() || n.getID() == NpcId.PROFESSOR_ODDENSTEIN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -8,11 +8,17 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class GoblinDiplomacy implements QuestInterface, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GENERAL_WARTFACE.id(), NpcId.GENERAL_BENTNOZE.id(), NpcId.GOBLIN_RED_ARMOUR_LVL13.id(),
+		NpcId.GOBLIN_GREEN_ARMOUR_LVL13.id()
+	};
+
 	@Override
 	public int getQuestId() {
 		return Quests.GOBLIN_DIPLOMACY;
@@ -167,8 +173,11 @@ public class GoblinDiplomacy implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GENERAL_WARTFACE.id() || n.getID() == NpcId.GENERAL_BENTNOZE.id()
-			|| n.getID() == NpcId.GOBLIN_RED_ARMOUR_LVL13.id()
-			|| n.getID() == NpcId.GOBLIN_GREEN_ARMOUR_LVL13.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
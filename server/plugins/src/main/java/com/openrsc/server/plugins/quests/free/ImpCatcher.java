@@ -9,12 +9,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class ImpCatcher implements QuestInterface, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.WIZARD_MIZGOG.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.IMP_CATCHER;
@@ -144,6 +147,11 @@ public class ImpCatcher implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.WIZARD_MIZGOG.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
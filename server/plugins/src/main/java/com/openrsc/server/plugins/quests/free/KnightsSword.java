@@ -12,6 +12,7 @@ import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -19,6 +20,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class KnightsSword implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger {
+	private static final int[] TALK_NPC_IDS = {NpcId.THURGO.id(), NpcId.SQUIRE.id(), NpcId.SIR_VYVIN.id()};
+
 	private static final int VYVINS_CUPBOARD_OPEN = 175;
 	private static final int VYVINS_CUPBOARD_CLOSED = 174;
 	private static final int CUPBOARD_Y = 2454;
@@ -49,8 +52,12 @@ public class KnightsSword implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THURGO.id() || n.getID() == NpcId.SQUIRE.id()
-			|| n.getID() == NpcId.SIR_VYVIN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
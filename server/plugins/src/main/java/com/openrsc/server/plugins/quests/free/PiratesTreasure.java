@@ -10,6 +10,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.model.entity.update.ChatMessage;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.*;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.Optional;
@@ -20,6 +21,10 @@ import static com.openrsc.server.plugins.Functions.*;
 public class PiratesTreasure implements QuestInterface,
 	TalkNpcTrigger, OpLocTrigger, UseLocTrigger {
 
+	private static final int[] OP_LOC_IDS = {182, 185};
+
+	private static final int[] TALK_NPC_IDS = {NpcId.REDBEARD_FRANK.id(), NpcId.LUTHAS.id()};
+
 	private static final int HECTORS_CHEST_OPEN = 186;
 	private static final int HECTORS_CHEST_CLOSED = 187;
 
@@ -135,7 +140,12 @@ public class PiratesTreasure implements QuestInterface,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.REDBEARD_FRANK.id() || n.getID() == NpcId.LUTHAS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	public void frankDialogue(Player player, Npc n, int cID) {
@@ -321,7 +331,12 @@ public class PiratesTreasure implements QuestInterface,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 182 || obj.getID() == 185;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
@@ -9,12 +9,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class RomeoAndJuliet implements QuestInterface, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.ROMEO.id(), NpcId.JULIET.id(), NpcId.FATHER_LAWRENCE.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.ROMEO_N_JULIET;
@@ -404,6 +407,11 @@ public class RomeoAndJuliet implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ROMEO.id() || n.getID() == NpcId.JULIET.id() || n.getID() == NpcId.FATHER_LAWRENCE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
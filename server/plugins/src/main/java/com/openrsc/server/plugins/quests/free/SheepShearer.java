@@ -9,12 +9,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class SheepShearer implements QuestInterface, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.FRED_THE_FARMER.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.SHEEP_SHEARER;
@@ -198,7 +201,12 @@ public class SheepShearer implements QuestInterface, TalkNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.FRED_THE_FARMER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	class Fred {
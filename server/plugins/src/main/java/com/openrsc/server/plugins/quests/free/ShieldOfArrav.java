@@ -11,6 +11,7 @@ import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.npcs.varrock.ManPhoenix;
 import com.openrsc.server.plugins.triggers.*;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -22,6 +23,10 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 	OpLocTrigger,
 	OpBoundTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.BOOK.id()};
+
+	private static final int[] TALK_NPC_IDS = {NpcId.KATRINE.id()};
+
 	public static final int BLACK_ARM = 0;
 	public static final int PHOENIX_GANG = 1;
 	public static final int BLACK_ARM_COMPLETE = -2;
@@ -72,7 +77,12 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KATRINE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -422,7 +432,12 @@ public class ShieldOfArrav implements QuestInterface, UseBoundTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BOOK.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -14,6 +14,7 @@ import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TakeObjTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -22,6 +23,8 @@ public class TheRestlessGhost implements QuestInterface, TakeObjTrigger,
 	TalkNpcTrigger, OpLocTrigger,
 	UseLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GHOST_RESTLESS.id()};
+
 	private static final int GHOST_COFFIN_OPEN = 40;
 	private static final int GHOST_COFFIN_CLOSED = 39;
 
@@ -333,7 +336,12 @@ public class TheRestlessGhost implements QuestInterface, TakeObjTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GHOST_RESTLESS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -14,6 +14,7 @@ import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -23,6 +24,8 @@ public class VampireSlayer implements QuestInterface, TalkNpcTrigger,
 	KillNpcTrigger,
 	AttackNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.MORGAN.id(), NpcId.DR_HARLOW.id()};
+
 	private static final int COUNT_DRAYNOR_COFFIN_OPEN = 136;
 	private static final int COUNT_DRAYNOR_COFFIN_CLOSED = 135;
 	private static final int GARLIC_CUPBOARD_OPEN = 141;
@@ -237,7 +240,12 @@ public class VampireSlayer implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MORGAN.id() || n.getID() == NpcId.DR_HARLOW.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -12,6 +12,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.*;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.Optional;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -23,6 +24,8 @@ public class ClockTower implements QuestInterface, TalkNpcTrigger,
 	UseObjTrigger,
 	TakeObjTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_KOJO.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.CLOCK_TOWER;
@@ -56,7 +59,12 @@ public class ClockTower implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BROTHER_KOJO.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
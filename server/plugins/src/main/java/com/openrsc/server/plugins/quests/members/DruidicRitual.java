@@ -11,6 +11,7 @@ import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.UseLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.Optional;
@@ -21,6 +22,8 @@ public class DruidicRitual implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger,
 	UseLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.KAQEMEEX.id(), NpcId.SANFEW.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.DRUIDIC_RITUAL;
@@ -45,7 +48,12 @@ public class DruidicRitual implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.KAQEMEEX.id() || n.getID() == NpcId.SANFEW.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	private void kaqemeexDialogue(Player player, Npc n, int cID) {
@@ -27,6 +27,11 @@ public class DwarfCannon
 	TalkNpcTrigger, OpBoundTrigger,
 	OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.DWARF_COMMANDER.id(), NpcId.DWARF_CANNON_ENGINEER.id(), NpcId.DWARF_NEAR_COMMANDER.id(),
+		NpcId.GRAMAT.id(), NpcId.DWARVEN_SMITHY.id(), NpcId.DWARVEN_YOUTH.id()
+	};
+
 	private final Shop shop = new Shop(false, 3000, 100, 70, 2, new Item(ItemId.DWARF_CANNON_BASE.id(), 3), new Item(ItemId.DWARF_CANNON_STAND.id(), 3),
 		new Item(ItemId.DWARF_CANNON_BARRELS.id(), 3), new Item(ItemId.DWARF_CANNON_FURNACE.id(), 3),
 		new Item(ItemId.INSTRUCTION_MANUAL.id(), 7), new Item(ItemId.CANNON_AMMO_MOULD.id(), 7));
@@ -55,8 +60,12 @@ public class DwarfCannon
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DWARF_COMMANDER.id() || n.getID() == NpcId.DWARF_CANNON_ENGINEER.id() || n.getID() == NpcId.DWARF_NEAR_COMMANDER.id()
-			|| n.getID() == NpcId.GRAMAT.id() || n.getID() == NpcId.DWARVEN_SMITHY.id() || n.getID() == NpcId.DWARVEN_YOUTH.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -24,6 +24,10 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 	UseNpcTrigger,
 	KillNpcTrigger {
 
+	private static final int[] OP_LOC_IDS = {316, 317, 318};
+
+	private static final int[] TALK_NPC_IDS = {NpcId.DIMINTHEIS.id(), NpcId.AVAN.id(), NpcId.JOHNATHON.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.FAMILY_CREST;
@@ -275,7 +279,12 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.DIMINTHEIS.id() || n.getID() == NpcId.AVAN.id() || n.getID() == NpcId.JOHNATHON.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -627,7 +636,12 @@ public class FamilyCrest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 316 || obj.getID() == 317 || obj.getID() == 318;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
@@ -24,6 +24,12 @@ public class FightArena implements QuestInterface, TalkNpcTrigger,
 	UseLocTrigger,
 	KillNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.LADY_SERVIL.id(), NpcId.LOCAL.id(), NpcId.GUARD_KHAZARD_BRIBABLE.id(),
+		NpcId.GUARD_KHAZARD_BYPRISONER.id(), NpcId.GUARD_KHAZARD_MACE.id(), NpcId.JEREMY_SERVIL.id(),
+		NpcId.HENGRAD.id(), NpcId.GENERAL_KHAZARD.id()
+	};
+
 	private static final int GUARDS_CUPBOARD_OPEN = 382;
 	private static final int GUARDS_CUPBOARD_CLOSED = 381;
 
@@ -62,8 +68,12 @@ public class FightArena implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.LADY_SERVIL.id(), NpcId.LOCAL.id(), NpcId.GUARD_KHAZARD_BRIBABLE.id(), NpcId.GUARD_KHAZARD_BYPRISONER.id(),
-				NpcId.GUARD_KHAZARD_MACE.id(), NpcId.JEREMY_SERVIL.id(), NpcId.HENGRAD.id(), NpcId.GENERAL_KHAZARD.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -24,6 +24,12 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	DropObjTrigger {
 
+	private static final int[] OP_LOC_IDS = {1039, 1041, 1040};
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GERTRUDE.id(), NpcId.SHILOP.id(), NpcId.WILOUGH.id(), NpcId.KANEL.id(), NpcId.PHILOP.id()
+	};
+
 	@Override
 	public int getQuestId() {
 		return Quests.GERTRUDES_CAT;
@@ -48,8 +54,12 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(final Player player, final Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.GERTRUDE.id(), NpcId.SHILOP.id(), NpcId.WILOUGH.id(),
-				NpcId.KANEL.id(), NpcId.PHILOP.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -426,7 +436,12 @@ public class GertrudesCat implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 1039 || obj.getID() == 1041 || obj.getID() == 1040;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
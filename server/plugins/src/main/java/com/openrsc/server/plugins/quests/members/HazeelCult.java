@@ -21,6 +21,11 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigger, OpLocTrigger, UseLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.CLAUS.id(), NpcId.CERIL.id(), NpcId.BUTLER.id(), NpcId.HENRYETA.id(), NpcId.PHILIPE.id(),
+		NpcId.CARNILLEAN_GUARD.id(), NpcId.CLIVET.id(), NpcId.CULT_MEMBER.id(), NpcId.ALOMONE.id()
+	};
+
 	private static final int BUTLERS_CUPBOARD_OPEN = 441;
 	private static final int BUTLERS_CUPBOARD_CLOSED = 440;
 	private static final int BASEMENT_CRATE = 439;
@@ -62,8 +67,12 @@ public class HazeelCult implements QuestInterface, TalkNpcTrigger, KillNpcTrigge
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.CLAUS.id(), NpcId.CERIL.id(), NpcId.BUTLER.id(), NpcId.HENRYETA.id(), NpcId.PHILIPE.id(),
-				NpcId.CARNILLEAN_GUARD.id(), NpcId.CLIVET.id(), NpcId.CULT_MEMBER.id(), NpcId.ALOMONE.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -25,6 +25,10 @@ public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger, UseBoundTrigger, OpLocTrigger, AttackNpcTrigger, PlayerRangeNpcTrigger, SpellNpcTrigger,
 	KillNpcTrigger, TakeObjTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.ACHETTIES.id(), NpcId.GRUBOR.id(), NpcId.TROBERT.id(), NpcId.GRIP.id(), NpcId.GARV.id()
+	};
+
 	private static final int GRIPS_CUPBOARD_OPEN = 264;
 	private static final int GRIPS_CUPBOARD_CLOSED = 263;
 	private static final int CANDLESTICK_CHEST_OPEN = 265;
@@ -76,8 +80,12 @@ public class HerosQuest implements QuestInterface, TalkNpcTrigger,
 	 **/
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.ACHETTIES.id(), NpcId.GRUBOR.id(),
-				NpcId.TROBERT.id(), NpcId.GRIP.id(), NpcId.GARV.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	private void dutiesDialogue(Player player, Npc n) {
@@ -21,6 +21,8 @@ public class Jungle_Potion implements QuestInterface, OpLocTrigger,
 	TalkNpcTrigger,
 	OpBoundTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.TRUFITUS.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.JUNGLE_POTION;
@@ -46,7 +48,12 @@ public class Jungle_Potion implements QuestInterface, OpLocTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.TRUFITUS.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	private void trufitusDialogue(Player player, Npc n, int path) {
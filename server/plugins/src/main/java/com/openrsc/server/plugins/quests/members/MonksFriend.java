@@ -9,12 +9,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class MonksFriend implements QuestInterface, TalkNpcTrigger,
 	UseNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BROTHER_CEDRIC.id(), NpcId.BROTHER_OMAD.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.MONKS_FRIEND;
@@ -39,7 +42,12 @@ public class MonksFriend implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BROTHER_CEDRIC.id() || n.getID() == NpcId.BROTHER_OMAD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
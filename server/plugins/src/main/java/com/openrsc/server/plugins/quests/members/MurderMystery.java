@@ -20,6 +20,14 @@ import static com.openrsc.server.plugins.Functions.*;
 public class MurderMystery implements QuestInterface, TalkNpcTrigger,
 	TakeObjTrigger, OpBoundTrigger, OpLocTrigger, UseInvTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.GUARD_SINCLAIR_MANSION.id(), NpcId.POISON_SALESMAN.id(), NpcId.DAVID_SINCLAIR.id(),
+		NpcId.ANNA_SINCLAIR.id(), NpcId.FRANK_SINCLAIR.id(), NpcId.BOB_SINCLAIR.id(), NpcId.ELIZABETH_SINCLAIR.id(),
+		NpcId.CAROL_SINCLAIR.id(), NpcId.HOBBES_THE_BUTLER.id(), NpcId.LOUISA_THE_COOK.id(),
+		NpcId.STANFORD_THE_GARDENER.id(), NpcId.PIERRE_THE_DOG_HANDLER.id(), NpcId.DONOVAN_THE_HANDYMAN.id(),
+		NpcId.MARY_THE_MAID.id(), NpcId.MAN_SINCLAIR_MANSION.id()
+	};
+
 	@Override
 	public int getQuestId() {
 		return Quests.MURDER_MYSTERY;
@@ -266,12 +274,12 @@ public class MurderMystery implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.GUARD_SINCLAIR_MANSION.id(), NpcId.POISON_SALESMAN.id(),
-				NpcId.DAVID_SINCLAIR.id(), NpcId.ANNA_SINCLAIR.id(), NpcId.FRANK_SINCLAIR.id(),
-				NpcId.BOB_SINCLAIR.id(), NpcId.ELIZABETH_SINCLAIR.id(), NpcId.CAROL_SINCLAIR.id(),
-				NpcId.HOBBES_THE_BUTLER.id(), NpcId.LOUISA_THE_COOK.id(), NpcId.STANFORD_THE_GARDENER.id(),
-				NpcId.PIERRE_THE_DOG_HANDLER.id(), NpcId.DONOVAN_THE_HANDYMAN.id(), NpcId.MARY_THE_MAID.id(),
-				NpcId.MAN_SINCLAIR_MANSION.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -23,6 +23,11 @@ public class Observatory implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	UseLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.OBSERVATORY_ASSISTANT.id(), NpcId.OBSERVATORY_PROFESSOR.id(), NpcId.PROFESSOR.id(),
+		NpcId.GOBLIN_GUARD.id()
+	};
+
 	private int selectedNumber = 0;
 
 	@Override
@@ -51,8 +56,12 @@ public class Observatory implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.OBSERVATORY_ASSISTANT.id() || n.getID() == NpcId.OBSERVATORY_PROFESSOR.id() || n.getID() == NpcId.PROFESSOR.id()
-			|| n.getID() == NpcId.GOBLIN_GUARD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
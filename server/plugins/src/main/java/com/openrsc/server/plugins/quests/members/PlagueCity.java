@@ -21,6 +21,11 @@ public class PlagueCity implements QuestInterface, TalkNpcTrigger,
 	UseLocTrigger,
 	OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.EDMOND.id(), NpcId.ALRENA.id(), NpcId.JETHICK.id(), NpcId.TED_REHNISON.id(), NpcId.MARTHA_REHNISON.id(),
+		NpcId.MILLI_REHNISON.id(), NpcId.BILLY_REHNISON.id(), NpcId.CLERK.id(), NpcId.BRAVEK.id(), NpcId.ELENA.id()
+	};
+
 	private int BUCKETS_USED = 0;
 
 	private static final int ALRENAS_CUPBOARD_OPEN = 452;
@@ -50,9 +55,12 @@ public class PlagueCity implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.EDMOND.id(), NpcId.ALRENA.id(), NpcId.JETHICK.id(),
-				NpcId.TED_REHNISON.id(), NpcId.MARTHA_REHNISON.id(), NpcId.MILLI_REHNISON.id(), NpcId.BILLY_REHNISON.id(),
-				NpcId.CLERK.id(), NpcId.BRAVEK.id(), NpcId.ELENA.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -13,6 +13,7 @@ import com.openrsc.server.plugins.triggers.UseBoundTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 
+import com.openrsc.server.util.rsc.DataConversions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +26,10 @@ public class ScorpionCatcher implements QuestInterface, TalkNpcTrigger,
 	UseBoundTrigger,
 	OpBoundTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.THORMAC_THE_SORCEROR.id(), NpcId.SEER.id(), NpcId.VELRAK_THE_EXPLORER.id()
+	};
+
 	// items 679 (scorpion1 taverly), 686 (scorpion2 barbarian), 687 (scorpion3 monastery)
 
 	@Override
@@ -51,7 +56,12 @@ public class ScorpionCatcher implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.THORMAC_THE_SORCEROR.id() || n.getID() == NpcId.SEER.id() || n.getID() == NpcId.VELRAK_THE_EXPLORER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	private void seerDialogue(Player player, Npc n, int cID) {
@@ -31,6 +31,8 @@ public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 	UseNpcTrigger,
 	UseLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.COUNCILLOR_HALGRIVE.id(), NpcId.FARMER_BRUMTY.id()};
+
 	private static final int GATE = 443;
 	private static final int CATTLE_FURNACE = 444;
 
@@ -60,7 +62,12 @@ public class SheepHerder implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.COUNCILLOR_HALGRIVE.id() || n.getID() == NpcId.FARMER_BRUMTY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -23,6 +23,17 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 	KillNpcTrigger, TakeObjTrigger,
 	OpLocTrigger {
 
+	private static final int[] OP_INV_IDS = {
+		ItemId.MAGIC_WHISTLE.id(), ItemId.BELL.id(), ItemId.MAGIC_GOLDEN_FEATHER.id()
+	};
+
+	private static final int[] OP_LOC_IDS = {408};
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.MERLIN_LIBRARY.id(), NpcId.BLACK_KNIGHT_TITAN.id(), NpcId.UNHAPPY_PEASANT.id(), NpcId.FISHERMAN.id(),
+		NpcId.FISHER_KING.id(), NpcId.KING_PERCIVAL.id(), NpcId.HAPPY_PEASANT.id()
+	};
+
 	@Override
 	public int getQuestId() {
 		return Quests.THE_HOLY_GRAIL;
@@ -61,8 +72,12 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 	 */
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.MERLIN_LIBRARY.id(), NpcId.BLACK_KNIGHT_TITAN.id(), NpcId.UNHAPPY_PEASANT.id(),
-				NpcId.FISHERMAN.id(), NpcId.FISHER_KING.id(), NpcId.KING_PERCIVAL.id(), NpcId.HAPPY_PEASANT.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -297,7 +312,12 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.MAGIC_WHISTLE.id() || item.getCatalogId() == ItemId.BELL.id() || item.getCatalogId() == ItemId.MAGIC_GOLDEN_FEATHER.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -417,7 +437,12 @@ public class TheHolyGrail implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpLoc(Player player, GameObject obj, String command) {
-		return obj.getID() == 408;
+		return DataConversions.inArray(OP_LOC_IDS, obj.getID());
+	}
+
+	@Override
+	public int[] getOpLocIds() {
+		return OP_LOC_IDS;
 	}
 
 	@Override
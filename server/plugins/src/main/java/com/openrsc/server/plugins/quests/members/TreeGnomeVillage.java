@@ -23,6 +23,12 @@ public class TreeGnomeVillage implements QuestInterface, TalkNpcTrigger,
 	OpLocTrigger,
 	KillNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.ELKOY.id(), NpcId.LOCAL_GNOME.id(), NpcId.REMSAI.id(), NpcId.BOLREN.id(), NpcId.GNOME_TROOP.id(),
+		NpcId.COMMANDER_MONTAI.id(), NpcId.TRACKER_3.id(), NpcId.TRACKER_1.id(), NpcId.KHAZARD_WARLORD.id(),
+		NpcId.KALRON.id()
+	};
+
 	private static final int KHAZARD_CHEST_OPEN = 409;
 	private static final int KHAZARD_CHEST_CLOSED = 410;
 
@@ -51,9 +57,12 @@ public class TreeGnomeVillage implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.ELKOY.id(), NpcId.LOCAL_GNOME.id(), NpcId.REMSAI.id(), NpcId.BOLREN.id(),
-				NpcId.GNOME_TROOP.id(), NpcId.COMMANDER_MONTAI.id(), NpcId.TRACKER_3.id(), NpcId.TRACKER_1.id(),
-				NpcId.KHAZARD_WARLORD.id(), NpcId.KALRON.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
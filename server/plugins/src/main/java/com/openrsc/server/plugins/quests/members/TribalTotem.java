@@ -25,6 +25,10 @@ public class TribalTotem implements QuestInterface, TalkNpcTrigger,
 	UseLocTrigger,
 	OpBoundTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.KANGAI_MAU.id(), NpcId.HORACIO.id(), NpcId.WIZARD_CROMPERTY.id(), NpcId.RPDT_EMPLOYEE.id()
+	};
+
 	boolean firstOpt = false;
 	boolean secondOpt = false;
 	boolean thirdOpt = false;
@@ -55,8 +59,12 @@ public class TribalTotem implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.KANGAI_MAU.id(), NpcId.HORACIO.id(),
-				NpcId.WIZARD_CROMPERTY.id(), NpcId.RPDT_EMPLOYEE.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -25,6 +25,12 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 	OpBoundTrigger,
 	UseBoundTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.BOOK_ON_BAXTORIAN.id(), ItemId.MITHRIL_SEED.id()};
+
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.ALMERA.id(), NpcId.HUDON.id(), NpcId.HADLEY.id(), NpcId.GERALD.id(), NpcId.GOLRIE.id()
+	};
+
 	private static final int BAXTORIAN_CUPBOARD_OPEN = 507;
 	private static final int BAXTORIAN_CUPBOARD_CLOSED = 506;
 
@@ -266,8 +272,12 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return DataConversions.inArray(new int[] {NpcId.ALMERA.id(), NpcId.HUDON.id(),
-				NpcId.HADLEY.id(), NpcId.GERALD.id(), NpcId.GOLRIE.id()}, n.getID());
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -755,7 +765,12 @@ public class Waterfall_Quest implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BOOK_ON_BAXTORIAN.id() || item.getCatalogId() == ItemId.MITHRIL_SEED.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
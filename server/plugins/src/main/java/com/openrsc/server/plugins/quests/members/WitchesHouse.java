@@ -27,6 +27,8 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 	TakeObjTrigger,
 	AttackNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.BOY.id()};
+
 	/**
 	 * INFORMATION Rat appears on coords: 356, 494 Dropping cheese in the whole
 	 * room and rat appears on the same coord Rat is never removed untill you
@@ -63,7 +65,12 @@ public class WitchesHouse implements QuestInterface, TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.BOY.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -10,12 +10,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.QuestInterface;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.ARCHAEOLOGICAL_EXPERT.id()};
+
 	@Override
 	public int getQuestId() {
 		return Quests.DIGSITE;
@@ -53,7 +56,12 @@ public class DigsiteExpert implements QuestInterface, TalkNpcTrigger, UseNpcTrig
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.ARCHAEOLOGICAL_EXPERT.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
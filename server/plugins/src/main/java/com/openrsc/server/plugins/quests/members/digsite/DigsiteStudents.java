@@ -8,6 +8,7 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.Optional;
@@ -16,9 +17,18 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class DigsiteStudents implements TalkNpcTrigger, UseNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {
+		NpcId.STUDENT_ORANGE.id(), NpcId.STUDENT_PURPLE.id(), NpcId.STUDENT_GREEN.id()
+	};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.STUDENT_ORANGE.id() || n.getID() == NpcId.STUDENT_PURPLE.id() || n.getID() == NpcId.STUDENT_GREEN.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
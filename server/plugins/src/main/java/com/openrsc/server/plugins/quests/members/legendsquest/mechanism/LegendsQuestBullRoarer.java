@@ -15,6 +15,8 @@ import org.apache.logging.log4j.Logger;
 import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestBullRoarer implements OpInvTrigger {
+	private static final int[] OP_INV_IDS = {ItemId.BULL_ROARER.id()};
+
 	private static final Logger LOGGER = LogManager.getLogger(LegendsQuestBullRoarer.class);
 	private boolean inKharaziJungle(Player player) {
 		return player.getLocation().inBounds(338, 869, 477, 908);
@@ -22,7 +24,12 @@ public class LegendsQuestBullRoarer implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.BULL_ROARER.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
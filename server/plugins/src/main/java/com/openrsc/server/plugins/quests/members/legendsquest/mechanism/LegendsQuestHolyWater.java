@@ -18,6 +18,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestHolyWater implements OpInvTrigger, UseInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.HOLY_WATER_VIAL.id()};
+
 	private static final HashMap<Player, RestartableDelayedEvent> playerEventMap = new HashMap<Player, RestartableDelayedEvent>();
 
 	@Override
@@ -75,7 +77,12 @@ public class LegendsQuestHolyWater implements OpInvTrigger, UseInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.HOLY_WATER_VIAL.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
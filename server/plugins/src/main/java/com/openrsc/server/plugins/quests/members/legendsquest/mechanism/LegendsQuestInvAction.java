@@ -19,13 +19,21 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestInvAction implements OpInvTrigger, UseInvTrigger {
 
+	private static final int[] OP_INV_IDS = {
+		ItemId.SCRIBBLED_NOTES.id(), ItemId.SCRAWLED_NOTES.id(), ItemId.SCATCHED_NOTES.id(),
+		ItemId.ROUGH_SKETCH_OF_A_BOWL.id(), ItemId.SHAMANS_TOME.id(), ItemId.BOOKING_OF_BINDING.id(),
+		ItemId.YOMMI_TREE_SEED.id(), ItemId.GERMINATED_YOMMI_TREE_SEED.id(), ItemId.A_RED_CRYSTAL.id(),
+		ItemId.HOLY_FORCE_SPELL.id(), ItemId.GILDED_TOTEM_POLE.id()
+	};
+
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return inArray(item.getCatalogId(),
-			ItemId.SCRIBBLED_NOTES.id(), ItemId.SCRAWLED_NOTES.id(), ItemId.SCATCHED_NOTES.id(),
-			ItemId.ROUGH_SKETCH_OF_A_BOWL.id(), ItemId.SHAMANS_TOME.id(), ItemId.BOOKING_OF_BINDING.id(),
-			ItemId.YOMMI_TREE_SEED.id(), ItemId.GERMINATED_YOMMI_TREE_SEED.id(),
-			ItemId.A_RED_CRYSTAL.id(), ItemId.HOLY_FORCE_SPELL.id(), ItemId.GILDED_TOTEM_POLE.id());
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 
 	@Override
@@ -14,6 +14,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestMapJungle implements OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {ItemId.RADIMUS_SCROLLS.id(), ItemId.RADIMUS_SCROLLS_COMPLETE.id()};
+
 	/**
 	 * MAPPING THE JUNGLE!!
 	 * <p>
@@ -190,6 +192,11 @@ public class LegendsQuestMapJungle implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.RADIMUS_SCROLLS.id() || item.getCatalogId() == ItemId.RADIMUS_SCROLLS_COMPLETE.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 }
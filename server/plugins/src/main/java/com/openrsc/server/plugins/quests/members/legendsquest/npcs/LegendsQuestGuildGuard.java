@@ -8,11 +8,14 @@ import com.openrsc.server.model.entity.npc.Npc;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.LEGENDS_GUILD_GUARD.id()};
+
 	private static final int MITHRIL_GATES = 1079;
 
 	private void legendsGuardDialogue(Player player, Npc n, int cID) {
@@ -211,7 +214,12 @@ public class LegendsQuestGuildGuard implements TalkNpcTrigger, OpLocTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.LEGENDS_GUILD_GUARD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
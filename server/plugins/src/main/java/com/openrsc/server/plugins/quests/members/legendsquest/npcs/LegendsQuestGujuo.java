@@ -20,6 +20,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class LegendsQuestGujuo implements TalkNpcTrigger, UseNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GUJUO.id()};
+
 	private void GujuoDialogue(Player player, Npc n, int cID) {
 		if (n.getID() == NpcId.GUJUO.id()) {
 			if (cID == -1) {
@@ -1198,7 +1200,12 @@ public class LegendsQuestGujuo implements TalkNpcTrigger, UseNpcTrigger {
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GUJUO.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
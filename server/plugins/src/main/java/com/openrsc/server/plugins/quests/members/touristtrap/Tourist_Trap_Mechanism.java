@@ -20,6 +20,8 @@ import static com.openrsc.server.plugins.Functions.*;
 public class Tourist_Trap_Mechanism implements RemoveObjTrigger, UseNpcTrigger, OpLocTrigger, UseLocTrigger, UseInvTrigger, TakeObjTrigger,
 	DropObjTrigger, TalkNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.MINING_CART_DRIVER.id()};
+
 	private static int MINING_CAVE = 963;
 	private static int MINING_CART = 976;
 	private static int MINING_CAVE_BACK = 964;
@@ -1013,7 +1015,12 @@ public class Tourist_Trap_Mechanism implements RemoveObjTrigger, UseNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.MINING_CART_DRIVER.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
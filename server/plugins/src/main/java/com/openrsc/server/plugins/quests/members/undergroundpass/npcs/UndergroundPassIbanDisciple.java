@@ -15,6 +15,8 @@ import static com.openrsc.server.plugins.Functions.*;
 
 public class UndergroundPassIbanDisciple implements TalkNpcTrigger, KillNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.IBAN_DISCIPLE.id()};
+
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
 		return n.getID() == NpcId.IBAN_DISCIPLE.id();
@@ -67,6 +69,11 @@ public class UndergroundPassIbanDisciple implements TalkNpcTrigger, KillNpcTrigg
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n)  {
-		return n.getID() == NpcId.IBAN_DISCIPLE.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 }
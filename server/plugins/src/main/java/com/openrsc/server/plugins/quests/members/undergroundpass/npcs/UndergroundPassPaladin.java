@@ -16,9 +16,16 @@ import static com.openrsc.server.plugins.Functions.*;
 public class UndergroundPassPaladin implements TalkNpcTrigger,
 	KillNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.PALADIN_UNDERGROUND_BEARD.id()};
+
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.PALADIN_UNDERGROUND_BEARD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -8,12 +8,15 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.AttackNpcTrigger;
 import com.openrsc.server.plugins.triggers.KillNpcTrigger;
 import com.openrsc.server.plugins.triggers.TalkNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 import static com.openrsc.server.plugins.Functions.*;
 
 public class WatchTowerGorad implements TalkNpcTrigger,
 	KillNpcTrigger, AttackNpcTrigger {
 
+	private static final int[] TALK_NPC_IDS = {NpcId.GORAD.id()};
+
 	@Override
 	public boolean blockKillNpc(Player player, Npc n) {
 		return n.getID() == NpcId.GORAD.id();
@@ -30,7 +33,12 @@ public class WatchTowerGorad implements TalkNpcTrigger,
 
 	@Override
 	public boolean blockTalkNpc(Player player, Npc n) {
-		return n.getID() == NpcId.GORAD.id();
+		return DataConversions.inArray(TALK_NPC_IDS, n.getID());
+	}
+
+	@Override
+	public int[] getTalkNpcIds() {
+		return TALK_NPC_IDS;
 	}
 
 	@Override
@@ -12,6 +12,7 @@ import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpBoundTrigger;
 import com.openrsc.server.plugins.triggers.OpLocTrigger;
 import com.openrsc.server.plugins.triggers.UseNpcTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 import com.openrsc.server.util.rsc.Formulae;
 import com.openrsc.server.util.rsc.MessageType;
 
@@ -488,7 +489,7 @@ public class WatchTowerObstacles implements OpLocTrigger, OpBoundTrigger, UseNpc
 		openChest(o, 2500, 1002);
 		int[] randomChestReward = {NpcId.POISON_SCORPION.id(), NpcId.POISON_SPIDER.id(), NpcId.CHAOS_DWARF.id(), NpcId.RAT_LVL8.id(),
 				ItemId.ROTTEN_APPLES.id(), ItemId.BONES.id(), ItemId.EMERALD.id(), ItemId.BURNT_PIKE.id()};
-		int choosenReward = (int) (Math.random() * randomChestReward.length);
+		int choosenReward = DataConversions.getRandom().nextInt(randomChestReward.length);
 		if (choosenReward == 0) {
 			say(player, null, "Hey! a scorpion is in here!");
 			Npc scorp = addnpc(player.getWorld(), NpcId.POISON_SCORPION.id(), o.getX() - 1, o.getY(), 60000 * 5);
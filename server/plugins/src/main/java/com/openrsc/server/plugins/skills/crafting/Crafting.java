@@ -19,7 +19,6 @@ import com.openrsc.server.util.rsc.Formulae;
 import com.openrsc.server.util.rsc.MessageType;
 
 import java.util.Optional;
-import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.openrsc.server.plugins.Functions.*;
@@ -711,7 +710,7 @@ public class Crafting implements UseInvTrigger,
 			if (config.WANT_CUSTOM_QUESTS) {
 				double breakChance = 91.66667 - getCurrentLevel(player, Skills.CRAFTING) / 1.32;
 				for (int loop = 0; loop < 5; ++loop) {
-					double hit = new Random().nextDouble() * 99;
+					double hit = DataConversions.getRandom().nextDouble() * 99;
 					if (hit > breakChance) {
 						amount++;
 					}
@@ -5,9 +5,16 @@ import com.openrsc.server.constants.Quests;
 import com.openrsc.server.model.container.Item;
 import com.openrsc.server.model.entity.player.Player;
 import com.openrsc.server.plugins.triggers.OpInvTrigger;
+import com.openrsc.server.util.rsc.DataConversions;
 
 public class RuneTalisman implements OpInvTrigger {
 
+	private static final int[] OP_INV_IDS = {
+		ItemId.AIR_TALISMAN.id(), ItemId.MIND_TALISMAN.id(), ItemId.WATER_TALISMAN.id(), ItemId.EARTH_TALISMAN.id(),
+		ItemId.FIRE_TALISMAN.id(), ItemId.BODY_TALISMAN.id(), ItemId.COSMIC_TALISMAN.id(), ItemId.CHAOS_TALISMAN.id(),
+		ItemId.NATURE_TALISMAN.id(), ItemId.LAW_TALISMAN.id(), ItemId.DEATH_TALISMAN.id(), ItemId.BLOOD_TALISMAN.id()
+	};
+
 	@Override
 	public void onOpInv(Player player, Integer invIndex, Item item, String command) {
 		switch(ItemId.getById(item.getCatalogId())) {
@@ -104,11 +111,11 @@ public class RuneTalisman implements OpInvTrigger {
 
 	@Override
 	public boolean blockOpInv(Player player, Integer invIndex, Item item, String command) {
-		return item.getCatalogId() == ItemId.AIR_TALISMAN.id() || item.getCatalogId() == ItemId.MIND_TALISMAN.id() ||
-			item.getCatalogId() == ItemId.WATER_TALISMAN.id() || item.getCatalogId() == ItemId.EARTH_TALISMAN.id() ||
-			item.getCatalogId() == ItemId.FIRE_TALISMAN.id() || item.getCatalogId() == ItemId.BODY_TALISMAN.id() ||
-			item.getCatalogId() == ItemId.COSMIC_TALISMAN.id() || item.getCatalogId() == ItemId.CHAOS_TALISMAN.id() ||
-			item.getCatalogId() == ItemId.NATURE_TALISMAN.id() || item.getCatalogId() == ItemId.LAW_TALISMAN.id() ||
-			item.getCatalogId() == ItemId.DEATH_TALISMAN.id() || item.getCatalogId() == ItemId.BLOOD_TALISMAN.id();
+		return DataConversions.inArray(OP_INV_IDS, item.getCatalogId());
+	}
+
+	@Override
+	public int[] getOpInvIds() {
+		return OP_INV_IDS;
 	}
 }
@@ -500,7 +500,7 @@ public class Thieving implements OpLocTrigger, OpNpcTrigger, OpBoundTrigger {
 				fromX++;
 			}
 			/* If there is no unwalkable object in the way */
-			if ((world.getTile(fromX, fromY).traversalMask & 64) != 0) {
+			if ((world.getTile(fromX, fromY).getTraversalMask() & 64) != 0) {
 				stop = true;
 				return false;
 			}